@@ -0,0 +1,224 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.io.*;
+import java.util.*;
+
+//---------------------------------------------------------------------
+//	Times keyword/identifier classification over every identifier in
+//	a corpus of .rc files (YUNOSOC by default), comparing the old
+//	boxed Hashtable + toUpperCase scheme with Lexer.lookupKeyword.
+//
+//	    make bench
+//	    java -cp bin:bench/bin KeywordBench [dir] [rounds]
+//---------------------------------------------------------------------
+class KeywordBench
+{
+	public static void main (String[] args)
+	throws IOException
+	{
+		File		dir = new File (args.length > 0 ? args[0] : "YUNOSOC");
+		int 		nRounds = args.length > 1 ? Integer.parseInt (args[1]) : 20;
+
+		collect (dir);
+		System.out.println (m_nIds + " identifiers from " + m_nFiles +
+			" files under " + dir);
+
+		Hashtable<String, Integer>	keywords = new Hashtable<String, Integer> ();
+		for (int i = 0; i < Lexer.KEYWORDS.length; i++)
+			keywords.put (Lexer.KEYWORDS[i], new Integer (Lexer.KEYWORD_CODES[i]));
+
+		//	Warm both paths up before timing either.
+		for (int i = 0; i < 5; i++)
+		{
+			runHashtable (keywords);
+			runSwitch ();
+		}
+
+		long	nOld = Long.MAX_VALUE, nNew = Long.MAX_VALUE;
+
+		for (int i = 0; i < nRounds; i++)
+		{
+			long	t0 = System.nanoTime ();
+			m_nSink += runHashtable (keywords);
+			long	t1 = System.nanoTime ();
+			m_nSink += runSwitch ();
+			long	t2 = System.nanoTime ();
+
+			nOld = Math.min (nOld, t1 - t0);
+			nNew = Math.min (nNew, t2 - t1);
+		}
+
+		System.out.printf ("Hashtable + toUpperCase: %8.2f ns/id%n", (double) nOld / m_nIds);
+		System.out.printf ("lookupKeyword switch:    %8.2f ns/id%n", (double) nNew / m_nIds);
+		System.out.printf ("speedup:                 %8.2fx   (checksum %d)%n",
+			(double) nOld / nNew, m_nSink);
+	}
+
+
+	//----------------------------------------------------------------
+	//	What getAlphaToken used to do once the characters were in a
+	//	StringBuffer.
+	//----------------------------------------------------------------
+	private static long
+	runHashtable (Hashtable<String, Integer> keywords)
+	{
+		long		nSum = 0;
+		StringBuffer	buffer = new StringBuffer (40);
+
+		for (int i = 0; i < m_nIds; i++)
+		{
+			buffer.setLength (0);
+			buffer.append (m_chars, m_start[i], m_len[i]);
+
+			String		strLexeme = new String (buffer);
+			Integer		n = keywords.get (strLexeme);
+			String		strToken = new String (buffer);
+
+			if (n != null)
+				nSum += n.intValue ();
+			else if (strLexeme.equals (strLexeme.toUpperCase ()))
+				nSum += strToken.length ();
+			else
+				nSum++;
+		}
+
+		return nSum;
+	}
+
+
+	//----------------------------------------------------------------
+	//	What getAlphaToken does now.
+	//----------------------------------------------------------------
+	private static long
+	runSwitch ()
+	{
+		long		nSum = 0;
+		char[]		buf = new char[40];
+
+		for (int i = 0; i < m_nIds; i++)
+		{
+			int 		nLen = m_len[i];
+			boolean		bLower = false;
+
+			for (int j = 0; j < nLen; j++)
+			{
+				char	c = m_chars[m_start[i] + j];
+
+				buf[j] = c;
+				bLower |= Lexer.isNotCaps (c);
+			}
+
+			int 		nKeyword = Lexer.lookupKeyword (buf, nLen);
+
+			if (nKeyword >= 0)
+				nSum += Lexer.KEYWORD_CODES[nKeyword];
+			else if (!bLower)
+				nSum += nLen;
+			else
+				nSum++;
+		}
+
+		return nSum;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Pulls every identifier (as the lexer would see it, truncated
+	//	to 40 characters) out of the .rc files under dir.
+	//----------------------------------------------------------------
+	private static void
+	collect (File dir)
+	throws IOException
+	{
+		File[]		files = dir.listFiles ();
+
+		if (files == null)
+			return;
+
+		Arrays.sort (files);
+		for (File f : files)
+		{
+			if (f.isDirectory ())
+				collect (f);
+			else if (f.getName ().endsWith (".rc"))
+				scan (f);
+		}
+	}
+
+	private static void
+	scan (File f)
+	throws IOException
+	{
+		DataInputStream		in = new DataInputStream (new FileInputStream (f));
+		byte[]			bytes = new byte[(int) f.length ()];
+
+		in.readFully (bytes);
+		in.close ();
+		m_nFiles++;
+
+		for (int i = 0; i < bytes.length; )
+		{
+			char	c = (char) (bytes[i] & 0xff);
+
+			if (!(Character.isLetter (c) || c == '_'))
+			{
+				i++;
+				continue;
+			}
+
+			int 	nStart = m_nChars;
+			int 	nLen = 0;
+
+			while (i < bytes.length)
+			{
+				c = (char) (bytes[i] & 0xff);
+				if (!(Character.isLetterOrDigit (c) || c == '_'))
+					break;
+				if (nLen < 40)
+				{
+					addChar (c);
+					nLen++;
+				}
+				i++;
+			}
+			addId (nStart, nLen);
+		}
+	}
+
+	private static void
+	addChar (char c)
+	{
+		if (m_nChars == m_chars.length)
+			m_chars = Arrays.copyOf (m_chars, m_nChars * 2);
+		m_chars[m_nChars++] = c;
+	}
+
+	private static void
+	addId (int nStart, int nLen)
+	{
+		if (m_nIds == m_start.length)
+		{
+			m_start = Arrays.copyOf (m_start, m_nIds * 2);
+			m_len = Arrays.copyOf (m_len, m_nIds * 2);
+		}
+		m_start[m_nIds] = nStart;
+		m_len[m_nIds] = nLen;
+		m_nIds++;
+	}
+
+
+//----------------------------------------------------------------
+//	Class variables
+//----------------------------------------------------------------
+	private static char[]	m_chars = new char[1 << 16];
+	private static int 	m_nChars = 0;
+	private static int[]	m_start = new int[1 << 12];
+	private static int[]	m_len = new int[1 << 12];
+	private static int 	m_nIds = 0;
+	private static int 	m_nFiles = 0;
+	private static long	m_nSink = 0;
+}
@@ -0,0 +1,252 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+package rcbench;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	The compiler's classes as the benchmarks see them.
+//
+//	JMH won't take benchmarks in the default package, and nothing
+//	outside it can name the compiler's classes, so the benchmarks get
+//	at them through method handles.  Every handle is erased (compiler
+//	classes become Object) so it can be called with invokeExact, and
+//	held in a static final so the JIT inlines through it as it would
+//	a direct call.
+//---------------------------------------------------------------------
+final class Compiler
+{
+	static final MethodHandle	NEW_STREAM = constructor ("LineNumberPushbackStream",
+						java.io.InputStream.class);
+	static final MethodHandle	NEW_LEXER = constructor ("Lexer",
+						type ("LineNumberPushbackStream"), type ("ErrorPrinter"),
+						type ("NameTable"));
+	static final MethodHandle	NEW_ERRORS = constructor ("ErrorPrinter",
+						type ("Lexer"), boolean.class, PrintStream.class);
+	static final MethodHandle	GET_TOKEN = method ("Lexer", "GetToken");
+	static final MethodHandle	GET_CODE = method ("Token", "GetCode");
+
+	static final MethodHandle	NEW_NAMES = constructor ("NameTable");
+	static final MethodHandle	NEW_SYMTAB = constructor ("SymbolTable", type ("NameTable"));
+	static final MethodHandle	OPEN_SCOPE = method ("SymbolTable", "openScope");
+	static final MethodHandle	INSERT = method ("SymbolTable", "insert", type ("STO"));
+	static final MethodHandle	ACCESS = method ("SymbolTable", "access", String.class);
+	static final MethodHandle	ADD_FUNC = method ("SymbolTable", "addFunc", type ("STO"));
+	static final MethodHandle	OVERLOAD_CHECK = method ("SymbolTable", "OverloadCheck",
+						String.class);
+	static final MethodHandle	OVERLOAD_CHECK_FUN = method ("SymbolTable", "OverloadCheckFun",
+						String.class);
+	static final MethodHandle	OVERLOAD_CHECK_PARAM = method ("SymbolTable",
+						"OverloadCheckParam", String.class);
+
+	static final MethodHandle	NEW_SCOPE = constructor ("Scope", type ("NameTable"));
+	static final MethodHandle	INSERT_LOCAL = method ("Scope", "InsertLocal", type ("STO"));
+	static final MethodHandle	NEW_STRUCT = constructor ("StructType", String.class);
+	static final MethodHandle	SET_SCOPE = method ("StructType", "setScope", type ("Scope"));
+	static final MethodHandle	OVERLOAD_CHECK_STRUCT_CALL = method ("StructType",
+						"OverloadCheckStructCall", String.class);
+
+	static final MethodHandle	NEW_VAR = constructor ("VarSTO", String.class, type ("Type"));
+	static final MethodHandle	NEW_FUNC = constructor ("FuncSTO", String.class, type ("Type"));
+	static final MethodHandle	NEW_INT = constructor ("IntType", String.class);
+	static final MethodHandle	NEW_FLOAT = constructor ("FloatType", String.class);
+	static final MethodHandle	NEW_ARRAY = constructor ("ArrayType",
+						String.class, int.class, int.class);
+	static final MethodHandle	ARRAY_ADD_NEXT = method ("ArrayType", "addNext", type ("Type"));
+	static final MethodHandle	NEW_POINTER = constructor ("PointerType",
+						String.class, int.class);
+	static final MethodHandle	POINTER_ADD_NEXT = method ("PointerType", "addNext",
+						type ("Type"));
+	static final MethodHandle	IS_EQUIVALENT = method ("Type", "isEquivalent", type ("Type"));
+	static final MethodHandle	NEW_TYPES = constructor ("TypeTable");
+	static final MethodHandle	BIND = method ("TypeTable", "bind", type ("Type"));
+
+	static final MethodHandle	FORMAT = method ("Formatter", "toString",
+						String.class, Vector.class);
+
+	static final MethodHandle	NEW_NULL_SINK = constructor ("NullAsmSink");
+	static final MethodHandle	NEW_MEMORY_SINK = constructor ("MemoryAsmSink");
+	static final MethodHandle	NEW_CODEGEN = constructor ("AssemblyCodeGenerator",
+						type ("AsmSink"));
+	static final MethodHandle	EMIT_0 = method ("AssemblyCodeGenerator", "emit",
+						type ("Opcode"));
+	static final MethodHandle	EMIT_1 = method ("AssemblyCodeGenerator", "emit",
+						type ("Opcode"), String.class);
+	static final MethodHandle	EMIT_2 = method ("AssemblyCodeGenerator", "emit",
+						type ("Opcode"), String.class, String.class);
+	static final MethodHandle	EMIT_3 = method ("AssemblyCodeGenerator", "emit",
+						type ("Opcode"), String.class, String.class, String.class);
+	static final MethodHandle	DISPOSE = method ("AssemblyCodeGenerator", "dispose");
+
+	//	Where the lexer's error messages go.
+	static final PrintStream	NOWHERE = new PrintStream (OutputStream.nullOutputStream ());
+
+
+	private
+	Compiler ()
+	{
+	}
+
+
+	//----------------------------------------------------------------
+	//	Lexes one file's text to the end, the way the parser pulls
+	//	tokens, into a new name table as a compilation would, and
+	//	returns how many there were.
+	//----------------------------------------------------------------
+	static int
+	lex (byte[] text)
+	throws Throwable
+	{
+		Object	input = (Object) NEW_STREAM.invokeExact (
+					(java.io.InputStream) new ByteArrayInputStream (text));
+		Object	lexer = (Object) NEW_LEXER.invokeExact (input, (Object) null,
+					(Object) NEW_NAMES.invokeExact ());
+		Object	errors = (Object) NEW_ERRORS.invokeExact (lexer, false, NOWHERE);
+		int 	nTokens = 0;
+
+		while ((int) GET_CODE.invokeExact ((Object) GET_TOKEN.invokeExact (lexer)) != 0)
+			nTokens++;
+		return (nTokens);
+	}
+
+
+	//----------------------------------------------------------------
+	//	The value of a static String in one of the compiler's classes,
+	//	private or not.
+	//----------------------------------------------------------------
+	static String
+	constant (String strClass, String strField)
+	{
+		try
+		{
+			Field	field = type (strClass).getDeclaredField (strField);
+
+			open (field);
+			return ((String) field.get (null));
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new IllegalStateException (e);
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	One of the Opcode constants, by name.
+	//----------------------------------------------------------------
+	static Object
+	opcode (String strName)
+	{
+		try
+		{
+			Field	field = type ("Opcode").getDeclaredField (strName);
+
+			open (field);
+			return (field.get (null));
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new IllegalStateException (e);
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	A compiler class by name; bin has to be on the classpath.
+	//----------------------------------------------------------------
+	static Class<?>
+	type (String strClass)
+	{
+		try
+		{
+			return (Class.forName (strClass));
+		}
+		catch (ClassNotFoundException e)
+		{
+			throw new IllegalStateException ("compiler class " + strClass +
+				" not on the classpath (build with make rc)", e);
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private static MethodHandle
+	constructor (String strClass, Class<?> ... params)
+	{
+		try
+		{
+			Constructor<?>	ctor = type (strClass).getDeclaredConstructor (params);
+
+			open (ctor);
+			return (erase (MethodHandles.lookup ().unreflectConstructor (ctor)));
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new IllegalStateException (e);
+		}
+	}
+
+	private static MethodHandle
+	method (String strClass, String strName, Class<?> ... params)
+	{
+		try
+		{
+			Method	method = type (strClass).getDeclaredMethod (strName, params);
+
+			open (method);
+			return (erase (MethodHandles.lookup ().unreflect (method)));
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new IllegalStateException (e);
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	Only the compiler's own classes are erased to Object; Strings,
+	//	arrays of them and the JDK's types stay as they are, so the
+	//	call sites read like the real calls.
+	//----------------------------------------------------------------
+	private static MethodHandle
+	erase (MethodHandle handle)
+	{
+		java.lang.invoke.MethodType	type = handle.type ();
+
+		for (int i = 0; i < type.parameterCount (); i++)
+			if (isCompilerClass (type.parameterType (i)))
+				type = type.changeParameterType (i, Object.class);
+		if (isCompilerClass (type.returnType ()))
+			type = type.changeReturnType (Object.class);
+
+		return (handle.asFixedArity ().asType (type));
+	}
+
+	private static boolean
+	isCompilerClass (Class<?> c)
+	{
+		return (!c.isPrimitive () && !c.isArray () && c.getPackageName ().isEmpty ());
+	}
+
+	private static void
+	open (AccessibleObject member)
+	{
+		member.setAccessible (true);
+	}
+}
@@ -0,0 +1,114 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+package rcbench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+
+//---------------------------------------------------------------------
+//	AssemblyCodeGenerator.emit into a NullAsmSink, so only building
+//	the lines and writing them out is timed.  One op is a small
+//	function body's worth (INSTRUCTIONS lines) in the mix the
+//	generator writes most: sets, loads and stores, arithmetic, a
+//	call and its nop.  The generator keeps everything until dispose,
+//	so each op gets a new one and disposes of it.
+//
+//	Setup writes one op's worth into a MemoryAsmSink first and reads
+//	it back, so a generator that drops or mangles lines can't make
+//	for a fast run.
+//---------------------------------------------------------------------
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 10, time = 1)
+@Fork (value = 3, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@State (Scope.Benchmark)
+public class EmitBench
+{
+	private static final int	INSTRUCTIONS = 64;
+
+	private Object		m_sink;
+	private Object		m_set;
+	private Object		m_add;
+	private Object		m_ld;
+	private Object		m_st;
+	private Object		m_mov;
+	private Object		m_call;
+	private Object		m_nop;
+
+
+	@Setup
+	public void
+	setup ()
+	throws Throwable
+	{
+		m_sink = (Object) Compiler.NEW_NULL_SINK.invokeExact ();
+		m_set = Compiler.opcode ("SET");
+		m_add = Compiler.opcode ("ADD");
+		m_ld = Compiler.opcode ("LD");
+		m_st = Compiler.opcode ("ST");
+		m_mov = Compiler.opcode ("MOV");
+		m_call = Compiler.opcode ("CALL");
+		m_nop = Compiler.opcode ("NOP");
+
+		Object	memory = (Object) Compiler.NEW_MEMORY_SINK.invokeExact ();
+
+		emitInto ((Object) Compiler.NEW_CODEGEN.invokeExact (memory));
+		check (memory.toString ());
+	}
+
+
+	@Benchmark
+	public Object
+	emit ()
+	throws Throwable
+	{
+		return (emitInto ((Object) Compiler.NEW_CODEGEN.invokeExact (m_sink)));
+	}
+
+	private Object
+	emitInto (Object codegen)
+	throws Throwable
+	{
+		for (int i = 0; i < INSTRUCTIONS; i += 8)
+		{
+			Compiler.EMIT_2.invokeExact (codegen, m_set, "-8", "%l0");
+			Compiler.EMIT_3.invokeExact (codegen, m_add, "%fp", "%l0", "%l0");
+			Compiler.EMIT_2.invokeExact (codegen, m_ld, "[%l0]", "%l1");
+			Compiler.EMIT_3.invokeExact (codegen, m_add, "%l1", "1", "%l1");
+			Compiler.EMIT_2.invokeExact (codegen, m_st, "%l1", "[%l0]");
+			Compiler.EMIT_2.invokeExact (codegen, m_mov, "%l1", "%o0");
+			Compiler.EMIT_1.invokeExact (codegen, m_call, "foo");
+			Compiler.EMIT_0.invokeExact (codegen, m_nop);
+		}
+		Compiler.DISPOSE.invokeExact (codegen);
+		return (codegen);
+	}
+
+
+	//----------------------------------------------------------------
+	//	Every line emitted has to have come out, in order.
+	//----------------------------------------------------------------
+	private static void
+	check (String strText)
+	{
+		String		strBody = String.join ("",
+					"\tset\t-8, %l0\n",
+					"\tadd\t%fp, %l0, %l0\n",
+					"\tld\t[%l0], %l1\n",
+					"\tadd\t%l1, 1, %l1\n",
+					"\tst\t%l1, [%l0]\n",
+					"\tmov\t%l1, %o0\n",
+					"\tcall\tfoo\n",
+					"\tnop\t\n");
+
+		if (!strText.contains (strBody.repeat (INSTRUCTIONS / 8)))
+			throw new IllegalStateException ("emitted:\n" + strText);
+	}
+}
@@ -0,0 +1,76 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+package rcbench;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.*;
+
+
+//---------------------------------------------------------------------
+//	Formatter.toString over every message in ErrorMsg, each given as
+//	many arguments as it has patterns.  One op is all of them.
+//---------------------------------------------------------------------
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 10, time = 1)
+@Fork (value = 3, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@State (Scope.Benchmark)
+public class FormatterBench
+{
+	//	Formatter's patterns.
+	private static final Pattern	PATTERN = Pattern.compile ("%[SDRLOTF]");
+
+	private String[]		m_templates;
+	private List<Vector<String>>	m_args;
+
+
+	@Setup
+	public void
+	setup ()
+	{
+		List<String>	templates = new ArrayList<String> ();
+
+		for (Field field : Compiler.type ("ErrorMsg").getDeclaredFields ())
+			if (Modifier.isStatic (field.getModifiers ()) && field.getType () == String.class)
+				templates.add (Compiler.constant ("ErrorMsg", field.getName ()));
+
+		m_templates = templates.toArray (new String[0]);
+		m_args = new ArrayList<Vector<String>> (m_templates.length);
+		for (int i = 0; i < m_templates.length; i++)
+		{
+			Matcher	m = PATTERN.matcher (m_templates[i]);
+
+			Vector<String>	args = new Vector<String> ();
+
+			while (m.find ())
+				args.add (args.size () % 2 == 0 ? "identifier" : "int");
+			m_args.add (args);
+		}
+	}
+
+
+	@Benchmark
+	public int
+	toStringAll ()
+	throws Throwable
+	{
+		int 	nChars = 0;
+
+		for (int i = 0; i < m_templates.length; i++)
+			nChars += ((String) Compiler.FORMAT.invokeExact (m_templates[i], m_args.get (i))).length ();
+		return (nChars);
+	}
+}
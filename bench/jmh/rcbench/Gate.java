@@ -0,0 +1,147 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+package rcbench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+//---------------------------------------------------------------------
+//	Compares a JMH run against a baseline run (both written with
+//	-rf csv) and exits with 1 if any benchmark got slower.
+//
+//	    java -cp bench/jmh/bin rcbench.Gate baseline.csv results.csv [tolerance]
+//
+//	A benchmark only counts as slower if its score is more than
+//	tolerance (default 0.10, i.e. 10%) over the baseline's and the
+//	two scores' 99.9% confidence intervals don't overlap, so noise
+//	alone doesn't fail the gate.  All the modes are time per op, so
+//	higher is worse.
+//---------------------------------------------------------------------
+public class Gate
+{
+	public static void
+	main (String[] args)
+	throws IOException
+	{
+		if (args.length < 2)
+		{
+			System.err.println ("usage: Gate baseline.csv results.csv [tolerance]");
+			System.exit (2);
+		}
+
+		Map<String, double[]>	base = read (Path.of (args[0]));
+		Map<String, double[]>	now = read (Path.of (args[1]));
+		double			dTolerance = args.length > 2 ? Double.parseDouble (args[2]) : 0.10;
+		int 			nSlower = 0;
+
+		for (Map.Entry<String, double[]> e : now.entrySet ())
+		{
+			double[]	old = base.get (e.getKey ());
+			double[]	cur = e.getValue ();
+
+			if (old == null)
+			{
+				System.out.printf ("  new     %s: %.3f%n", e.getKey (), cur[0]);
+				continue;
+			}
+
+			boolean 	bSlower = cur[0] > old[0] * (1 + dTolerance) &&
+						cur[0] - error (cur) > old[0] + error (old);
+
+			if (bSlower)
+				nSlower++;
+			System.out.printf ("  %-7s %s: %.3f -> %.3f (%+.1f%%)%n",
+				bSlower ? "SLOWER" : "ok", e.getKey (), old[0], cur[0],
+				100 * (cur[0] - old[0]) / old[0]);
+		}
+
+		System.out.println ("Gate: " + now.size () + " benchmarks, " + nSlower + " slower.");
+		if (nSlower > 0)
+			System.exit (1);
+	}
+
+
+	//----------------------------------------------------------------
+	//	Score and score error by benchmark name and parameters, in
+	//	file order.
+	//----------------------------------------------------------------
+	private static Map<String, double[]>
+	read (Path path)
+	throws IOException
+	{
+		Map<String, double[]>	scores = new LinkedHashMap<String, double[]> ();
+		List<String>		lines = Files.readAllLines (path);
+		List<String>		header = fields (lines.get (0));
+		int 			nScore = header.indexOf ("Score");
+
+		for (String strLine : lines.subList (1, lines.size ()))
+		{
+			List<String>	row = fields (strLine);
+			StringBuilder	key = new StringBuilder (row.get (0));
+
+			if (row.size () < header.size ())
+				continue;
+
+			//	Parameters come after the unit.
+			for (int i = nScore + 3; i < header.size (); i++)
+				if (!row.get (i).isEmpty ())
+					key.append (' ').append (header.get (i).replace ("Param: ", ""))
+						.append ('=').append (row.get (i));
+
+			scores.put (key.toString (), new double[] {
+				Double.parseDouble (row.get (nScore)),
+				Double.parseDouble (row.get (nScore + 1)) });
+		}
+		return (scores);
+	}
+
+
+	//----------------------------------------------------------------
+	//	A run with too few samples has no error (NaN); it's taken as
+	//	exact.
+	//----------------------------------------------------------------
+	private static double
+	error (double[] score)
+	{
+		return (Double.isNaN (score[1]) ? 0 : score[1]);
+	}
+
+
+	//----------------------------------------------------------------
+	//	One CSV line's fields, without their quotes.
+	//----------------------------------------------------------------
+	private static List<String>
+	fields (String strLine)
+	{
+		List<String>	fields = new ArrayList<String> ();
+		StringBuilder	field = new StringBuilder ();
+		boolean 	bQuoted = false;
+
+		for (int i = 0; i < strLine.length (); i++)
+		{
+			char	c = strLine.charAt (i);
+
+			if (c == '"')
+				bQuoted = !bQuoted;
+			else if (c == ',' && !bQuoted)
+			{
+				fields.add (field.toString ());
+				field.setLength (0);
+			}
+			else
+				field.append (c);
+		}
+		fields.add (field.toString ());
+		return (fields);
+	}
+}
@@ -0,0 +1,68 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+package rcbench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.*;
+
+
+//---------------------------------------------------------------------
+//	Lexer.GetToken over every .rc file in the corpus (YUNOSOC, or the
+//	directory in -Drc.corpus), read into memory first so only the
+//	lexing is timed.  One op is the whole corpus.
+//---------------------------------------------------------------------
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.MILLISECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 10, time = 1)
+@Fork (value = 3, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@State (Scope.Benchmark)
+public class LexerBench
+{
+	private byte[][]	m_files;
+
+
+	@Setup
+	public void
+	setup ()
+	throws IOException
+	{
+		List<Path>	paths;
+
+		try (Stream<Path> walk = Files.walk (Path.of (System.getProperty ("rc.corpus", "YUNOSOC"))))
+		{
+			paths = walk
+				.filter (p -> p.toString ().endsWith (".rc") && Files.isRegularFile (p))
+				.sorted ()
+				.collect (Collectors.toList ());
+		}
+
+		m_files = new byte[paths.size ()][];
+		for (int i = 0; i < m_files.length; i++)
+			m_files[i] = Files.readAllBytes (paths.get (i));
+	}
+
+
+	@Benchmark
+	public int
+	getToken ()
+	throws Throwable
+	{
+		int 	nTokens = 0;
+
+		for (byte[] text : m_files)
+			nTokens += Compiler.lex (text);
+		return (nTokens);
+	}
+}
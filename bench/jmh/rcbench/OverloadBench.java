@@ -0,0 +1,99 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+package rcbench;
+
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+
+//---------------------------------------------------------------------
+//	Overload resolution's candidate lookups with overloads functions
+//	all named "f", alongside as many other functions (and, in the
+//	struct, as many fields) that aren't.
+//---------------------------------------------------------------------
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 10, time = 1)
+@Fork (value = 3, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@State (Scope.Benchmark)
+public class OverloadBench
+{
+	@Param ({ "16", "128" })
+	public int		overloads;
+
+	private Object		m_symtab;
+	private Object		m_struct;
+
+
+	@Setup
+	public void
+	setup ()
+	throws Throwable
+	{
+		Object	type = (Object) Compiler.NEW_INT.invokeExact ("int");
+		Object	names = (Object) Compiler.NEW_NAMES.invokeExact ();
+		Object	scope = (Object) Compiler.NEW_SCOPE.invokeExact (names);
+
+		//	The struct's scope shares the symbol table's names, as in
+		//	a compilation.
+		m_symtab = (Object) Compiler.NEW_SYMTAB.invokeExact (names);
+		Compiler.OPEN_SCOPE.invokeExact (m_symtab);
+
+		for (int i = 0; i < overloads; i++)
+		{
+			Object	f = (Object) Compiler.NEW_FUNC.invokeExact ("f", type);
+			Object	g = (Object) Compiler.NEW_FUNC.invokeExact ("g" + i, type);
+
+			Compiler.ADD_FUNC.invokeExact (m_symtab, f);
+			Compiler.ADD_FUNC.invokeExact (m_symtab, g);
+
+			Compiler.INSERT_LOCAL.invokeExact (scope,
+				(Object) Compiler.NEW_VAR.invokeExact ("field" + i, type));
+			Compiler.INSERT_LOCAL.invokeExact (scope, f);
+			Compiler.INSERT_LOCAL.invokeExact (scope, g);
+		}
+
+		m_struct = (Object) Compiler.NEW_STRUCT.invokeExact ("S");
+		Compiler.SET_SCOPE.invokeExact (m_struct, scope);
+	}
+
+
+	@Benchmark
+	public Vector<?>
+	overloadCheck ()
+	throws Throwable
+	{
+		return ((Vector<?>) Compiler.OVERLOAD_CHECK.invokeExact (m_symtab, "f"));
+	}
+
+	@Benchmark
+	public Vector<?>
+	overloadCheckFun ()
+	throws Throwable
+	{
+		return ((Vector<?>) Compiler.OVERLOAD_CHECK_FUN.invokeExact (m_symtab, "f"));
+	}
+
+	@Benchmark
+	public Vector<?>
+	overloadCheckParam ()
+	throws Throwable
+	{
+		return ((Vector<?>) Compiler.OVERLOAD_CHECK_PARAM.invokeExact (m_symtab, "f"));
+	}
+
+	@Benchmark
+	public Vector<?>
+	overloadCheckStructCall ()
+	throws Throwable
+	{
+		return ((Vector<?>) Compiler.OVERLOAD_CHECK_STRUCT_CALL.invokeExact (m_struct, "f"));
+	}
+}
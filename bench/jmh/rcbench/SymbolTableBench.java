@@ -0,0 +1,83 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+package rcbench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+
+//---------------------------------------------------------------------
+//	SymbolTable.access with depth nested scopes open, each holding
+//	WIDTH variables: a name from the global scope (the whole stack
+//	searched), one from the innermost scope, and one that isn't
+//	declared anywhere.
+//---------------------------------------------------------------------
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 10, time = 1)
+@Fork (value = 3, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@State (Scope.Benchmark)
+public class SymbolTableBench
+{
+	private static final int	WIDTH = 8;
+
+	@Param ({ "4", "32" })
+	public int		depth;
+
+	private Object		m_symtab;
+	private String		m_strOuter;
+	private String		m_strInner;
+
+
+	@Setup
+	public void
+	setup ()
+	throws Throwable
+	{
+		Object	type = (Object) Compiler.NEW_INT.invokeExact ("int");
+
+		m_symtab = (Object) Compiler.NEW_SYMTAB.invokeExact (
+				(Object) Compiler.NEW_NAMES.invokeExact ());
+		for (int d = 0; d < depth; d++)
+		{
+			Compiler.OPEN_SCOPE.invokeExact (m_symtab);
+			for (int i = 0; i < WIDTH; i++)
+				Compiler.INSERT.invokeExact (m_symtab,
+					(Object) Compiler.NEW_VAR.invokeExact ("v" + d + "_" + i, type));
+		}
+
+		m_strOuter = "v0_" + (WIDTH - 1);
+		m_strInner = "v" + (depth - 1) + "_" + (WIDTH - 1);
+	}
+
+
+	@Benchmark
+	public Object
+	accessOuter ()
+	throws Throwable
+	{
+		return ((Object) Compiler.ACCESS.invokeExact (m_symtab, m_strOuter));
+	}
+
+	@Benchmark
+	public Object
+	accessInner ()
+	throws Throwable
+	{
+		return ((Object) Compiler.ACCESS.invokeExact (m_symtab, m_strInner));
+	}
+
+	@Benchmark
+	public Object
+	accessMissing ()
+	throws Throwable
+	{
+		return ((Object) Compiler.ACCESS.invokeExact (m_symtab, "undeclared"));
+	}
+}
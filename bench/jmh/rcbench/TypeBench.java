@@ -0,0 +1,98 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+package rcbench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+
+//---------------------------------------------------------------------
+//	Type.isEquivalent on two separately built types nested depth
+//	deep, alternating arrays and pointers: one pair that matches all
+//	the way down, and one that only differs in the base type, so
+//	both walk the whole chain.  They're bound to one TypeTable, as
+//	the parser's are.
+//---------------------------------------------------------------------
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 10, time = 1)
+@Fork (value = 3, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@State (Scope.Benchmark)
+public class TypeBench
+{
+	@Param ({ "2", "8" })
+	public int		depth;
+
+	private Object		m_type;
+	private Object		m_same;
+	private Object		m_other;
+
+
+	@Setup
+	public void
+	setup ()
+	throws Throwable
+	{
+		Object	types = (Object) Compiler.NEW_TYPES.invokeExact ();
+
+		m_type = (Object) Compiler.BIND.invokeExact (types,
+				nest ((Object) Compiler.NEW_INT.invokeExact ("int")));
+		m_same = (Object) Compiler.BIND.invokeExact (types,
+				nest ((Object) Compiler.NEW_INT.invokeExact ("int")));
+		m_other = (Object) Compiler.BIND.invokeExact (types,
+				nest ((Object) Compiler.NEW_FLOAT.invokeExact ("float")));
+	}
+
+
+	//----------------------------------------------------------------
+	//	base wrapped depth times, innermost first: pointer, array,
+	//	pointer, ...
+	//----------------------------------------------------------------
+	private Object
+	nest (Object base)
+	throws Throwable
+	{
+		Object	type = base;
+
+		for (int i = 0; i < depth; i++)
+		{
+			Object	outer;
+
+			if (i % 2 == 0)
+			{
+				outer = (Object) Compiler.NEW_POINTER.invokeExact ("*", 1);
+				Compiler.POINTER_ADD_NEXT.invokeExact (outer, type);
+			}
+			else
+			{
+				outer = (Object) Compiler.NEW_ARRAY.invokeExact ("[4]", 4, 1);
+				Compiler.ARRAY_ADD_NEXT.invokeExact (outer, type);
+			}
+			type = outer;
+		}
+		return (type);
+	}
+
+
+	@Benchmark
+	public boolean
+	equivalent ()
+	throws Throwable
+	{
+		return ((boolean) Compiler.IS_EQUIVALENT.invokeExact (m_type, m_same));
+	}
+
+	@Benchmark
+	public boolean
+	notEquivalent ()
+	throws Throwable
+	{
+		return ((boolean) Compiler.IS_EQUIVALENT.invokeExact (m_type, m_other));
+	}
+}
@@ -4,12 +4,10 @@
 //---------------------------
 
 class ArithmetricOp extends BinaryOp {
-    Type typeA;
-    Type typeB;
     
 
-    public ArithmetricOp(STO a, STO b, String s){
-        super(a,b,s);
+    public ArithmetricOp(String s){
+        super(s);
     
     }
    }
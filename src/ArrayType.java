@@ -24,6 +24,9 @@ class ArrayType extends CompositeType{
     public boolean isArray() { return true; }
 
     public boolean isEquivalent(Type t) {     
+       if (hasEquivIds(t)) {
+           return this.getEquivId() == t.getEquivId();
+       }
        if (t instanceof ArrayType) {
            if(this.getSize() == t.getSize()) {
             return (this.getNext()).isEquivalent(((ArrayType)t).getNext());
@@ -39,6 +42,16 @@ class ArrayType extends CompositeType{
     }
     public boolean isAssignable(Type t){
         if (t instanceof ArrayType) {
+            // Nested arrays are compared once per pair of shapes.
+            if (hasEquivIds(t)) {
+                // (An array only has an id from the table it's in.)
+                Boolean assignable = m_table.getAssignable(this.getEquivId(), t.getEquivId());
+                if (assignable == null) {
+                    assignable = this.getNext().isAssignable(((ArrayType)t).getNext());
+                    m_table.putAssignable(this.getEquivId(), t.getEquivId(), assignable);
+                }
+                return assignable;
+            }
             return this.getNext().isAssignable(((ArrayType)t).getNext());
         }
         else {
@@ -70,6 +83,7 @@ class ArrayType extends CompositeType{
      }
 
     public void addNext(Type t) {
+        resetEquivId();
         if (next == null) {
             next = t;
         }
@@ -0,0 +1,51 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	designator->id.
+//---------------------------------------------------------------------
+class ArrowNode extends ExprNode
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	ArrowNode (ExprNode expr, String strID)
+	{
+		m_expr = expr;
+		m_strID = strID;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		STO	sto = parser.DoNullPointerCheck (m_expr.getSto ());
+
+		setSto (parser.DoPointerArrowCheck (sto, m_strID));
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_expr.checkAll (parser);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_expr.lower (codegen);
+		write (codegen, 0);
+	}
+
+
+	private ExprNode	m_expr;
+	private String		m_strID;
+}
@@ -0,0 +1,149 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.ArrayList;
+
+
+//---------------------------------------------------------------------
+//	Everything AssemblyCodeGenerator has put in one section, in the
+//	order it was put there, however often the generator switched to
+//	other sections in between.  The .s file has each section once,
+//	with one .section directive.
+//
+//	A code section is kept as units: the runtime helpers, one unit
+//	for each function (with its .fini) and one for each global's
+//	initializer, each starting where beginUnit was called.  Code
+//	sections hold only instructions, so they're aligned once, at the
+//	top, instead of at every switch back to them.  A data section is
+//	one unit, and each datum keeps its own .align.
+//---------------------------------------------------------------------
+class AsmSection
+{
+	//----------------------------------------------------------------
+	//	strName is as the .section directive has it, quotes and all.
+	//----------------------------------------------------------------
+	public
+	AsmSection (String strName, boolean bCode)
+	{
+		m_strName = strName;
+		m_bCode = bCode;
+		m_units = new ArrayList<ArrayList<Instruction>> ();
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public String
+	getName ()
+	{
+		return m_strName;
+	}
+
+	public boolean
+	isCode ()
+	{
+		return m_bCode;
+	}
+
+	//----------------------------------------------------------------
+	//	Lines added from now on go in a new unit.
+	//----------------------------------------------------------------
+	public void
+	beginUnit ()
+	{
+		m_units.add (new ArrayList<Instruction> ());
+	}
+
+	//----------------------------------------------------------------
+	//	Adds line to the last unit.  A blank line right after another
+	//	one isn't kept.
+	//----------------------------------------------------------------
+	public void
+	add (Instruction line)
+	{
+		if (m_units.isEmpty ())
+			beginUnit ();
+
+		Instruction	last = lastLine ();
+
+		if (line.isBlank () && last != null && last.isBlank ())
+			return;
+		m_units.get (m_units.size () - 1).add (line);
+	}
+
+	public void
+	addAll (ArrayList<Instruction> lines)
+	{
+		for (int i = 0; i < lines.size (); i++)
+			add (lines.get (i));
+	}
+
+	//----------------------------------------------------------------
+	//	The units, in order.  Passes over the code may replace a
+	//	unit's lines in place.
+	//----------------------------------------------------------------
+	public ArrayList<ArrayList<Instruction>>
+	getUnits ()
+	{
+		return m_units;
+	}
+
+	public boolean
+	isEmpty ()
+	{
+		for (int i = 0; i < m_units.size (); i++)
+		{
+			if (!m_units.get (i).isEmpty ())
+				return false;
+		}
+		return true;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Appends the whole section as it reads in the .s file.
+	//----------------------------------------------------------------
+	public void
+	appendTo (StringBuilder sb)
+	{
+		new Instruction (1, Opcode.SECTION, m_strName).appendTo (sb);
+		if (m_bCode)
+			new Instruction (1, Opcode.ALIGN, "4").appendTo (sb);
+
+		for (int i = 0; i < m_units.size (); i++)
+		{
+			ArrayList<Instruction>	unit = m_units.get (i);
+
+			for (int j = 0; j < unit.size (); j++)
+				unit.get (j).appendTo (sb);
+		}
+		if (!lastLine ().isBlank ())
+			sb.append ('\n');
+	}
+
+
+	//----------------------------------------------------------------
+	//	The line added last, in whichever unit, or null.
+	//----------------------------------------------------------------
+	private Instruction
+	lastLine ()
+	{
+		for (int i = m_units.size () - 1; i >= 0; i--)
+		{
+			ArrayList<Instruction>	unit = m_units.get (i);
+
+			if (!unit.isEmpty ())
+				return unit.get (unit.size () - 1);
+		}
+		return null;
+	}
+
+
+	private final String				m_strName;
+	private final boolean				m_bCode;
+	private final ArrayList<ArrayList<Instruction>>	m_units;
+}
@@ -0,0 +1,25 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import	java.io.IOException;
+
+
+//---------------------------------------------------------------------
+//	Where AssemblyCodeGenerator puts the assembly it writes:
+//	BufferedAsmSink for a file or stream, MemoryAsmSink to keep it
+//	as a string, NullAsmSink to throw it away.
+//---------------------------------------------------------------------
+interface AsmSink
+{
+	public void
+	write (String str)
+	throws IOException;
+
+	//	Called once all of the assembly has been written.
+	public void
+	close ()
+	throws IOException;
+}
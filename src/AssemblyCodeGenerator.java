@@ -1,9 +1,9 @@
-import java.io.FileWriter;
 import java.io.IOException;
 import java.util.Date;
 import java.util.Vector;
 import java.util.Stack;
 import java.util.LinkedList;
+import java.util.LinkedHashMap;
 
 /**
  * An Assembly Code Generator example emphasizing well thought design and
@@ -23,30 +23,21 @@ import java.util.LinkedList;
  *    strings, shared across potentially multiple AssemblyCodeGenerator(s).
  *    It is Java convention to spell constant variables with upper casing.
  *    
- * 3) FileWriter is a basic IO class which can write basic types such as
- *    Strings to a file.  For performance you may want to look into the
- *    BufferedWriter class.
+ * 3) The assembly goes to an AsmSink: a buffered file (or stream), memory,
+ *    or nowhere at all.  Only the sink knows which.
  *    
  * 4) This is a template for our file header.  It is very basic consisting only
  *    of a time stamp.
  *    
- * 5) This is the string we will use as an indentation seperator.  We are 
- *    encapsulating this seperator into one variable so we only need to change
- *    the initialization if we want to change our spacing to say 4 spaces for
- *    example.  Imagine if you simply used the literal "\t" in 500 places and
- *    then you decide you want to change it to 4 spaces!  Aside from regular 
- *    expressions you have a lot of work ahead of you.
+ * 5) Prefixes of the labels and symbols we make up, so they can't clash
+ *    with the program's own names.
  *    
- * 6) These are constant String templates that will be used for code
- *    generation.  It is nice to isolate these in one place or even in another
- *    file so that we can quickly make universal changes if needed.  You will
- *    notice that we could generate an entirely different language by simply
- *    changing the construct definitions.  I recommend defining all operations
- *    as well as formats.  Operations are things like add, mul, set, etc.
- *    Formats are like {OPERATION} {REG_1}, {REG_2}, {REG_3} etc.
+ * 6) The opcodes themselves are the Opcode enum, so a misspelt one doesn't
+ *    compile.  Operands are still strings (registers, labels, addresses)
+ *    or ints.
  *    
- * 7) Here we are making a call to writeAssembly to write our header with the
- *    current time.  writeAssembly explained later.
+ * 7) Here we are making our header with the current time.  It's written
+ *    ahead of everything else at dispose.
  *    
  * 8) These methods are used to increase or decrease our current indentation
  *    level.  You might ask why make a method for a simple inc/dec?  We are
@@ -58,26 +49,25 @@ import java.util.LinkedList;
  *    everywhere we were incrementing the variable (if we didn't have the
  *    methods).
  *    
- * 9) This signature may look foreign to you.  What is says is that we have 
- *    public method named writeAssembly which takes as parameters a String
- *    followed by 1 or more strings.  This construct is called "VarArgs" and
- *    is a Java 1.5 feature.  This allows you to write one method which can
- *    be applied to any number of parameters.  This method simply takes in 
- *    a template and all the strings that will be substituted into the 
- *    template.  When you are actually in the method, the parameter 
- *    String ... params will be an array of strings.
- *    
- * 10) This is where we use our indent_level.  We will indent indent_level levels
- *     of indentation.  That is an awkward sentence isn't it!  StringBuilder is
- *     an efficient class to build strings from concatentations.  If your 
- *     concatenations span multiple lines of code, using a StringBuilder can
- *     offer signifigant performance when compared to using the + operator.
- *     This topic can get fairly detailed, send me an email or come talk to me
- *     in the lab for more details.
+ * 9) emit adds one instruction, an opcode and up to three operands, a
+ *    level in from the current indentation.  line, label and newline
+ *    add text that isn't an instruction: line at an instruction's
+ *    indentation, label and newline at the current one.
  * 
- * 11) Here we are writing the message to file, notice we are using the 
- *     String.format method which takes a printf like format string followed
- *     by an array of Objects which are the parameters to the format string.
+ * 10) Every line goes to the section being written to (see section), as
+ *     an Instruction.  Nothing is written to the sink until dispose, which
+ *     writes each section once, so the .s file doesn't switch sections at
+ *     every global and constant, and the code can still be looked over
+ *     after it's all been generated.
+ *
+ * 11) With -O, dispose first runs the passes over the .text, in order:
+ *     RegisterAllocator, Peephole (unless -no-peephole) and DelaySlots
+ *     (unless -no-delay-slots).
+ *
+ * 12) Opening, writing or closing the sink throws an IOException for the
+ *     compile to report, rather than ending the JVM; the sink is closed
+ *     either way, by dispose or, if the compile stops before that, by
+ *     close.
  *     
  */
 
@@ -117,14 +107,31 @@ public class AssemblyCodeGenerator {
     private Stack<Integer> numDtors = new Stack<Integer>();
     private Stack<Integer> numGlobalsDtors = new Stack<Integer>();
 
-    private boolean holdOff = false;
     private boolean dtorFlag = false;
 
     private Stack<Integer> andor = new Stack<Integer>();
 
+    // nesting depth of code that never runs (the right side of a
+    // short-circuited && or ||); none of it is written
+    private int deadCode = 0;
+
+
+    // Every section written to, in the order they were first used, and
+    // the one being written to now.  Nothing is written out until
+    // dispose.
+    private LinkedHashMap<String, AsmSection> sections = new LinkedHashMap<String, AsmSection>();
+    private AsmSection section;
 
-    // This is the hold off buffer that handles premature printing
-    StringBuilder bufferStmt = new StringBuilder();
+    // set by FuncGroup, so the first function of a group stays in the
+    // group label's unit
+    private boolean groupStarted = false;
+
+    // -O: run the passes over the code before it's written (the
+    // peephole pass unless -no-peephole, and delay slots filled unless
+    // -no-delay-slots)
+    private boolean optimize = false;
+    private boolean peephole = true;
+    private boolean delaySlots = true;
     
 
     // 2
@@ -136,7 +143,17 @@ public class AssemblyCodeGenerator {
         "Unable to write to fileWriter";
 
     // 3
-    private FileWriter fileWriter;
+    private AsmSink sink;
+    private String header;
+
+    // For -stats: lines of assembly and characters written, and the
+    // stats to time writing into (null for none)
+    private long nInstructions = 0;
+    private long nBytesWritten = 0;
+    private long nSlotsAllocated = 0;
+    private long nPeepholeSaved = 0;
+    private long nDelaySlotsFilled = 0;
+    private CompileStats stats;
     
     // 4
     private static final String FILE_HEADER = 
@@ -145,94 +162,16 @@ public class AssemblyCodeGenerator {
         " */\n\n";
         
     // 5
-    private static final String SEPARATOR = "\t";
     private static final String DOLLAR = ".$$.";
-    private static final String AZ = ".asciz";
-    
-    // Operations name decl
-    private static final String SET_OP = "set";
-    private static final String SAVE_OP = "save";
-    private static final String CALL_OP = "call";
-    private static final String NOP_OP = "nop";
-    private static final String RET_OP = "ret";
-    private static final String RESTORE_OP = "restore";
-    // cmp for int
-    private static final String CMP_OP = "cmp";
-    // cmp for float
-    private static final String FCMP_OP = "fcmps";
-
-    private static final String FITOS_OP = "fitos";
-    private static final String FSTOI_OP = "fstoi";
-
     
-    // Operations arithmetric
-    // +/- UNarySign
-    private static final String ADD_OP = "add";
-    private static final String SUB_OP = "sub";
-    private static final String NEG_OP = "neg";
-    // for float 
-    private static final String FADD_OP = "fadds";
-    private static final String FSUB_OP = "fsubs";
-    private static final String FNEG_OP = "fnegs";
-   
-    // *, /, %
+    // Calls to the runtime
     private static final String MUL_OP = ".mul";
     private static final String DIV_OP = ".div";
     private static final String MOD_OP = ".rem";
-    // for float
-    private static final String FMUL_OP = "fmuls";
-    private static final String FDIV_OP = "fdivs";
-
-    
-
-
-    //bitwise
-    private static final String AND_OP = "and";
-    private static final String OR_OP = "or";
-    private static final String XOR_OP = "xor";
-    
-
-    private static final String MOV_OP = "mov";
     private static final String PRINT_OP = "printf";
-    private static final String LOAD_OP = "ld";
     private static final String EXIT_OP = "exit";
-    private static final String STORE_OP = "st";
-    // for float
-    private static final String FMOV_OP = "fmovs";
-
-    
-    // cmp for if statement
-    private static final String BA_OP = "ba";
-    private static final String BLE_OP = "ble";
-    private static final String BE_OP = "be";
-    private static final String BNE_OP = "bne";
-    private static final String BL_OP = "bl";
-    private static final String BG_OP = "bg";
-    private static final String BGE_OP = "bge";
-
-
-
-    private static final String INC_OP = "inc";
-    private static final String DEC_OP = "dec";
-    // for float
-    private static final String FBLE_OP = "fble";
-    private static final String FBE_OP = "fbe";
-    private static final String FBNE_OP = "fbne";
-    private static final String FBL_OP = "fbl";
-    private static final String FBG_OP = "fbg";
-    private static final String FBGE_OP = "fbge";
 
-    
-
-    
-    // Var decl
-    private static final String SECTION = ".section";
-    private static final String ALIGN = ".align";
-    private static final String GLOBAL = ".global";
-    private static final String SKIP = ".skip";
     private static final String LABEL = "%s:"; // lol we never use this
-    private static final String WORD = ".word";
-    private static final String SINGLE = ".single";
     private static final String INIT = ".$.init.";
    
 
@@ -275,23 +214,40 @@ public class AssemblyCodeGenerator {
     //private static final String AssemblyFile = "%s";
 
 
-    // Operation param decl
-    private static final String THREE_PARAM = "%s" + SEPARATOR + "%s, %s, %s\n";
-    private static final String TWO_PARAM = "%s" + SEPARATOR + "%s, %s\n";
-    private static final String ONE_PARAM = "%s" + SEPARATOR + "%s\n";
-    private static final String NO_PARAM = "%s" + SEPARATOR + "\n";
-    private static final String NEWLINE = "\n";
+    // Sections
+    private static final String RODATA = "\".rodata\"";
+    private static final String DATA = "\".data\"";
+    private static final String BSS = "\".bss\"";
+    private static final String TEXT = "\".text\"";
+    private static final String INIT_SECTION = "\".init\"";
+    private static final String FINI_SECTION = "\".fini\"";
 
-    public AssemblyCodeGenerator(String fileToWrite) {
+    public AssemblyCodeGenerator(String fileToWrite) throws IOException {
+        this(openFile(fileToWrite));
+    }
+
+    public AssemblyCodeGenerator(AsmSink sink) {
+        this.sink = sink;
+
+        // 7
+        header = String.format(FILE_HEADER, (new Date()).toString());
+
+        // the sections in the order they're written out
+        this.section(RODATA);
+        this.section(DATA);
+        this.section(BSS);
+        this.section(TEXT);
+        this.section(INIT_SECTION);
+        this.section(FINI_SECTION);
+        this.section(TEXT);
+    }
+
+    // A buffered sink for fileToWrite
+    public static AsmSink openFile(String fileToWrite) throws IOException {
         try {
-            fileWriter = new FileWriter(fileToWrite);
-            
-            // 7
-            writeAssembly(FILE_HEADER, (new Date()).toString());
+            return new BufferedAsmSink(fileToWrite);
         } catch (IOException e) {
-            System.err.printf(ERROR_IO_CONSTRUCT, fileToWrite);
-            e.printStackTrace();
-            System.exit(1);
+            throw new IOException(String.format(ERROR_IO_CONSTRUCT, fileToWrite), e);
         }
     }
     
@@ -301,13 +257,45 @@ public class AssemblyCodeGenerator {
         indent_level--;
     }
     
-    public void dispose() {
+    public void dispose() throws IOException {
+        if (stats != null)
+            stats.begin(CompileStats.EMIT);
+        try {
+            if (optimize) {
+                nSlotsAllocated = RegisterAllocator.allocate(sections.get(TEXT));
+                if (peephole)
+                    nPeepholeSaved = Peephole.optimize(sections.get(TEXT));
+                if (delaySlots)
+                    nDelaySlotsFilled = DelaySlots.fill(sections.get(TEXT));
+            }
+
+            StringBuilder sb = new StringBuilder(header);
+            for (AsmSection sec : sections.values()) {
+                if (!sec.isEmpty())
+                    sec.appendTo(sb);
+            }
+            try {
+                write(sb.toString());
+            } finally {
+                close();
+            }
+        } finally {
+            if (stats != null)
+                stats.end(CompileStats.EMIT);
+        }
+    }
+
+    // 12 Closes the sink, unless dispose already has
+    public void close() throws IOException {
+        if (sink == null)
+            return;
+
+        AsmSink closing = sink;
+        sink = null;
         try {
-            fileWriter.close();
+            closing.close();
         } catch (IOException e) {
-            System.err.println(ERROR_IO_CLOSE);
-            e.printStackTrace();
-            System.exit(1);
+            throw new IOException(ERROR_IO_CLOSE, e);
         }
     }
     
@@ -317,73 +305,145 @@ public class AssemblyCodeGenerator {
     
 
     
+    // Drops everything written until the matching endDeadCode
+    public void beginDeadCode(){
+        deadCode++;
+    }
+
+    public void endDeadCode(){
+        deadCode--;
+    }
+
+
     // 9
-    public void setholdOff(boolean b){
-        holdOff = b;
+    public void emit(Opcode op) {
+        add(new Instruction(indent_level + 1, op));
     }
 
-    public boolean getholdOff(){
-        return holdOff;
+    public void emit(Opcode op, String a) {
+        add(new Instruction(indent_level + 1, op, a));
     }
 
+    public void emit(Opcode op, String a, String b) {
+        add(new Instruction(indent_level + 1, op, a, b));
+    }
 
-    public void writeAssembly(String template, String ... params) {
-        
-        if( ! holdOff ){
-            StringBuilder asStmt = new StringBuilder();
+    public void emit(Opcode op, String a, String b, String c) {
+        add(new Instruction(indent_level + 1, op, a, b, c));
+    }
 
-            // 10
-            for (int i=0; i < indent_level; i++) {
-                asStmt.append(SEPARATOR);
-            }
-        
-            // 11
-            asStmt.append(String.format(template, (Object[])params));
+    public void emit(Opcode op, int n) {
+        emit(op, Integer.toString(n));
+    }
 
-            try {
-                fileWriter.write(asStmt.toString());
-            } catch (IOException e) {
-                System.err.println(ERROR_IO_WRITE);
-                e.printStackTrace();
-            }
+    public void emit(Opcode op, int n, String b) {
+        emit(op, Integer.toString(n), b);
+    }
 
+    public void emit(Opcode op, String a, int n, String c) {
+        emit(op, a, Integer.toString(n), c);
+    }
+
+    // A line that isn't an instruction (a comment, or an assignment to
+    // a symbol), at an instruction's indentation
+    public void line(String text) {
+        add(new Instruction(indent_level + 1, text));
+    }
+
+    // A label, or a comment that goes with one, at the current indentation
+    public void label(String text) {
+        add(new Instruction(indent_level, text));
+    }
+
+    public void newline() {
+        add(Instruction.blank(indent_level));
+    }
+
+    // Everything from here on goes in section name, until the next switch
+    public void section(String name) {
+        section = sections.get(name);
+        if (section == null) {
+            boolean code = name.equals(TEXT) || name.equals(INIT_SECTION) || name.equals(FINI_SECTION);
+            section = new AsmSection(name, code);
+            sections.put(name, section);
         }
-        // hold off
-        else{
-            for (int i=0; i < indent_level; i++) {
-                bufferStmt.append(SEPARATOR);
-            }
-            bufferStmt.append(String.format(template, (Object[])params));
-        }
-        
     }
 
+    // Starts a new function's unit of .text
+    private void beginFunction() {
+        sections.get(TEXT).beginUnit();
+    }
+
+    // 10
+    private void add(Instruction line) {
+        if (deadCode > 0)
+            return;
+        if (stats != null)
+            stats.begin(CompileStats.EMIT);
+        nInstructions++;
+
+        section.add(line);
 
-    // This allows use to print the holdoff
-    public void TimeToWrite(){
+        if (stats != null)
+            stats.end(CompileStats.EMIT);
+    }
 
+    private void write(String str) throws IOException {
+        nBytesWritten += str.length();
         try {
-            fileWriter.write(bufferStmt.toString());
+            sink.write(str);
         } catch (IOException e) {
-            System.err.println(ERROR_IO_WRITE);
-            e.printStackTrace();
+            throw new IOException(ERROR_IO_WRITE, e);
         }
-        bufferStmt = new StringBuilder();  
+    }
+
+    public void setStats(CompileStats stats) {
+        this.stats = stats;
+    }
+
+    public void setOptimize(boolean b) {
+        optimize = b;
+    }
+
+    public void setPeephole(boolean b) {
+        peephole = b;
+    }
+
+    public void setDelaySlots(boolean b) {
+        delaySlots = b;
+    }
+
+    public long getInstructions() {
+        return nInstructions;
+    }
+
+    public long getSlotsAllocated() {
+        return nSlotsAllocated;
+    }
+
+    public long getPeepholeSaved() {
+        return nPeepholeSaved;
+    }
+
+    public long getDelaySlotsFilled() {
+        return nDelaySlotsFilled;
+    }
+
+    public long getBytesWritten() {
+        return nBytesWritten;
     }
     
-    // 12 don't actually used for anything
-    public static void main(String args[]) {
+    // 11 don't actually used for anything
+    public static void main(String args[]) throws IOException {
         AssemblyCodeGenerator myAsWriter = new AssemblyCodeGenerator("rc.s");
 
+        myAsWriter.emit(Opcode.SET, 4095, "%l0");
         myAsWriter.increaseIndent();
-        myAsWriter.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(4095), "%l0");
-        myAsWriter.increaseIndent();
-        myAsWriter.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(1024), "%l1");
+        myAsWriter.emit(Opcode.SET, 1024, "%l1");
         myAsWriter.decreaseIndent();
         
-        myAsWriter.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(512), "%l2");
+        myAsWriter.emit(Opcode.SET, 512, "%l2");
         
-        myAsWriter.decreaseIndent();
         myAsWriter.dispose();
     }
 
@@ -396,308 +456,210 @@ public class AssemblyCodeGenerator {
     public void formatHeader(){
 
         // .section ".rodata"
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".rodata\"");
-        this.decreaseIndent();
+        this.section(RODATA);
 
         // .align 4
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.emit(Opcode.ALIGN, 4);
 
         // .$$.intFmt:
-        this.writeAssembly(NO_PARAM, DOLLAR + "intFmt:");
+        this.label(DOLLAR + "intFmt:");
         
         // .asciz "%d"
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, AZ, "\"%d\"");
-        this.decreaseIndent();
+        this.emit(Opcode.ASCIZ, "\"%d\"");
 
         // .$$.strFmt:
-        this.writeAssembly(NO_PARAM, DOLLAR + "strFmt:");
+        this.label(DOLLAR + "strFmt:");
         
         // .asciz "%s"
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, AZ, "\"%s\"");
-        this.decreaseIndent();
+        this.emit(Opcode.ASCIZ, "\"%s\"");
 
         // .$$.strTF:
-        this.writeAssembly(NO_PARAM, DOLLAR + "strTF:");
+        this.label(DOLLAR + "strTF:");
         
         
         // .asciz "false\0\0\0true"
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, AZ, "\"false\\0\\0\\0true\"");
-        this.decreaseIndent();
+        this.emit(Opcode.ASCIZ, "\"false\\0\\0\\0true\"");
 
         // .$$.endl:
-        this.writeAssembly(NO_PARAM, DOLLAR + "strEndl:");
+        this.label(DOLLAR + "strEndl:");
         
         // .asciz "\n"
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, AZ, "\"\\n\"");
-        this.decreaseIndent();
+        this.emit(Opcode.ASCIZ, "\"\\n\"");
 
         // .$$.strArrBound:
-        this.writeAssembly(NO_PARAM, DOLLAR + "strArrBound:");
+        this.label(DOLLAR + "strArrBound:");
         
         // .asciz "Index error msg"
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, AZ, "\"Index value of %d is outside legal range [0,%d).\\n\"");
-        this.decreaseIndent();
+        this.emit(Opcode.ASCIZ, "\"Index value of %d is outside legal range [0,%d).\\n\"");
 
         // .$$.strNullPtr:
-        this.writeAssembly(NO_PARAM, DOLLAR + "strNullPtr:");
+        this.label(DOLLAR + "strNullPtr:");
         
         // .asciz "Nullpointer error msg"
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, AZ, "\"Attempt to dereference NULL pointer.\\n\"");
-        this.decreaseIndent();
+        this.emit(Opcode.ASCIZ, "\"Attempt to dereference NULL pointer.\\n\"");
 
 
-        this.writeAssembly(NEWLINE);    
+        this.newline();
         // .section   .text
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".text\"");
-        this.decreaseIndent();
-
-        // .align   size
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.section(TEXT);
+        this.beginFunction();
 
         // .$$.printBool:
-        this.writeAssembly(NO_PARAM, DOLLAR + "printBool:");
+        this.label(DOLLAR + "printBool:");
         
         // save %sp, -96, %sp
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, SAVE_OP, "%sp", "-96", "%sp");
-        this.decreaseIndent();
+        this.emit(Opcode.SAVE, "%sp", -96, "%sp");
 
         // set .$$.strTF, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, ".$$.strTF", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, ".$$.strTF", "%o0");
 
         // cmp  %g0, %i0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, CMP_OP,"%g0", "%i0");
-        this.decreaseIndent();
+        this.emit(Opcode.CMP, "%g0", "%i0");
 
         // be  .$$.printBool2
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, BE_OP, DOLLAR+"printBool2");
-        this.decreaseIndent();
+        this.emit(Opcode.BE, DOLLAR+"printBool2");
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         // add   %o0, 8, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP,"%o0", "8", "%o0" );
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, "%o0", 8, "%o0");
 
 
 
         // .$$.printBool2
-        this.writeAssembly(NO_PARAM, DOLLAR + "printBool2:");
+        this.label(DOLLAR + "printBool2:");
 
         // call printf
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, PRINT_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, PRINT_OP);
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         // ret
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RET_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RET);
 
         // restore
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RESTORE_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RESTORE);
 
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // .$$.arrCheck
-        this.writeAssembly(NO_PARAM, DOLLAR + "arrCheck:");
+        this.label(DOLLAR + "arrCheck:");
 
         // save %sp, -96, %sp
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, SAVE_OP, "%sp", "-96", "%sp");
-        this.decreaseIndent();
+        this.emit(Opcode.SAVE, "%sp", -96, "%sp");
         
         // cmp %io,%go
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, CMP_OP, "%i0","%g0");
-        this.decreaseIndent();
+        this.emit(Opcode.CMP, "%i0", "%g0");
 
         // bl .$$.arrCheck2
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, BL_OP, DOLLAR + "arrCheck2");
-        this.decreaseIndent();
+        this.emit(Opcode.BL, DOLLAR + "arrCheck2");
 
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
         // cmp %io,%i1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, CMP_OP, "%i0","%i1");
-        this.decreaseIndent();
+        this.emit(Opcode.CMP, "%i0", "%i1");
 
         // bge .$$.arrCheck2
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, BGE_OP, DOLLAR + "arrCheck2");
-        this.decreaseIndent();
+        this.emit(Opcode.BGE, DOLLAR + "arrCheck2");
 
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
         // ret
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RET_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RET);
 
         // restore
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RESTORE_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RESTORE);
 
 
 
         // .$$.arrCheck2
-        this.writeAssembly(NO_PARAM, DOLLAR + "arrCheck2:");
+        this.label(DOLLAR + "arrCheck2:");
 
 
         // set .$$.strArrBound, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, ".$$.strArrBound", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, ".$$.strArrBound", "%o0");
 
 
         // mov %i0 %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, MOV_OP,"%i0","%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.MOV, "%i0", "%o1");
 
         // call printf
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, PRINT_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, PRINT_OP);
 
   
         // mov %i1 %o2
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, MOV_OP,"%i1","%o2");
-        this.decreaseIndent();
+        this.emit(Opcode.MOV, "%i1", "%o2");
 
 
         // call exit
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, EXIT_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, EXIT_OP);
 
 
         // mov 1 %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, MOV_OP,"1","%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.MOV, 1, "%o0");
 
 
         // ret
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RET_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RET);
 
         // restore
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RESTORE_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RESTORE);
 
 
 
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // .$$.ptrCheck
-        this.writeAssembly(NO_PARAM, DOLLAR + "ptrCheck:");
+        this.label(DOLLAR + "ptrCheck:");
 
         // save %sp, -96, %sp
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, SAVE_OP, "%sp", "-96", "%sp");
-        this.decreaseIndent();
+        this.emit(Opcode.SAVE, "%sp", -96, "%sp");
         
         // cmp %io,%g0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, CMP_OP, "%i0","%g0");
-        this.decreaseIndent();
+        this.emit(Opcode.CMP, "%i0", "%g0");
 
         // bne .$$.ptrCheck2
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, BNE_OP, DOLLAR + "ptrCheck2");
-        this.decreaseIndent();
+        this.emit(Opcode.BNE, DOLLAR + "ptrCheck2");
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         //set .$$.strNullPtr %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, ".$$.strNullPtr", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, ".$$.strNullPtr", "%o0");
 
 
         // call printf
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, PRINT_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, PRINT_OP);
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
         // call exit
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, EXIT_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, EXIT_OP);
 
         // mov 1 %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, MOV_OP,"1","%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.MOV, 1, "%o0");
 
 
         // .$$.ptrCheck2
-        this.writeAssembly(NO_PARAM, DOLLAR + "ptrCheck2:");
+        this.label(DOLLAR + "ptrCheck2:");
 
         // ret
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RET_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RET);
 
         // restore
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RESTORE_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RESTORE);
 
 
         
@@ -710,49 +672,34 @@ public class AssemblyCodeGenerator {
     // ----------------------------------------------------------------------------------
     public void DoGlobalVarDecl(STO sto, String name, String optstatic){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // .section .bss
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".bss\"");
-        this.decreaseIndent();
+        this.section(BSS);
 
         // .align  4 
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.emit(Opcode.ALIGN, 4);
 
         if(optstatic == null){
             // .global varname
-            this.increaseIndent();
-            this.writeAssembly(ONE_PARAM, GLOBAL, sto.getName());
-            this.decreaseIndent();
+            this.emit(Opcode.GLOBAL, sto.getName());
         }
 
         // varname:
-        this.writeAssembly(NO_PARAM,name+":");
+        this.label(name+":");
 
         // .skip # (should auto init var to 0/false)
-        this.increaseIndent();
         if(sto.getType() instanceof ArrayType){
-            this.writeAssembly(ONE_PARAM, SKIP, String.valueOf(((ArrayType)sto.getType()).getTotalSize()));
+            this.emit(Opcode.SKIP, ((ArrayType)sto.getType()).getTotalSize());
         }
         else{
-            this.writeAssembly(ONE_PARAM, SKIP, String.valueOf(sto.getType().getSize()));
+            this.emit(Opcode.SKIP, sto.getType().getSize());
         }
-        this.decreaseIndent();
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // .section .text
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".text\"");
-        this.decreaseIndent();
-
-        // .align   4
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.section(TEXT);
     
     
     }
@@ -762,78 +709,53 @@ public class AssemblyCodeGenerator {
     // ----------------------------------------------------------------------------------
     public void DoStaticGuardStart(STO sto, String name){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // .section .bss
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".bss\"");
-        this.decreaseIndent();
+        this.section(BSS);
 
         // .align  4 
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.emit(Opcode.ALIGN, 4);
 
         // varname:
-        this.writeAssembly(NO_PARAM, name+":");
+        this.label(name+":");
 
         // .skip # (should anto init var to 0/false
-        this.increaseIndent();
         if(sto.getType() instanceof ArrayType){
-            this.writeAssembly(ONE_PARAM, SKIP, String.valueOf(((ArrayType)sto.getType()).getTotalSize()));
+            this.emit(Opcode.SKIP, ((ArrayType)sto.getType()).getTotalSize());
         }
         else{
-            this.writeAssembly(ONE_PARAM, SKIP, String.valueOf(sto.getType().getSize()));
+            this.emit(Opcode.SKIP, sto.getType().getSize());
         }
-        this.decreaseIndent();
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // .section .text
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".text\"");
-        this.decreaseIndent();
-
-        // .align   4
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.section(TEXT);
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! Start init guard
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! Start init guard");
-        this.decreaseIndent();
+        this.line("! Start init guard");
 
         // set name, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, name, "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, name, "%o0");
 
         // ld [%o0], %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o0]", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.LD, "[%o0]", "%o0");
 
         // cmp %o0, %g0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, CMP_OP, "%o0", "%g0");
-        this.decreaseIndent();
+        this.emit(Opcode.CMP, "%o0", "%g0");
 
         //bne name.done
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, BNE_OP, name+".done");
-        this.decreaseIndent();
+        this.emit(Opcode.BNE, name+".done");
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         // pure formatting indent
-        this.increaseIndent();
 
+        this.increaseIndent();
     }
 
     // -------------------------------------------------------------------------
@@ -842,32 +764,24 @@ public class AssemblyCodeGenerator {
     public void DoStaticGuardEnd(String name){
 
         // pure formatting indent
-        this.decreaseIndent();
 
-        this.writeAssembly(NEWLINE);
+        this.decreaseIndent();
+        this.newline();
     
         // ! End init guard
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! End init guard");
-        this.decreaseIndent();
+        this.line("! End init guard");
 
         // set name, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, name, "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, name, "%o0");
         
         // mov 1, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, MOV_OP, "1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.MOV, 1, "%o1");
 
         // st %o1, [%o0]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o1", "[%o0]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o1", "[%o0]");
 
         // name.done:
-        this.writeAssembly(NO_PARAM, name+".done:");
+        this.label(name+".done:");
         
     }
 
@@ -877,38 +791,27 @@ public class AssemblyCodeGenerator {
     // ----------------------------------------------------------------------------------
     public void DoStaticLocalVarInit(STO sto, String section, String name){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // .section .bss
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".bss\"");
-        this.decreaseIndent();
+        this.section(BSS);
 
         // .align  4 
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.emit(Opcode.ALIGN, 4);
 
         // varname:
-        this.writeAssembly(NO_PARAM,name+":");
+        this.label(name+":");
 
         // .word # (should anto init var to 0/false
+        this.emit(Opcode.WORD, sto.getType().getSize());
         this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, WORD, String.valueOf(sto.getType().getSize())); 
-        this.writeAssembly(NEWLINE);
-        this.decreaseIndent();
+        this.newline();
 
-        this.writeAssembly(NEWLINE);
-
-        // .section .text
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".text\"");
         this.decreaseIndent();
+        this.newline();
 
-        // .align   4
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        // .section .text
+        this.section(TEXT);
      
     }
 
@@ -921,7 +824,7 @@ public class AssemblyCodeGenerator {
 
     public void DoArrayCheck(STO sto, STO expr, STO result){
         
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // lit case
         if(expr instanceof ConstSTO && !(((ConstSTO)expr).getLitTag())){
@@ -929,14 +832,10 @@ public class AssemblyCodeGenerator {
             int value = ((ConstSTO)expr).getIntValue();
 
             // ! comment
-            this.increaseIndent();
-            this.writeAssembly(NO_PARAM, "! "+sto.getName()+"["+String.valueOf(value)+"]");
-            this.decreaseIndent();
+            this.line("! "+sto.getName()+"["+String.valueOf(value)+"]");
 
             // set #, %o0
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(value), "%o0");
-            this.decreaseIndent();
+            this.emit(Opcode.SET, value, "%o0");
 
 
         }
@@ -944,19 +843,13 @@ public class AssemblyCodeGenerator {
         else{
 
             // ! comment
-            this.increaseIndent();
-            this.writeAssembly(NO_PARAM, "! "+sto.getName()+"["+expr.getName()+"]");
-            this.decreaseIndent();
+            this.line("! "+sto.getName()+"["+expr.getName()+"]");
 
             //set expr.offset, %l7
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, SET_OP, expr.getOffset(), "%l7");
-            this.decreaseIndent();
+            this.emit(Opcode.SET, expr.getOffset(), "%l7");
 
             //add %fp, %l7, %l7
-            this.increaseIndent();
-            this.writeAssembly(THREE_PARAM, ADD_OP, expr.getBase(),"%l7", "%l7");
-            this.decreaseIndent();
+            this.emit(Opcode.ADD, expr.getBase(), "%l7", "%l7");
 
             //added 11/29
             if(expr.getIsPointer() || expr.getStructTag() || expr.getArrayTag()) {
@@ -964,9 +857,7 @@ public class AssemblyCodeGenerator {
             }
 
             //ld  [%l7], [%o0]
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%o0");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%l7]", "%o0");
 
         }
 
@@ -977,18 +868,12 @@ public class AssemblyCodeGenerator {
             // set totalsize, %o1
             //int total = ((ArrayType)sto.getType()).getLength();
             int total = ((ArrayType)sto.getType()).getSize();
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(total), "%o1");
-            this.decreaseIndent();
+            this.emit(Opcode.SET, total, "%o1");
 
-            this.increaseIndent();
-            this.writeAssembly(ONE_PARAM, CALL_OP, DOLLAR+"arrCheck");
-            this.decreaseIndent();
+            this.emit(Opcode.CALL, DOLLAR+"arrCheck");
 
             // nop
-            this.increaseIndent();
-            this.writeAssembly(NO_PARAM, NOP_OP);
-            this.decreaseIndent();
+            this.emit(Opcode.NOP);
         }
         // set  base type size, %o0
 
@@ -999,25 +884,17 @@ public class AssemblyCodeGenerator {
         else{
             baseSize = ((ArrayType)sto.getType()).getBaseType().getSize();
         }
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(baseSize),"%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, baseSize, "%o1");
 
         // call .mul
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, MUL_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, MUL_OP);
 
         // nop 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
         //mov %o0, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, MOV_OP, "%o0", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.MOV, "%o0", "%o1");
 
         String reg = "%o0";
         if(sto.getType() instanceof PointerType){
@@ -1026,154 +903,98 @@ public class AssemblyCodeGenerator {
 
 
         //set offset, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), reg);
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), reg);
 
         //add base, "%o0", "%o0"
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(), reg, reg);
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), reg, reg);
     
         if(sto.getStructTag() || sto.getIsPointer() || sto.flag){
             // ld [%o0], %o0
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o0]", "%o0");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%o0]", "%o0");
         }
         if(sto.getType() instanceof PointerType){
             // ld "[%l7]", %o0
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%o0");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%l7]", "%o0");
         }
         //call .$$.ptrCheck
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, DOLLAR+"ptrCheck");
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, DOLLAR+"ptrCheck");
 
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         //add %o0, %o1, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, "%o0", "%o1", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, "%o0", "%o1", "%o0");
 
         //set result.offset, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, result.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, result.getOffset(), "%o1");
 
         //add %fp, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, result.getBase(),"%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, result.getBase(), "%o1", "%o1");
 
         //st  %o0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o0", "[%o1]");
 
     }
 
 
     public void DoStructArray(STO array, STO offset, int  length) {
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
          // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! "+array.getName()+"["+String.valueOf(length)+"]");
-        this.decreaseIndent();
+        this.line("! "+array.getName()+"["+String.valueOf(length)+"]");
 
         // set #, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(length), "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, length, "%o0");
 
          int total = ((ArrayType)array.getType()).getSize();
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(total), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, total, "%o1");
 
         // call  .$$.arrCheck
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, DOLLAR+"arrCheck");
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, DOLLAR+"arrCheck");
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         // set  base type size, %o0 
         int baseSize = ((ArrayType)array.getType()).getBaseType().getSize();
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(baseSize),"%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, baseSize, "%o1");
 
         // call .mul
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, MUL_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, MUL_OP);
 
         // nop 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         //mov %o0, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, MOV_OP, "%o0", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.MOV, "%o0", "%o1");
 
         //set offset, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, array.getOffset(), "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, array.getOffset(), "%o0");
 
         //add base, "%o0", "%o0"
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, array.getBase(), "%o0", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, array.getBase(), "%o0", "%o0");
     
         if(array.getStructTag()){
             // ld [%o0], %o0
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o0]", "%o0");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%o0]", "%o0");
         }
         //call .$$.ptrCheck
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, DOLLAR+"ptrCheck");
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, DOLLAR+"ptrCheck");
 
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         //add %o0, %o1, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, "%o0", "%o1", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, "%o0", "%o1", "%o0");
 
         //set result.offset, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, offset.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, offset.getOffset(), "%o1");
 
         //add %fp, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, offset.getBase(),"%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, offset.getBase(), "%o1", "%o1");
 
         //st  %o0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o0", "[%o1]");
 
     }
 
@@ -1182,99 +1003,69 @@ public class AssemblyCodeGenerator {
     // ----------------------------------------------------------------------------------
     public void DoGlobalVarInitLit(STO sto, String num, String name, String optstatic){
         
-        this.writeAssembly(NEWLINE);
+        this.newline();
         
         // .section .data
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".data\"");
-        this.decreaseIndent();
+        this.section(DATA);
 
         // .align  4 
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.emit(Opcode.ALIGN, 4);
 
         if(optstatic == null){
             // .global varname
-            this.increaseIndent();
-            this.writeAssembly(ONE_PARAM, GLOBAL, sto.getName());
-            this.decreaseIndent();
+            this.emit(Opcode.GLOBAL, sto.getName());
         }
 
         // varname:
-        this.writeAssembly(NO_PARAM, name+":");
+        this.label(name+":");
 
-        this.increaseIndent();
         if(sto.getType() instanceof FloatType){
             // .single #
-            this.writeAssembly(ONE_PARAM, SINGLE, "0r"+num);
+            this.emit(Opcode.SINGLE, "0r"+num);
         }
         else{
             // .word  #
-            this.writeAssembly(ONE_PARAM, WORD, num);
+            this.emit(Opcode.WORD, num);
         }
-        this.decreaseIndent();
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // .section .text
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".text\"");
-        this.decreaseIndent();
-
-        // .align   4
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.section(TEXT);
 
     }
 
 
     public void DoGlobalVarInitVar(STO sto, String optstatic){
         
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // .section .bss
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".bss\"");
-        this.decreaseIndent();
+        this.section(BSS);
 
         // .align  4 
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.emit(Opcode.ALIGN, 4);
 
         // .global varname
         if(optstatic == null){
-            this.increaseIndent();
-            this.writeAssembly(ONE_PARAM, GLOBAL, sto.getName());
-            this.decreaseIndent();
+            this.emit(Opcode.GLOBAL, sto.getName());
         }
 
         // varname:
-        this.writeAssembly(NO_PARAM,sto.getName()+":");
+        this.label(sto.getName()+":");
 
         // .skip  # (not always 4, since we have struct) 
-        this.increaseIndent();
         if(sto.getType() instanceof ArrayType){
-            this.writeAssembly(ONE_PARAM, SKIP, String.valueOf(((ArrayType)sto.getType()).getTotalSize()));
+            this.emit(Opcode.SKIP, ((ArrayType)sto.getType()).getTotalSize());
         }
         else{
-            this.writeAssembly(ONE_PARAM, SKIP, String.valueOf(sto.getType().getSize()));
+            this.emit(Opcode.SKIP, sto.getType().getSize());
         }
-        this.decreaseIndent();
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // .section  .text
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".text\"");
-        this.decreaseIndent();
-
-        // .align   4
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.section(TEXT);
 
         // call the helper start
         this.initGlobalVarStart(sto);
@@ -1287,21 +1078,19 @@ public class AssemblyCodeGenerator {
     //---------------------------------------------------------------
     public void initGlobalVarStart(STO sto){
     
+        this.beginFunction();
+
         // .$.init.varname:
-        this.writeAssembly(NO_PARAM, INIT + sto.getName() + ":");
+        this.label(INIT + sto.getName() + ":");
         
         // set   SAVE..$.init.y, %g1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, "SAVE."+ INIT +sto.getOffset(), "%g1" );
-        this.decreaseIndent();
+        this.emit(Opcode.SET, "SAVE."+ INIT +sto.getOffset(), "%g1");
 
         //save   %sp, %g1, %sp
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, SAVE_OP, "%sp", "%g1", "%sp");
-        this.decreaseIndent();
+        this.emit(Opcode.SAVE, "%sp", "%g1", "%sp");
 
-        this.increaseIndent();
         
+        this.increaseIndent();
     }
 
     //---------------------------------------------------------------
@@ -1309,37 +1098,27 @@ public class AssemblyCodeGenerator {
     //---------------------------------------------------------------
     public void DoVarAssign(STO sto, STO expr, STO promote){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "!"+ sto.getName() + " = " + expr.getName());
-        this.decreaseIndent();
+        this.line("!"+ sto.getName() + " = " + expr.getName());
 
         // set    sto offset, %o1  
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%o1");
 
         // add    sto base, %o1, %o1  
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(), "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%o1", "%o1");
 
         
         // do load for reference added 11/14
         if(sto.flag || sto.getArrayTag() || sto.getStructTag() || sto.getIsPointer()) {
                 // ld    [%o1], o1
-           this.increaseIndent();
-           this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o1]", "%o1");
-           this.decreaseIndent();
+           this.emit(Opcode.LD, "[%o1]", "%o1");
         }
 
 
         if(expr.getType() instanceof NullPointerType){
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, SET_OP, "0", o0);
-            this.decreaseIndent();
+            this.emit(Opcode.SET, 0, o0);
 
             this.store(o0,o1);
         }
@@ -1349,9 +1128,7 @@ public class AssemblyCodeGenerator {
         
              // check for pointer, array
              if(expr.getArrayTag() || expr.getIsPointer() || expr.flag || expr.getStructTag()){
-                 this.increaseIndent();
-                 this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%l7");
-                 this.decreaseIndent();
+                 this.emit(Opcode.LD, "[%l7]", "%l7");
              }
 
 
@@ -1359,38 +1136,28 @@ public class AssemblyCodeGenerator {
             if(expr.getType() instanceof FloatType){
 
                 // ld   [%l7], %f0
-                this.increaseIndent();
-                this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%f0");
-                this.decreaseIndent();
+                this.emit(Opcode.LD, "[%l7]", "%f0");
 
 
                 // st   %f0, [%o1]
-                this.increaseIndent();
-                this.writeAssembly(TWO_PARAM, STORE_OP, "%f0", "[%o1]");
-                this.decreaseIndent();
+                this.emit(Opcode.ST, "%f0", "[%o1]");
 
            }
            else{
                // ld   [%l7], %o0
-               this.increaseIndent();
-               this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%o0");
-               this.decreaseIndent();
+               this.emit(Opcode.LD, "[%l7]", "%o0");
 
                 // int to float, type promote
                 if(promote != null){
                     this.DoTypePromotion(promote, "%f0", "%o0");
 
                     //st   %f0, [%o1]
-                    this.increaseIndent();
-                    this.writeAssembly(TWO_PARAM, STORE_OP, "%f0", "[%o1]");
-                    this.decreaseIndent();
+                    this.emit(Opcode.ST, "%f0", "[%o1]");
 
                }
                else{
                    // st   %o0, [%o1]
-                   this.increaseIndent();
-                   this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-                   this.decreaseIndent();
+                   this.emit(Opcode.ST, "%o0", "[%o1]");
                }
 
            }
@@ -1410,49 +1177,32 @@ public class AssemblyCodeGenerator {
     // --------------------------------------------------------------
     public void DoFloatRoData(STO sto, String reg){
           
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
 
         //.section ".rodata" 
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".rodata\"");
-        this.decreaseIndent();
+        this.section(RODATA);
 
         // .align 4
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, "4");
-        this.decreaseIndent();
+        this.emit(Opcode.ALIGN, 4);
 
         // .$$.float.#
         constFloatCnt++;
-        this.writeAssembly(NO_PARAM, DOLLAR + "float." + Integer.toString(constFloatCnt) + ":");
+        this.label(DOLLAR + "float." + Integer.toString(constFloatCnt) + ":");
 
         // .single 0r#
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SINGLE, "0r" + String.valueOf(((ConstSTO)sto).getFloatValue()) );
-        this.decreaseIndent();
+        this.emit(Opcode.SINGLE, "0r" + String.valueOf(((ConstSTO)sto).getFloatValue()));
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // .section ".text"
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".text\"" );
-        this.decreaseIndent();
-
-        // .align 4
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, "4" );
-        this.decreaseIndent();
+        this.section(TEXT);
 
         //set .$$.float.#, %l7
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, DOLLAR + "float." + Integer.toString(constFloatCnt) , "%l7" );
-        this.decreaseIndent();
+        this.emit(Opcode.SET, DOLLAR + "float." + Integer.toString(constFloatCnt), "%l7");
 
         //ld [%l7], %f0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", reg);
-        this.decreaseIndent();
+        this.emit(Opcode.LD, "[%l7]", reg);
 
     }
     // ---------------------------------------------------------------
@@ -1460,30 +1210,22 @@ public class AssemblyCodeGenerator {
     // ---------------------------------------------------------------
     public void DoFloatAssign(STO a, STO b, STO promote){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! " + a.getName() + " = " + b.getName());
-        this.decreaseIndent();
+        this.line("! " + a.getName() + " = " + b.getName());
 
         
         // set   var name, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, a.getOffset(), "%o1" );
-        this.decreaseIndent();
+        this.emit(Opcode.SET, a.getOffset(), "%o1");
 
         // add   %g0, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, a.getBase(), "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, a.getBase(), "%o1", "%o1");
 
         // add load op for ref
         // ld [%o1] %o1
         if(a.flag || a.getArrayTag() || a.getStructTag() || a.getIsPointer()) {
-           this.increaseIndent();
-           this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o1]", "%o1" );
-           this.decreaseIndent();
+           this.emit(Opcode.LD, "[%o1]", "%o1");
         
         }
 
@@ -1491,9 +1233,7 @@ public class AssemblyCodeGenerator {
         if(promote != null){
             int val = ((ConstSTO)b).getIntValue();
             // set #, %o0 
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(val) , "%o0");
-            this.decreaseIndent();
+            this.emit(Opcode.SET, val, "%o0");
 
             // do type promotion
             this.DoTypePromotion(promote, "%f0", "%o0");
@@ -1504,9 +1244,7 @@ public class AssemblyCodeGenerator {
             this.DoFloatRoData(b, "%f0");
         }
         // st    %f0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%f0", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%f0", "[%o1]");
 
     }
 
@@ -1515,43 +1253,31 @@ public class AssemblyCodeGenerator {
     // ---------------------------------------------------------------
     public void DoConstAssign(STO a, String b, String forcommentonly){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! " + a.getName() + " = " + forcommentonly);
-        this.decreaseIndent();
+        this.line("! " + a.getName() + " = " + forcommentonly);
 
         // set   offset, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, a.getOffset(), "%o1" );
-        this.decreaseIndent();
+        this.emit(Opcode.SET, a.getOffset(), "%o1");
 
         // add   base, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, a.getBase(), "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, a.getBase(), "%o1", "%o1");
 
 
         // add load op for ref 
         // ld [%o1] %o1
         if(a.flag || a.getArrayTag() || a.getStructTag() || a.getIsPointer()) {
-           this.increaseIndent();
-           this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o1]", "%o1");
-           this.decreaseIndent();
+           this.emit(Opcode.LD, "[%o1]", "%o1");
 
         }
 
 
         // set   #, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, b, "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, b, "%o0");
 
         // st    %o0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o0", "[%o1]");
         
     }
 
@@ -1562,111 +1288,76 @@ public class AssemblyCodeGenerator {
     //---------------------------------------------------------------
     public void initGlobalVarEnd(STO sto, STO func){
         
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
-        this.decreaseIndent();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! End of function " + INIT + sto.getName() + ".fini" );
-        this.decreaseIndent();
+        this.label("! End of function " + INIT + sto.getName() + ".fini");
 
         // call    .$.init.b.fini
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, INIT+sto.getName()+".fini");
         this.decreaseIndent();
+        this.emit(Opcode.CALL, INIT+sto.getName()+".fini");
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         // ret
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RET_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RET);
 
         // restore
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RESTORE_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RESTORE);
 
         // SAVE..$.init.b = -(base + offset) & -8
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "SAVE." + INIT + sto.getName() + " = -("+ func.getAddress() +") & -8");//work for global case but might need to change it for local
+        this.line("SAVE." + INIT + sto.getName() + " = -("+ func.getAddress() +") & -8");//work for global case but might need to change it for local
         
-        this.decreaseIndent();
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //.$.init.var name.fini:
         
-        this.writeAssembly(NO_PARAM, INIT + sto.getName() + ".fini:" );
+        this.label(INIT + sto.getName() + ".fini:");
         
 
         // save   %sp, -96, %sp
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, SAVE_OP, "%sp", "-96", "%sp");
-        this.decreaseIndent();
+        this.emit(Opcode.SAVE, "%sp", -96, "%sp");
 
         // ret
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RET_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RET);
 
         // restore
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RESTORE_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RESTORE);
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //.section ".init"
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".init\"");
-        this.decreaseIndent();
-
-        //.align   4
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.section(INIT_SECTION);
 
         //call     .$.init.var name
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, INIT+sto.getName());
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, INIT+sto.getName());
 
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //.section  ".text"
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".text\"");
-        this.decreaseIndent();
-
-        //.align    4
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.section(TEXT);
 
         
     }
 
 
     public void FuncGroup(STO func) {
-        this.writeAssembly(NEWLINE);
+        this.beginFunction();
+        groupStarted = true;
+
+        this.newline();
 
         // .global  func_name
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, GLOBAL, func.getName());
-        this.decreaseIndent();
+        this.emit(Opcode.GLOBAL, func.getName());
 
         // label:
-        this.writeAssembly(NO_PARAM, func.getName()+":");      
+        this.label(func.getName()+":");
     
     }
 
@@ -1677,47 +1368,35 @@ public class AssemblyCodeGenerator {
     public void DoCtor(STO sto, STO func){
         
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! s.name(...)
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! "+sto.getName()+"."+sto.getType().getName()+ "( ... )");
-        this.decreaseIndent();
+        this.line("! "+sto.getName()+"."+sto.getType().getName()+ "( ... )");
 
         // set  offset, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%o0");
 
         // add  %fp, %o0, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(), "%o0", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%o0", "%o0");
 
         // add arry check -- 11/22 might breaks shit
         if(sto.getIsPointer() || sto.getArrayTag()){
             // ld [%o0] %o0
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o0]", "%o0");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%o0]", "%o0");
         }
 
         // call  funccall
-        this.increaseIndent();
         if(sto.getType() instanceof ArrayType) {
-            this.writeAssembly(ONE_PARAM, CALL_OP, ((ArrayType)sto.getType()).getBaseType().getName()+"."+func.getName()+"."+func.getAssemblyName());
+            this.emit(Opcode.CALL, ((ArrayType)sto.getType()).getBaseType().getName()+"."+func.getName()+"."+func.getAssemblyName());
 
         }
         else {
-            this.writeAssembly(ONE_PARAM, CALL_OP, sto.getType().getName()+"."+sto.getType().getName()+"."+func.getAssemblyName());
+            this.emit(Opcode.CALL, sto.getType().getName()+"."+sto.getType().getName()+"."+func.getAssemblyName());
 
         }
-        this.decreaseIndent();
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
     }
@@ -1725,24 +1404,18 @@ public class AssemblyCodeGenerator {
     // functionf for passing "this" parameter
     public void DoCtorThis(STO sto) {
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
          // set  offset, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%o0");
 
         // add  %fp, %o0, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(), "%o0", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%o0", "%o0");
 
         // add array check -- 11/22 might break shit
         if(sto.getIsPointer() || sto.getArrayTag()){
             // ld [%o0], %o0
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o0]", "%o0");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%o0]", "%o0");
         }
 
     }
@@ -1752,55 +1425,39 @@ public class AssemblyCodeGenerator {
     //----------------------
     public void DoStructAssign(STO a, STO b){
         
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! "+ a.getName() +" = " + b.getName());
-        this.decreaseIndent();
+        this.line("! "+ a.getName() +" = " + b.getName());
 
          // set  a.offset, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, a.getOffset(), "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, a.getOffset(), "%o0");
 
         // add  %fp, %o0, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, a.getBase(), "%o0", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, a.getBase(), "%o0", "%o0");
 
         if(a.getIsPointer() || a.getArrayTag()){
             this.load(o0, o0);
         }
         // set  b.offset, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, b.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, b.getOffset(), "%o1");
 
         // add  %fp, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, b.getBase(), "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, b.getBase(), "%o1", "%o1");
 
         if(b.getIsPointer() || b.getArrayTag()){
             this.load(o1, o1);
         }
 
         //set struct size %o2
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(a.getType().getSize()), "%o2"); 
-        this.decreaseIndent();
+        this.emit(Opcode.SET, a.getType().getSize(), "%o2");
 
 
         //call memmove
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, "memmove");
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, "memmove");
 
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
     }
 
@@ -1810,61 +1467,41 @@ public class AssemblyCodeGenerator {
     // ----------------------------------------------------------------------------------
     public void DoStructCall(STO sto, STO result){
         
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! "+sto.getName()+"."+result.getName());
-        this.decreaseIndent();
+        this.line("! "+sto.getName()+"."+result.getName());
 
         //set sto.offset, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%o0");
 
         //add sto.base, %o0, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(),"%o0", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%o0", "%o0");
 
         // check for array, pointer and ref
         if(sto.getArrayTag() || sto.getIsPointer() || sto.flag) {
 
             
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP,"[%o0]", "%o0");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%o0]", "%o0");
         }
 
         //set offset in struct, %o1
-        this.increaseIndent();  
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(result.getStructOffset()), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, result.getStructOffset(), "%o1");
 
         //add %g0, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, "%g0", "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, "%g0", "%o1", "%o1");
 
         //add %o0, %o1, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, "%o0", "%o1", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, "%o0", "%o1", "%o0");
 
         //set result.offset %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, result.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, result.getOffset(), "%o1");
 
         //add result.base %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, result.getBase(),"%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, result.getBase(), "%o1", "%o1");
 
         //st %o0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o0", "[%o1]");
 
     }
 
@@ -1874,58 +1511,38 @@ public class AssemblyCodeGenerator {
     // ----------------------------------------------------------------------------------
     public void DoThisCall(STO result){
         
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! this."+result.getName());
-        this.decreaseIndent();
+        this.line("! this."+result.getName());
 
         //set sto.offset, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, "68", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, 68, "%o0");
 
         //add sto.base, %o0, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, "%fp","%o0", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, "%fp", "%o0", "%o0");
 
         // ld 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o0]", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.LD, "[%o0]", "%o0");
 
 
         //set offset in struct, %o1
-        this.increaseIndent();  
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(result.getStructOffset()), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, result.getStructOffset(), "%o1");
 
         //add %g0, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, "%g0", "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, "%g0", "%o1", "%o1");
 
         //add %o0, %o1, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, "%o0", "%o1", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, "%o0", "%o1", "%o0");
 
         //set result.offset %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, result.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, result.getOffset(), "%o1");
 
         //add result.base %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, result.getBase(),"%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, result.getBase(), "%o1", "%o1");
 
         //st %o0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o0", "[%o1]");
 
     }
 
@@ -1935,6 +1552,11 @@ public class AssemblyCodeGenerator {
 
     public void DoFuncStart(STO sto, String reg, String optstructname){
 
+        if(!groupStarted){
+            this.beginFunction();
+        }
+        groupStarted = false;
+
         String SAVE;
         if(optstructname != null){
             String s = sto.getName();
@@ -1946,7 +1568,7 @@ public class AssemblyCodeGenerator {
             SAVE = "SAVE." +optstructname+"."+ s + "."+ ((FuncSTO)sto).getAssemblyName();
 
             // label.params:
-            this.writeAssembly(NO_PARAM, optstructname+"."+ s +"."+((FuncSTO)sto).getAssemblyName() +":");
+            this.label(optstructname+"."+ s +"."+((FuncSTO)sto).getAssemblyName() +":");
             
 
         }
@@ -1955,28 +1577,20 @@ public class AssemblyCodeGenerator {
             SAVE = "SAVE." + sto.getName() + "."+ ((FuncSTO)sto).getAssemblyName();
 
             // label.params:
-            this.writeAssembly(NO_PARAM, sto.getName()+"."+((FuncSTO)sto).getAssemblyName() +":");
+            this.label(sto.getName()+"."+((FuncSTO)sto).getAssemblyName() +":");
         }
         // set   SAVE.funcname.type, %g1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, SAVE , reg);
-        this.decreaseIndent();
+        this.emit(Opcode.SET, SAVE, reg);
 
         // save   %sp, %g1, %sp
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, SAVE_OP, "%sp", reg, "%sp");
-        this.decreaseIndent();
+        this.emit(Opcode.SAVE, "%sp", reg, "%sp");
 
         // ! comment
-        this.writeAssembly(NEWLINE);
+        this.newline();
         this.increaseIndent();
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! Store params");
-        this.decreaseIndent();
-        this.decreaseIndent();
+        this.line("! Store params");
 
         // for pure formatting
-        this.increaseIndent();
         
     }
     
@@ -2007,49 +1621,35 @@ public class AssemblyCodeGenerator {
 
         }
         // for pure formating, reflect to indent in DoFuncStart
-        this.decreaseIndent();
 
-        this.writeAssembly(NEWLINE);
+        this.decreaseIndent();
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! End of function " + SAVE);
-        this.decreaseIndent();
+        this.line("! End of function " + SAVE);
 
         // call    funcname.type.fini
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM,  CALL_OP, NAME + ".fini"); 
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, NAME + ".fini");
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         //ret
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RET_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RET);
 
         //restore
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RESTORE_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RESTORE);
 
         // SAVE,funcname.type = -(base + offset) & -8
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, SAVE + " = -("+ sto.getAddress() + ") & -8"); // need to fix sth about local vars
-        this.decreaseIndent();
+        this.line(SAVE + " = -("+ sto.getAddress() + ") & -8"); // need to fix sth about local vars
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //funcname.type.fini
-        this.writeAssembly(NO_PARAM, NAME+ ".fini:");
+        this.label(NAME+ ".fini:");
         
         //save   %sp, -96, %sp
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, SAVE_OP, "%sp", "-96", "%sp");
-        this.decreaseIndent();
+        this.emit(Opcode.SAVE, "%sp", -96, "%sp");
 
         
     }
@@ -2063,65 +1663,42 @@ public class AssemblyCodeGenerator {
     // ----------------------------------------------------------------------------------
     public void printConstStr(STO sto, String reg){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
     
         //.section ".rodata" 
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".rodata\"");
-        this.decreaseIndent();
+        this.section(RODATA);
 
         // .align 4
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, "4");
-        this.decreaseIndent();
+        this.emit(Opcode.ALIGN, 4);
 
         // .$$.str.#:
         constStrCnt++;
-        this.writeAssembly(NO_PARAM, DOLLAR + "str." + Integer.toString(constStrCnt) + ":");
+        this.label(DOLLAR + "str." + Integer.toString(constStrCnt) + ":");
 
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, AZ, "\"" + sto.getName() + "\"" );
-        this.decreaseIndent();
+        this.emit(Opcode.ASCIZ, "\"" + sto.getName() + "\"");
         // end of .rodata
         
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // .section ".text"
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".text\"" );
-        this.decreaseIndent();
-
-        // .align 4
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, "4" );
-        this.decreaseIndent();
+        this.section(TEXT);
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! cout << \"" +sto.getName() +"\"" );
-        this.decreaseIndent();
+        this.line("! cout << \"" +sto.getName() +"\"");
 
         //set .$$.strFmt, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, DOLLAR + "strFmt", "%o0" );
-        this.decreaseIndent();
+        this.emit(Opcode.SET, DOLLAR + "strFmt", "%o0");
 
         //set .$$.str.#, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, DOLLAR + "str." + Integer.toString(constStrCnt), reg );
-        this.decreaseIndent();
+        this.emit(Opcode.SET, DOLLAR + "str." + Integer.toString(constStrCnt), reg);
 
         //call printf
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, PRINT_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, PRINT_OP);
             
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
     }
@@ -2134,24 +1711,18 @@ public class AssemblyCodeGenerator {
     public void printConstFloat(STO sto, String reg){
 
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // !comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! cout << " +sto.getName() );
-        this.decreaseIndent();
+        this.line("! cout << " +sto.getName());
         
         this.DoFloatRoData(sto, reg);
 
         //call printFloat
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, "printFloat");
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, "printFloat");
             
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
     }
     // ----------------------------------------------------------------------------------
@@ -2161,33 +1732,23 @@ public class AssemblyCodeGenerator {
 
         int num = ((ConstSTO)sto).getIntValue();
           
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
 
         // !comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! cout << " +sto.getName()  );
-        this.decreaseIndent();
+        this.line("! cout << " +sto.getName());
 
         //set, #, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(num) , reg );
-        this.decreaseIndent();
+        this.emit(Opcode.SET, num, reg);
 
         //set .$$.intFmt, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, DOLLAR + "intFmt", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, DOLLAR + "intFmt", "%o0");
 
         //call printf
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, PRINT_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, PRINT_OP);
             
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
     }
     // ----------------------------------------------------------------------------------
@@ -2198,28 +1759,20 @@ public class AssemblyCodeGenerator {
         Boolean b = ((ConstSTO)sto).getBoolValue();
         int num = b ? 1 : 0;
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
 
         // !comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! cout << " +sto.getName()  );
-        this.decreaseIndent();
+        this.line("! cout << " +sto.getName());
 
         //set, #, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(num) , reg );
-        this.decreaseIndent();
+        this.emit(Opcode.SET, num, reg);
 
         //call .$$.printBool
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, DOLLAR + "printBool");
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, DOLLAR + "printBool");
             
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
     }       
@@ -2230,27 +1783,19 @@ public class AssemblyCodeGenerator {
     // --------------------------------------------------------------------
     public void printNL(String reg){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // !comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! cout << endl" );
-        this.decreaseIndent();
+        this.line("! cout << endl");
 
         // set .$$.strEndl, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, DOLLAR+"strEndl", reg);
-        this.decreaseIndent();
+        this.emit(Opcode.SET, DOLLAR+"strEndl", reg);
 
         // call printf
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, PRINT_OP );
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, PRINT_OP);
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
     }
 
     // --------------------------------------------------------------------
@@ -2261,46 +1806,37 @@ public class AssemblyCodeGenerator {
 
         Type t = sto.getType();
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // !comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! cout << " + sto.getName() );
-        this.decreaseIndent(); 
+        this.line("! cout << " + sto.getName());
 
         // set varname, %l7
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), reg);
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), reg);
 
         // add base, %l7, %l7
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(), reg, reg);
-        this.decreaseIndent(); 
+        this.emit(Opcode.ADD, sto.getBase(), reg, reg);
 
 
-        this.increaseIndent();
         if(t instanceof BoolType){
 
             // if param is a reference
             if(sto.flag == true || sto.getArrayTag() || sto.getStructTag() || sto.getIsPointer()) {
-               this.writeAssembly(TWO_PARAM, LOAD_OP, "["+reg+"]", reg);
+               this.emit(Opcode.LD, "["+reg+"]", reg);
                //this.decreaseIndent();
 
             }
 
             // ld [%l7], %o0/
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "["+reg+"]", "%o0");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "["+reg+"]", "%o0");
 
             // call .$$.printBool
-            this.increaseIndent();
-            this.writeAssembly(ONE_PARAM, CALL_OP, DOLLAR+"printBool");
+            this.emit(Opcode.CALL, DOLLAR+"printBool");
         }
         else if( t instanceof IntType){
 
             if(sto.flag == true || sto.getArrayTag() || sto.getStructTag() || sto.getIsPointer()) {
-               this.writeAssembly(TWO_PARAM, LOAD_OP, "["+reg+"]", reg);
+               this.emit(Opcode.LD, "["+reg+"]", reg);
                //this.decreaseIndent();
 
             }
@@ -2308,39 +1844,30 @@ public class AssemblyCodeGenerator {
 
 
             // ld [%l7], %o1
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "["+reg+"]", "%o1");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "["+reg+"]", "%o1");
 
             // set .$$.intFmt, %o0
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, SET_OP, DOLLAR+"intFmt", "%o0");
-            this.decreaseIndent();
-            this.increaseIndent();
+            this.emit(Opcode.SET, DOLLAR+"intFmt", "%o0");
             // call printf
-            this.writeAssembly(ONE_PARAM, CALL_OP, PRINT_OP);
+            this.emit(Opcode.CALL, PRINT_OP);
         }
         else if( t instanceof FloatType){
  
             if(sto.flag == true || sto.getArrayTag() || sto.getStructTag() || sto.getIsPointer()) {
-               this.writeAssembly(TWO_PARAM, LOAD_OP, "["+reg+"]", reg);
+               this.emit(Opcode.LD, "["+reg+"]", reg);
                //this.decreaseIndent();
 
             }
             // ld [%l7], %f0
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "["+reg+"]", "%f0");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "["+reg+"]", "%f0");
 
             // call printFloat
-            this.increaseIndent();
-            this.writeAssembly(ONE_PARAM, CALL_OP, "printFloat" );
+            this.emit(Opcode.CALL, "printFloat");
 
         }
-        this.decreaseIndent();
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
     
     
@@ -2355,27 +1882,19 @@ public class AssemblyCodeGenerator {
         
         int val = ((ConstSTO)sto).getIntValue();
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! exit("+sto.getName()+")");
-        this.decreaseIndent();
+        this.line("! exit("+sto.getName()+")");
 
         //set   #, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(val), "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, val, "%o0");
 
         //call    exit
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, EXIT_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, EXIT_OP);
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
     }
 
@@ -2384,37 +1903,25 @@ public class AssemblyCodeGenerator {
     // ----------------------------------------------------------
     public void DoExitBase(STO sto){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! exit(" + sto.getName() + ")");
-        this.decreaseIndent();
+        this.line("! exit(" + sto.getName() + ")");
 
         // set  offset, %l7
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%l7");
 
         // add  base, %l7, %l7
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(),"%l7", "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%l7", "%l7");
 
         // ld    [%l7], %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.LD, "[%l7]", "%o0");
  
         //call    exit
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, EXIT_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, EXIT_OP);
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
     }
@@ -2429,9 +1936,7 @@ public class AssemblyCodeGenerator {
             int value = con.getIntValue();
 
             // set  #, reg
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(value), reg);
-            this.decreaseIndent();
+            this.emit(Opcode.SET, value, reg);
         }
         else if(sto.getType() instanceof FloatType){
             float value = con.getFloatValue();
@@ -2443,9 +1948,7 @@ public class AssemblyCodeGenerator {
             int value = con.getBoolValue() ? 1 : 0;
 
             // set  #, reg
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(value), reg);
-            this.decreaseIndent();
+            this.emit(Opcode.SET, value, reg);
 
         }
 
@@ -2460,29 +1963,21 @@ public class AssemblyCodeGenerator {
     public void DoOperand(STO sto, String reg){
         
         // set  sto.offset, %l7
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%l7");
 
         // add  sto.base, %l7, %l7
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(),"%l7", "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%l7", "%l7");
         
         // changed 11/21 sto.getIstPointer 
         if(sto.flag == true || sto.getArrayTag() || sto.getStructTag() || sto.getIsPointer()) {
             // ld    [%l7], %l7
-           this.increaseIndent();
-           this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%l7");
-           this.decreaseIndent();
+           this.emit(Opcode.LD, "[%l7]", "%l7");
 
         
         }
 
         // ld    [%l7], reg
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", reg);
-        this.decreaseIndent();
+        this.emit(Opcode.LD, "[%l7]", reg);
 
 
     }
@@ -2494,12 +1989,10 @@ public class AssemblyCodeGenerator {
     public void DoBinaryInt(STO a, STO b, String op, STO result){
 
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! " + result.getName());
-        this.decreaseIndent();
+        this.line("! " + result.getName());
 
 
         // check the first operand is Lit 
@@ -2510,9 +2003,7 @@ public class AssemblyCodeGenerator {
         // null pointer check
         else if(a.getType() instanceof NullPointerType){
            // set 0, %o0
-           this.increaseIndent();
-           this.writeAssembly(TWO_PARAM, SET_OP, "0", "%o0");
-           this.decreaseIndent();
+           this.emit(Opcode.SET, 0, "%o0");
         }
         else{
             this.DoOperand(a, "%o0");
@@ -2527,9 +2018,7 @@ public class AssemblyCodeGenerator {
         // null pointer check
         else if(b.getType() instanceof NullPointerType){
            // set 0, %o1
-           this.increaseIndent();
-           this.writeAssembly(TWO_PARAM, SET_OP, "0", "%o1");
-           this.decreaseIndent();
+           this.emit(Opcode.SET, 0, "%o1");
         }
 
         else{
@@ -2539,10 +2028,10 @@ public class AssemblyCodeGenerator {
 
 
         if(op.equals("+")){
-            this.DoPrimary(ADD_OP, "%o0", "%o1", "%o0");
+            this.DoPrimary(Opcode.ADD, "%o0", "%o1", "%o0");
         }
         else if(op.equals("-")){
-            this.DoPrimary(SUB_OP, "%o0", "%o1", "%o0");
+            this.DoPrimary(Opcode.SUB, "%o0", "%o1", "%o0");
         }
         else if(op.equals("/")){
             this.DoSecondary(DIV_OP);
@@ -2554,65 +2043,59 @@ public class AssemblyCodeGenerator {
             this.DoSecondary(MOD_OP);
         }
         else if(op.equals("|")){
-            this.DoPrimary(OR_OP, "%o0", "%o1", "%o0");
+            this.DoPrimary(Opcode.OR, "%o0", "%o1", "%o0");
         }
         else if(op.equals("&")){
-            this.DoPrimary(AND_OP, "%o0", "%o1", "%o0");
+            this.DoPrimary(Opcode.AND, "%o0", "%o1", "%o0");
         }
         else if(op.equals("^")){
-            this.DoPrimary(XOR_OP, "%o0", "%o1", "%o0");
+            this.DoPrimary(Opcode.XOR, "%o0", "%o1", "%o0");
         }
         else if(op.equals(">")){
             cmpCnt++;
-            this.DoCmp(BLE_OP, DOLLAR+"cmp."+String.valueOf(cmpCnt));
+            this.DoCmp(Opcode.BLE, DOLLAR+"cmp."+String.valueOf(cmpCnt));
 
         }
         else if(op.equals("<")){
             cmpCnt++;
-            this.DoCmp(BGE_OP, DOLLAR+"cmp."+String.valueOf(cmpCnt));
+            this.DoCmp(Opcode.BGE, DOLLAR+"cmp."+String.valueOf(cmpCnt));
 
         }
         else if(op.equals("<=")){
             cmpCnt++;
-            this.DoCmp(BG_OP, DOLLAR+"cmp."+String.valueOf(cmpCnt));
+            this.DoCmp(Opcode.BG, DOLLAR+"cmp."+String.valueOf(cmpCnt));
 
         }
         else if(op.equals(">=")){
             cmpCnt++;
-            this.DoCmp(BL_OP, DOLLAR+"cmp."+String.valueOf(cmpCnt));
+            this.DoCmp(Opcode.BL, DOLLAR+"cmp."+String.valueOf(cmpCnt));
 
         }
         else if(op.equals("==")){
             cmpCnt++;
-            this.DoCmp(BNE_OP, DOLLAR+"cmp."+String.valueOf(cmpCnt));
+            this.DoCmp(Opcode.BNE, DOLLAR+"cmp."+String.valueOf(cmpCnt));
 
         }
         else if(op.equals("!=")){
             cmpCnt++;
-            this.DoCmp(BE_OP, DOLLAR+"cmp."+String.valueOf(cmpCnt));
+            this.DoCmp(Opcode.BE, DOLLAR+"cmp."+String.valueOf(cmpCnt));
 
         }
         else if(op.equals("")){
             cmpCnt++;
-            this.DoCmp(BE_OP, DOLLAR+"cmp."+String.valueOf(cmpCnt));
+            this.DoCmp(Opcode.BE, DOLLAR+"cmp."+String.valueOf(cmpCnt));
 
         }
 
  
         // set  result.offset, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, result.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, result.getOffset(), "%o1");
 
         // add  result.base, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, result.getBase(),"%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, result.getBase(), "%o1", "%o1");
 
         // st    %o0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o0", "[%o1]");
 
 
     }
@@ -2621,29 +2104,19 @@ public class AssemblyCodeGenerator {
     // -------------------------------------------------------------------
     public void DoTypePromotion(STO sto, String reg, String reg2){
         //set     	offset, %l7
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%l7");
-		this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%l7");
 
         //add     	base, %l7, %l7
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(), "%l7", "%l7");
-		this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%l7", "%l7");
        
 		//st      	reg2, [%l7]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, reg2, "[%l7]");
-		this.decreaseIndent();
+        this.emit(Opcode.ST, reg2, "[%l7]");
 
 		//ld      	[%l7], %f0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", reg);
-		this.decreaseIndent();
+        this.emit(Opcode.LD, "[%l7]", reg);
 
 		//fitos   	%f0, %f0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, FITOS_OP, reg, reg);
-		this.decreaseIndent();
+        this.emit(Opcode.FITOS, reg, reg);
 
     }
     // -------------------------------------------------------------------
@@ -2666,12 +2139,10 @@ public class AssemblyCodeGenerator {
             regB = "%o1";
         }
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! " + result.getName());
-        this.decreaseIndent();
+        this.line("! " + result.getName());
 
         // check the first operand is Lit 
         if(a instanceof ConstSTO && (!((ConstSTO)a).getLitTag())){
@@ -2705,51 +2176,51 @@ public class AssemblyCodeGenerator {
 
 
         if(op.equals("+")){
-            this.DoPrimary(FADD_OP, "%f0", "%f1", "%f0");
+            this.DoPrimary(Opcode.FADDS, "%f0", "%f1", "%f0");
         }
         else if(op.equals("-")){
-            this.DoPrimary(FSUB_OP, "%f0", "%f1", "%f0");
+            this.DoPrimary(Opcode.FSUBS, "%f0", "%f1", "%f0");
         }
         else if(op.equals("/")){
-            this.DoPrimary(FDIV_OP, "%f0", "%f1", "%f0");
+            this.DoPrimary(Opcode.FDIVS, "%f0", "%f1", "%f0");
         }
         else if(op.equals("*")){
-            this.DoPrimary(FMUL_OP, "%f0", "%f1", "%f0");
+            this.DoPrimary(Opcode.FMULS, "%f0", "%f1", "%f0");
         }
         else if(op.equals(">")){
             cmpCnt++;
-            this.DoCmpFloat(FBLE_OP, DOLLAR+"cmp."+String.valueOf(cmpCnt));
+            this.DoCmpFloat(Opcode.FBLE, DOLLAR+"cmp."+String.valueOf(cmpCnt));
             CmpReg = "%o0";
 
         }
         else if(op.equals("<")){
             cmpCnt++;
-            this.DoCmpFloat(FBGE_OP, DOLLAR+"cmp."+String.valueOf(cmpCnt));
+            this.DoCmpFloat(Opcode.FBGE, DOLLAR+"cmp."+String.valueOf(cmpCnt));
             CmpReg = "%o0";
         }
         else if(op.equals("<=")){
             cmpCnt++;
-            this.DoCmpFloat(FBG_OP, DOLLAR+"cmp."+String.valueOf(cmpCnt));
+            this.DoCmpFloat(Opcode.FBG, DOLLAR+"cmp."+String.valueOf(cmpCnt));
 
             CmpReg = "%o0";
         }
         else if(op.equals(">=")){
             cmpCnt++;
-            this.DoCmpFloat(FBL_OP, DOLLAR+"cmp."+String.valueOf(cmpCnt));
+            this.DoCmpFloat(Opcode.FBL, DOLLAR+"cmp."+String.valueOf(cmpCnt));
             CmpReg = "%o0";
 
 
         }
         else if(op.equals("==")){
             cmpCnt++;
-            this.DoCmpFloat(FBNE_OP, DOLLAR+"cmp."+String.valueOf(cmpCnt));
+            this.DoCmpFloat(Opcode.FBNE, DOLLAR+"cmp."+String.valueOf(cmpCnt));
             CmpReg = "%o0";
 
 
         }
         else if(op.equals("!=")){
             cmpCnt++;
-            this.DoCmpFloat(FBE_OP, DOLLAR+"cmp."+String.valueOf(cmpCnt));
+            this.DoCmpFloat(Opcode.FBE, DOLLAR+"cmp."+String.valueOf(cmpCnt));
             CmpReg = "%o0";
 
 
@@ -2758,19 +2229,13 @@ public class AssemblyCodeGenerator {
 
  
         // set  result.offset, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, result.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, result.getOffset(), "%o1");
 
         // add  result.base, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, result.getBase(),"%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, result.getBase(), "%o1", "%o1");
 
         // st    %f0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, CmpReg, "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, CmpReg, "[%o1]");
 
 
     }
@@ -2781,12 +2246,10 @@ public class AssemblyCodeGenerator {
     public void DoBinaryBoolLHS(STO a, String op){
 
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! Short Circuit LHS");
-        this.decreaseIndent();
+        this.line("! Short Circuit LHS");
 
 
         // check the first operand is Lit 
@@ -2802,13 +2265,13 @@ public class AssemblyCodeGenerator {
         if(op.equals("&&")){
             andorCnt++;
             andor.push(andorCnt);
-            this.DoCmpBool(BE_OP, DOLLAR+"andorSkip."+String.valueOf(andorCnt));
+            this.DoCmpBool(Opcode.BE, DOLLAR+"andorSkip."+String.valueOf(andorCnt));
             
         }
         else if(op.equals("||")){
             andorCnt++;
             andor.push(andorCnt);
-            this.DoCmpBool(BNE_OP, DOLLAR+"andorSkip."+String.valueOf(andorCnt));
+            this.DoCmpBool(Opcode.BNE, DOLLAR+"andorSkip."+String.valueOf(andorCnt));
         }
 
     }
@@ -2825,19 +2288,15 @@ public class AssemblyCodeGenerator {
 
         String s = "";
         String nots = "";
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! " +result.getName());
-        this.decreaseIndent();
+        this.line("! " +result.getName());
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! Short Circuit RHS");
-        this.decreaseIndent();
+        this.line("! Short Circuit RHS");
 
 
 
@@ -2853,83 +2312,108 @@ public class AssemblyCodeGenerator {
 
         int cnt = andor.pop();
         if(op.equals("&&")){
-            this.DoCmpBool(BE_OP, DOLLAR+"andorSkip."+String.valueOf(cnt));
+            this.DoCmpBool(Opcode.BE, DOLLAR+"andorSkip."+String.valueOf(cnt));
             s = "0";
             nots = "1";
 
         }
         else if(op.equals("||")){
-            this.DoCmpBool(BNE_OP, DOLLAR+"andorSkip."+String.valueOf(cnt));
+            this.DoCmpBool(Opcode.BNE, DOLLAR+"andorSkip."+String.valueOf(cnt));
             s = "1";
             nots = "0";
         }
 
         //ba     .$$.andorEnd.#
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, BA_OP, DOLLAR+"andorEnd."+String.valueOf(cnt));
-        this.decreaseIndent();
+        this.emit(Opcode.BA, DOLLAR+"andorEnd."+String.valueOf(cnt));
 
         // move #, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, MOV_OP, nots, "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.MOV, nots, "%o0");
 
         //.$$.andorSkip.#:
         
-        this.writeAssembly(NO_PARAM, DOLLAR+"andorSkip."+String.valueOf(cnt)+":");
+        this.label(DOLLAR+"andorSkip."+String.valueOf(cnt)+":");
         
 
         // mov  s, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, MOV_OP, s, "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.MOV, s, "%o0");
 
         //.$$.andorEnd.#:
         
-        this.writeAssembly(NO_PARAM, DOLLAR+"andorEnd."+String.valueOf(cnt)+":");
+        this.label(DOLLAR+"andorEnd."+String.valueOf(cnt)+":");
         
 
         if((!(a instanceof ConstSTO)) || (!(b instanceof ConstSTO))){
         
             // set  result.offset, %o1
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, SET_OP, result.getOffset(), "%o1");
-            this.decreaseIndent();
+            this.emit(Opcode.SET, result.getOffset(), "%o1");
 
             // add  result.base, %o1, %o1
-            this.increaseIndent();
-            this.writeAssembly(THREE_PARAM, ADD_OP, result.getBase(),"%o1", "%o1");
-            this.decreaseIndent();
+            this.emit(Opcode.ADD, result.getBase(), "%o1", "%o1");
 
             // st    %o0, [%o1]
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-            this.decreaseIndent();
+            this.emit(Opcode.ST, "%o0", "[%o1]");
         }
     }
 
 
+    // -------------------------------------------------------------------
+    // The RHS of a bool op whose RHS settles it as a constant: whichever
+    // way the LHS went, the result is known, so only its skip label is
+    // left to place
+    // -------------------------------------------------------------------
+    public void DoBinaryBoolRHSConst(STO result){
+
+        int cnt = andor.pop();
+
+        this.newline();
+
+        // ! comment
+        this.line("! " +result.getName());
+
+        //.$$.andorSkip.#:
+        this.label(DOLLAR+"andorSkip."+String.valueOf(cnt)+":");
+    }
+
+
+    // -------------------------------------------------------------------
+    // A bool op whose constant LHS leaves the result up to the RHS:
+    // the RHS is copied into the result
+    // -------------------------------------------------------------------
+    public void DoBinaryBoolCopy(STO b, STO result){
+
+        this.newline();
+
+        // ! comment
+        this.line("! " +result.getName());
+
+        this.DoOperand(b, "%o0");
+
+        // set  result.offset, %o1
+        this.emit(Opcode.SET, result.getOffset(), "%o1");
+
+        // add  result.base, %o1, %o1
+        this.emit(Opcode.ADD, result.getBase(), "%o1", "%o1");
+
+        // st    %o0, [%o1]
+        this.emit(Opcode.ST, "%o0", "[%o1]");
+    }
+
+
     //------------------------------------------------------------------
     // This should handle unary for both int and float
     //------------------------------------------------------------------
     public void DoUnary(STO sto, STO unary, String reg, String s){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! "+ unary.getName());
-        this.decreaseIndent();
+        this.line("! "+ unary.getName());
 
         // set sto.offset, %l7
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%l7");
 
         // add sto.base, %l7, %l7 
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(), "%l7", "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%l7", "%l7");
 
         // added 11/29
         if(sto.flag || sto.getIsPointer() || sto.getArrayTag() || sto.getStructTag()) {
@@ -2937,51 +2421,41 @@ public class AssemblyCodeGenerator {
         }
 
         // ld [%l7], reg
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", reg);
-        this.decreaseIndent();
+        this.emit(Opcode.LD, "[%l7]", reg);
 
-        this.increaseIndent();
 
         // neg/fneg reg, reg
         if(s == "+"){
             if(sto.getType() instanceof IntType){
-                this.writeAssembly(TWO_PARAM, MOV_OP, reg, reg);
+                this.emit(Opcode.MOV, reg, reg);
             }
             else{
-                this.writeAssembly(TWO_PARAM, FMOV_OP, reg, reg);
+                this.emit(Opcode.FMOVS, reg, reg);
             }
         }
         else if(s == "-"){
             if(sto.getType() instanceof IntType){
-                this.writeAssembly(TWO_PARAM, NEG_OP, reg, reg);
+                this.emit(Opcode.NEG, reg, reg);
             }
             else {
-                this.writeAssembly(TWO_PARAM, FNEG_OP, reg, reg);
+                this.emit(Opcode.FNEGS, reg, reg);
             }
         }
         // xor %o0, 1, %o0
         else{
             
-            this.writeAssembly(THREE_PARAM, XOR_OP, "%o0", String.valueOf(1), "%o0");
+            this.emit(Opcode.XOR, "%o0", 1, "%o0");
         }
-        this.decreaseIndent();
 
         // set unary.getoffset, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, unary.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, unary.getOffset(), "%o1");
 
 
         // add unary.getBase, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, unary.getBase(), "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, unary.getBase(), "%o1", "%o1");
 
         // st reg, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, reg, "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, reg, "[%o1]");
 
 
     }
@@ -2994,12 +2468,10 @@ public class AssemblyCodeGenerator {
     // -------------------------------------------------------------------
     public void DoPrePostInt(STO a, STO b, String op, STO result, String reg){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! " + result.getName());
-        this.decreaseIndent();
+        this.line("! " + result.getName());
 
 
         this.DoOperand(a, "%o0");
@@ -3010,47 +2482,33 @@ public class AssemblyCodeGenerator {
 
 
         if(op.equals("++")){
-            this.DoPrimary(ADD_OP, "%o0", "%o1", "%o2");
+            this.DoPrimary(Opcode.ADD, "%o0", "%o1", "%o2");
         }
         else if(op.equals("--")){
-            this.DoPrimary(SUB_OP, "%o0", "%o1", "%o2");
+            this.DoPrimary(Opcode.SUB, "%o0", "%o1", "%o2");
         }
  
         // set  result.offset, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, result.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, result.getOffset(), "%o1");
 
         // add  result.base, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, result.getBase(),"%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, result.getBase(), "%o1", "%o1");
 
         // st    %o0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, reg, "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, reg, "[%o1]");
 
         // set a.getoffset, %o1
-        this.increaseIndent();        
-        this.writeAssembly(TWO_PARAM, SET_OP, a.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, a.getOffset(), "%o1");
 
         // add %fp, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, a.getBase(), "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, a.getBase(), "%o1", "%o1");
 
         if(a.getArrayTag() || a.getStructTag() || a.flag || a.getIsPointer()){
             //ld    [%o1], %o1
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o1]", "%o1");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%o1]", "%o1");
         }
         // st   %o2, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o2", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o2", "[%o1]");
        
 
     }
@@ -3060,12 +2518,10 @@ public class AssemblyCodeGenerator {
     // -------------------------------------------------------------------
     public void DoPrePostFloat(STO a, STO b, String op, STO result, String reg){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! " + result.getName());
-        this.decreaseIndent();
+        this.line("! " + result.getName());
 
 
         this.DoOperand(a, "%f0");
@@ -3076,50 +2532,36 @@ public class AssemblyCodeGenerator {
         
 
         if(op.equals("++")){
-            this.DoPrimary(FADD_OP, "%f0", "%f1", "%f2");
+            this.DoPrimary(Opcode.FADDS, "%f0", "%f1", "%f2");
         }
         else if(op.equals("--")){
-            this.DoPrimary(FSUB_OP, "%f0", "%f1", "%f2");
+            this.DoPrimary(Opcode.FSUBS, "%f0", "%f1", "%f2");
         }
  
         // set  result.offset, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, result.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, result.getOffset(), "%o1");
 
         // add  result.base, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, result.getBase(),"%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, result.getBase(), "%o1", "%o1");
 
         // st    reg, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, reg, "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, reg, "[%o1]");
 
         // set a.getoffset, %o1
-        this.increaseIndent();        
-        this.writeAssembly(TWO_PARAM, SET_OP, a.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, a.getOffset(), "%o1");
 
         // add a.base, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, a.getBase(), "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, a.getBase(), "%o1", "%o1");
 
         // for array struct ref
         if(a.getArrayTag() || a.getStructTag() || a.flag || a.getIsPointer()){
             //ld    [%o1], %o1
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o1]", "%o1");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%o1]", "%o1");
         }
 
 
         // st   %f2, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%f2", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%f2", "[%o1]");
        
 
     }
@@ -3128,40 +2570,30 @@ public class AssemblyCodeGenerator {
     // -------------------------------------------------------------------
     // This handles +/-, and bitwise, called in DoBinaryInt
     // -------------------------------------------------------------------
-    public void DoPrimary(String op, String src1, String src2, String dist){
+    public void DoPrimary(Opcode op, String src1, String src2, String dist){
         
         // +/- reg, reg2, reg
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, op, src1, src2, dist);
-        this.decreaseIndent();
+        this.emit(op, src1, src2, dist);
     }
 
     // -------------------------------------------------------------------
     // This handles cmp
     // -------------------------------------------------------------------
-    public void DoCmp(String op, String label){
+    public void DoCmp(Opcode op, String label){
          // cmp  %o0, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM,  CMP_OP, "%o0", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.CMP, "%o0", "%o1");
 
         // op   label
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, op, label);
-        this.decreaseIndent();
+        this.emit(op, label);
 
         // mov   %g0, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, MOV_OP, "%g0", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.MOV, "%g0", "%o0");
 
         // inc   %o0
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, INC_OP, "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.INC, "%o0");
 
         // label:
-        this.writeAssembly(NO_PARAM, label+":");
+        this.label(label+":");
 
     
     }
@@ -3169,55 +2601,39 @@ public class AssemblyCodeGenerator {
     //--------------------------------------------------------------------
     // This handles cmp for bool
     //--------------------------------------------------------------------
-    public void DoCmpBool(String op, String label) {
+    public void DoCmpBool(Opcode op, String label) {
         //cmp  %o0, %g0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, CMP_OP, "%o0", "%g0");
-        this.decreaseIndent();
+        this.emit(Opcode.CMP, "%o0", "%g0");
 
         // op  label
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, op, label);
-        this.decreaseIndent();
+        this.emit(op, label);
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
     }
     // -------------------------------------------------------------------
     //
     // -------------------------------------------------------------------
-    public void DoCmpFloat(String op, String label){
+    public void DoCmpFloat(Opcode op, String label){
          // cmp  %f0, %f1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM,  FCMP_OP, "%f0", "%f1");
-        this.decreaseIndent();
+        this.emit(Opcode.FCMPS, "%f0", "%f1");
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         // op   label
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, op, label);
-        this.decreaseIndent();
+        this.emit(op, label);
 
         // mov   %g0, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, MOV_OP, "%g0", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.MOV, "%g0", "%o0");
 
         // inc   %o0
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, INC_OP, "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.INC, "%o0");
 
         // label:
-        this.writeAssembly(NO_PARAM, label+":");
+        this.label(label+":");
 
     
     }
@@ -3228,19 +2644,13 @@ public class AssemblyCodeGenerator {
     public void DoSecondary(String op){
         
         // call  *,/,%
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, op);
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, op);
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         // mov %o0, %o0  (but why?)
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, MOV_OP, "%o0", "%o0");
-        this.decreaseIndent();   
+        this.emit(Opcode.MOV, "%o0", "%o0");
 
     }
 
@@ -3253,38 +2663,28 @@ public class AssemblyCodeGenerator {
 
         int val = ((ConstSTO)sto).getBoolValue() ? 1: 0;
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
         //! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! if("+sto.getName()+")");
-        this.decreaseIndent();
+        this.line("! if("+sto.getName()+")");
 
         // set    val  %o0 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(val), "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, val, "%o0");
 
         // cmp     %o0, %g0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, CMP_OP, "%o0", "%g0");
-        this.decreaseIndent();   
+        this.emit(Opcode.CMP, "%o0", "%g0");
 
 
         // be      .$$.else.# 
-        this.increaseIndent();
         endIfCnt++;
-        this.writeAssembly(ONE_PARAM, BE_OP, DOLLAR+"else."+ String.valueOf(endIfCnt));
+        this.emit(Opcode.BE, DOLLAR+"else."+ String.valueOf(endIfCnt));
         blabel.push(endIfCnt);
-        this.decreaseIndent();
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();   
+        this.emit(Opcode.NOP);
 
         //pure formatting indentation
-        this.increaseIndent();
 			 
+        this.increaseIndent();
     }
 
     // ----------------------------------------------------------------
@@ -3295,37 +2695,27 @@ public class AssemblyCodeGenerator {
 
         int val = ((ConstSTO)sto).getBoolValue() ? 1: 0;
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! Check loop condition");
-        this.decreaseIndent();
+        this.line("! Check loop condition");
 
         // set    val  %o0 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(val), "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, val, "%o0");
 
         // cmp     %o0, %g0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, CMP_OP, "%o0", "%g0");
-        this.decreaseIndent();   
+        this.emit(Opcode.CMP, "%o0", "%g0");
 
 
         // be      .$$.loopCheck.# 
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, BE_OP, DOLLAR+"loopCheck."+ String.valueOf(loopCnt));
-        this.decreaseIndent();
+        this.emit(Opcode.BE, DOLLAR+"loopCheck."+ String.valueOf(loopCnt));
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();   
+        this.emit(Opcode.NOP);
 
         //pure formatting indentation
-        this.increaseIndent();
 			 
+        this.increaseIndent();
     }
 
     
@@ -3335,45 +2725,31 @@ public class AssemblyCodeGenerator {
 
     public void DoIfExprCond(STO sto){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //! comment 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! if("+sto.getName()+")");
-        this.decreaseIndent();
+        this.line("! if("+sto.getName()+")");
 
         // set    offset  %l7 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%l7");
 
         //add     base, %l7, %l7
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(), "%l7", "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%l7", "%l7");
 
         // ld      [%l7], %o0    (This was %g0 before, should be wrong, don't know it's not caught -- change to %o0 in Nov.13 12:21)
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%o0");
-        this.decreaseIndent(); 
+        this.emit(Opcode.LD, "[%l7]", "%o0");
 
         // cmp     %o0, %g0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, CMP_OP, "%o0", "%g0");
-        this.decreaseIndent();   
+        this.emit(Opcode.CMP, "%o0", "%g0");
 
 
         // be      .$$.else.# 
-        this.increaseIndent();
         endIfCnt++;
-        this.writeAssembly(ONE_PARAM, BE_OP, DOLLAR+"else."+ String.valueOf(endIfCnt));
+        this.emit(Opcode.BE, DOLLAR+"else."+ String.valueOf(endIfCnt));
         blabel.push(endIfCnt);
-        this.decreaseIndent();
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent(); 
+        this.emit(Opcode.NOP);
 
         //pure formatting indentation
         this.increaseIndent();
@@ -3384,27 +2760,19 @@ public class AssemblyCodeGenerator {
     // ----------------------------------------------------------------
     public void DoForEach(STO expr, STO sto, String s, STO theFuture){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //! comment 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! foreach ( ... )");
-        this.decreaseIndent();
+        this.line("! foreach ( ... )");
         
         //! traversal ptr = --array 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! traversal ptr = --array");
-        this.decreaseIndent();
+        this.line("! traversal ptr = --array");
 
         //set  offset, %o0 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, expr.getOffset(), "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, expr.getOffset(), "%o0");
 
         //add base, %o0, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, expr.getBase(), "%o0", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, expr.getBase(), "%o0", "%o0");
 
 
         // changed 11/29 from flag to isStructTag -- changed 11/30 from sto to expr
@@ -3413,84 +2781,54 @@ public class AssemblyCodeGenerator {
 
         }
         //set 4, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(sto.getType().getSize()), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getType().getSize(), "%o1");
         
         //sub %o0, %o1, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, SUB_OP, "%o0", "%o1", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SUB, "%o0", "%o1", "%o0");
 
         //set future offset, %o1 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, theFuture.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, theFuture.getOffset(), "%o1");
 
         //add future base, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, theFuture.getBase(), "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, theFuture.getBase(), "%o1", "%o1");
 
         //st  %o0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o0", "[%o1]");
 
         // .$$.loopCheck.1:
-        this.writeAssembly(NO_PARAM, DOLLAR+"loopCheck."+String.valueOf(++loopCnt)+":");
+        this.label(DOLLAR+"loopCheck."+String.valueOf(++loopCnt)+":");
         wlabel.push(loopCnt);
 
         //! comment 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! ++traversal ptr");
-        this.decreaseIndent();
+        this.line("! ++traversal ptr");
 
         //set future offset, "%o1"
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, theFuture.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, theFuture.getOffset(), "%o1");
 
         //add future base, "%o1", %o1"
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, theFuture.getBase(), "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, theFuture.getBase(), "%o1", "%o1");
 
         //ld [%o1], %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o1]", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.LD, "[%o1]", "%o0");
 
         // set 4, %o2 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP,String.valueOf(sto.getType().getSize()), "%o2");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getType().getSize(), "%o2");
 
         //add %o0, %o2, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, "%o0", "%o2", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, "%o0", "%o2", "%o0");
 
         //st %o0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o0", "[%o1]");
 
 
         //! comment 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! traversal ptr < array end addr");
-        this.decreaseIndent();
+        this.line("! traversal ptr < array end addr");
 
         //set array offset, %o1 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, expr.getOffset(), "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, expr.getOffset(), "%o0");
 
         //add array base, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, expr.getBase(), "%o0", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, expr.getBase(), "%o0", "%o0");
 
 
         // changed 11/29 from flag to isStructTag -- 11/30 from sto to expr
@@ -3501,76 +2839,50 @@ public class AssemblyCodeGenerator {
         //set #, %o1
         int i = ((ArrayType)expr.getType()).getTotalSize();
 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(i), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, i, "%o1");
 
         //add %o0, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, "%o0", "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, "%o0", "%o1", "%o1");
 
         //set future offset, %o0 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, theFuture.getOffset(), "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, theFuture.getOffset(), "%o0");
 
         //add future base, %o0, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, theFuture.getBase(), "%o0", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, theFuture.getBase(), "%o0", "%o0");
 
         //ld [%o0], %o0 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o0]", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.LD, "[%o0]", "%o0");
 
         //cmp %o0, %o1 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, CMP_OP, "%o0", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.CMP, "%o0", "%o1");
 
 
         //bge .$$.loopEnd.1
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, BGE_OP, DOLLAR+"loopEnd."+String.valueOf(loopCnt));
-        this.decreaseIndent();
+        this.emit(Opcode.BGE, DOLLAR+"loopEnd."+String.valueOf(loopCnt));
 
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         //! iterVar = currentElem
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! iterVar = currentElem");
-        this.decreaseIndent();
+        this.line("! iterVar = currentElem");
         
         
         //set sto offset, %o1 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%o1");
 
         //add future base, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(), "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%o1", "%o1");
 
         if(sto.flag == true){
            if(sto.getType() instanceof FloatType){
 
               //st [%o0], %o1
-              this.increaseIndent();
-              this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-              this.decreaseIndent();
+              this.emit(Opcode.ST, "%o0", "[%o1]");
 
            }
            else{
               //st %o0, [%o1]
-              this.increaseIndent();
-              this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-              this.decreaseIndent();
+              this.emit(Opcode.ST, "%o0", "[%o1]");
            }
 
         }
@@ -3578,36 +2890,26 @@ public class AssemblyCodeGenerator {
 
            if(sto.getType() instanceof FloatType){
               //ld [%o0], %f0
-              this.increaseIndent();
-              this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o0]", "%f0");
-              this.decreaseIndent();
+              this.emit(Opcode.LD, "[%o0]", "%f0");
               //st [%f0], %o1
-              this.increaseIndent();
-              this.writeAssembly(TWO_PARAM, STORE_OP, "%f0", "[%o1]");
-              this.decreaseIndent();
+              this.emit(Opcode.ST, "%f0", "[%o1]");
 
            }
            else{
               //ld [%o0], %o0
-              this.increaseIndent();
-              this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o0]", "%o0");
-              this.decreaseIndent();
+              this.emit(Opcode.LD, "[%o0]", "%o0");
 
               //st %o0, [%o1]
-              this.increaseIndent();
-              this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-              this.decreaseIndent();
+              this.emit(Opcode.ST, "%o0", "[%o1]");
            }
         }
 
         // Start of loop body
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! Start of loop body");
-        this.decreaseIndent();
+        this.line("! Start of loop body");
 
         // pure indent
-        this.increaseIndent();
  
+        this.increaseIndent();
     }
 
 
@@ -3617,70 +2919,52 @@ public class AssemblyCodeGenerator {
 
     public void DoWhileOpenLoop(){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //! comment 
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! while( ... )");
-        this.decreaseIndent();
+        this.line("! while( ... )");
 
         // .$$. loopCheck.#.:
         loopCnt++;
         wlabel.push(loopCnt);
-        this.writeAssembly(NO_PARAM, DOLLAR+"loopCheck."+String.valueOf(loopCnt)+":");
+        this.label(DOLLAR+"loopCheck."+String.valueOf(loopCnt)+":");
 
     }
 
     public void DoWhileExprCond(STO sto){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! Check loop condition");
-        this.decreaseIndent();
+        this.line("! Check loop condition");
 
 
         // set    offset  %l7 
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%l7");
 
         //add     base, %l7, %l7
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(), "%l7", "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%l7", "%l7");
 
         // ld      [%l7], %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%o0");
-        this.decreaseIndent(); 
+        this.emit(Opcode.LD, "[%l7]", "%o0");
 
         // cmp     %o0, %g0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, CMP_OP, "%o0", "%g0");
-        this.decreaseIndent();   
+        this.emit(Opcode.CMP, "%o0", "%g0");
 
 
         // be      .$$.loopEnd.# 
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, BE_OP, DOLLAR+"loopEnd."+ String.valueOf(loopCnt));
-        this.decreaseIndent();
+        this.emit(Opcode.BE, DOLLAR+"loopEnd."+ String.valueOf(loopCnt));
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent(); 
+        this.emit(Opcode.NOP);
 
         //pure formatting indentation
-        this.increaseIndent();
 
-        this.writeAssembly(NEWLINE);
+        this.increaseIndent();
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! Start of loop body");
-        this.decreaseIndent();
+        this.line("! Start of loop body");
     }
 
     // -----------------------------------------------------------------------
@@ -3690,28 +2974,22 @@ public class AssemblyCodeGenerator {
 
         int val = wlabel.pop();
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // for pure formatting
-        this.decreaseIndent();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! End of loop body" );
-        this.decreaseIndent();
+        this.label("! End of loop body");
 
         // ba     .$$.loopCheck.#
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, BA_OP, DOLLAR+ "loopCheck."+String.valueOf(val));
         this.decreaseIndent();
+        this.emit(Opcode.BA, DOLLAR+ "loopCheck."+String.valueOf(val));
 
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         //.$$.loopEnd.#:
-        this.writeAssembly(NO_PARAM, DOLLAR+ "loopEnd."+String.valueOf(val)+":");
+        this.label(DOLLAR+ "loopEnd."+String.valueOf(val)+":");
 
 
 
@@ -3725,19 +3003,13 @@ public class AssemblyCodeGenerator {
         int val = wlabel.peek();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! break" );
-        this.decreaseIndent();
+        this.line("! break");
 
         // ba     .$$.loopEnd.#
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, BA_OP, DOLLAR+ "loopEnd."+String.valueOf(val));
-        this.decreaseIndent();
+        this.emit(Opcode.BA, DOLLAR+ "loopEnd."+String.valueOf(val));
 
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
     }
 
@@ -3749,19 +3021,13 @@ public class AssemblyCodeGenerator {
         int val = wlabel.peek();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! continue" );
-        this.decreaseIndent();
+        this.line("! continue");
 
         // ba     .$$.loopCheck.#
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, BA_OP, DOLLAR+ "loopCheck."+String.valueOf(val));
-        this.decreaseIndent();
+        this.emit(Opcode.BA, DOLLAR+ "loopCheck."+String.valueOf(val));
 
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
     }
 
@@ -3773,35 +3039,27 @@ public class AssemblyCodeGenerator {
         // get the counter
         int val = blabel.peek();
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
-        this.decreaseIndent();
 
         // ba        .$$.endif.#
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, BA_OP, DOLLAR+"endif."+String.valueOf(val));
         this.decreaseIndent();
+        this.emit(Opcode.BA, DOLLAR+"endif."+String.valueOf(val));
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent(); 
+        this.emit(Opcode.NOP);
 
         //pure formatting indentation
-        this.decreaseIndent();
 
-        this.writeAssembly(NEWLINE);
+        this.decreaseIndent();
+        this.newline();
 
 
         // ! else
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! else");
-        this.decreaseIndent(); 
+        this.line("! else");
 
         // .$$.else.#:
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, DOLLAR+"else."+String.valueOf(val) + ":");
-        this.decreaseIndent(); 
+        this.line(DOLLAR+"else."+String.valueOf(val) + ":");
 
 
     }
@@ -3814,21 +3072,17 @@ public class AssemblyCodeGenerator {
         //pop the counter
         int val = blabel.pop();
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
 
         // ! endif
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! endif");
-        this.decreaseIndent(); 
+        this.line("! endif");
 
         // .$$.endif.#:
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, DOLLAR+"endif."+String.valueOf(val) + ":");
-        this.decreaseIndent();
+        this.line(DOLLAR+"endif."+String.valueOf(val) + ":");
 
-        this.increaseIndent();
     
+        this.increaseIndent();
     }
 
     //------------------------------------------
@@ -3836,31 +3090,25 @@ public class AssemblyCodeGenerator {
     //------------------------------------------
     public void DoFuncCallNoParamVoid(STO sto){
     
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! " + sto.getName()+"(...)"); 
-        this.decreaseIndent();
+        this.line("! " + sto.getName()+"(...)");
 
         //call foo.void
-        this.increaseIndent();
         // check if func in struct
         if(sto.getStructTag()){
-            this.writeAssembly(ONE_PARAM, CALL_OP, sto.getStructName()+"."+sto.getName()+"."+((FuncSTO)sto).getAssemblyName()); 
+            this.emit(Opcode.CALL, sto.getStructName()+"."+sto.getName()+"."+((FuncSTO)sto).getAssemblyName());
         }
         else if (((FuncSTO)sto).getIsExtern()) {
-            this.writeAssembly(ONE_PARAM, CALL_OP, sto.getName());
+            this.emit(Opcode.CALL, sto.getName());
         }
         else{
-            this.writeAssembly(ONE_PARAM, CALL_OP, sto.getName()+"."+((FuncSTO)sto).getAssemblyName()); 
+            this.emit(Opcode.CALL, sto.getName()+"."+((FuncSTO)sto).getAssemblyName());
         }
-        this.decreaseIndent();
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP); 
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
     }
 
@@ -3872,56 +3120,42 @@ public class AssemblyCodeGenerator {
     //------------------------------------------
     public void DoFuncCallNoParam(STO sto, STO func){
     
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! " + sto.getName()+"(...)"); 
-        this.decreaseIndent();
+        this.line("! " + sto.getName()+"(...)");
 
         //call foo.void
-        this.increaseIndent();
         // check if func is in struct
         if(func.getStructTag()){
-            this.writeAssembly(ONE_PARAM, CALL_OP, func.getStructName()+"."+sto.getName()+"."+((FuncSTO)func).getAssemblyName()); 
+            this.emit(Opcode.CALL, func.getStructName()+"."+sto.getName()+"."+((FuncSTO)func).getAssemblyName());
         }
         else if (((FuncSTO)func).getIsExtern()) {
-            this.writeAssembly(ONE_PARAM, CALL_OP, sto.getName());
+            this.emit(Opcode.CALL, sto.getName());
         }
         else{
-            this.writeAssembly(ONE_PARAM, CALL_OP, sto.getName()+"."+((FuncSTO)func).getAssemblyName());
+            this.emit(Opcode.CALL, sto.getName()+"."+((FuncSTO)func).getAssemblyName());
         }
 
-        this.decreaseIndent();
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP); 
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         // set offset, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%o1"); 
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%o1");
 
 
         //add base %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(), "%o1", "%o1"); 
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%o1", "%o1");
 
 
         if(sto.getType() instanceof FloatType && !(func.flag)) {
            // st %o0, [%o1]
-           this.increaseIndent();
-           this.writeAssembly(TWO_PARAM, STORE_OP, "%f0", "[%o1]"); 
-           this.decreaseIndent();
+           this.emit(Opcode.ST, "%f0", "[%o1]");
         }
         else {
            // st %o0, [%o1]
-           this.increaseIndent();
-           this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]"); 
-           this.decreaseIndent();
+           this.emit(Opcode.ST, "%o0", "[%o1]");
         
         }
     }
@@ -3931,12 +3165,10 @@ public class AssemblyCodeGenerator {
     //------------------------------------------
     public int DoFuncCallParam(STO sto, STO func, Vector<STO> valuelist, int offset){
     
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! " + func.getName()+"(...)"); 
-        this.decreaseIndent();
+        this.line("! " + func.getName()+"(...)");
 
         Vector<STO> paramlist = ((FuncSTO)func).getParams();
 
@@ -3960,23 +3192,17 @@ public class AssemblyCodeGenerator {
                 if(t instanceof IntType){
                     val = con.getIntValue();
                      // ! comment
-                    this.increaseIndent();
-                    this.writeAssembly(NO_PARAM, "! "+param.getName()+" <- "+String.valueOf(val)); 
-                    this.decreaseIndent();
+                    this.line("! "+param.getName()+" <- "+String.valueOf(val));
 
                     // ! set  # %o1
-                    this.increaseIndent();
-                    this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(val), "%o"+String.valueOf(reg));
-                    this.decreaseIndent();
+                    this.emit(Opcode.SET, val, "%o"+String.valueOf(reg));
 
 
                 }
                 else if (t instanceof FloatType) {
                     valf = con.getFloatValue();
                      // ! comment
-                    this.increaseIndent();
-                    this.writeAssembly(NO_PARAM, "! "+param.getName()+"<-"+String.valueOf(valf)); 
-                    this.decreaseIndent();
+                    this.line("! "+param.getName()+"<-"+String.valueOf(valf));
 
 
                     // Type promotion for int
@@ -3985,9 +3211,7 @@ public class AssemblyCodeGenerator {
                         val = con.getIntValue();
 
                         //set val, %o#
-                        this.increaseIndent();
-                        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(val), "%o"+String.valueOf(reg));
-                        this.decreaseIndent();
+                        this.emit(Opcode.SET, val, "%o"+String.valueOf(reg));
 
                         STO promote = new ExprSTO("promote");
                         offset ++;
@@ -4003,21 +3227,17 @@ public class AssemblyCodeGenerator {
                     } 
                     // ! set  # %o1
                    // this.increaseIndent();
-                   // this.writeAssembly(TWO_PARAM, SET_OP, DOLLAR + "float." + Integer.toString(constFloatCnt), "%f"+String.valueOf(i));
+                   // this.emit(Opcode.SET, DOLLAR + "float." + Integer.toString(constFloatCnt), "%f"+String.valueOf(i));
                     //this.decreaseIndent();
 
                 }
                 else {
                    val = con.getBoolValue() ? 1 : 0;
                     // ! comment
-                    this.increaseIndent();
-                    this.writeAssembly(NO_PARAM, "! "+param.getName()+"<-"+String.valueOf(val)); 
-                    this.decreaseIndent();
+                    this.line("! "+param.getName()+"<-"+String.valueOf(val));
 
                     // ! set  # %o1
-                    this.increaseIndent();
-                    this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(val), "%o"+String.valueOf(reg));
-                    this.decreaseIndent();
+                    this.emit(Opcode.SET, val, "%o"+String.valueOf(reg));
 
                 }
             
@@ -4025,9 +3245,7 @@ public class AssemblyCodeGenerator {
             // var case
             else{
                     // ! comment
-                    this.increaseIndent();
-                    this.writeAssembly(NO_PARAM, "! "+param.getName()+"<-"+value.getName()); 
-                    this.decreaseIndent();
+                    this.line("! "+param.getName()+"<-"+value.getName());
 
                     // pass by value for non lit
                     
@@ -4035,62 +3253,48 @@ public class AssemblyCodeGenerator {
                     
                     if(param.flag == false){
                        // set  offset %l7
-                       this.increaseIndent();
-                       this.writeAssembly(TWO_PARAM, SET_OP, value.getOffset(), "%l7");
-                       this.decreaseIndent();
+                       this.emit(Opcode.SET, value.getOffset(), "%l7");
 
                        // add base %l7, %l7
-                       this.increaseIndent();
-                       this.writeAssembly(THREE_PARAM, ADD_OP, value.getBase(), "%l7", "%l7");
-                       this.decreaseIndent();
+                       this.emit(Opcode.ADD, value.getBase(), "%l7", "%l7");
 
                        // ld [%l7] %l7 ---- there is one case that's been needed 11/17 for array and ref
                        if(value.getArrayTag() || value.flag || value.getIsPointer()){
-                           this.increaseIndent();
-                           this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%l7");
-                           this.decreaseIndent();
+                           this.emit(Opcode.LD, "[%l7]", "%l7");
                        }
 
                        // ld [%l7], %o1
-                       this.increaseIndent();
                        if(param.getType() instanceof FloatType) {
                           if(value.getType() instanceof IntType){
                              // Type promotion
-                             this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%o"+String.valueOf(reg));
+                             this.emit(Opcode.LD, "[%l7]", "%o"+String.valueOf(reg));
                              
                              STO promote = new ExprSTO("promote");
                              offset ++;
                              promote.setBase("%fp");
                              promote.setOffset(String.valueOf(-offset*4));
 
-                             this.decreaseIndent(); 
                              this.DoTypePromotion(promote, "%f"+String.valueOf(reg), "%o"+String.valueOf(reg));
-                             this.increaseIndent();
                           }
                           else{
-                             this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%f"+String.valueOf(reg));
+                             this.emit(Opcode.LD, "[%l7]", "%f"+String.valueOf(reg));
                           }
 
                        }
                        else {
                           
-                          this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%o"+String.valueOf(reg));
+                          this.emit(Opcode.LD, "[%l7]", "%o"+String.valueOf(reg));
                           
                        }
-                       this.decreaseIndent();
                     }
                     // pass by reference
                     else{
                       
                        // set  offset %o1
-                       this.increaseIndent();
-                       this.writeAssembly(TWO_PARAM, SET_OP, value.getOffset(), "%o"+String.valueOf(reg));
-                       this.decreaseIndent();
+                       this.emit(Opcode.SET, value.getOffset(), "%o"+String.valueOf(reg));
 
                        // add base %o1, %o1
-                       this.increaseIndent();
-                       this.writeAssembly(THREE_PARAM, ADD_OP, value.getBase(), "%o"+String.valueOf(reg), "%o"+String.valueOf(reg));
-                       this.decreaseIndent();
+                       this.emit(Opcode.ADD, value.getBase(), "%o"+String.valueOf(reg), "%o"+String.valueOf(reg));
 
                      
                     
@@ -4099,9 +3303,7 @@ public class AssemblyCodeGenerator {
                        // 11/29 added
                        if(value.flag == true || value.getStructTag() || value.getArrayTag() || value.getIsPointer()) {
                           // ld [%l7], %o1
-                          this.increaseIndent();
-                          this.writeAssembly(TWO_PARAM, LOAD_OP,  "["+"%o"+String.valueOf(reg)+"]", "%o"+String.valueOf(reg));
-                          this.decreaseIndent();
+                          this.emit(Opcode.LD, "["+"%o"+String.valueOf(reg)+"]", "%o"+String.valueOf(reg));
 
                        }
 
@@ -4115,47 +3317,37 @@ public class AssemblyCodeGenerator {
         }
 
         //call foo.param
-        this.increaseIndent();
         if (((FuncSTO)func).getIsExtern()) {
-            this.writeAssembly(ONE_PARAM, CALL_OP, sto.getName());
+            this.emit(Opcode.CALL, sto.getName());
         }
         else if(!(func.getStructTag())) {
-           this.writeAssembly(ONE_PARAM, CALL_OP, sto.getName()+"."+((FuncSTO)func).getAssemblyName()); 
+           this.emit(Opcode.CALL, sto.getName()+"."+((FuncSTO)func).getAssemblyName());
         }
         else { // note change --11/17
-           this.writeAssembly(ONE_PARAM, CALL_OP, func.getStructName()+"."+func.getName()+"."+func.getAssemblyName()); 
+           this.emit(Opcode.CALL, func.getStructName()+"."+func.getName()+"."+func.getAssemblyName());
 
         }
-        this.decreaseIndent();
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP); 
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         if( !(func.getType() instanceof VoidType) && !(func.getType() instanceof StructType) ) {
            // set offset, %o1
-           this.increaseIndent();
-           this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%o1"); 
-           this.decreaseIndent();
+           this.emit(Opcode.SET, sto.getOffset(), "%o1");
 
 
            //add base %o1, %o1
-           this.increaseIndent();
-           this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(), "%o1", "%o1"); 
-           this.decreaseIndent();
+           this.emit(Opcode.ADD, sto.getBase(), "%o1", "%o1");
 
 
 
             // st %o0, [%o1]
-           this.increaseIndent();
            if(sto.getType() instanceof FloatType && sto.flag==false) {   
-              this.writeAssembly(TWO_PARAM, STORE_OP, "%f0", "[%o1]"); 
+              this.emit(Opcode.ST, "%f0", "[%o1]");
            }
            else {
-              this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]"); 
+              this.emit(Opcode.ST, "%o0", "[%o1]");
            }
-           this.decreaseIndent();
 
         
         }
@@ -4163,6 +3355,31 @@ public class AssemblyCodeGenerator {
         
       }
 
+    //------------------------------------------
+    // the offset DoFuncCallParam returns for the same call, without
+    // writing it: its int to float promotions each take a slot
+    //------------------------------------------
+    public static int funcCallParamOffset(STO func, Vector<STO> valuelist, int offset){
+
+        Vector<STO> paramlist = ((FuncSTO)func).getParams();
+
+        for(int i = 0; i < paramlist.size(); i++){
+            STO param = paramlist.get(i);
+            STO value = valuelist.get(i);
+
+            if(!(param.getType() instanceof FloatType) || !(value.getType() instanceof IntType)){
+                continue;
+            }
+            if(value instanceof ConstSTO && !((ConstSTO)value).getLitTag()){
+                offset++;
+            }
+            else if(param.flag == false){
+                offset++;
+            }
+        }
+        return offset;
+    }
+
     // --------------------------------------------
     // handles func with params
     // --------------------------------------------
@@ -4180,26 +3397,22 @@ public class AssemblyCodeGenerator {
             // st     reg, [%fp+68]
             String base = paramlist.get(i).getBase();
             String offset = paramlist.get(i).getOffset();
-            this.increaseIndent();
 
             // float case uses %f
             if(paramlist.get(i).getType() instanceof FloatType && paramlist.get(i).flag == false) {
-                this.writeAssembly(TWO_PARAM, STORE_OP, "%f"+String.valueOf(reg), "["+base+"+"+offset+"]");
+                this.emit(Opcode.ST, "%f"+String.valueOf(reg), "["+base+"+"+offset+"]");
    
             }
             else { // other
-               this.writeAssembly(TWO_PARAM, STORE_OP, "%i"+String.valueOf(reg), "["+base+"+"+offset+"]");
+               this.emit(Opcode.ST, "%i"+String.valueOf(reg), "["+base+"+"+offset+"]");
             }
-            this.decreaseIndent();
             reg++;
         }
 
     }
 
     public void DoThisParam() {
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%i"+String.valueOf(0), "[" + "%fp" + "+" + "68" + "]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%i"+String.valueOf(0), "[" + "%fp" + "+" + "68" + "]");
 
     }
 
@@ -4208,34 +3421,24 @@ public class AssemblyCodeGenerator {
     // --------------------------------------------
     public void DoReturnVoid(STO sto){
         
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! return;"); 
-        this.decreaseIndent();
+        this.line("! return;");
 
         //call name.type.fini
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, sto.getName()+"."+((FuncSTO)sto).getAssemblyName()+".fini"); 
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, sto.getName()+"."+((FuncSTO)sto).getAssemblyName()+".fini");
 
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP); 
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
         // ret
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RET_OP); 
-        this.decreaseIndent();
+        this.emit(Opcode.RET);
 ;
         // restore
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RESTORE_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RESTORE);
 
     }
 
@@ -4244,12 +3447,10 @@ public class AssemblyCodeGenerator {
     // --------------------------------------------
     public void DoReturnLit(STO sto, String expr, STO lit, STO promote){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! return " + expr); 
-        this.decreaseIndent();
+        this.line("! return " + expr);
 
         
         
@@ -4262,49 +3463,37 @@ public class AssemblyCodeGenerator {
         else {
           if(promote != null) {
               //set  #, "%i0"
-              this.increaseIndent();
-              this.writeAssembly(TWO_PARAM, SET_OP, expr, "%i0");
-              this.decreaseIndent();
+              this.emit(Opcode.SET, expr, "%i0");
  
               this.DoTypePromotion(promote, "%f0", "%i0");
 
            }
            else{     
               //set  #, "%i0"
-              this.increaseIndent();
-              this.writeAssembly(TWO_PARAM, SET_OP, expr, "%i0");
-              this.decreaseIndent();
+              this.emit(Opcode.SET, expr, "%i0");
            }
         }
         
 
         //call name.param.fini
-        this.increaseIndent();
         //check if func in struct
         if(sto.getStructTag()){
-            this.writeAssembly(ONE_PARAM, CALL_OP, sto.getStructName()+"."+sto.getName()+"."+((FuncSTO)sto).getAssemblyName()+".fini");
+            this.emit(Opcode.CALL, sto.getStructName()+"."+sto.getName()+"."+((FuncSTO)sto).getAssemblyName()+".fini");
         }
         else{
-            this.writeAssembly(ONE_PARAM, CALL_OP, sto.getName()+"."+((FuncSTO)sto).getAssemblyName()+".fini");
+            this.emit(Opcode.CALL, sto.getName()+"."+((FuncSTO)sto).getAssemblyName()+".fini");
         }
-        this.decreaseIndent();
 
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP); 
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
         // ret
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RET_OP); 
-        this.decreaseIndent();
+        this.emit(Opcode.RET);
 
         // restore
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RESTORE_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RESTORE);
 
     }
 
@@ -4313,7 +3502,7 @@ public class AssemblyCodeGenerator {
     // --------------------------------------------
     public void DoReturnNonVoid(STO sto, STO expr, STO promote){
         
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         String reg = "%l7";
         if(sto.flag == true){
@@ -4321,97 +3510,75 @@ public class AssemblyCodeGenerator {
         }
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! return "+ expr.getName()); 
-        this.decreaseIndent();
+        this.line("! return "+ expr.getName());
 
         // set  offset, %l7/%i0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, expr.getOffset(), reg); 
-        this.decreaseIndent();
+        this.emit(Opcode.SET, expr.getOffset(), reg);
 
         // add  base, %l7/%i0,%i0/%l7 
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, expr.getBase(), reg, reg);
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, expr.getBase(), reg, reg);
 
        
         if(expr.getIsPointer() || expr.flag || expr.getArrayTag() || expr.getStructTag()) {
-              this.increaseIndent();
-              this.writeAssembly(TWO_PARAM, LOAD_OP, "["+reg+"]", reg);
-              this.decreaseIndent();
+              this.emit(Opcode.LD, "["+reg+"]", reg);
             
         }
 
 
         if(!sto.flag) {
                 // ld   [%l7], %i0
-           this.increaseIndent();
            if(expr.getType() instanceof FloatType) {
                // float case
               /*if(expr.flag || expr.getArrayTag()) {
                      this.load(reg,reg);
               }*/
 
-              this.writeAssembly(TWO_PARAM, LOAD_OP, "["+reg+"]", "%f0"); 
+              this.emit(Opcode.LD, "["+reg+"]", "%f0");
            }
            else {
               // Type Promotion int to float
               if(promote != null){
-                  this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%i0"); 
+                  this.emit(Opcode.LD, "[%l7]", "%i0");
                 
-                  this.decreaseIndent();
                   this.DoTypePromotion(promote, "%f0", "%i0");
-                  this.increaseIndent();
               }
               else{
                   // non float case
                   /*if(expr.flag || expr.getArrayTag()) {
                      this.load(reg,reg);
                   }*/
-                  this.writeAssembly(TWO_PARAM, LOAD_OP, "["+reg+"]", "%i0");
+                  this.emit(Opcode.LD, "["+reg+"]", "%i0");
               }
            }
-           this.decreaseIndent();
         
         }
         /*else {
             if(expr.flag) {
 
-               this.increaseIndent();
-               this.writeAssembly(TWO_PARAM, LOAD_OP, "[%i0]", "%i0"); 
-               this.decreaseIndent();
+               this.emit(Opcode.LD, "[%i0]", "%i0");
             }
         
         }*/
 
         //call name.type.fini
-        this.increaseIndent();
         //check if fun in struct
         if(sto.getStructTag()){
-            this.writeAssembly(ONE_PARAM, CALL_OP, sto.getStructName()+"."+sto.getName()+"."+((FuncSTO)sto).getAssemblyName()+".fini");
+            this.emit(Opcode.CALL, sto.getStructName()+"."+sto.getName()+"."+((FuncSTO)sto).getAssemblyName()+".fini");
         }
         else{
-            this.writeAssembly(ONE_PARAM, CALL_OP, sto.getName()+"."+((FuncSTO)sto).getAssemblyName()+".fini");
+            this.emit(Opcode.CALL, sto.getName()+"."+((FuncSTO)sto).getAssemblyName()+".fini");
         }
-        this.decreaseIndent();
 
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP); 
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
         // ret
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RET_OP); 
-        this.decreaseIndent();
+        this.emit(Opcode.RET);
 
         // restore
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, RESTORE_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.RESTORE);
 
     }
 
@@ -4419,51 +3586,39 @@ public class AssemblyCodeGenerator {
     //  This handles cin
     // -----------------------------------------------------------------------------------
     public void DoCin(STO expr){
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! cin >>"+ expr.getName()); 
-        this.decreaseIndent();
+        this.line("! cin >>"+ expr.getName());
 
         //call inputInt or inputFloat
-        this.increaseIndent();
         if(expr.getType() instanceof IntType){
-            this.writeAssembly(ONE_PARAM, CALL_OP, "inputInt"); 
+            this.emit(Opcode.CALL, "inputInt");
         }
         else{
-            this.writeAssembly(ONE_PARAM, CALL_OP, "inputFloat");
+            this.emit(Opcode.CALL, "inputFloat");
         }
-        this.decreaseIndent();
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         // set  offset, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, expr.getOffset(), "%o1"); 
-        this.decreaseIndent();
+        this.emit(Opcode.SET, expr.getOffset(), "%o1");
 
         // add  base, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, expr.getBase(), "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, expr.getBase(), "%o1", "%o1");
 
         if(expr.getStructTag() || expr.getArrayTag() || expr.flag || expr.getIsPointer()) {
            this.load(o1,o1);
         }
 
         // st   %o0/%f0, [%o1]
-        this.increaseIndent();
         if(expr.getType() instanceof IntType){
-            this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]"); 
+            this.emit(Opcode.ST, "%o0", "[%o1]");
         }
         else{
-            this.writeAssembly(TWO_PARAM, STORE_OP, "%f0", "[%o1]");
+            this.emit(Opcode.ST, "%f0", "[%o1]");
         }
-        this.decreaseIndent();
 
     }
 
@@ -4472,62 +3627,42 @@ public class AssemblyCodeGenerator {
     // --------------------------------------------------------------------------------
     public void DoDereference(STO sto, STO result){
         
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! *"+result.getName());
-        this.decreaseIndent();
+        this.line("! *"+result.getName());
 
         //set sto.offset, %l7
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%l7");
 
         //add sto.base, %l7, %l7
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(),"%l7", "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%l7", "%l7");
 
         if(sto.getArrayTag() || sto.flag || sto.getStructTag() || sto.getIsPointer()){
             // ld [%l7], %l7
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%l7");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%l7]", "%l7");
 
         }
 
         //ld  [%l7], [%o0]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.LD, "[%l7]", "%o0");
 
  
         // call  .$$.ptrCheck
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, DOLLAR+"ptrCheck");
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, DOLLAR+"ptrCheck");
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
         //set result.offset, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, result.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, result.getOffset(), "%o1");
 
         //add result.base, "%o1", "%o1"
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, result.getBase(), "%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, result.getBase(), "%o1", "%o1");
 
         //st %o0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o0", "[%o1]");
 
     
     }
@@ -4537,45 +3672,31 @@ public class AssemblyCodeGenerator {
     // -------------------------------------------------------------
     public void DoAddress(STO sto, STO result){
         
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! "+result.getName());
-        this.decreaseIndent();
+        this.line("! "+result.getName());
 
         //set sto.offset, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%o0");
 
         //add sto.base, %o0, %o0
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(),"%o0", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%o0", "%o0");
 
         if(sto.getArrayTag() || sto.flag || sto.getIsPointer() ){
             // ld [%o0] %o0
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o0]", "%o0");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%o0]", "%o0");
         }
 
         //set result.offset, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, result.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, result.getOffset(), "%o1");
 
         //add result.base, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, result.getBase(),"%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, result.getBase(), "%o1", "%o1");
 
 
         //st  %o0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o0", "[%o1]");
 
     }
 
@@ -4584,177 +3705,125 @@ public class AssemblyCodeGenerator {
     // ------------------------------------------------------------
     public void DoNew(STO sto){
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! new( "+sto.getName() + " )");
-        this.decreaseIndent();
+        this.line("! new( "+sto.getName() + " )");
 
         // mov 1, %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, MOV_OP, "1", "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.MOV, 1, "%o0");
 
         //set sto.base.size, %o1
-        this.increaseIndent();
         int i = ((PointerType)sto.getType()).getBaseType().getSize();
-        this.writeAssembly(TWO_PARAM, SET_OP, String.valueOf(i), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, i, "%o1");
 
         //call  calloc
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, "calloc");
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, "calloc");
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
         //set sto.offset, %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, sto.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, sto.getOffset(), "%o1");
 
         //add sto.base, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, sto.getBase(),"%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, sto.getBase(), "%o1", "%o1");
 
         // added 11/21 sto.getIsPointer() and sto.flag
         if(sto.getArrayTag() || sto.getIsPointer() || sto.flag){ 
             //ld [%o1], %o1
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o1]", "%o1");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%o1]", "%o1");
 
         }
 
 
         //st  %o0, [%o1]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o0", "[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o0", "[%o1]");
 
     }
 
     public void DoDelete(STO deleted) {
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! delete( "+deleted.getName() + " )");
-        this.decreaseIndent();
+        this.line("! delete( "+deleted.getName() + " )");
 
 
         //set deleted.offset, %l7
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, deleted.getOffset(), "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, deleted.getOffset(), "%l7");
 
         //add sto.base, %l7, %l7
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, deleted.getBase(),"%l7", "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, deleted.getBase(), "%l7", "%l7");
 
         // added 11/21 sto.getIsPointer() and sto.flag
         if(deleted.getArrayTag() || deleted.getIsPointer() || deleted.flag){ 
             //ld [%o1], %o1
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%l7");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%l7]", "%l7");
 
         }
 
         //ld [%l7] %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]","%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.LD, "[%l7]", "%o0");
 
         //call  .$$.ptrCheck
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP, DOLLAR + "ptrCheck");
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, DOLLAR + "ptrCheck");
 
 
         // nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
 
         //set deleted.offset, %l7
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, deleted.getOffset(), "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, deleted.getOffset(), "%l7");
 
         //add sto.base, %l7, %l7
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, deleted.getBase(),"%l7", "%l7");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, deleted.getBase(), "%l7", "%l7");
 
         // added 11/21 sto.getIsPointer() and sto.flag
         if(deleted.getArrayTag() || deleted.getIsPointer() || deleted.flag){ 
             //ld [%o1], %o1
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]", "%l7");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%l7]", "%l7");
 
         }
 
         //ld [%l7] %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, LOAD_OP, "[%l7]","%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.LD, "[%l7]", "%o0");
 
 
         //call  free
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, CALL_OP,"free");
-        this.decreaseIndent();
+        this.emit(Opcode.CALL, "free");
 
 
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
 
 
         //set deleted.offset, %l7
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, deleted.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, deleted.getOffset(), "%o1");
 
         //add sto.base, %l7, %l7
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, deleted.getBase(),"%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, deleted.getBase(), "%o1", "%o1");
 
 
         if(deleted.getArrayTag() || deleted.getIsPointer() || deleted.flag){ 
             //ld [%o1], %o1
-            this.increaseIndent();
-            this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o1]", "%o1");
-            this.decreaseIndent();
+            this.emit(Opcode.LD, "[%o1]", "%o1");
 
         }
 
 
 
         //st [%l7] %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%g0","[%o1]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%g0", "[%o1]");
 
     }
 
 
     public void DoDtorHeader(STO dtor, STO offset) {
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
         ctordtor++;
 
         if(!dtor.getIsGlobal()) {
@@ -4771,64 +3840,40 @@ public class AssemblyCodeGenerator {
         String label = DOLLAR + "ctorDtor"+ "." + String.valueOf(ctordtor);
 
         // .section .bss
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".bss\"");
-        this.decreaseIndent();
+        this.section(BSS);
 
         // .align  4 
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.emit(Opcode.ALIGN, 4);
 
 
         // DTOR name:
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, label+":");
-        this.decreaseIndent();
+        this.line(label+":");
 
         // .skip  4 
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SKIP, String.valueOf(4));
-        this.decreaseIndent();
+        this.emit(Opcode.SKIP, 4);
 
 
         // .section .text
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, SECTION, "\".text\"");
-        this.decreaseIndent();
-
-
-        // .align  4 
-        this.increaseIndent();
-        this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-        this.decreaseIndent();
+        this.section(TEXT);
 
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
 
         //set  dtor label %o0
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, label, "%o0");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, label, "%o0");
 
         //set offset,  %o1
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, SET_OP, offset.getOffset(), "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.SET, offset.getOffset(), "%o1");
 
         //add , base, %o1, %o1
-        this.increaseIndent();
-        this.writeAssembly(THREE_PARAM, ADD_OP, offset.getBase(),"%o1", "%o1");
-        this.decreaseIndent();
+        this.emit(Opcode.ADD, offset.getBase(), "%o1", "%o1");
 
         if(offset.getArrayTag()) {
            this.load(o1,o1);
         }
 
         //st %o1 [%o0]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%o1","[%o0]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%o1", "[%o0]");
        
     }
 
@@ -4836,14 +3881,10 @@ public class AssemblyCodeGenerator {
 
        if(Dtors.isEmpty()) {
           //ret
-          this.increaseIndent();
-          this.writeAssembly(NO_PARAM, RET_OP);
-          this.decreaseIndent();
+          this.emit(Opcode.RET);
 
           //restore
-          this.increaseIndent();
-          this.writeAssembly(NO_PARAM, RESTORE_OP);
-          this.decreaseIndent();
+          this.emit(Opcode.RESTORE);
        }
 
        while(!Dtors.isEmpty()) {
@@ -4875,107 +3916,66 @@ public class AssemblyCodeGenerator {
 
 	  if(dtor.getIsGlobal()) {
 
-         this.writeAssembly(NO_PARAM, label+".fini:");
+         this.beginFunction();
+         this.label(label+".fini:");
 
-         this.increaseIndent();
-         this.writeAssembly(THREE_PARAM,SAVE_OP ,"%sp","-96","%sp");
-         this.decreaseIndent();
+         this.emit(Opcode.SAVE, "%sp", -96, "%sp");
 
       }
 
 	  //set  dtor label %o0
-      this.increaseIndent();
-      this.writeAssembly(TWO_PARAM, SET_OP, label, "%o0");
-      this.decreaseIndent();
+      this.emit(Opcode.SET, label, "%o0");
 
       //ld  [%o0] %o0
-      this.increaseIndent();
-      this.writeAssembly(TWO_PARAM, LOAD_OP, "[%o0]", "%o0");
-      this.decreaseIndent();
+      this.emit(Opcode.LD, "[%o0]", "%o0");
 
       //cmp  %o0 %g0
-      this.increaseIndent();
-      this.writeAssembly(TWO_PARAM, CMP_OP, "%o0", "%g0");
-      this.decreaseIndent();
+      this.emit(Opcode.CMP, "%o0", "%g0");
 
       //be  label.fini.skip
-      this.increaseIndent();
-      this.writeAssembly(ONE_PARAM, BE_OP, label+".fini"+".skip");
-      this.decreaseIndent();
+      this.emit(Opcode.BE, label+".fini"+".skip");
 
       //nop
-      this.increaseIndent();
-      this.writeAssembly(NO_PARAM, NOP_OP);
-      this.decreaseIndent();
+      this.emit(Opcode.NOP);
 
       //call  dtor
-      this.increaseIndent();
-      this.writeAssembly(ONE_PARAM, CALL_OP, first+"."+second+"."+((FuncSTO)dtor).getAssemblyName());
-      this.decreaseIndent();
+      this.emit(Opcode.CALL, first+"."+second+"."+((FuncSTO)dtor).getAssemblyName());
 
       //nop
-      this.increaseIndent();
-      this.writeAssembly(NO_PARAM, NOP_OP);
-      this.decreaseIndent();
+      this.emit(Opcode.NOP);
 
       //set  dtor label %o0
-      this.increaseIndent();
-      this.writeAssembly(TWO_PARAM, SET_OP, label, "%o0");
-      this.decreaseIndent();
+      this.emit(Opcode.SET, label, "%o0");
 
       //st %o1 [%o0]
-      this.increaseIndent();
-      this.writeAssembly(TWO_PARAM, STORE_OP, "%g0","[%o0]");
-      this.decreaseIndent();
+      this.emit(Opcode.ST, "%g0", "[%o0]");
 
       // label.fini.skip
-      this.writeAssembly(NO_PARAM, label+".fini"+".skip:");
+      this.label(label+".fini"+".skip:");
 
 
           if(dtor.getIsGlobal()) {
 
              //ret
-             this.increaseIndent();
-             this.writeAssembly(NO_PARAM, RET_OP);
-             this.decreaseIndent();
+             this.emit(Opcode.RET);
 
              //restore
-             this.increaseIndent();
-             this.writeAssembly(NO_PARAM, RESTORE_OP);
-             this.decreaseIndent();
+             this.emit(Opcode.RESTORE);
 
-             this.writeAssembly(NEWLINE);
+             this.newline();
              // .section .fini
-             this.increaseIndent();
-             this.writeAssembly(ONE_PARAM, SECTION, "\".fini\"");
-             this.decreaseIndent();
-
-             // .align  4 
-             this.increaseIndent();
-             this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-             this.decreaseIndent();
+             this.section(FINI_SECTION);
 
              //call  label.fini.skip
-             this.increaseIndent();
-             this.writeAssembly(ONE_PARAM, CALL_OP, label+".fini");
-             this.decreaseIndent();
+             this.emit(Opcode.CALL, label+".fini");
              
              //nop
-             this.increaseIndent();
-             this.writeAssembly(NO_PARAM, NOP_OP);
-             this.decreaseIndent();
+             this.emit(Opcode.NOP);
 
-             this.writeAssembly(NEWLINE);
+             this.newline();
 
              // .section .text
-             this.increaseIndent();
-             this.writeAssembly(ONE_PARAM, SECTION, "\".text\"");
-             this.decreaseIndent();
-
-             // .align  4 
-             this.increaseIndent();
-             this.writeAssembly(ONE_PARAM, ALIGN, String.valueOf(4));
-             this.decreaseIndent();
+             this.section(TEXT);
              
           }
 
@@ -4984,36 +3984,26 @@ public class AssemblyCodeGenerator {
 
     public void DoDtorParam() {
         //st %i0 [%fp+68]
-        this.increaseIndent();
-        this.writeAssembly(TWO_PARAM, STORE_OP, "%i0","[%fp+68]");
-        this.decreaseIndent();
+        this.emit(Opcode.ST, "%i0", "[%fp+68]");
     
     }
 
     public void RetRestore() {
 
          if(this.dtorFlag == true) {
-    	   this.increaseIndent();
-           this.writeAssembly(NO_PARAM, RET_OP);
-           this.decreaseIndent();
+           this.emit(Opcode.RET);
 
            //restore
-           this.increaseIndent();
-           this.writeAssembly(NO_PARAM, RESTORE_OP);
-           this.decreaseIndent();
+           this.emit(Opcode.RESTORE);
          }
     }
 
     public void RetRestoreStruct() {
 
-    	   this.increaseIndent();
-           this.writeAssembly(NO_PARAM, RET_OP);
-           this.decreaseIndent();
+           this.emit(Opcode.RET);
 
            //restore
-           this.increaseIndent();
-           this.writeAssembly(NO_PARAM, RESTORE_OP);
-           this.decreaseIndent();
+           this.emit(Opcode.RESTORE);
     }
 
     public void DoTypeCast(STO casted, Type cast, STO offset, STO promote) {
@@ -5046,11 +4036,9 @@ public class AssemblyCodeGenerator {
 
     public void DoIntToFloat(STO casted,Type cast, STO offset) {
        
-       this.writeAssembly(NEWLINE);
+       this.newline();
        // ! comment
-       this.increaseIndent();
-       this.writeAssembly(NO_PARAM, "! ( "+cast.getName() + " )" +casted.getName());
-       this.decreaseIndent();
+       this.line("! ( "+cast.getName() + " )" +casted.getName());
 
        if(casted instanceof ConstSTO && !(((ConstSTO)casted).getLitTag()) ) {
           // this.getVar(casted,l7);
@@ -5078,12 +4066,10 @@ public class AssemblyCodeGenerator {
 
     public void DoFloatToInt(STO casted,Type cast,STO Offset,STO promote) {
 
-        this.writeAssembly(NEWLINE);
+        this.newline();
         
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! ( "+cast.getName() + " )" +casted.getName());
-        this.decreaseIndent();
+        this.line("! ( "+cast.getName() + " )" +casted.getName());
        
         if(casted instanceof ConstSTO && !(((ConstSTO)casted).getLitTag()) ) {
           // this.getVar(casted,l7);
@@ -5109,12 +4095,10 @@ public class AssemblyCodeGenerator {
     public void DoIntAndBool(STO casted,Type cast,STO offset) {
         
         String label = DOLLAR+"cmp."+String.valueOf(++cmpCnt);
-        this.writeAssembly(NEWLINE);
+        this.newline();
         
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! ( "+cast.getName() + " )" +casted.getName());
-        this.decreaseIndent();
+        this.line("! ( "+cast.getName() + " )" +casted.getName());
 
        if(casted instanceof ConstSTO && !(((ConstSTO)casted).getLitTag()) ) {
            /*if(casted.getType() instanceof BoolType && cast instanceof IntType) {
@@ -5138,8 +4122,8 @@ public class AssemblyCodeGenerator {
 
            this.getVar(casted,l7);
            this.load(l7,o0);
-           this.compare(CMP_OP,o0,g0);
-           this.branch(BE_OP,label);
+           this.compare(Opcode.CMP,o0,g0);
+           this.branch(Opcode.BE,label);
            this.move(g0,o0);
            this.move(String.valueOf(1),o0);
            this.label(label+":");
@@ -5154,11 +4138,9 @@ public class AssemblyCodeGenerator {
     public void DoBoolToFloat(STO casted,Type cast,STO offset,STO promote) {
 
         String label = DOLLAR+"cmp."+String.valueOf(++cmpCnt);
-        this.writeAssembly(NEWLINE);
+        this.newline();
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! ( "+cast.getName() + " )" +casted.getName());
-        this.decreaseIndent();
+        this.line("! ( "+cast.getName() + " )" +casted.getName());
 
 
        if(casted instanceof ConstSTO && !(((ConstSTO)casted).getLitTag()) ) {
@@ -5178,9 +4160,9 @@ public class AssemblyCodeGenerator {
               this.store(g0,l7);
               this.load(l7,f1);
               this.fitos(f1);
-              this.compare(FCMP_OP,f0,f1);
+              this.compare(Opcode.FCMPS,f0,f1);
               this.nop();
-              this.branch(FBE_OP,label);
+              this.branch(Opcode.FBE,label);
               this.move(g0,o0);
               this.move(String.valueOf(1),o0);
               this.label(label+":");
@@ -5197,11 +4179,9 @@ public class AssemblyCodeGenerator {
 
     public void DoFloatToBool(STO casted,Type cast,STO offset, STO promote) {
         String label = DOLLAR+"cmp."+String.valueOf(++cmpCnt);
-        this.writeAssembly(NEWLINE);
+        this.newline();
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! ( "+cast.getName() + " )" +casted.getName());
-        this.decreaseIndent();
+        this.line("! ( "+cast.getName() + " )" +casted.getName());
 
         if(casted instanceof ConstSTO && !(((ConstSTO)casted).getLitTag()) ) {
            /*if(casted.getType() instanceof BoolType && cast instanceof FloatType) {
@@ -5214,8 +4194,8 @@ public class AssemblyCodeGenerator {
 
            this.getVar(casted,l7);
            this.load(l7,o0);
-           this.compare(CMP_OP,o0,g0);
-           this.branch(BE_OP,label);
+           this.compare(Opcode.CMP,o0,g0);
+           this.branch(Opcode.BE,label);
            this.move(g0,o0);
            this.move(String.valueOf(1),o0);
            this.label(label+":");
@@ -5231,11 +4211,9 @@ public class AssemblyCodeGenerator {
     public void DoSameAndPointer(STO casted,Type cast,STO offset) {
         
         
-        this.writeAssembly(NEWLINE);
+        this.newline();
         // ! comment
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, "! ( "+cast.getName() + " )" +casted.getName());
-        this.decreaseIndent();
+        this.line("! ( "+cast.getName() + " )" +casted.getName());
 
         if(casted instanceof ConstSTO && !(((ConstSTO)casted).getLitTag()) ) {
         }
@@ -5255,82 +4233,56 @@ public class AssemblyCodeGenerator {
 
 
     public void getVar( STO sto, String reg ) {
-       this.increaseIndent();
-       this.writeAssembly(TWO_PARAM,SET_OP,sto.getOffset(),reg);
-       this.decreaseIndent();
+       this.emit(Opcode.SET, sto.getOffset(), reg);
 
-       this.increaseIndent();
-       this.writeAssembly(THREE_PARAM,ADD_OP,sto.getBase(),reg,reg);
-       this.decreaseIndent();
+       this.emit(Opcode.ADD, sto.getBase(), reg, reg);
     
     }
 
     public void setVal(String val, String reg) {
-       this.increaseIndent();
-       this.writeAssembly(TWO_PARAM,SET_OP,val,reg);
-       this.decreaseIndent();
+       this.emit(Opcode.SET, val, reg);
 
     }
 
     public void store(String reg1, String reg2) {
-       this.increaseIndent();
-       this.writeAssembly(TWO_PARAM,STORE_OP,reg1,"["+reg2+"]");
-       this.decreaseIndent();
+       this.emit(Opcode.ST, reg1, "["+reg2+"]");
     
     }
 
     public void load(String reg1, String reg2) {
-       this.increaseIndent();
-       this.writeAssembly(TWO_PARAM,LOAD_OP ,"["+reg1+"]",reg2);
-       this.decreaseIndent();
+       this.emit(Opcode.LD, "["+reg1+"]", reg2);
 
     }
 
     public void fstoi(String reg) {
-       this.increaseIndent();
-       this.writeAssembly(TWO_PARAM,FSTOI_OP, reg, reg);
-       this.decreaseIndent();
+       this.emit(Opcode.FSTOI, reg, reg);
 
     }
 
     public void fitos(String reg) {
-       this.increaseIndent();
-       this.writeAssembly(TWO_PARAM,FITOS_OP, reg, reg);
-       this.decreaseIndent();
+       this.emit(Opcode.FITOS, reg, reg);
 
     }
 
-    public void compare(String cmp, String reg1, String reg2) {
+    public void compare(Opcode cmp, String reg1, String reg2) {
 
        //cmp  reg1 reg2
-       this.increaseIndent();
-       this.writeAssembly(TWO_PARAM, cmp, reg1, reg2);
-       this.decreaseIndent(); 
+       this.emit(cmp, reg1, reg2);
     }
 
 
-    public void branch(String bran, String label) {
+    public void branch(Opcode bran, String label) {
        //branch  label
-       this.increaseIndent();
-       this.writeAssembly(ONE_PARAM, bran, label);
-       this.decreaseIndent();
+       this.emit(bran, label);
     }
 
     public void move(String val, String reg) {
-       this.increaseIndent();
-       this.writeAssembly(TWO_PARAM, MOV_OP, val,reg);
-       this.decreaseIndent();
-    }
-
-    public void label(String label) {
-        this.writeAssembly(NO_PARAM, label);
+       this.emit(Opcode.MOV, val, reg);
     }
 
     public void nop() {
         //nop
-        this.increaseIndent();
-        this.writeAssembly(NO_PARAM, NOP_OP);
-        this.decreaseIndent();
+        this.emit(Opcode.NOP);
     }
 
 
@@ -0,0 +1,51 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	designator = expr.
+//---------------------------------------------------------------------
+class AssignNode extends ExprNode
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	AssignNode (ExprNode lhs, ExprNode rhs)
+	{
+		m_lhs = lhs;
+		m_rhs = rhs;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		setSto (parser.DoAssignTypeCheck (m_lhs.getSto (), m_rhs.getSto ()));
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_lhs.checkAll (parser);
+		m_rhs.checkAll (parser);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_lhs.lower (codegen);
+		m_rhs.lower (codegen);
+		write (codegen, 0);
+	}
+
+
+	private ExprNode	m_lhs;
+	private ExprNode	m_rhs;
+}
@@ -0,0 +1,153 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import	java.io.*;
+import	java.nio.file.Files;
+import	java.nio.file.Path;
+import	java.util.List;
+import	java.util.Vector;
+import	java.util.concurrent.ForkJoinPool;
+import	java.util.concurrent.RecursiveAction;
+import	java.util.concurrent.atomic.AtomicInteger;
+import	java.util.stream.Collectors;
+import	java.util.stream.Stream;
+
+
+//---------------------------------------------------------------------
+//	RC -batch dir [flags]
+//
+//	Compiles every .rc file under dir, each as its own Compilation,
+//	on a work-stealing pool with a thread per processor.  foo.rc's
+//	assembly goes to foo.s and what RC would print for it, on stdout
+//	or stderr, to foo.out.  (Expected output, foo.rc.out, is left
+//	alone.)  The flags are applied to every file.
+//---------------------------------------------------------------------
+class BatchCompiler
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	BatchCompiler (String strDir, String[] args)
+	{
+		m_strDir = strDir;
+		m_args = args;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	run ()
+	throws IOException
+	{
+		List<Path>	files;
+
+		try (Stream<Path> paths = Files.walk (Path.of (m_strDir)))
+		{
+			files = paths
+				.filter (p -> p.toString ().endsWith (".rc") && Files.isRegularFile (p))
+				.sorted ()
+				.collect (Collectors.toList ());
+		}
+
+		ForkJoinPool	pool = new ForkJoinPool (Runtime.getRuntime ().availableProcessors ());
+
+		pool.invoke (new Batch (files, 0, files.size ()));
+		pool.shutdown ();
+
+		System.out.println ("Batch: " + files.size () + " files, " +
+			m_nFailed.get () + " failed.");
+	}
+
+
+	//----------------------------------------------------------------
+	//	Files [nFrom, nTo) of the batch, split in half until there's
+	//	one left, so idle threads can steal the other halves.
+	//----------------------------------------------------------------
+	private class Batch extends RecursiveAction
+	{
+		Batch (List<Path> files, int nFrom, int nTo)
+		{
+			m_files = files;
+			m_nFrom = nFrom;
+			m_nTo = nTo;
+		}
+
+		protected void
+		compute ()
+		{
+			if (m_nTo - m_nFrom <= 1)
+			{
+				if (m_nTo > m_nFrom)
+					compile (m_files.get (m_nFrom));
+				return;
+			}
+
+			int 	nMid = (m_nFrom + m_nTo) >>> 1;
+
+			invokeAll (new Batch (m_files, m_nFrom, nMid),
+				new Batch (m_files, nMid, m_nTo));
+		}
+
+		private static final long	serialVersionUID = 1L;
+
+		private List<Path>	m_files;
+		private int 		m_nFrom;
+		private int 		m_nTo;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private void
+	compile (Path file)
+	{
+		String	strFile = file.toString ();
+		String	strBase = strFile.substring (0, strFile.length () - ".rc".length ());
+
+		try (PrintStream out = new PrintStream (new BufferedOutputStream (
+					new FileOutputStream (strBase + ".out"))))
+		{
+			Vector<String>	filenames = new Vector<String> ();
+
+			filenames.addElement (strFile);
+
+			Compilation	compilation = new Compilation (filenames, null,
+							new BufferedAsmSink (strBase + ".s"), out, out);
+
+			compilation.setOptions (m_args);
+			try
+			{
+				if (!compilation.run ())
+					m_nFailed.incrementAndGet ();
+			}
+			catch (Throwable t)
+			{
+				//	What the JVM prints for an exception out of main;
+				//	the rest of the batch goes on.
+				out.print ("Exception in thread \"main\" ");
+				t.printStackTrace (out);
+				m_nFailed.incrementAndGet ();
+			}
+		}
+		catch (IOException e)
+		{
+			System.err.println ("Error, " + e.getMessage ());
+			m_nFailed.incrementAndGet ();
+		}
+	}
+
+
+//----------------------------------------------------------------
+//	Instance variables
+//----------------------------------------------------------------
+	private String		m_strDir;
+	private String[]	m_args;
+	private AtomicInteger	m_nFailed = new AtomicInteger ();
+}
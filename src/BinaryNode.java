@@ -0,0 +1,98 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	lhs op rhs.  && and || short-circuit, so they're checked in two
+//	phases: once lhs is parsed (its test goes between the sides'
+//	code), and at the end.
+//---------------------------------------------------------------------
+class BinaryNode extends ExprNode
+{
+	//----------------------------------------------------------------
+	//	&& or ||, whose rhs comes later (see setRhs).
+	//----------------------------------------------------------------
+	public
+	BinaryNode (ExprNode lhs, Operator op)
+	{
+		this (lhs, op, null);
+	}
+
+	public
+	BinaryNode (ExprNode lhs, Operator op, ExprNode rhs)
+	{
+		m_lhs = lhs;
+		m_op = op;
+		m_rhs = rhs;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	setRhs (ExprNode rhs)
+	{
+		m_rhs = rhs;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		STO	a = m_lhs.getSto ();
+		String	strOp = m_op.getOp ();
+
+		if (isShortCircuit () && nPhase == 0)
+		{
+			parser.DoLHS (a, strOp);
+			return;
+		}
+
+		STO	b = m_rhs.getSto ();
+
+		setSto (parser.DoBinaryExpr (a, m_op, b));
+		if (isShortCircuit ())
+			parser.DoRHS (a, b, strOp, getSto ());
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_lhs.checkAll (parser);
+		if (isShortCircuit ())
+			parser.Check (this, 0);
+		m_rhs.checkAll (parser);
+		parser.Check (this, isShortCircuit () ? 1 : 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_lhs.lower (codegen);
+		if (isShortCircuit ())
+			write (codegen, 0);
+		m_rhs.lower (codegen);
+		write (codegen, isShortCircuit () ? 1 : 0);
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private boolean
+	isShortCircuit ()
+	{
+		return (m_op == OperatorTable.AND || m_op == OperatorTable.OR);
+	}
+
+
+	private ExprNode	m_lhs;
+	private Operator	m_op;
+	private ExprNode	m_rhs;
+}
@@ -3,11 +3,9 @@
 //-----------------
 
 class BitwiseOp extends BinaryOp {
-    Type typeA;
-    Type typeB;
 
-    public BitwiseOp(STO a, STO b, String s){
-        super(a,b,s);
+    public BitwiseOp(String s){
+        super(s);
     }
 
 }
@@ -0,0 +1,56 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	{ stmts }, in a scope of its own: opened in phase 0, closed in
+//	phase 1.
+//---------------------------------------------------------------------
+class BlockNode extends Node
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	setStmts (Vector<Node> stmts)
+	{
+		m_stmts = stmts;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		if (nPhase == 0)
+			parser.DoBlockOpen ();
+		else
+			parser.DoBlockClose ();
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		parser.Check (this, 0);
+		Node.checkAll (parser, m_stmts);
+		parser.Check (this, 1);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		write (codegen, 0);
+		Node.lowerAll (codegen, m_stmts);
+		write (codegen, 1);
+	}
+
+
+	private Vector<Node>	m_stmts;
+}
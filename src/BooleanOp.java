@@ -3,11 +3,9 @@
 //-----------------
 
 class BooleanOp extends BinaryOp {
-    Type typeA;
-    Type typeB;
 
-    public BooleanOp(STO a, STO b, String s){
-        super(a,b,s);
+    public BooleanOp(String s){
+        super(s);
     }
 
 }
@@ -0,0 +1,67 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import	java.io.*;
+
+
+//---------------------------------------------------------------------
+//	Assembly written to a file or stream through a large buffer, so
+//	there's a system call every BUFSIZE characters instead of one per
+//	instruction.
+//---------------------------------------------------------------------
+class BufferedAsmSink implements AsmSink
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	BufferedAsmSink (String strFile)
+	throws IOException
+	{
+		m_writer = new BufferedWriter (new FileWriter (strFile), BUFSIZE);
+		m_bClose = true;
+	}
+
+	//----------------------------------------------------------------
+	//	out is only flushed at the end, not closed.
+	//----------------------------------------------------------------
+	public
+	BufferedAsmSink (OutputStream out)
+	{
+		m_writer = new BufferedWriter (new OutputStreamWriter (out), BUFSIZE);
+		m_bClose = false;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	write (String str)
+	throws IOException
+	{
+		m_writer.write (str);
+	}
+
+	public void
+	close ()
+	throws IOException
+	{
+		if (m_bClose)
+			m_writer.close ();
+		else
+			m_writer.flush ();
+	}
+
+
+//----------------------------------------------------------------
+//	Instance variables
+//----------------------------------------------------------------
+	private static final int	BUFSIZE = 64 * 1024;
+
+	private Writer		m_writer;
+	private boolean		m_bClose;
+}
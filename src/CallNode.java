@@ -0,0 +1,54 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	designator (args): a call of a function, or of a struct's.
+//---------------------------------------------------------------------
+class CallNode extends ExprNode
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	CallNode (ExprNode func, Vector<ExprNode> args)
+	{
+		m_func = func;
+		m_args = args;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		setSto (parser.DoFuncCall (m_func.getSto (), ExprNode.stos (m_args)));
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_func.checkAll (parser);
+		Node.checkAll (parser, m_args);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_func.lower (codegen);
+		Node.lowerAll (codegen, m_args);
+		write (codegen, 0);
+	}
+
+
+	private ExprNode	m_func;
+	private Vector<ExprNode>	m_args;
+}
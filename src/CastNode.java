@@ -0,0 +1,50 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	(type) designator.
+//---------------------------------------------------------------------
+class CastNode extends ExprNode
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	CastNode (TypeNode type, ExprNode expr)
+	{
+		m_type = type;
+		m_expr = expr;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		setSto (parser.DoTypeCast (m_type.getType (), m_expr.getSto ()));
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_type.checkAll (parser);
+		m_expr.checkAll (parser);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_expr.lower (codegen);
+		write (codegen, 0);
+	}
+
+
+	private TypeNode	m_type;
+	private ExprNode	m_expr;
+}
@@ -4,9 +4,7 @@
 
 
 class ComparisonOp extends BinaryOp {
-    Type typeA;
-    Type typeB;
-    public ComparisonOp(STO a, STO b, String s){
-        super(a, b, s);
+    public ComparisonOp(String s){
+        super(s);
     }
 }
@@ -0,0 +1,188 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import	java.io.File;
+import	java.io.IOException;
+import	java.io.PrintStream;
+import	java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	One run of the compiler over a set of input files.  Everything
+//	the compile touches (its lexer, name table, parser, type table,
+//	symbol table and code generator) is made for it alone, the
+//	assembly goes to its own sink and everything it prints goes to
+//	its own streams, so any number of compilations can run at once in
+//	one JVM, and nothing is left behind once one is done.  Only the
+//	basic types (TypeTable.INT and the like) are shared, and they
+//	never change.
+//---------------------------------------------------------------------
+class Compilation
+{
+	//----------------------------------------------------------------
+	//	Relative filenames are taken from dir (the working directory
+	//	if null).  The assembly goes to asm.  Diagnostics and the
+	//	"Compile:" line go to out, and stack traces of exceptions that
+	//	stop the compile to err.
+	//----------------------------------------------------------------
+	public
+	Compilation (Vector<String> filenames, File dir, AsmSink asm,
+		     PrintStream out, PrintStream err)
+	{
+		m_filenames = filenames;
+		m_dir = dir;
+		m_asm = asm;
+		m_out = out;
+		m_err = err;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Takes the flags in RC's command line args (anything starting
+	//	with "-"); the rest are RC's input files.
+	//----------------------------------------------------------------
+	public void
+	setOptions (String[] args)
+	{
+		for (String strArg : args)
+		{
+			if (strArg.equals ("-debug"))
+				m_bDebug = true;
+			else if (strArg.equals ("-parallel"))
+				m_nWorkers = Runtime.getRuntime ().availableProcessors ();
+			else if (strArg.equals ("-stats"))
+				m_bStats = true;
+			else if (strArg.equals ("-O"))
+				m_bOptimize = true;
+			else if (strArg.equals ("-no-peephole"))
+				m_bPeephole = false;
+			else if (strArg.equals ("-no-delay-slots"))
+				m_bDelaySlots = false;
+			else if (strArg.equals ("-ast"))
+				m_bAst = true;
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	Compiles, printing what RC prints, and returns true if the
+	//	program had no errors.
+	//----------------------------------------------------------------
+	public boolean
+	run ()
+	{
+		//	With no files, the lexer reads standard input.  The
+		//	names it reads go in the compilation's own NameTable.
+		Lexer		lexer = new Lexer (m_filenames, m_dir, m_out, new NameTable ());
+
+		//	With -parallel, the input files are lexed at the same
+		//	time before parsing starts.
+		if (m_nWorkers > 0)
+			lexer.setWorkers (m_nWorkers);
+
+		//	The error printer uses the lexer to get the name
+		//	of the current file & line number.
+		ErrorPrinter	errors = new ErrorPrinter (lexer, m_bDebug, m_out);
+		MyParser	parser = new MyParser (lexer, errors, m_bDebug, m_asm);
+
+		//	With -O, the generated code is optimized before it's
+		//	written (-no-peephole leaves out the peephole pass, and
+		//	-no-delay-slots leaves the delay slots empty).
+		parser.setOptimize (m_bOptimize);
+		parser.setPeephole (m_bPeephole);
+		parser.setDelaySlots (m_bDelaySlots);
+
+		//	With -ast, the parse builds the whole program's tree,
+		//	which is then checked in one pass and lowered in another.
+		parser.setAst (m_bAst);
+
+		//	With -stats (or a Flight Recorder recording taking the
+		//	events), each phase is timed, over all the input files
+		//	together.  The stats go to err so out is the same either
+		//	way.
+		CompileStats	stats = CompileStats.create (fileList (), m_bStats);
+
+		if (stats != null)
+			parser.setStats (stats);
+
+		try
+		{
+			parser.parse ();
+			if (parser.Ok ())
+			{
+				m_out.println ("Compile: success.");
+				return (true);
+			}
+			m_out.println ("Compile: failure.");
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace (m_err);
+			m_out.println ("Compile: failure.");
+		}
+		finally
+		{
+			//	Whatever was generated before the compile stopped
+			//	is dropped, but the sink still has to be closed.
+			try
+			{
+				parser.closeAsm ();
+			}
+			catch (IOException e)
+			{
+				e.printStackTrace (m_err);
+			}
+
+			if (stats != null)
+			{
+				parser.reportCounters ();
+				stats.report (m_err);
+			}
+		}
+
+		return (false);
+	}
+
+
+	//----------------------------------------------------------------
+	//	The input files in command line order (m_filenames is
+	//	backward, for the lexer's stack).
+	//----------------------------------------------------------------
+	private String
+	fileList ()
+	{
+		if (m_filenames.isEmpty ())
+			return ("(stdin)");
+
+		StringBuilder	sb = new StringBuilder ();
+
+		for (int i = m_filenames.size () - 1; i >= 0; i--)
+		{
+			if (sb.length () > 0)
+				sb.append (' ');
+			sb.append (m_filenames.elementAt (i));
+		}
+		return (sb.toString ());
+	}
+
+
+//----------------------------------------------------------------
+//	Instance variables
+//----------------------------------------------------------------
+	private Vector<String>	m_filenames;
+	private File		m_dir;
+	private AsmSink		m_asm;
+	private PrintStream	m_out;
+	private PrintStream	m_err;
+
+	private boolean		m_bDebug;
+	private boolean		m_bStats;
+	private boolean		m_bOptimize;
+	private boolean		m_bPeephole = true;
+	private boolean		m_bDelaySlots = true;
+	private boolean		m_bAst;
+	private int 		m_nWorkers;
+}
@@ -0,0 +1,49 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import	jdk.jfr.*;
+
+
+//---------------------------------------------------------------------
+//	Flight Recorder event for one whole compile, with the counters
+//	-stats prints.  See CompileStats.
+//---------------------------------------------------------------------
+@Name ("rc.Compile")
+@Label ("Compile")
+@Category ("Reduced-C")
+class CompileEvent extends Event
+{
+	@Label ("Files")
+	String		files;
+
+	@Label ("Tokens")
+	long		tokens;
+
+	@Label ("Symbol Lookups")
+	long		lookups;
+
+	@Label ("Scopes Walked")
+	long		scopesWalked;
+
+	@Label ("Overload Candidates")
+	long		overloadCandidates;
+
+	@Label ("Instructions")
+	long		instructions;
+
+	@Label ("Stack Slots Kept in Registers")
+	long		slotsAllocated;
+
+	@Label ("Instructions Saved by Peephole")
+	long		peepholeSaved;
+
+	@Label ("Delay Slots Filled")
+	long		delaySlotsFilled;
+
+	@Label ("Bytes Written")
+	@DataAmount
+	long		bytesWritten;
+}
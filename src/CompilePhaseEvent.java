@@ -0,0 +1,34 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import	jdk.jfr.*;
+
+
+//---------------------------------------------------------------------
+//	Flight Recorder event for the time and allocation of one phase
+//	of a compile.  Emission is spread over the whole compile, so the
+//	time is a field rather than the event's own duration.  See
+//	CompileStats.
+//---------------------------------------------------------------------
+@Name ("rc.CompilePhase")
+@Label ("Compile Phase")
+@Category ("Reduced-C")
+class CompilePhaseEvent extends Event
+{
+	@Label ("Files")
+	String		files;
+
+	@Label ("Phase")
+	String		phase;
+
+	@Label ("Time")
+	@Timespan
+	long		time;
+
+	@Label ("Allocated")
+	@DataAmount
+	long		allocated;
+}
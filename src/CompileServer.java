@@ -0,0 +1,176 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import	java.io.*;
+import	java.net.StandardProtocolFamily;
+import	java.net.UnixDomainSocketAddress;
+import	java.nio.channels.Channels;
+import	java.nio.channels.ServerSocketChannel;
+import	java.nio.channels.SocketChannel;
+import	java.nio.file.Files;
+import	java.nio.file.Path;
+
+
+//---------------------------------------------------------------------
+//	RC -server [socket]
+//
+//	Keeps one JVM (and its loaded classes and parse tables) up and
+//	compiles one request after another, instead of paying for a new
+//	JVM every time.  Every request is a new
+//	Compilation, so nothing carries over from the last.
+//
+//	A request is one line: the directory to compile in, then the
+//	arguments RC would be given, all separated by tabs.  The reply
+//	is everything RC would have printed, on stdout or stderr, then
+//	a line "RC-EXIT n" with the status RC would have exited with.
+//
+//	Without a socket, requests are read from standard input and
+//	replies written to standard output.  With one, the server
+//	listens on that Unix domain socket for one request per
+//	connection.
+//---------------------------------------------------------------------
+class CompileServer
+{
+	public static final String	EXIT_PREFIX = "RC-EXIT ";
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	CompileServer (String strSocket)
+	{
+		m_strSocket = strSocket;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Serves requests until standard input runs out, or forever
+	//	on a socket.
+	//----------------------------------------------------------------
+	public void
+	run ()
+	throws IOException
+	{
+		if (m_strSocket == null)
+		{
+			BufferedReader	in = new BufferedReader (new InputStreamReader (System.in));
+			OutputStream	out = System.out;
+			String		strLine;
+
+			while ((strLine = in.readLine ()) != null)
+				serve (strLine, out);
+			return;
+		}
+
+		Path			path = Path.of (m_strSocket);
+		ServerSocketChannel	server = ServerSocketChannel.open (StandardProtocolFamily.UNIX);
+
+		Files.deleteIfExists (path);
+		server.bind (UnixDomainSocketAddress.of (path));
+		path.toFile ().deleteOnExit ();
+
+		for (;;)
+		{
+			try (SocketChannel channel = server.accept ())
+			{
+				BufferedReader	in = new BufferedReader (new InputStreamReader (
+							Channels.newInputStream (channel)));
+				String		strLine = in.readLine ();
+
+				if (strLine != null)
+					serve (strLine, Channels.newOutputStream (channel));
+			}
+			catch (IOException e)
+			{
+				//	The client went away; keep serving the rest.
+				e.printStackTrace ();
+			}
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	Compiles one request and writes the reply to out.
+	//----------------------------------------------------------------
+	private void
+	serve (String strLine, OutputStream out)
+	throws IOException
+	{
+		if (strLine.isEmpty ())
+			return;
+
+		String[]	fields = strLine.split ("\t", -1);
+		String[]	args = java.util.Arrays.copyOfRange (fields, 1, fields.length);
+		byte[]		output;
+		int 		nStatus;
+
+		ByteArrayOutputStream	buf = new ByteArrayOutputStream ();
+
+		if (!hasInputFile (args))
+		{
+			//	There's no standard input to compile from here.
+			buf.write (("Error, no input files\n").getBytes ());
+			nStatus = 1;
+		}
+		else
+			nStatus = compile (args, new File (fields[0]), buf);
+
+		output = buf.toByteArray ();
+		out.write (output);
+		if (output.length > 0 && output[output.length - 1] != '\n')
+			out.write ('\n');
+		out.write ((EXIT_PREFIX + nStatus + "\n").getBytes ());
+		out.flush ();
+	}
+
+
+	//----------------------------------------------------------------
+	//	Runs RC with everything it prints going to buf, and returns
+	//	the status the JVM would have exited with.
+	//----------------------------------------------------------------
+	private static int
+	compile (String[] args, File dir, ByteArrayOutputStream buf)
+	{
+		PrintStream	out = new PrintStream (buf, true);
+
+		try
+		{
+			RC.compile (args, dir, out, out);
+			return (0);
+		}
+		catch (Throwable t)
+		{
+			//	What the JVM prints for an exception out of main.
+			out.print ("Exception in thread \"main\" ");
+			t.printStackTrace (out);
+			return (1);
+		}
+		finally
+		{
+			out.flush ();
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	RC takes anything not starting with "-" as a file, other than
+	//	the path after -o.
+	//----------------------------------------------------------------
+	private static boolean
+	hasInputFile (String[] args)
+	{
+		for (int i = 0; i < args.length; i++)
+			if (!args[i].startsWith ("-") && (i == 0 || !args[i - 1].equals ("-o")))
+				return (true);
+		return (false);
+	}
+
+
+//----------------------------------------------------------------
+//	Instance variables
+//----------------------------------------------------------------
+	private String		m_strSocket;
+}
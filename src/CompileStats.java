@@ -0,0 +1,258 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import	java.io.PrintStream;
+import	java.lang.management.ManagementFactory;
+import	jdk.jfr.FlightRecorder;
+
+
+//---------------------------------------------------------------------
+//	Where one compile's time and allocation went, phase by phase, and
+//	how much work each phase did.  Printed with -stats and committed
+//	as CompilePhaseEvent/CompileEvent whenever a Flight Recorder
+//	recording has them turned on.
+//
+//	There's one report per compilation, not per input file: files
+//	named together on one command line are compiled as one program
+//	into one .s, and the report covers them all (its files lists
+//	them).  RC -batch compiles each file on its own, so there, as for
+//	an RC run (or -server request) naming one file, each report is
+//	one file's.
+//
+//	The phases are lexing, LR parsing, the grammar actions' checks,
+//	and emission (AssemblyCodeGenerator writing assembly), all timed
+//	in the compile's one pass: the actions are timed each time the
+//	parser reduces and taken back out of the parse, and emission
+//	happens inside the actions and is taken back out of them.
+//	Allocation is what the compiling thread allocated, so lexing
+//	with -parallel shows only part of it.
+//---------------------------------------------------------------------
+class CompileStats
+{
+	public static final int		LEX = 0;
+	public static final int		PARSE = 1;
+	public static final int		ACTIONS = 2;
+	public static final int		EMIT = 3;
+
+	//----------------------------------------------------------------
+	//	Stats are only kept if bPrint (for -stats) or Flight Recorder
+	//	wants the events; otherwise the compile isn't timed at all.
+	//	(Loading the event classes alone costs more than most
+	//	compiles, so they're left alone unless Flight Recorder is
+	//	running.)
+	//----------------------------------------------------------------
+	public static CompileStats
+	create (String strFiles, boolean bPrint)
+	{
+		if (!bPrint && !FlightRecorder.isInitialized ())
+			return (null);
+
+		CompileEvent	event = new CompileEvent ();
+
+		if (!bPrint && !event.isEnabled ())
+			return (null);
+
+		return (new CompileStats (strFiles, bPrint, event));
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private
+	CompileStats (String strFiles, boolean bPrint, CompileEvent event)
+	{
+		m_strFiles = strFiles;
+		m_bPrint = bPrint;
+		m_event = event;
+		m_event.begin ();
+
+		java.lang.management.ThreadMXBean	bean = ManagementFactory.getThreadMXBean ();
+
+		if (bean instanceof com.sun.management.ThreadMXBean)
+			m_threads = (com.sun.management.ThreadMXBean) bean;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Phases can be entered any number of times; the time and
+	//	allocation add up.
+	//----------------------------------------------------------------
+	public void
+	begin (int nPhase)
+	{
+		m_start[nPhase] = System.nanoTime ();
+		m_startAlloc[nPhase] = allocated ();
+	}
+
+	public void
+	end (int nPhase)
+	{
+		m_time[nPhase] += System.nanoTime () - m_start[nPhase];
+		m_alloc[nPhase] += allocated () - m_startAlloc[nPhase];
+	}
+
+
+	//----------------------------------------------------------------
+	//	The counters, taken from the parts of the compiler that kept
+	//	them, once the compile is over.
+	//----------------------------------------------------------------
+	public void
+	setCounters (long nTokens, long nLookups, long nScopesWalked,
+		     long nOverloadCandidates, long nInstructions,
+		     long nSlotsAllocated, long nPeepholeSaved,
+		     long nDelaySlotsFilled, long nBytes)
+	{
+		m_nTokens = nTokens;
+		m_nLookups = nLookups;
+		m_nScopesWalked = nScopesWalked;
+		m_nOverloadCandidates = nOverloadCandidates;
+		m_nInstructions = nInstructions;
+		m_nSlotsAllocated = nSlotsAllocated;
+		m_nPeepholeSaved = nPeepholeSaved;
+		m_nDelaySlotsFilled = nDelaySlotsFilled;
+		m_nBytes = nBytes;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Prints the stats to out if -stats asked for them, and commits
+	//	the events if Flight Recorder is taking them.
+	//----------------------------------------------------------------
+	public void
+	report (PrintStream out)
+	{
+		if (m_bPrint)
+			print (out);
+
+		for (int i = 0; i < PHASE_NAMES.length; i++)
+		{
+			CompilePhaseEvent	phase = new CompilePhaseEvent ();
+
+			if (!phase.isEnabled ())
+				break;
+			phase.files = m_strFiles;
+			phase.phase = PHASE_NAMES[i];
+			phase.time = getTime (i);
+			phase.allocated = getAllocated (i);
+			phase.commit ();
+		}
+
+		m_event.end ();
+		if (m_event.shouldCommit ())
+		{
+			m_event.files = m_strFiles;
+			m_event.tokens = m_nTokens;
+			m_event.lookups = m_nLookups;
+			m_event.scopesWalked = m_nScopesWalked;
+			m_event.overloadCandidates = m_nOverloadCandidates;
+			m_event.instructions = m_nInstructions;
+			m_event.slotsAllocated = m_nSlotsAllocated;
+			m_event.peepholeSaved = m_nPeepholeSaved;
+			m_event.delaySlotsFilled = m_nDelaySlotsFilled;
+			m_event.bytesWritten = m_nBytes;
+			m_event.commit ();
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	By the printed phases: the actions are taken out of the
+	//	parse, and emission out of the actions, leaving the checks.
+	//----------------------------------------------------------------
+	private long
+	getTime (int nPhase)
+	{
+		return (m_time[nPhase] - inner (m_time, nPhase));
+	}
+
+	private long
+	getAllocated (int nPhase)
+	{
+		return (m_alloc[nPhase] - inner (m_alloc, nPhase));
+	}
+
+	private static long
+	inner (long[] total, int nPhase)
+	{
+		if (nPhase == PARSE)
+			return (total[ACTIONS]);
+		if (nPhase == ACTIONS)
+			return (total[EMIT]);
+		return (0);
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private void
+	print (PrintStream out)
+	{
+		long	nTime = 0;
+		long	nAlloc = 0;
+
+		out.println ("Stats for " + m_strFiles + ":");
+		out.println ("  phase          ms    KB alloc");
+		for (int i = 0; i < PHASE_NAMES.length; i++)
+		{
+			nTime += getTime (i);
+			nAlloc += getAllocated (i);
+			out.printf ("  %-6s %10.3f %10d%n", PHASE_NAMES[i],
+				getTime (i) / 1e6, getAllocated (i) / 1024);
+		}
+		out.printf ("  %-6s %10.3f %10d%n", "total", nTime / 1e6, nAlloc / 1024);
+
+		out.println ("  tokens " + m_nTokens +
+			", symbol lookups " + m_nLookups +
+			" (" + m_nScopesWalked + " scopes walked)" +
+			", overload candidates " + m_nOverloadCandidates);
+		out.println ("  instructions " + m_nInstructions +
+			" (" + m_nSlotsAllocated + " stack slots kept in registers, " +
+			m_nPeepholeSaved + " saved by the peephole pass, " +
+			m_nDelaySlotsFilled + " delay slots filled)" +
+			", bytes written " + m_nBytes);
+	}
+
+
+	//----------------------------------------------------------------
+	//	Bytes allocated by this thread so far, or 0 if the JVM can't
+	//	say.
+	//----------------------------------------------------------------
+	private long
+	allocated ()
+	{
+		return (m_threads != null ? m_threads.getCurrentThreadAllocatedBytes () : 0);
+	}
+
+
+//----------------------------------------------------------------
+//	Instance variables
+//----------------------------------------------------------------
+	//	Indexed by phase; ACTIONS is printed as the checks.
+	private static final String[]	PHASE_NAMES = { "lex", "parse", "check", "emit" };
+
+	private String		m_strFiles;
+	private boolean		m_bPrint;
+	private CompileEvent	m_event;
+	private com.sun.management.ThreadMXBean	m_threads;
+
+	//	Indexed by phase.
+	private long[]		m_start = new long[4];
+	private long[]		m_startAlloc = new long[4];
+	private long[]		m_time = new long[4];
+	private long[]		m_alloc = new long[4];
+
+	private long		m_nTokens;
+	private long		m_nLookups;
+	private long		m_nScopesWalked;
+	private long		m_nOverloadCandidates;
+	private long		m_nInstructions;
+	private long		m_nSlotsAllocated;
+	private long		m_nPeepholeSaved;
+	private long		m_nDelaySlotsFilled;
+	private long		m_nBytes;
+}
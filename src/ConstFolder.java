@@ -0,0 +1,299 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.HashMap;
+
+
+//---------------------------------------------------------------------
+//	Compile-time evaluation of operators and casts on constants.
+//
+//	Each operator has one rule per operand kind (int, float or bool),
+//	and a binary operator's operands are first promoted to a common
+//	kind as the SPARC code would: int with float is float.  A rule
+//	gets the operands' values as that kind, so every operator folds
+//	every combination the same way.  Folded ints and floats are named
+//	by their value and bools "true" or "false"; a sign keeps the
+//	operand's name, as it reads in the source.
+//
+//	Nothing here type checks: the Operator has already accepted the
+//	operands, so a kind with no rule (a pointer, say) just isn't
+//	folded.
+//---------------------------------------------------------------------
+class ConstFolder
+{
+	public static final int		NONE = -1;
+	public static final int		INT = 0;
+	public static final int		FLOAT = 1;
+	public static final int		BOOL = 2;
+
+
+	//----------------------------------------------------------------
+	//	a strOp b as a constant, an ErrorSTO if that divides by zero,
+	//	or null if it can't be known at compile time.  && and || fold
+	//	with only one side constant if that side settles them.
+	//----------------------------------------------------------------
+	public static STO
+	fold (String strOp, STO a, STO b)
+	{
+		if (strOp.equals ("&&") || strOp.equals ("||"))
+			return foldShortCircuit (strOp, a, b);
+
+		if (!isConst (a) || !isConst (b))
+			return null;
+
+		Binary[]	rules = m_binary.get (strOp);
+		int		nKind = promote (kind (a.getType ()), kind (b.getType ()));
+
+		if (rules == null || nKind == NONE || rules[nKind] == null)
+			return null;
+		return rules[nKind].apply ((ConstSTO) a, (ConstSTO) b);
+	}
+
+	//----------------------------------------------------------------
+	//	strOp a (!, - or +) as a constant, or null.
+	//----------------------------------------------------------------
+	public static STO
+	fold (String strOp, STO a)
+	{
+		if (!isConst (a))
+			return null;
+
+		Unary[]		rules = m_unary.get (strOp);
+		int		nKind = kind (a.getType ());
+
+		if (rules == null || nKind == NONE || rules[nKind] == null)
+			return null;
+		return rules[nKind].apply ((ConstSTO) a);
+	}
+
+	//----------------------------------------------------------------
+	//	(typ) a as a constant of typ, a itself if it's already of
+	//	typ's kind, or null if a isn't constant or typ isn't basic.
+	//----------------------------------------------------------------
+	public static STO
+	cast (Type typ, STO a)
+	{
+		if (!isConst (a))
+			return null;
+
+		ConstSTO	con = (ConstSTO) a;
+		int		nTo = kind (typ);
+		int		nFrom = kind (a.getType ());
+
+		if (nTo == NONE || nFrom == NONE)
+			return null;
+		if (nTo == nFrom)
+			return a;
+
+		switch (nTo)
+		{
+		case INT:
+			return new ConstSTO (a.getName (), typ,
+				(nFrom == BOOL) ? (con.getBoolValue () ? 1 : 0) : con.getIntValue ());
+		case FLOAT:
+			return new ConstSTO (a.getName (), typ,
+				(nFrom == BOOL) ? (con.getBoolValue () ? 1.0f : 0.0f) : con.getFloatValue ());
+		default:
+			return new ConstSTO (a.getName (), typ, con.getBoolValue () ? 1 : 0);
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	Whether a, the left side of strOp (&& or ||), is a constant
+	//	that settles it without the right side: false for &&, true
+	//	for ||.
+	//----------------------------------------------------------------
+	public static boolean
+	shortCircuits (String strOp, STO a)
+	{
+		return (isConst (a) && kind (a.getType ()) == BOOL &&
+			((ConstSTO) a).getBoolValue () == strOp.equals ("||"));
+	}
+
+	//----------------------------------------------------------------
+	//	Whether sto's value is known at compile time.
+	//----------------------------------------------------------------
+	public static boolean
+	isConst (STO sto)
+	{
+		return (sto instanceof ConstSTO && ((ConstSTO) sto).hasValue ());
+	}
+
+	//----------------------------------------------------------------
+	//	The kind a value of typ folds as, or NONE.
+	//----------------------------------------------------------------
+	public static int
+	kind (Type typ)
+	{
+		if (typ instanceof IntType)
+			return INT;
+		if (typ instanceof FloatType)
+			return FLOAT;
+		if (typ instanceof BoolType)
+			return BOOL;
+		return NONE;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private static STO
+	foldShortCircuit (String strOp, STO a, STO b)
+	{
+		if (shortCircuits (strOp, a))
+			return boolConst (strOp.equals ("||"));
+		if (isConst (a) && kind (a.getType ()) == BOOL)
+		{
+			//	a doesn't settle it, so it's whatever b is.
+			if (isConst (b) && kind (b.getType ()) == BOOL)
+				return boolConst (((ConstSTO) b).getBoolValue ());
+			return null;
+		}
+
+		//	a is run regardless; only its value is thrown away.
+		if (shortCircuits (strOp, b))
+			return boolConst (strOp.equals ("||"));
+		return null;
+	}
+
+	private static int
+	promote (int nKindA, int nKindB)
+	{
+		if (nKindA == nKindB)
+			return nKindA;
+		if ((nKindA == INT && nKindB == FLOAT) || (nKindA == FLOAT && nKindB == INT))
+			return FLOAT;
+		return NONE;
+	}
+
+	private static ConstSTO
+	intConst (int n)
+	{
+		return new ConstSTO (Integer.toString (n), TypeTable.INT, n);
+	}
+
+	private static ConstSTO
+	floatConst (float f)
+	{
+		return new ConstSTO (Float.toString (f), TypeTable.FLOAT, f);
+	}
+
+	private static ConstSTO
+	boolConst (boolean b)
+	{
+		return (b ? new ConstSTO ("true", TypeTable.BOOL, 1) : new ConstSTO ("false", TypeTable.BOOL, 0));
+	}
+
+
+	//----------------------------------------------------------------
+	//	The rule for one operator and one kind of operand.
+	//----------------------------------------------------------------
+	private interface Binary
+	{
+		STO apply (ConstSTO a, ConstSTO b);
+	}
+
+	private interface Unary
+	{
+		STO apply (ConstSTO a);
+	}
+
+	private static void
+	binary (String strOp, Binary intRule, Binary floatRule, Binary boolRule)
+	{
+		m_binary.put (strOp, new Binary[] { intRule, floatRule, boolRule });
+	}
+
+	private static void
+	unary (String strOp, Unary intRule, Unary floatRule, Unary boolRule)
+	{
+		m_unary.put (strOp, new Unary[] { intRule, floatRule, boolRule });
+	}
+
+
+	private static final HashMap<String, Binary[]>	m_binary = new HashMap<String, Binary[]> ();
+	private static final HashMap<String, Unary[]>	m_unary = new HashMap<String, Unary[]> ();
+
+	static
+	{
+		binary ("+",
+			(a, b) -> intConst (a.getIntValue () + b.getIntValue ()),
+			(a, b) -> floatConst (a.getFloatValue () + b.getFloatValue ()),
+			null);
+		binary ("-",
+			(a, b) -> intConst (a.getIntValue () - b.getIntValue ()),
+			(a, b) -> floatConst (a.getFloatValue () - b.getFloatValue ()),
+			null);
+		binary ("*",
+			(a, b) -> intConst (a.getIntValue () * b.getIntValue ()),
+			(a, b) -> floatConst (a.getFloatValue () * b.getFloatValue ()),
+			null);
+		binary ("/",
+			(a, b) -> (b.getIntValue () == 0) ? new ErrorSTO ("Divide-by-zero") :
+				intConst (a.getIntValue () / b.getIntValue ()),
+			(a, b) -> (b.getFloatValue () == 0.0f) ? new ErrorSTO ("Divide-by-zero") :
+				floatConst (a.getFloatValue () / b.getFloatValue ()),
+			null);
+		binary ("%",
+			(a, b) -> (b.getIntValue () == 0) ? new ErrorSTO ("Mod-by-zero") :
+				intConst (a.getIntValue () % b.getIntValue ()),
+			null,
+			null);
+
+		binary ("&",
+			(a, b) -> intConst (a.getIntValue () & b.getIntValue ()),
+			null,
+			null);
+		binary ("|",
+			(a, b) -> intConst (a.getIntValue () | b.getIntValue ()),
+			null,
+			null);
+		binary ("^",
+			(a, b) -> intConst (a.getIntValue () ^ b.getIntValue ()),
+			null,
+			null);
+
+		binary ("==",
+			(a, b) -> boolConst (a.getIntValue () == b.getIntValue ()),
+			(a, b) -> boolConst (a.getFloatValue () == b.getFloatValue ()),
+			(a, b) -> boolConst (a.getBoolValue () == b.getBoolValue ()));
+		binary ("!=",
+			(a, b) -> boolConst (a.getIntValue () != b.getIntValue ()),
+			(a, b) -> boolConst (a.getFloatValue () != b.getFloatValue ()),
+			(a, b) -> boolConst (a.getBoolValue () != b.getBoolValue ()));
+		binary ("<",
+			(a, b) -> boolConst (a.getIntValue () < b.getIntValue ()),
+			(a, b) -> boolConst (a.getFloatValue () < b.getFloatValue ()),
+			null);
+		binary ("<=",
+			(a, b) -> boolConst (a.getIntValue () <= b.getIntValue ()),
+			(a, b) -> boolConst (a.getFloatValue () <= b.getFloatValue ()),
+			null);
+		binary (">",
+			(a, b) -> boolConst (a.getIntValue () > b.getIntValue ()),
+			(a, b) -> boolConst (a.getFloatValue () > b.getFloatValue ()),
+			null);
+		binary (">=",
+			(a, b) -> boolConst (a.getIntValue () >= b.getIntValue ()),
+			(a, b) -> boolConst (a.getFloatValue () >= b.getFloatValue ()),
+			null);
+
+		unary ("!",
+			null,
+			null,
+			(a) -> boolConst (!a.getBoolValue ()));
+		unary ("-",
+			(a) -> new ConstSTO ("-" + a.getName (), a.getType (), -a.getIntValue ()),
+			(a) -> new ConstSTO ("-" + a.getName (), a.getType (), -a.getFloatValue ()),
+			null);
+		unary ("+",
+			(a) -> new ConstSTO ("+" + a.getName (), a.getType (), a.getIntValue ()),
+			(a) -> new ConstSTO ("+" + a.getName (), a.getType (), a.getFloatValue ()),
+			null);
+	}
+}
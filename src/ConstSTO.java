@@ -4,28 +4,29 @@
 // University of California, San Diego
 //---------------------------------------------------------------------
 
-import java.math.BigDecimal;
-
 class ConstSTO extends STO
 {
     //----------------------------------------------------------------
     //	Constants have a value, so you should store them here.
-    //	Note: We suggest using Java's BigDecimal class, which can hold
-    //	floats and ints. You can then do .floatValue() or 
-    //	.intValue() to get the corresponding value based on the
-    //	type. Booleans/Ptrs can easily be handled by ints.
-    //	Feel free to change this if you don't like it!
+    //	An int value is kept as is and a float value as its bits, with
+    //	the kind saying which, so a constant is nothing more than the
+    //	STO.  Floats are only ever single precision, as on the SPARC.
     //----------------------------------------------------------------
-    private BigDecimal		m_value;
+    private byte		m_kind;
+    private int			m_nBits;
     private boolean LitTag = false;
 
+    private static final byte	NO_VALUE = 0;
+    private static final byte	INT_VALUE = 1;
+    private static final byte	FLOAT_VALUE = 2;
+
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
 	public ConstSTO(String strName)
 	{
 		super(strName);
-		m_value = null; // fix this
+		m_kind = NO_VALUE;
 		// You may want to change the isModifiable and isAddressable
 		// fields as necessary
         this.setIsAddressable(true);
@@ -36,7 +37,7 @@ class ConstSTO extends STO
 		super(strName, typ);
 
 
-		m_value = null; // fix this
+		m_kind = NO_VALUE;
 
 		// You may want to change the isModifiable and isAddressable
 		// fields as necessary
@@ -46,21 +47,32 @@ class ConstSTO extends STO
 	public ConstSTO(String strName, Type typ, int val)
 	{
 		super(strName, typ);
-		m_value = new BigDecimal(val); 
+		m_kind = INT_VALUE;
+		m_nBits = val;
         this.setIsAddressable(true);
 		// You may want to change the isModifiable and isAddressable
 		// fields as necessary
 	}
 
-	public ConstSTO(String strName, Type typ, double val)
+	public ConstSTO(String strName, Type typ, float val)
 	{
 		super(strName, typ);
-		m_value = new BigDecimal(val);
+		m_kind = FLOAT_VALUE;
+		m_nBits = Float.floatToRawIntBits(val);
         this.setIsAddressable(true);
 		// You may want to change the isModifiable and isAddressable
 		// fields as necessary
 	}
 
+	//----------------------------------------------------------------
+	//	Rounded to single precision once, like a double literal in a
+	//	float context.
+	//----------------------------------------------------------------
+	public ConstSTO(String strName, Type typ, double val)
+	{
+		this(strName, typ, (float) val);
+	}
+
 
 	//----------------------------------------------------------------
 	//
@@ -71,35 +83,52 @@ class ConstSTO extends STO
 	}
 
 	//----------------------------------------------------------------
-	//
+	//	A float is converted as fstoi does: toward zero, saturating,
+	//	and NaN giving the largest int.
 	//----------------------------------------------------------------
-	public BigDecimal getValue() 
+	public int getIntValue() 
 	{
-		return m_value;
+		if (value() == INT_VALUE)
+			return m_nBits;
+
+		float f = Float.intBitsToFloat(m_nBits);
+
+		return Float.isNaN(f) ? Integer.MAX_VALUE : (int) f;
 	}
 
 	//----------------------------------------------------------------
-	//
+	//	An int is rounded to nearest, as fitos does.
 	//----------------------------------------------------------------
-	public int getIntValue() 
+	public float getFloatValue() 
 	{
-		return m_value.intValue();
+		if (value() == INT_VALUE)
+			return (float) m_nBits;
+		return Float.intBitsToFloat(m_nBits);
 	}
 
 	//----------------------------------------------------------------
-	//
+	//	Any value but zero (or -0.0) is true.
 	//----------------------------------------------------------------
-	public float getFloatValue() 
+	public boolean getBoolValue() 
 	{
-		return m_value.floatValue();
+		if (value() == INT_VALUE)
+			return m_nBits != 0;
+		return Float.intBitsToFloat(m_nBits) != 0.0f;
 	}
 
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
-	public boolean getBoolValue() 
+	public boolean hasValue()
+	{
+		return m_kind != NO_VALUE;
+	}
+
+	private byte value()
 	{
-		return !BigDecimal.ZERO.equals(m_value);
+		if (m_kind == NO_VALUE)
+			throw new IllegalStateException("constant " + getName() + " has no value");
+		return m_kind;
 	}
 
     //---------------------------------------------------------------
@@ -0,0 +1,340 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+
+//---------------------------------------------------------------------
+//	Fills the delay slots the generator left as nops (with -O, last of
+//	the passes over the .text).
+//
+//	A call, ba or conditional branch takes the instruction just before
+//	it (before the cmp, for a conditional branch, so long as it
+//	doesn't change what's compared), which runs in the slot before
+//	control goes anywhere:
+//
+//		mov	%l0, %o1		call	printf
+//		call	printf		=>	mov	%l0, %o1
+//		nop
+//
+//	A set that's two instructions (sethi and or) leaves its sethi
+//	behind.  A branch that can't is pointed past the first
+//	instruction at its target instead, with a copy of that in the
+//	slot; a conditional branch is annulled so the copy only runs when
+//	it's taken:
+//
+//		be	L			be,a	L.d
+//		nop			=>	ld	[%fp-8], %o0
+//		...				...
+//	L:					L:
+//		ld	[%fp-8], %o0		ld	[%fp-8], %o0
+//						L.d:
+//
+//	Nothing is taken from past a label, or out of another delay slot.
+//	ret already has its restore in its slot.
+//---------------------------------------------------------------------
+class DelaySlots
+{
+	//----------------------------------------------------------------
+	//	Fills what it can in every unit of text, returning how many
+	//	slots it filled.
+	//----------------------------------------------------------------
+	public static int
+	fill (AsmSection text)
+	{
+		int	nFilled = 0;
+
+		for (ArrayList<Instruction> unit : text.getUnits ())
+			nFilled += new DelaySlots (unit).run ();
+		return nFilled;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private
+	DelaySlots (ArrayList<Instruction> unit)
+	{
+		m_unit = unit;
+		m_lines = unit.toArray (new Instruction[0]);
+		m_labelsAfter = new IdentityHashMap<Instruction, String> ();
+	}
+
+	private int
+	run ()
+	{
+		int	nFilled = 0;
+
+		//	Taking from above first, since that saves the nop on every
+		//	path; no labels are added until that's done.
+		for (int i = 0; i < m_lines.length; i++)
+		{
+			int	nSlot = emptySlot (i);
+
+			if (nSlot >= 0 && fillFromAbove (i, nSlot))
+				nFilled++;
+		}
+		for (int i = 0; i < m_lines.length; i++)
+		{
+			int	nSlot = emptySlot (i);
+
+			if (nSlot >= 0 && m_lines[i].getOp ().isBranch () && fillFromTarget (i, nSlot))
+				nFilled++;
+		}
+
+		m_unit.clear ();
+		for (Instruction insn : m_lines)
+		{
+			if (insn == null)
+				continue;
+			m_unit.add (insn);
+
+			String	strLabel = m_labelsAfter.get (insn);
+
+			if (strLabel != null)
+				m_unit.add (new Instruction (insn.getIndent () - 1, strLabel + ":"));
+		}
+		return nFilled;
+	}
+
+
+	//----------------------------------------------------------------
+	//	The line of the nop in line i's delay slot, or -1 if line i
+	//	hasn't got one.
+	//----------------------------------------------------------------
+	private int
+	emptySlot (int i)
+	{
+		Instruction	insn = m_lines[i];
+
+		if (insn == null || !insn.isInstruction () || !insn.getOp ().hasDelaySlot ())
+			return -1;
+
+		int	nSlot = next (i);
+
+		if (nSlot < 0 || m_lines[nSlot].getOp () != Opcode.NOP)
+			return -1;
+		return nSlot;
+	}
+
+	//----------------------------------------------------------------
+	//	Moves the instruction before the call or branch on line i
+	//	into its slot.
+	//----------------------------------------------------------------
+	private boolean
+	fillFromAbove (int i, int nSlot)
+	{
+		Opcode		op = m_lines[i].getOp ();
+		String[]	compared = null;
+		int		nPrev = previous (i);
+
+		//	A conditional branch leaves its compare where it is (and
+		//	fbfcc the nop the compare needs before it).
+		if (op.isBranch () && op != Opcode.BA)
+		{
+			if (nPrev >= 0 && op.name ().startsWith ("FB") && m_lines[nPrev].getOp () == Opcode.NOP)
+				nPrev = previous (nPrev);
+			if (nPrev < 0 || (m_lines[nPrev].getOp () != Opcode.CMP && m_lines[nPrev].getOp () != Opcode.FCMPS))
+				return false;
+			compared = m_lines[nPrev].getOperands ();
+			nPrev = previous (nPrev);
+		}
+		if (nPrev < 0 || !isMovable (nPrev))
+			return false;
+
+		Instruction	insn = m_lines[nPrev];
+		String[]	ops = insn.getOperands ();
+
+		if (op == Opcode.CALL)
+		{
+			for (int j = 0; j < ops.length; j++)
+			{
+				if (Peephole.mentions (ops[j], O7))
+					return false;
+			}
+		}
+		if (compared != null)
+		{
+			if (insn.getOp () == Opcode.CMP || insn.getOp () == Opcode.FCMPS)
+				return false;
+			for (int j = 0; j < compared.length; j++)
+			{
+				if (insn.getOp ().changesLast () && Peephole.mentions (compared[j], ops[ops.length - 1]))
+					return false;
+			}
+		}
+
+		int	nIndent = m_lines[nSlot].getIndent ();
+
+		if (insn.getOp () == Opcode.SET && !Peephole.isSimm13 (RegisterAllocator.parseInt (ops[0])))
+		{
+			m_lines[nPrev] = new Instruction (insn.getIndent (), Opcode.SETHI,
+				"%hi(" + ops[0] + ")", ops[1]);
+			m_lines[nSlot] = new Instruction (nIndent, Opcode.OR,
+				ops[1], "%lo(" + ops[0] + ")", ops[1]);
+			return true;
+		}
+		m_lines[nSlot] = copy (nIndent, insn);
+		m_lines[nPrev] = null;
+		return true;
+	}
+
+	//----------------------------------------------------------------
+	//	Points the branch on line i past the first instruction at its
+	//	target, with a copy of that in its slot.
+	//----------------------------------------------------------------
+	private boolean
+	fillFromTarget (int i, int nSlot)
+	{
+		Instruction	branch = m_lines[i];
+		String		strTarget = branch.getOperand (0);
+
+		//	Only the generator's own labels, which never end in ".d".
+		if (!strTarget.startsWith (LOCAL_LABEL))
+			return false;
+
+		int	nLabel = find (strTarget + ":");
+
+		if (nLabel < 0)
+			return false;
+
+		int	nFirst = nLabel;
+
+		do
+			nFirst++;
+		while (nFirst < m_lines.length &&
+			(m_lines[nFirst] == null || !m_lines[nFirst].isInstruction ()));
+		if (nFirst >= m_lines.length || !isMovable (nFirst))
+			return false;
+
+		Instruction	first = m_lines[nFirst];
+
+		if (first.getOp () == Opcode.SET && !Peephole.isSimm13 (RegisterAllocator.parseInt (first.getOperand (0))))
+			return false;
+
+		//	Labels next to each other share the one past them.
+		String	strSkip = m_labelsAfter.get (first);
+
+		if (strSkip == null)
+		{
+			strSkip = strTarget + ".d";
+			m_labelsAfter.put (first, strSkip);
+		}
+
+		Instruction	retargeted = new Instruction (branch.getIndent (), branch.getOp (), strSkip);
+
+		m_lines[i] = (branch.getOp () == Opcode.BA) ? retargeted : retargeted.annulled ();
+		m_lines[nSlot] = copy (m_lines[nSlot].getIndent (), first);
+		return true;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Whether the instruction on line i can run somewhere else: one
+	//	machine instruction that isn't a nop, doesn't change the
+	//	register window or control, and isn't in a delay slot itself.
+	//----------------------------------------------------------------
+	private boolean
+	isMovable (int i)
+	{
+		Opcode	op = m_lines[i].getOp ();
+
+		if (op.hasDelaySlot () || op == Opcode.NOP || op == Opcode.SAVE ||
+			op == Opcode.RESTORE || op.getMnemonic ().startsWith ("."))
+			return false;
+
+		int	nPrev = i;
+
+		do
+			nPrev--;
+		while (nPrev >= 0 && (m_lines[nPrev] == null || !m_lines[nPrev].isInstruction ()));
+		return (nPrev < 0 || !m_lines[nPrev].getOp ().hasDelaySlot ());
+	}
+
+	//----------------------------------------------------------------
+	//	insn at nIndent, a small set as the mov it assembles to.
+	//----------------------------------------------------------------
+	private static Instruction
+	copy (int nIndent, Instruction insn)
+	{
+		String[]	ops = insn.getOperands ().clone ();
+
+		if (insn.getOp () == Opcode.SET)
+			return new Instruction (nIndent, Opcode.MOV, ops);
+		return new Instruction (nIndent, insn.getOp (), ops);
+	}
+
+	//----------------------------------------------------------------
+	//	The line of the instruction after line i, or -1 if there's a
+	//	label first.
+	//----------------------------------------------------------------
+	private int
+	next (int i)
+	{
+		for (i++; i < m_lines.length; i++)
+		{
+			Instruction	insn = m_lines[i];
+
+			if (insn == null)
+				continue;
+			if (insn.isInstruction ())
+				return i;
+			if (insn.isLabel ())
+				return -1;
+		}
+		return -1;
+	}
+
+	//----------------------------------------------------------------
+	//	The line of the instruction before line i, or -1 if there's a
+	//	label first.
+	//----------------------------------------------------------------
+	private int
+	previous (int i)
+	{
+		for (i--; i >= 0; i--)
+		{
+			Instruction	insn = m_lines[i];
+
+			if (insn == null)
+				continue;
+			if (insn.isInstruction ())
+				return i;
+			if (insn.isLabel ())
+				return -1;
+		}
+		return -1;
+	}
+
+	private int
+	find (String strLabel)
+	{
+		for (int i = 0; i < m_lines.length; i++)
+		{
+			Instruction	insn = m_lines[i];
+
+			if (insn != null && strLabel.equals (insn.getText ()))
+				return i;
+		}
+		return -1;
+	}
+
+
+	private static final String	O7 = "%o7";
+	private static final String	LOCAL_LABEL = ".$$.";
+
+	private final ArrayList<Instruction>		m_unit;
+
+	//	The unit's lines, a moved one null until run puts the rest
+	//	back.
+	private final Instruction[]			m_lines;
+
+	//	The labels for past the first instruction at a branch target,
+	//	each going after the instruction it's keyed by.
+	private final IdentityHashMap<Instruction, String>	m_labelsAfter;
+}
@@ -0,0 +1,47 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	delete designator.
+//---------------------------------------------------------------------
+class DeleteNode extends Node
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	DeleteNode (ExprNode expr)
+	{
+		m_expr = expr;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		parser.DoDelete (m_expr.getSto ());
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_expr.checkAll (parser);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_expr.lower (codegen);
+		write (codegen, 0);
+	}
+
+
+	private ExprNode	m_expr;
+}
@@ -0,0 +1,51 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	*expr.
+//---------------------------------------------------------------------
+class DerefNode extends ExprNode
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	DerefNode (ExprNode expr)
+	{
+		m_expr = expr;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		STO	sto;
+
+		sto = parser.DoNullPointerCheck (m_expr.getSto ());
+		sto = parser.DoPointerCheck (sto);
+		setSto (parser.DoDereference (sto));
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_expr.checkAll (parser);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_expr.lower (codegen);
+		write (codegen, 0);
+	}
+
+
+	private ExprNode	m_expr;
+}
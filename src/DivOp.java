@@ -5,13 +5,13 @@
 
 class DivOp extends ArithmetricOp {
 
-    public DivOp(STO a,STO b, String s) {
-        super(a,b,s);
+    DivOp() {
+        super("/");
     }
 
     public STO checkOperands(STO a, STO b) {
-        typeA = a.getType();
-        typeB = b.getType();
+        Type typeA = a.getType();
+        Type typeB = b.getType();
 
         if (!(typeA instanceof NumericType)){
             return new ErrorSTO(a.getType().getName());
@@ -20,28 +20,10 @@ class DivOp extends ArithmetricOp {
             return new ErrorSTO(b.getType().getName());
         }
         else if((typeA instanceof IntType) && (typeB instanceof IntType)){
-            if(a instanceof ConstSTO && b instanceof ConstSTO) {
-                if (((ConstSTO)b).getIntValue() == 0){
-                    return new ErrorSTO("Divide-by-zero");    
-                }
-                int result = ((ConstSTO)a).getIntValue() / ((ConstSTO)b).getIntValue();
-                return new ConstSTO(Integer.toString(result), new IntType("int"),result);
-
-            }
-            return new ExprSTO(a.getName()+"/"+b.getName(), new IntType("int")); 
+            return new ExprSTO(a, "/", b, TypeTable.INT); 
         }
         else {
-
-            if(a instanceof ConstSTO && b instanceof ConstSTO) {
-                if( ((ConstSTO)b).getFloatValue() == 0.0){
-                    return new ErrorSTO("Divide-by-zero");
-                }
-                float result = ((ConstSTO)a).getFloatValue() / ((ConstSTO)b).getFloatValue();
-                return new ConstSTO(Float.toString(result), new FloatType("float"),result);
-
-            }
- 
-            return new ExprSTO(a.getName()+"/"+b.getName(), new FloatType("float"));
+            return new ExprSTO(a, "/", b, TypeTable.FLOAT);
         }
     }
  
@@ -4,16 +4,32 @@
 // University of California, San Diego
 //---------------------------------------------------------------------
 
+import java.io.PrintStream;
+
 class ErrorPrinter
 {
 	private	Lexer		m_lexer;
 	private boolean		m_lineon;
+	private PrintStream	m_out;
 
 	public ErrorPrinter(Lexer lexer, boolean lineon)
+	{
+		this(lexer, lineon, System.out);
+	}
+
+	//	Errors are printed to out instead of standard output.
+	public ErrorPrinter(Lexer lexer, boolean lineon, PrintStream out)
 	{
 		m_lexer = lexer;
 		m_lexer.setErrorPrinter(this);
 		m_lineon = lineon;
+		m_out = out;
+	}
+
+	//	Where errors are printed.
+	public PrintStream getStream()
+	{
+		return m_out;
 	}
 
 	public void print(String strMsg)
@@ -22,26 +38,33 @@ class ErrorPrinter
 	}
 
 	public void print(String strMsg, int nOffset)
+	{
+		print(m_lexer.getEPFilename(), m_lexer.getLineNumber() + nOffset, strMsg);
+	}
+
+	//	For diagnostics recorded earlier, at the position they were
+	//	found rather than wherever the lexer is now.
+	public void print(String strFile, int nLine, String strMsg)
 	{
 		if(m_lineon)
 		{
-            System.out.println(
+            m_out.println(
                 "Error, \"" +
-                m_lexer.getEPFilename() +
+                strFile +
                 "\", line " +
-                (m_lexer.getLineNumber() + nOffset) + ": "
+                nLine + ": "
             );
 
-            System.out.println("  " + strMsg);
+            m_out.println("  " + strMsg);
 		}
 		else
 		{
-		    System.out.println("Error, \"" + 
-			    m_lexer.getEPFilename() + 
+		    m_out.println("Error, \"" + 
+			    strFile + 
 			    "\": "
             );
 
-		    System.out.println("  " + strMsg);
+		    m_out.println("  " + strMsg);
 		}
 	}
 }
@@ -11,7 +11,7 @@ class ErrorSTO extends STO
 	//----------------------------------------------------------------
 	public ErrorSTO(String strName)
 	{
-		super(strName, new ErrorType());
+		super(strName, TypeTable.ERROR);
 	}
 
 	//----------------------------------------------------------------
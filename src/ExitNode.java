@@ -0,0 +1,47 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	exit (expr).
+//---------------------------------------------------------------------
+class ExitNode extends Node
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	ExitNode (ExprNode expr)
+	{
+		m_expr = expr;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		parser.DoExit (m_expr.getSto ());
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_expr.checkAll (parser);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_expr.lower (codegen);
+		write (codegen, 0);
+	}
+
+
+	private ExprNode	m_expr;
+}
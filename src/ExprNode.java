@@ -0,0 +1,48 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	An expression (or designator).  Checking it gives it its STO: the
+//	value it has, with its type, its place on the stack and whether
+//	it's an l-value, or an ErrorSTO.
+//---------------------------------------------------------------------
+abstract class ExprNode extends Node
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public STO
+	getSto ()
+	{
+		return (m_sto);
+	}
+
+	public void
+	setSto (STO sto)
+	{
+		m_sto = sto;
+	}
+
+
+	//----------------------------------------------------------------
+	//	The STOs of a list of checked expressions.
+	//----------------------------------------------------------------
+	public static Vector<STO>
+	stos (Vector<ExprNode> exprs)
+	{
+		Vector<STO>	stos = new Vector<STO> ();
+
+		for (ExprNode e : exprs)
+			stos.addElement (e.getSto ());
+		return (stos);
+	}
+
+
+	private STO		m_sto;
+}
@@ -23,6 +23,19 @@ class ExprSTO extends STO
         // fields as necessary
 	}
 
+	//----------------------------------------------------------------
+	//	An expression named for its operator and operands, as in
+	//	left op right, op right or left op (a null side is left
+	//	out).  The name isn't built unless it's asked for.
+	//----------------------------------------------------------------
+	public ExprSTO(STO left, String strOp, STO right, Type typ)
+	{
+		super(null, typ);
+		m_left = left;
+		m_strOp = strOp;
+		m_right = right;
+	}
+
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
@@ -30,4 +43,54 @@ class ExprSTO extends STO
 	{
 		return true;
 	}
+
+	//----------------------------------------------------------------
+	//	Operands more than MAX_DEPTH operators down are shown as
+	//	"...", so a name costs the same however big the expression
+	//	is.  Operands are always rendered from their parts, never
+	//	from their own cached names, or the cap wouldn't hold.
+	//----------------------------------------------------------------
+	public String getName()
+	{
+		String	strName = super.getName();
+
+		if (strName == null && m_strOp != null)
+		{
+			StringBuilder	sb = new StringBuilder();
+
+			appendName(sb, MAX_DEPTH);
+			strName = sb.toString();
+			setName(strName);
+		}
+		return strName;
+	}
+
+	private void appendName(StringBuilder sb, int nDepth)
+	{
+		if (nDepth == 0)
+		{
+			sb.append("...");
+			return;
+		}
+		appendOperand(sb, m_left, nDepth - 1);
+		sb.append(m_strOp);
+		appendOperand(sb, m_right, nDepth - 1);
+	}
+
+	private static void appendOperand(StringBuilder sb, STO sto, int nDepth)
+	{
+		if (sto == null)
+			return;
+		if (sto instanceof ExprSTO && ((ExprSTO) sto).m_strOp != null)
+			((ExprSTO) sto).appendName(sb, nDepth);
+		else
+			sb.append(sto.getName());
+	}
+
+
+	private static final int	MAX_DEPTH = 32;
+
+	private STO	m_left;
+	private String	m_strOp;
+	private STO	m_right;
 }
@@ -0,0 +1,51 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	designator.id: a struct's field or function.
+//---------------------------------------------------------------------
+class FieldNode extends ExprNode
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	FieldNode (ExprNode expr, String strID)
+	{
+		m_expr = expr;
+		m_strID = strID;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		parser.getName (m_strID);
+		parser.setCallingStruct (m_expr.getSto ());
+		setSto (parser.DoDesignator2_Dot (m_expr.getSto (), m_strID));
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_expr.checkAll (parser);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_expr.lower (codegen);
+		write (codegen, 0);
+	}
+
+
+	private ExprNode	m_expr;
+	private String		m_strID;
+}
@@ -0,0 +1,81 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	foreach (type [&] id : expr) block.  Phase 0 declares id in a
+//	scope of its own, phase 1 closes it.
+//---------------------------------------------------------------------
+class ForeachNode extends Node
+{
+	//----------------------------------------------------------------
+	//	strRef is "&" or "".
+	//----------------------------------------------------------------
+	public
+	ForeachNode (TypeNode type, String strRef, String strID, ExprNode expr)
+	{
+		m_type = type;
+		m_strRef = strRef;
+		m_strID = strID;
+		m_expr = expr;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	setBody (Node body)
+	{
+		m_body = body;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		if (nPhase == 0)
+		{
+			parser.DoBlockOpen ();
+			parser.DoInLoop ();
+			parser.DoForEachDecl (m_type.getType (), m_strRef, m_strID, m_expr.getSto ());
+		}
+		else
+		{
+			parser.CallDoForEachEnd ();
+			parser.DoExitLoop ();
+			parser.DoBlockClose ();
+		}
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_type.checkAll (parser);
+		m_expr.checkAll (parser);
+		parser.Check (this, 0);
+		m_body.checkAll (parser);
+		parser.Check (this, 1);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_expr.lower (codegen);
+		write (codegen, 0);
+		m_body.lower (codegen);
+		write (codegen, 1);
+	}
+
+
+	private TypeNode	m_type;
+	private String		m_strRef;
+	private String		m_strID;
+	private ExprNode	m_expr;
+	private Node		m_body;
+}
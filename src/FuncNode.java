@@ -0,0 +1,129 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	A function: defined, declared extern, or a struct's constructor
+//	or destructor.  Phase 0 declares it, phase 1 its parameters (a
+//	destructor has none) and phase 2 ends its body (an extern has
+//	none).
+//---------------------------------------------------------------------
+class FuncNode extends Node
+{
+	public static final int		FUNC = 0;
+	public static final int		CTOR = 1;
+	public static final int		DTOR = 2;
+	public static final int		EXTERN = 3;
+
+	//----------------------------------------------------------------
+	//	ret is null and strRef "" for constructors and destructors,
+	//	and strRef "" for externs.
+	//----------------------------------------------------------------
+	public
+	FuncNode (int nKind, TypeNode ret, String strRef, String strID)
+	{
+		m_nKind = nKind;
+		m_ret = ret;
+		m_strRef = strRef;
+		m_strID = strID;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	setParams (Vector<ParamNode> params)
+	{
+		m_params = params;
+	}
+
+	public void
+	setBody (Vector<Node> body)
+	{
+		m_body = body;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		switch (nPhase)
+		{
+			case 0:
+				if (m_nKind == FUNC)
+					parser.DoFuncDecl_3 (m_strID, m_ret.getType (), m_strRef);
+				else if (m_nKind == EXTERN)
+					parser.DoFuncDecl_1 (m_strID, m_ret.getType ());
+				else if (m_nKind == CTOR)
+					parser.DoStructorDecl (m_strID);
+				else
+					parser.DoStructorDecl ("~" + m_strID);
+				break;
+			case 1:
+				if (m_nKind == EXTERN)
+				{
+					parser.DoFormalParamsExtern (ParamNode.decls (m_params));
+					parser.DoFuncDeclExtern ();
+				}
+				else
+					parser.DoFormalParams (ParamNode.decls (m_params));
+				break;
+			default:
+				if (m_nKind == FUNC)
+					parser.MissingReturnStmt (m_ret.getType (), m_body);
+				parser.DoFuncDecl_2 ();
+				break;
+		}
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		if (m_ret != null)
+			m_ret.checkAll (parser);
+		parser.Check (this, 0);
+		if (m_nKind != DTOR)
+		{
+			Node.checkAll (parser, m_params);
+			parser.Check (this, 1);
+		}
+		if (m_nKind != EXTERN)
+		{
+			Node.checkAll (parser, m_body);
+			parser.Check (this, 2);
+		}
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		write (codegen, 0);
+		if (m_nKind != DTOR)
+		{
+			Node.lowerAll (codegen, m_params);
+			write (codegen, 1);
+		}
+		if (m_nKind != EXTERN)
+		{
+			Node.lowerAll (codegen, m_body);
+			write (codegen, 2);
+		}
+	}
+
+
+	private int		m_nKind;
+	private TypeNode	m_ret;
+	private String		m_strRef;
+	private String		m_strID;
+	private Vector<ParamNode>	m_params;
+	private Vector<Node>	m_body;
+}
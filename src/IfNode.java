@@ -0,0 +1,87 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	if expr block [else block].  Phase 0 tests expr, phase 1 comes
+//	between the blocks and phase 2 after them.
+//---------------------------------------------------------------------
+class IfNode extends Node
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	IfNode (ExprNode cond)
+	{
+		m_cond = cond;
+	}
+
+
+	//----------------------------------------------------------------
+	//	The else block is null without an else.
+	//----------------------------------------------------------------
+	public void
+	setThen (Node then)
+	{
+		m_then = then;
+	}
+
+	public void
+	setElse (Node els)
+	{
+		m_else = els;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		switch (nPhase)
+		{
+			case 0:
+				parser.DoIf (m_cond.getSto ());
+				break;
+			case 1:
+				parser.CallDoElse ();
+				break;
+			default:
+				parser.CallDoIfEnd ();
+				break;
+		}
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_cond.checkAll (parser);
+		parser.Check (this, 0);
+		m_then.checkAll (parser);
+		parser.Check (this, 1);
+		if (m_else != null)
+			m_else.checkAll (parser);
+		parser.Check (this, 2);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_cond.lower (codegen);
+		write (codegen, 0);
+		m_then.lower (codegen);
+		write (codegen, 1);
+		if (m_else != null)
+			m_else.lower (codegen);
+		write (codegen, 2);
+	}
+
+
+	private ExprNode	m_cond;
+	private Node		m_then;
+	private Node		m_else;
+}
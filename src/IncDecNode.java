@@ -0,0 +1,54 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	++ or -- before or after a designator.
+//---------------------------------------------------------------------
+class IncDecNode extends ExprNode
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	IncDecNode (String strOp, ExprNode expr, boolean bPre)
+	{
+		m_strOp = strOp;
+		m_expr = expr;
+		m_bPre = bPre;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		if (m_bPre)
+			setSto (parser.preDoIncDecCheck (m_strOp, m_expr.getSto ()));
+		else
+			setSto (parser.postDoIncDecCheck (m_strOp, m_expr.getSto ()));
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_expr.checkAll (parser);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_expr.lower (codegen);
+		write (codegen, 0);
+	}
+
+
+	private String		m_strOp;
+	private ExprNode	m_expr;
+	private boolean		m_bPre;
+}
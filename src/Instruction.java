@@ -0,0 +1,190 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+
+//---------------------------------------------------------------------
+//	One line of assembly as AssemblyCodeGenerator wrote it: an
+//	instruction or directive (an Opcode and its operands), a line of
+//	text (a label, a comment or a symbol assignment), or a blank
+//	line, each at some number of tabs in.
+//
+//	Lines are kept until the whole program has been generated, so
+//	passes over the code can look at and replace them first.
+//---------------------------------------------------------------------
+class Instruction
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	Instruction (int nIndent, Opcode op, String... operands)
+	{
+		m_nIndent = nIndent;
+		m_op = op;
+		m_operands = operands;
+		m_strText = null;
+		m_bAnnul = false;
+
+		//	An operand the generator didn't have reads "null", as it
+		//	always has in the .s file.
+		for (int i = 0; i < operands.length; i++)
+		{
+			if (operands[i] == null)
+				operands[i] = "null";
+		}
+	}
+
+	public
+	Instruction (int nIndent, String strText)
+	{
+		m_nIndent = nIndent;
+		m_op = null;
+		m_operands = NO_OPERANDS;
+		m_strText = strText;
+		m_bAnnul = false;
+	}
+
+	private
+	Instruction (Instruction insn, boolean bAnnul)
+	{
+		m_nIndent = insn.m_nIndent;
+		m_op = insn.m_op;
+		m_operands = insn.m_operands;
+		m_strText = insn.m_strText;
+		m_bAnnul = bAnnul;
+	}
+
+	//----------------------------------------------------------------
+	//	A blank line.
+	//----------------------------------------------------------------
+	public static Instruction
+	blank (int nIndent)
+	{
+		return new Instruction (nIndent, (String) null);
+	}
+
+	//----------------------------------------------------------------
+	//	This branch with its delay slot annulled (",a"): the slot only
+	//	runs if the branch is taken.
+	//----------------------------------------------------------------
+	public Instruction
+	annulled ()
+	{
+		return new Instruction (this, true);
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public Opcode
+	getOp ()
+	{
+		return m_op;
+	}
+
+	public String[]
+	getOperands ()
+	{
+		return m_operands;
+	}
+
+	public String
+	getOperand (int i)
+	{
+		return m_operands[i];
+	}
+
+	public int
+	getIndent ()
+	{
+		return m_nIndent;
+	}
+
+	//----------------------------------------------------------------
+	//	The text of a line that isn't an instruction; null for a blank
+	//	line or an instruction.
+	//----------------------------------------------------------------
+	public String
+	getText ()
+	{
+		return m_strText;
+	}
+
+	public boolean
+	isAnnulled ()
+	{
+		return m_bAnnul;
+	}
+
+	public boolean
+	isInstruction ()
+	{
+		return m_op != null;
+	}
+
+	public boolean
+	isBlank ()
+	{
+		return m_op == null && m_strText == null;
+	}
+
+	//----------------------------------------------------------------
+	//	Whether this line defines a label (which something may jump
+	//	or call to), as opposed to a comment or an assignment.
+	//----------------------------------------------------------------
+	public boolean
+	isLabel ()
+	{
+		return (m_strText != null && m_strText.endsWith (":") && !m_strText.startsWith ("!"));
+	}
+
+
+	//----------------------------------------------------------------
+	//	Appends the line, newline and all, as it reads in the .s file.
+	//----------------------------------------------------------------
+	public void
+	appendTo (StringBuilder sb)
+	{
+		for (int i = 0; i < m_nIndent; i++)
+			sb.append ('\t');
+
+		if (m_op != null)
+		{
+			sb.append (m_op.getMnemonic ());
+			if (m_bAnnul)
+				sb.append (",a");
+			sb.append ('\t');
+			for (int i = 0; i < m_operands.length; i++)
+			{
+				if (i > 0)
+					sb.append (", ");
+				sb.append (m_operands[i]);
+			}
+		}
+		else if (m_strText != null)
+			sb.append (m_strText).append ('\t');
+		sb.append ('\n');
+	}
+
+	public String
+	toString ()
+	{
+		StringBuilder	sb = new StringBuilder ();
+
+		appendTo (sb);
+		return sb.toString ();
+	}
+
+
+	private static final String[]	NO_OPERANDS = new String[0];
+
+	private final int		m_nIndent;
+	private final Opcode		m_op;
+	private final String[]		m_operands;
+	private final String		m_strText;
+	private final boolean		m_bAnnul;
+}
@@ -0,0 +1,45 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	break or continue.
+//---------------------------------------------------------------------
+class JumpNode extends Node
+{
+	public static final int		BREAK = 0;
+	public static final int		CONTINUE = 1;
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	JumpNode (int nKind)
+	{
+		m_nKind = nKind;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		if (m_nKind == BREAK)
+			parser.DoBreak ();
+		else
+			parser.DoContinue ();
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		write (codegen, 0);
+	}
+
+
+	private int		m_nKind;
+}
@@ -0,0 +1,5354 @@
+//----------------------------------------------------
+// The following code was generated by LRGen from parser.java.
+// Do not edit; run "make src/LRParser.java" after changing rc.cup.
+//----------------------------------------------------
+
+import java.util.Vector;
+
+class LRParser
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	LRParser (MyParser parser)
+	{
+		this.parser = parser;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Times each action into stats (null for none), so what parse()
+	//	spends in the actions can be told from the parse around them.
+	//----------------------------------------------------------------
+	public void
+	setStats (CompileStats stats)
+	{
+		m_stats = stats;
+	}
+
+
+	//----------------------------------------------------------------
+	//	The same shift/reduce loop as lr_parser.parse, over the packed
+	//	tables.  Each stack slot is a state, a value and the token
+	//	indices at either end.  There are no error productions, so a
+	//	syntax error always ends the parse.
+	//----------------------------------------------------------------
+	public Object
+	parse ()
+	throws Exception
+	{
+		Object		lhs = null;
+		int 		nTok = parser.scanToken ();
+		int 		nSym = parser.getTokenKind (nTok);
+		int 		nAct;
+
+		m_nTop = 0;
+		m_state[0] = 0;
+		m_left[0] = m_right[0] = -1;
+		m_value[0] = null;
+
+		for (m_bDone = false; !m_bDone; )
+		{
+			nAct = action (m_state[m_nTop], nSym);
+			if (nAct > 0)
+			{
+				push (nAct - 1, nTok, nTok, parser.getTokenValue (nTok));
+				nTok = parser.scanToken ();
+				nSym = parser.getTokenKind (nTok);
+			}
+			else if (nAct < 0)
+			{
+				int 	nProd = -nAct - 1;
+
+				if (m_stats == null)
+					doAction (nProd);
+				else
+				{
+					m_stats.begin (CompileStats.ACTIONS);
+					doAction (nProd);
+					m_stats.end (CompileStats.ACTIONS);
+				}
+				m_nTop -= PROD_RHS[nProd];
+				lhs = m_result;
+				push (goTo (m_state[m_nTop], PROD_LHS[nProd]),
+					m_nResultLeft, m_nResultRight, m_result);
+			}
+			else
+			{
+				parser.syntax_error ();
+				parser.unrecovered_syntax_error ();
+				m_bDone = true;
+			}
+		}
+
+		return (lhs);
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private void
+	push (int nState, int nLeft, int nRight, Object value)
+	{
+		if (++m_nTop == m_state.length)
+		{
+			int 	n = m_nTop * 2;
+
+			m_state = java.util.Arrays.copyOf (m_state, n);
+			m_left = java.util.Arrays.copyOf (m_left, n);
+			m_right = java.util.Arrays.copyOf (m_right, n);
+			m_value = java.util.Arrays.copyOf (m_value, n);
+		}
+
+		m_state[m_nTop] = nState;
+		m_left[m_nTop] = nLeft;
+		m_right[m_nTop] = nRight;
+		m_value[m_nTop] = value;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Shift to state n-1 if n > 0, reduce by production -n-1 if
+	//	n < 0, syntax error if 0.
+	//----------------------------------------------------------------
+	private static int
+	action (int nState, int nSym)
+	{
+		int 	i = ACTION_BASE[nState] + nSym;
+
+		return (ACTION_CHECK[i] == nState ? ACTION_NEXT[i] : ACTION_DEFAULT[nState]);
+	}
+
+	private static int
+	goTo (int nState, int nNonTerm)
+	{
+		int 	i = GOTO_BASE[nState] + nNonTerm;
+
+		return (GOTO_CHECK[i] == nState ? GOTO_NEXT[i] : GOTO_DEFAULT[nState]);
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private static int[]
+	unpack (String[] chunks)
+	{
+		int 	n = 0;
+
+		for (String s : chunks)
+			n += s.length ();
+
+		int[]	a = new int[n];
+
+		n = 0;
+		for (String s : chunks)
+			for (int i = 0; i < s.length (); i++)
+				a[n++] = (short) s.charAt (i);
+
+		return (a);
+	}
+
+
+//----------------------------------------------------------------
+//	Instance variables
+//----------------------------------------------------------------
+	private final MyParser		parser;
+
+	//	For -stats, or null.
+	private CompileStats		m_stats;
+
+	//	The parse stack.
+	private int[]			m_state = new int[256];
+	private int[]			m_left = new int[256];
+	private int[]			m_right = new int[256];
+	private Object[]		m_value = new Object[256];
+	private int 			m_nTop;
+	private boolean			m_bDone;
+
+	//	What the last action reduced to.
+	private Object			m_result;
+	private int 			m_nResultLeft;
+	private int 			m_nResultRight;
+
+
+	//----------------------------------------------------------------
+	//	One method per production, named by production number.
+	//----------------------------------------------------------------
+	private void
+	doAction (int nProd)
+	throws Exception
+	{
+		switch (nProd)
+		{
+			case 0:	action0 ();	return;
+			case 1:	action1 ();	return;
+			case 2:	action2 ();	return;
+			case 3:	action3 ();	return;
+			case 4:	action4 ();	return;
+			case 5:	action5 ();	return;
+			case 6:	action6 ();	return;
+			case 7:	action7 ();	return;
+			case 8:	action8 ();	return;
+			case 9:	action9 ();	return;
+			case 10:	action10 ();	return;
+			case 11:	action11 ();	return;
+			case 12:	action12 ();	return;
+			case 13:	action13 ();	return;
+			case 14:	action14 ();	return;
+			case 15:	action15 ();	return;
+			case 16:	action16 ();	return;
+			case 17:	action17 ();	return;
+			case 18:	action18 ();	return;
+			case 19:	action19 ();	return;
+			case 20:	action20 ();	return;
+			case 21:	action21 ();	return;
+			case 22:	action22 ();	return;
+			case 23:	action23 ();	return;
+			case 24:	action24 ();	return;
+			case 25:	action25 ();	return;
+			case 26:	action26 ();	return;
+			case 27:	action27 ();	return;
+			case 28:	action28 ();	return;
+			case 29:	action29 ();	return;
+			case 30:	action30 ();	return;
+			case 31:	action31 ();	return;
+			case 32:	action32 ();	return;
+			case 33:	action33 ();	return;
+			case 34:	action34 ();	return;
+			case 35:	action35 ();	return;
+			case 36:	action36 ();	return;
+			case 37:	action37 ();	return;
+			case 38:	action38 ();	return;
+			case 39:	action39 ();	return;
+			case 40:	action40 ();	return;
+			case 41:	action41 ();	return;
+			case 42:	action42 ();	return;
+			case 43:	action43 ();	return;
+			case 44:	action44 ();	return;
+			case 45:	action45 ();	return;
+			case 46:	action46 ();	return;
+			case 47:	action47 ();	return;
+			case 48:	action48 ();	return;
+			case 49:	action49 ();	return;
+			case 50:	action50 ();	return;
+			case 51:	action51 ();	return;
+			case 52:	action52 ();	return;
+			case 53:	action53 ();	return;
+			case 54:	action54 ();	return;
+			case 55:	action55 ();	return;
+			case 56:	action56 ();	return;
+			case 57:	action57 ();	return;
+			case 58:	action58 ();	return;
+			case 59:	action59 ();	return;
+			case 60:	action60 ();	return;
+			case 61:	action61 ();	return;
+			case 62:	action62 ();	return;
+			case 63:	action63 ();	return;
+			case 64:	action64 ();	return;
+			case 65:	action65 ();	return;
+			case 66:	action66 ();	return;
+			case 67:	action67 ();	return;
+			case 68:	action68 ();	return;
+			case 69:	action69 ();	return;
+			case 70:	action70 ();	return;
+			case 71:	action71 ();	return;
+			case 72:	action72 ();	return;
+			case 73:	action73 ();	return;
+			case 74:	action74 ();	return;
+			case 75:	action75 ();	return;
+			case 76:	action76 ();	return;
+			case 77:	action77 ();	return;
+			case 78:	action78 ();	return;
+			case 79:	action79 ();	return;
+			case 80:	action80 ();	return;
+			case 81:	action81 ();	return;
+			case 82:	action82 ();	return;
+			case 83:	action83 ();	return;
+			case 84:	action84 ();	return;
+			case 85:	action85 ();	return;
+			case 86:	action86 ();	return;
+			case 87:	action87 ();	return;
+			case 88:	action88 ();	return;
+			case 89:	action89 ();	return;
+			case 90:	action90 ();	return;
+			case 91:	action91 ();	return;
+			case 92:	action92 ();	return;
+			case 93:	action93 ();	return;
+			case 94:	action94 ();	return;
+			case 95:	action95 ();	return;
+			case 96:	action96 ();	return;
+			case 97:	action97 ();	return;
+			case 98:	action98 ();	return;
+			case 99:	action99 ();	return;
+			case 100:	action100 ();	return;
+			case 101:	action101 ();	return;
+			case 102:	action102 ();	return;
+			case 103:	action103 ();	return;
+			case 104:	action104 ();	return;
+			case 105:	action105 ();	return;
+			case 106:	action106 ();	return;
+			case 107:	action107 ();	return;
+			case 108:	action108 ();	return;
+			case 109:	action109 ();	return;
+			case 110:	action110 ();	return;
+			case 111:	action111 ();	return;
+			case 112:	action112 ();	return;
+			case 113:	action113 ();	return;
+			case 114:	action114 ();	return;
+			case 115:	action115 ();	return;
+			case 116:	action116 ();	return;
+			case 117:	action117 ();	return;
+			case 118:	action118 ();	return;
+			case 119:	action119 ();	return;
+			case 120:	action120 ();	return;
+			case 121:	action121 ();	return;
+			case 122:	action122 ();	return;
+			case 123:	action123 ();	return;
+			case 124:	action124 ();	return;
+			case 125:	action125 ();	return;
+			case 126:	action126 ();	return;
+			case 127:	action127 ();	return;
+			case 128:	action128 ();	return;
+			case 129:	action129 ();	return;
+			case 130:	action130 ();	return;
+			case 131:	action131 ();	return;
+			case 132:	action132 ();	return;
+			case 133:	action133 ();	return;
+			case 134:	action134 ();	return;
+			case 135:	action135 ();	return;
+			case 136:	action136 ();	return;
+			case 137:	action137 ();	return;
+			case 138:	action138 ();	return;
+			case 139:	action139 ();	return;
+			case 140:	action140 ();	return;
+			case 141:	action141 ();	return;
+			case 142:	action142 ();	return;
+			case 143:	action143 ();	return;
+			case 144:	action144 ();	return;
+			case 145:	action145 ();	return;
+			case 146:	action146 ();	return;
+			case 147:	action147 ();	return;
+			case 148:	action148 ();	return;
+			case 149:	action149 ();	return;
+			case 150:	action150 ();	return;
+			case 151:	action151 ();	return;
+			case 152:	action152 ();	return;
+			case 153:	action153 ();	return;
+			case 154:	action154 ();	return;
+			case 155:	action155 ();	return;
+			case 156:	action156 ();	return;
+			case 157:	action157 ();	return;
+			case 158:	action158 ();	return;
+			case 159:	action159 ();	return;
+			case 160:	action160 ();	return;
+			case 161:	action161 ();	return;
+			case 162:	action162 ();	return;
+			case 163:	action163 ();	return;
+			case 164:	action164 ();	return;
+			case 165:	action165 ();	return;
+			case 166:	action166 ();	return;
+			case 167:	action167 ();	return;
+			case 168:	action168 ();	return;
+			case 169:	action169 ();	return;
+			case 170:	action170 ();	return;
+			case 171:	action171 ();	return;
+			case 172:	action172 ();	return;
+			case 173:	action173 ();	return;
+			case 174:	action174 ();	return;
+			case 175:	action175 ();	return;
+			case 176:	action176 ();	return;
+			case 177:	action177 ();	return;
+			case 178:	action178 ();	return;
+			case 179:	action179 ();	return;
+			case 180:	action180 ();	return;
+			case 181:	action181 ();	return;
+			case 182:	action182 ();	return;
+			case 183:	action183 ();	return;
+			case 184:	action184 ();	return;
+			case 185:	action185 ();	return;
+			case 186:	action186 ();	return;
+			case 187:	action187 ();	return;
+			case 188:	action188 ();	return;
+			case 189:	action189 ();	return;
+			case 190:	action190 ();	return;
+			case 191:	action191 ();	return;
+			case 192:	action192 ();	return;
+			case 193:	action193 ();	return;
+			case 194:	action194 ();	return;
+			case 195:	action195 ();	return;
+			case 196:	action196 ();	return;
+			case 197:	action197 ();	return;
+			case 198:	action198 ();	return;
+			case 199:	action199 ();	return;
+			case 200:	action200 ();	return;
+			case 201:	action201 ();	return;
+			case 202:	action202 ();	return;
+		}
+		throw new Exception ("Invalid action number found in internal parse table");
+	}
+
+	// NT$0 ::=
+	private void
+	action0 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		((MyParser) parser).StartProgram();
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Program ::= NT$0 OptGlobalDecls
+	private void
+	action1 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$0
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Vector _1 = (Vector)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).EndProgram(_1);
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// $START ::= Program EOF
+	private void
+	action2 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int start_valleft = m_left[m_nTop-1];
+		int start_valright = m_right[m_nTop-1];
+		Node start_val = (Node)m_value[m_nTop-1];
+		RESULT = start_val;
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+		// ACCEPT
+		m_bDone = true;
+	}
+
+	// OptGlobalDecls ::= GlobalDecls
+	private void
+	action3 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Vector _1 = (Vector)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptGlobalDecls ::=
+	private void
+	action4 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		RESULT = new Vector();
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// GlobalDecls ::= GlobalDecl
+	private void
+	action5 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = new Vector();
+		RESULT.addElement(_1);
+		((MyParser) parser).AddDecl(_1);
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// GlobalDecls ::= GlobalDecls GlobalDecl
+	private void
+	action6 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		Vector _1 = (Vector)m_value[m_nTop-1];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		Node _2 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		RESULT.addElement(_2);
+		((MyParser) parser).AddDecl(_2);
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// GlobalDecl ::= ExternDecl
+	private void
+	action7 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// GlobalDecl ::= VarDecl
+	private void
+	action8 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// GlobalDecl ::= ConstDecl
+	private void
+	action9 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// GlobalDecl ::= StructdefDecl
+	private void
+	action10 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// GlobalDecl ::= FuncDecl
+	private void
+	action11 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// GlobalDecl ::= FuncDef
+	private void
+	action12 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$1 ::=
+	private void
+	action13 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _2left = m_left[m_nTop-2];
+		int _2right = m_right[m_nTop-2];
+		TypeNode _2 = (TypeNode)m_value[m_nTop-2];
+		int _3left = m_left[m_nTop-1];
+		int _3right = m_right[m_nTop-1];
+		String _3 = (String)m_value[m_nTop-1];
+		int _4left = m_left[m_nTop-0];
+		int _4right = m_right[m_nTop-0];
+		Vector _4 = (Vector)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new VarDeclNode(VarDeclNode.EXTERN, null, _2, _3, _4, null));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ExternDecl ::= T_EXTERN DecoratedBasicType T_ID OptArrayList NT$1 T_SEMI
+	private void
+	action14 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$1
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _2left = m_left[m_nTop-4];
+		int _2right = m_right[m_nTop-4];
+		TypeNode _2 = (TypeNode)m_value[m_nTop-4];
+		int _3left = m_left[m_nTop-3];
+		int _3right = m_right[m_nTop-3];
+		String _3 = (String)m_value[m_nTop-3];
+		int _4left = m_left[m_nTop-2];
+		int _4right = m_right[m_nTop-2];
+		Vector _4 = (Vector)m_value[m_nTop-2];
+		m_nResultLeft = m_left[m_nTop-5];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$2 ::=
+	private void
+	action15 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-4];
+		int _1right = m_right[m_nTop-4];
+		String _1 = (String)m_value[m_nTop-4];
+		int _2left = m_left[m_nTop-3];
+		int _2right = m_right[m_nTop-3];
+		TypeNode _2 = (TypeNode)m_value[m_nTop-3];
+		int _3left = m_left[m_nTop-2];
+		int _3right = m_right[m_nTop-2];
+		String _3 = (String)m_value[m_nTop-2];
+		int _4left = m_left[m_nTop-1];
+		int _4right = m_right[m_nTop-1];
+		Vector _4 = (Vector)m_value[m_nTop-1];
+		int _5left = m_left[m_nTop-0];
+		int _5right = m_right[m_nTop-0];
+		ExprNode _5 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new VarDeclNode(VarDeclNode.VAR, _1, _2, _3, _4, _5));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// VarDecl ::= OptStatic DecoratedType T_ID OptArrayList OptInit NT$2 T_SEMI
+	private void
+	action16 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$2
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _1left = m_left[m_nTop-6];
+		int _1right = m_right[m_nTop-6];
+		String _1 = (String)m_value[m_nTop-6];
+		int _2left = m_left[m_nTop-5];
+		int _2right = m_right[m_nTop-5];
+		TypeNode _2 = (TypeNode)m_value[m_nTop-5];
+		int _3left = m_left[m_nTop-4];
+		int _3right = m_right[m_nTop-4];
+		String _3 = (String)m_value[m_nTop-4];
+		int _4left = m_left[m_nTop-3];
+		int _4right = m_right[m_nTop-3];
+		Vector _4 = (Vector)m_value[m_nTop-3];
+		int _5left = m_left[m_nTop-2];
+		int _5right = m_right[m_nTop-2];
+		ExprNode _5 = (ExprNode)m_value[m_nTop-2];
+		m_nResultLeft = m_left[m_nTop-6];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$3 ::=
+	private void
+	action17 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-4];
+		int _1right = m_right[m_nTop-4];
+		String _1 = (String)m_value[m_nTop-4];
+		int _3left = m_left[m_nTop-2];
+		int _3right = m_right[m_nTop-2];
+		String _3 = (String)m_value[m_nTop-2];
+		int _5left = m_left[m_nTop-0];
+		int _5right = m_right[m_nTop-0];
+		ExprNode _5 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new VarDeclNode(VarDeclNode.AUTO, _1, null, _3, null, _5));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// VarDecl ::= OptStatic T_AUTO T_ID T_ASSIGN Expr NT$3 T_SEMI
+	private void
+	action18 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$3
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _1left = m_left[m_nTop-6];
+		int _1right = m_right[m_nTop-6];
+		String _1 = (String)m_value[m_nTop-6];
+		int _3left = m_left[m_nTop-4];
+		int _3right = m_right[m_nTop-4];
+		String _3 = (String)m_value[m_nTop-4];
+		int _5left = m_left[m_nTop-2];
+		int _5right = m_right[m_nTop-2];
+		ExprNode _5 = (ExprNode)m_value[m_nTop-2];
+		m_nResultLeft = m_left[m_nTop-6];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$4 ::=
+	private void
+	action19 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-4];
+		int _1right = m_right[m_nTop-4];
+		String _1 = (String)m_value[m_nTop-4];
+		int _2left = m_left[m_nTop-3];
+		int _2right = m_right[m_nTop-3];
+		TypeNode _2 = (TypeNode)m_value[m_nTop-3];
+		int _3left = m_left[m_nTop-2];
+		int _3right = m_right[m_nTop-2];
+		String _3 = (String)m_value[m_nTop-2];
+		int _4left = m_left[m_nTop-1];
+		int _4right = m_right[m_nTop-1];
+		Vector _4 = (Vector)m_value[m_nTop-1];
+		int _5left = m_left[m_nTop-0];
+		int _5right = m_right[m_nTop-0];
+		Vector _5 = (Vector)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new VarDeclNode(_1, _2, _3, _4, _5));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// VarDecl ::= OptStatic StructType T_ID OptArrayList OptCtorCall NT$4 T_SEMI
+	private void
+	action20 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$4
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _1left = m_left[m_nTop-6];
+		int _1right = m_right[m_nTop-6];
+		String _1 = (String)m_value[m_nTop-6];
+		int _2left = m_left[m_nTop-5];
+		int _2right = m_right[m_nTop-5];
+		TypeNode _2 = (TypeNode)m_value[m_nTop-5];
+		int _3left = m_left[m_nTop-4];
+		int _3right = m_right[m_nTop-4];
+		String _3 = (String)m_value[m_nTop-4];
+		int _4left = m_left[m_nTop-3];
+		int _4right = m_right[m_nTop-3];
+		Vector _4 = (Vector)m_value[m_nTop-3];
+		int _5left = m_left[m_nTop-2];
+		int _5right = m_right[m_nTop-2];
+		Vector _5 = (Vector)m_value[m_nTop-2];
+		m_nResultLeft = m_left[m_nTop-6];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$5 ::=
+	private void
+	action21 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-5];
+		int _1right = m_right[m_nTop-5];
+		String _1 = (String)m_value[m_nTop-5];
+		int _2left = m_left[m_nTop-3];
+		int _2right = m_right[m_nTop-3];
+		TypeNode _2 = (TypeNode)m_value[m_nTop-3];
+		int _3left = m_left[m_nTop-2];
+		int _3right = m_right[m_nTop-2];
+		String _3 = (String)m_value[m_nTop-2];
+		int _5left = m_left[m_nTop-0];
+		int _5right = m_right[m_nTop-0];
+		ExprNode _5 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new VarDeclNode(VarDeclNode.CONST, _1, _2, _3, null, _5));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ConstDecl ::= OptStatic T_CONST BasicType T_ID T_ASSIGN ConstExpr NT$5 T_SEMI
+	private void
+	action22 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$5
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _1left = m_left[m_nTop-7];
+		int _1right = m_right[m_nTop-7];
+		String _1 = (String)m_value[m_nTop-7];
+		int _2left = m_left[m_nTop-5];
+		int _2right = m_right[m_nTop-5];
+		TypeNode _2 = (TypeNode)m_value[m_nTop-5];
+		int _3left = m_left[m_nTop-4];
+		int _3right = m_right[m_nTop-4];
+		String _3 = (String)m_value[m_nTop-4];
+		int _5left = m_left[m_nTop-2];
+		int _5right = m_right[m_nTop-2];
+		ExprNode _5 = (ExprNode)m_value[m_nTop-2];
+		m_nResultLeft = m_left[m_nTop-7];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$6 ::=
+	private void
+	action23 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-5];
+		int _1right = m_right[m_nTop-5];
+		String _1 = (String)m_value[m_nTop-5];
+		int _3left = m_left[m_nTop-2];
+		int _3right = m_right[m_nTop-2];
+		String _3 = (String)m_value[m_nTop-2];
+		int _5left = m_left[m_nTop-0];
+		int _5right = m_right[m_nTop-0];
+		ExprNode _5 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new VarDeclNode(VarDeclNode.CONST_AUTO, _1, null, _3, null, _5));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ConstDecl ::= OptStatic T_CONST T_AUTO T_ID T_ASSIGN ConstExpr NT$6 T_SEMI
+	private void
+	action24 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$6
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _1left = m_left[m_nTop-7];
+		int _1right = m_right[m_nTop-7];
+		String _1 = (String)m_value[m_nTop-7];
+		int _3left = m_left[m_nTop-4];
+		int _3right = m_right[m_nTop-4];
+		String _3 = (String)m_value[m_nTop-4];
+		int _5left = m_left[m_nTop-2];
+		int _5right = m_right[m_nTop-2];
+		ExprNode _5 = (ExprNode)m_value[m_nTop-2];
+		m_nResultLeft = m_left[m_nTop-7];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptStatic ::= T_STATIC
+	private void
+	action25 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "static";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptStatic ::=
+	private void
+	action26 ()
+	throws Exception
+	{
+		String RESULT = null;
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$7 ::=
+	private void
+	action27 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		String _1 = (String)m_value[m_nTop-1];
+		RESULT = ((MyParser) parser).Open(new StructdefNode(_1));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$8 ::=
+	private void
+	action28 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-4];
+		int _1right = m_right[m_nTop-4];
+		String _1 = (String)m_value[m_nTop-4];
+		int _2left = m_left[m_nTop-1];
+		int _2right = m_right[m_nTop-1];
+		Vector _2 = (Vector)m_value[m_nTop-1];
+		int _3left = m_left[m_nTop-0];
+		int _3right = m_right[m_nTop-0];
+		Vector _3 = (Vector)m_value[m_nTop-0];
+		StructdefNode node = (StructdefNode) ((MyParser) parser).Top();
+		node.setFields(_2);
+		node.setCtors(_3);
+		((MyParser) parser).Phase(1);
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$9 ::=
+	private void
+	action29 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-6];
+		int _1right = m_right[m_nTop-6];
+		String _1 = (String)m_value[m_nTop-6];
+		int _2left = m_left[m_nTop-3];
+		int _2right = m_right[m_nTop-3];
+		Vector _2 = (Vector)m_value[m_nTop-3];
+		int _3left = m_left[m_nTop-2];
+		int _3right = m_right[m_nTop-2];
+		Vector _3 = (Vector)m_value[m_nTop-2];
+		int _4left = m_left[m_nTop-0];
+		int _4right = m_right[m_nTop-0];
+		Vector _4 = (Vector)m_value[m_nTop-0];
+		((StructdefNode) ((MyParser) parser).Top()).setFuncs(_4);
+		RESULT = ((MyParser) parser).Close(2);
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// StructdefDecl ::= T_STRUCTDEF T_ID_U T_LBRACE NT$7 FieldVarsList OptCtorDtorList NT$8 OptFieldFuncsList NT$9 T_RBRACE T_SEMI
+	private void
+	action30 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$7
+		if ( m_value[m_nTop-7] != null )
+			RESULT = (Node) m_value[m_nTop-7];
+		// propagate RESULT from NT$8
+		if ( m_value[m_nTop-4] != null )
+			RESULT = (Node) m_value[m_nTop-4];
+		// propagate RESULT from NT$9
+		if ( m_value[m_nTop-2] != null )
+			RESULT = (Node) m_value[m_nTop-2];
+		int _1left = m_left[m_nTop-9];
+		int _1right = m_right[m_nTop-9];
+		String _1 = (String)m_value[m_nTop-9];
+		int _2left = m_left[m_nTop-6];
+		int _2right = m_right[m_nTop-6];
+		Vector _2 = (Vector)m_value[m_nTop-6];
+		int _3left = m_left[m_nTop-5];
+		int _3right = m_right[m_nTop-5];
+		Vector _3 = (Vector)m_value[m_nTop-5];
+		int _4left = m_left[m_nTop-3];
+		int _4right = m_right[m_nTop-3];
+		Vector _4 = (Vector)m_value[m_nTop-3];
+		m_nResultLeft = m_left[m_nTop-10];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// FieldVarsList ::= FieldVarDecl
+	private void
+	action31 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = new Vector();
+		RESULT.addElement(_1);
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// FieldVarsList ::= FieldVarsList FieldVarDecl
+	private void
+	action32 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		Vector _1 = (Vector)m_value[m_nTop-1];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		Node _2 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		RESULT.addElement(_2);
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// FieldVarDecl ::= DecoratedType T_ID OptArrayList T_SEMI
+	private void
+	action33 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-3];
+		int _1right = m_right[m_nTop-3];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-3];
+		int _2left = m_left[m_nTop-2];
+		int _2right = m_right[m_nTop-2];
+		String _2 = (String)m_value[m_nTop-2];
+		int _3left = m_left[m_nTop-1];
+		int _3right = m_right[m_nTop-1];
+		Vector _3 = (Vector)m_value[m_nTop-1];
+		RESULT = ((MyParser) parser).Reduce(new VarDeclNode(VarDeclNode.FIELD, null, _1, _2, _3, null));
+		m_nResultLeft = m_left[m_nTop-3];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptCtorDtorList ::= CtorDtorList
+	private void
+	action34 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Vector _1 = (Vector)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptCtorDtorList ::=
+	private void
+	action35 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		RESULT = new Vector();
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// CtorDtorList ::= CtorDtorDecl
+	private void
+	action36 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = new Vector();
+		RESULT.addElement(_1);
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// CtorDtorList ::= CtorDtorList CtorDtorDecl
+	private void
+	action37 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		Vector _1 = (Vector)m_value[m_nTop-1];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		Node _2 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		RESULT.addElement(_2);
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// CtorDtorDecl ::= CtorDef
+	private void
+	action38 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// CtorDtorDecl ::= DtorDef
+	private void
+	action39 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$10 ::=
+	private void
+	action40 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _3left = m_left[m_nTop-0];
+		int _3right = m_right[m_nTop-0];
+		String _3 = (String)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Open(new FuncNode(FuncNode.CTOR, null, "", _3));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$11 ::=
+	private void
+	action41 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _3left = m_left[m_nTop-4];
+		int _3right = m_right[m_nTop-4];
+		String _3 = (String)m_value[m_nTop-4];
+		int _4left = m_left[m_nTop-1];
+		int _4right = m_right[m_nTop-1];
+		Vector _4 = (Vector)m_value[m_nTop-1];
+		((FuncNode) ((MyParser) parser).Top()).setParams(_4);
+		((MyParser) parser).Phase(1);
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// CtorDef ::= T_ID_U NT$10 T_LPAREN OptParamList T_RPAREN NT$11 T_LBRACE OptStmtList T_RBRACE
+	private void
+	action42 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$10
+		if ( m_value[m_nTop-7] != null )
+			RESULT = (Node) m_value[m_nTop-7];
+		// propagate RESULT from NT$11
+		if ( m_value[m_nTop-3] != null )
+			RESULT = (Node) m_value[m_nTop-3];
+		int _3left = m_left[m_nTop-8];
+		int _3right = m_right[m_nTop-8];
+		String _3 = (String)m_value[m_nTop-8];
+		int _4left = m_left[m_nTop-5];
+		int _4right = m_right[m_nTop-5];
+		Vector _4 = (Vector)m_value[m_nTop-5];
+		int _5left = m_left[m_nTop-1];
+		int _5right = m_right[m_nTop-1];
+		Vector _5 = (Vector)m_value[m_nTop-1];
+		((FuncNode) ((MyParser) parser).Top()).setBody(_5);
+		RESULT = ((MyParser) parser).Close(2);
+		m_nResultLeft = m_left[m_nTop-8];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$12 ::=
+	private void
+	action43 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _3left = m_left[m_nTop-0];
+		int _3right = m_right[m_nTop-0];
+		String _3 = (String)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Open(new FuncNode(FuncNode.DTOR, null, "", _3));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// DtorDef ::= T_TILDE T_ID_U NT$12 T_LPAREN T_RPAREN T_LBRACE OptStmtList T_RBRACE
+	private void
+	action44 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$12
+		if ( m_value[m_nTop-5] != null )
+			RESULT = (Node) m_value[m_nTop-5];
+		int _3left = m_left[m_nTop-6];
+		int _3right = m_right[m_nTop-6];
+		String _3 = (String)m_value[m_nTop-6];
+		int _5left = m_left[m_nTop-1];
+		int _5right = m_right[m_nTop-1];
+		Vector _5 = (Vector)m_value[m_nTop-1];
+		((FuncNode) ((MyParser) parser).Top()).setBody(_5);
+		RESULT = ((MyParser) parser).Close(2);
+		m_nResultLeft = m_left[m_nTop-7];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptFieldFuncsList ::= FieldFuncsList
+	private void
+	action45 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Vector _1 = (Vector)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptFieldFuncsList ::=
+	private void
+	action46 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		RESULT = new Vector();
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// FieldFuncsList ::= FieldFuncDecl
+	private void
+	action47 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = new Vector();
+		RESULT.addElement(_1);
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// FieldFuncsList ::= FieldFuncsList FieldFuncDecl
+	private void
+	action48 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		Vector _1 = (Vector)m_value[m_nTop-1];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		Node _2 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		RESULT.addElement(_2);
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// FieldFuncDecl ::= FuncDef
+	private void
+	action49 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$13 ::=
+	private void
+	action50 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-1];
+		int _2right = m_right[m_nTop-1];
+		String _2 = (String)m_value[m_nTop-1];
+		int _3left = m_left[m_nTop-0];
+		int _3right = m_right[m_nTop-0];
+		String _3 = (String)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Open(new FuncNode(FuncNode.FUNC, _1, _2, _3));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$14 ::=
+	private void
+	action51 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-6];
+		int _1right = m_right[m_nTop-6];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-6];
+		int _2left = m_left[m_nTop-5];
+		int _2right = m_right[m_nTop-5];
+		String _2 = (String)m_value[m_nTop-5];
+		int _3left = m_left[m_nTop-4];
+		int _3right = m_right[m_nTop-4];
+		String _3 = (String)m_value[m_nTop-4];
+		int _4left = m_left[m_nTop-1];
+		int _4right = m_right[m_nTop-1];
+		Vector _4 = (Vector)m_value[m_nTop-1];
+		((FuncNode) ((MyParser) parser).Top()).setParams(_4);
+		((MyParser) parser).Phase(1);
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$15 ::=
+	private void
+	action52 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-9];
+		int _1right = m_right[m_nTop-9];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-9];
+		int _2left = m_left[m_nTop-8];
+		int _2right = m_right[m_nTop-8];
+		String _2 = (String)m_value[m_nTop-8];
+		int _3left = m_left[m_nTop-7];
+		int _3right = m_right[m_nTop-7];
+		String _3 = (String)m_value[m_nTop-7];
+		int _4left = m_left[m_nTop-4];
+		int _4right = m_right[m_nTop-4];
+		Vector _4 = (Vector)m_value[m_nTop-4];
+		int _5left = m_left[m_nTop-0];
+		int _5right = m_right[m_nTop-0];
+		Vector _5 = (Vector)m_value[m_nTop-0];
+		((FuncNode) ((MyParser) parser).Top()).setBody(_5);
+		RESULT = ((MyParser) parser).Close(2);
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// FuncDef ::= T_FUNCTION T_COLON ReturnType OptRef T_ID NT$13 T_LPAREN OptParamList T_RPAREN NT$14 T_LBRACE OptStmtList NT$15 T_RBRACE
+	private void
+	action53 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$13
+		if ( m_value[m_nTop-8] != null )
+			RESULT = (Node) m_value[m_nTop-8];
+		// propagate RESULT from NT$14
+		if ( m_value[m_nTop-4] != null )
+			RESULT = (Node) m_value[m_nTop-4];
+		// propagate RESULT from NT$15
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _1left = m_left[m_nTop-11];
+		int _1right = m_right[m_nTop-11];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-11];
+		int _2left = m_left[m_nTop-10];
+		int _2right = m_right[m_nTop-10];
+		String _2 = (String)m_value[m_nTop-10];
+		int _3left = m_left[m_nTop-9];
+		int _3right = m_right[m_nTop-9];
+		String _3 = (String)m_value[m_nTop-9];
+		int _4left = m_left[m_nTop-6];
+		int _4right = m_right[m_nTop-6];
+		Vector _4 = (Vector)m_value[m_nTop-6];
+		int _5left = m_left[m_nTop-2];
+		int _5right = m_right[m_nTop-2];
+		Vector _5 = (Vector)m_value[m_nTop-2];
+		m_nResultLeft = m_left[m_nTop-13];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$16 ::=
+	private void
+	action54 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-1];
+		int _3left = m_left[m_nTop-0];
+		int _3right = m_right[m_nTop-0];
+		String _3 = (String)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Open(new FuncNode(FuncNode.EXTERN, _1, "", _3));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$17 ::=
+	private void
+	action55 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-5];
+		int _1right = m_right[m_nTop-5];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-5];
+		int _3left = m_left[m_nTop-4];
+		int _3right = m_right[m_nTop-4];
+		String _3 = (String)m_value[m_nTop-4];
+		int _4left = m_left[m_nTop-1];
+		int _4right = m_right[m_nTop-1];
+		Vector _4 = (Vector)m_value[m_nTop-1];
+		((FuncNode) ((MyParser) parser).Top()).setParams(_4);
+		RESULT = ((MyParser) parser).Close(1);
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// FuncDecl ::= T_EXTERN T_FUNCTION T_COLON ReturnType T_ID NT$16 T_LPAREN OptParamList T_RPAREN NT$17 T_SEMI
+	private void
+	action56 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$16
+		if ( m_value[m_nTop-5] != null )
+			RESULT = (Node) m_value[m_nTop-5];
+		// propagate RESULT from NT$17
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _1left = m_left[m_nTop-7];
+		int _1right = m_right[m_nTop-7];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-7];
+		int _3left = m_left[m_nTop-6];
+		int _3right = m_right[m_nTop-6];
+		String _3 = (String)m_value[m_nTop-6];
+		int _4left = m_left[m_nTop-3];
+		int _4right = m_right[m_nTop-3];
+		Vector _4 = (Vector)m_value[m_nTop-3];
+		m_nResultLeft = m_left[m_nTop-10];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Type ::= DecoratedType
+	private void
+	action57 ()
+	throws Exception
+	{
+		TypeNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Type ::= StructType
+	private void
+	action58 ()
+	throws Exception
+	{
+		TypeNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// DecoratedType ::= DecoratedBasicType
+	private void
+	action59 ()
+	throws Exception
+	{
+		TypeNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// DecoratedType ::= StructType PointerList
+	private void
+	action60 ()
+	throws Exception
+	{
+		TypeNode RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-1];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		Vector _2 = (Vector)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new TypeNode(_1, _2));
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// DecoratedBasicType ::= BasicType OptPointerList
+	private void
+	action61 ()
+	throws Exception
+	{
+		TypeNode RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-1];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		Vector _2 = (Vector)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new TypeNode(_1, _2));
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// BasicType ::= T_INT
+	private void
+	action62 ()
+	throws Exception
+	{
+		TypeNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Object _1 = (Object)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new TypeNode(TypeTable.INT));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// BasicType ::= T_FLOAT
+	private void
+	action63 ()
+	throws Exception
+	{
+		TypeNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Object _1 = (Object)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new TypeNode(TypeTable.FLOAT));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// BasicType ::= T_BOOL
+	private void
+	action64 ()
+	throws Exception
+	{
+		TypeNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Object _1 = (Object)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new TypeNode(TypeTable.BOOL));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// StructType ::= T_ID_U
+	private void
+	action65 ()
+	throws Exception
+	{
+		TypeNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		String _1 = (String)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new TypeNode(_1));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ReturnType ::= Type
+	private void
+	action66 ()
+	throws Exception
+	{
+		TypeNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ReturnType ::= T_VOID
+	private void
+	action67 ()
+	throws Exception
+	{
+		TypeNode RESULT = null;
+		RESULT = ((MyParser) parser).Reduce(new TypeNode(TypeTable.VOID));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptPointerList ::= PointerList
+	private void
+	action68 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Vector _1 = (Vector)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptPointerList ::=
+	private void
+	action69 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		RESULT = new Vector();
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// PointerList ::= Pointer
+	private void
+	action70 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		String _1 = (String)m_value[m_nTop-0];
+		RESULT = new Vector();
+		RESULT.addElement(_1);
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// PointerList ::= PointerList Pointer
+	private void
+	action71 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		Vector _1 = (Vector)m_value[m_nTop-1];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		String _2 = (String)m_value[m_nTop-0];
+		RESULT = _1;
+		RESULT.addElement(_2);
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Pointer ::= T_STAR
+	private void
+	action72 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "*";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptArrayList ::= ArrayList
+	private void
+	action73 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Vector _1 = (Vector)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptArrayList ::=
+	private void
+	action74 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		RESULT = new Vector();
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ArrayList ::= Array
+	private void
+	action75 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = new Vector();
+		RESULT.addElement(_1);
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ArrayList ::= ArrayList Array
+	private void
+	action76 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		Vector _1 = (Vector)m_value[m_nTop-1];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		RESULT.addElement(_2);
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Array ::= T_LBRACKET ConstExpr T_RBRACKET
+	private void
+	action77 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-1];
+		RESULT =_1;
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$18 ::=
+	private void
+	action78 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		RESULT = ((MyParser) parser).Open(new BlockNode());
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$19 ::=
+	private void
+	action79 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Vector _1 = (Vector)m_value[m_nTop-0];
+		((BlockNode) ((MyParser) parser).Top()).setStmts(_1);
+		RESULT = ((MyParser) parser).Close(1);
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// CodeBlock ::= T_LBRACE NT$18 OptStmtList NT$19 T_RBRACE
+	private void
+	action80 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$18
+		if ( m_value[m_nTop-3] != null )
+			RESULT = (Node) m_value[m_nTop-3];
+		// propagate RESULT from NT$19
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		Vector _1 = (Vector)m_value[m_nTop-2];
+		m_nResultLeft = m_left[m_nTop-4];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptStmtList ::= StmtList
+	private void
+	action81 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Vector _1 = (Vector)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptStmtList ::=
+	private void
+	action82 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		RESULT = new Vector();
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// StmtList ::= Stmt
+	private void
+	action83 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = new Vector();
+		RESULT.addElement(_1);
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// StmtList ::= StmtList Stmt
+	private void
+	action84 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		Vector _1 = (Vector)m_value[m_nTop-1];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		Node _2 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		RESULT.addElement(_2);
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= VarDecl
+	private void
+	action85 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= ConstDecl
+	private void
+	action86 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= CodeBlock
+	private void
+	action87 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= Expr T_SEMI
+	private void
+	action88 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-1];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= IfStmt
+	private void
+	action89 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= WhileStmt
+	private void
+	action90 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= ForeachStmt
+	private void
+	action91 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= BreakStmt
+	private void
+	action92 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= ContinueStmt
+	private void
+	action93 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= ExitStmt
+	private void
+	action94 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= ReturnStmt
+	private void
+	action95 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= ReadStmt
+	private void
+	action96 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= WriteStmt
+	private void
+	action97 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= NewStmt
+	private void
+	action98 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Stmt ::= DeleteStmt
+	private void
+	action99 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptParamList ::= ParamList
+	private void
+	action100 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Vector _1 = (Vector)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptParamList ::=
+	private void
+	action101 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		RESULT = new Vector();
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ParamList ::= ParamDecl
+	private void
+	action102 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ParamNode _2 = (ParamNode)m_value[m_nTop-0];
+		RESULT = new Vector ();
+		RESULT.addElement (_2);
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ParamList ::= ParamList T_COMMA ParamDecl
+	private void
+	action103 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		Vector _1 = (Vector)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ParamNode _2 = (ParamNode)m_value[m_nTop-0];
+		RESULT = _1;
+		RESULT.addElement (_2);
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ParamDecl ::= Type OptRef T_ID OptArrayList
+	private void
+	action104 ()
+	throws Exception
+	{
+		ParamNode RESULT = null;
+		int _1left = m_left[m_nTop-3];
+		int _1right = m_right[m_nTop-3];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-3];
+		int _2left = m_left[m_nTop-2];
+		int _2right = m_right[m_nTop-2];
+		String _2 = (String)m_value[m_nTop-2];
+		int _3left = m_left[m_nTop-1];
+		int _3right = m_right[m_nTop-1];
+		String _3 = (String)m_value[m_nTop-1];
+		int _4left = m_left[m_nTop-0];
+		int _4right = m_right[m_nTop-0];
+		Vector _4 = (Vector)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new ParamNode(_1, _2, _3, _4));
+		m_nResultLeft = m_left[m_nTop-3];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptRef ::= T_AMPERSAND
+	private void
+	action105 ()
+	throws Exception
+	{
+		String RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Object _1 = (Object)m_value[m_nTop-0];
+		RESULT = "&";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptRef ::=
+	private void
+	action106 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "";
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptInit ::= T_ASSIGN Expr
+	private void
+	action107 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptInit ::=
+	private void
+	action108 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptCtorCall ::= CtorCall
+	private void
+	action109 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Vector _1 = (Vector)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptCtorCall ::=
+	private void
+	action110 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		RESULT = new Vector();
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// CtorCall ::= T_COLON T_LPAREN OptExprList T_RPAREN
+	private void
+	action111 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		Vector _1 = (Vector)m_value[m_nTop-1];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-3];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$20 ::=
+	private void
+	action112 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Open(new IfNode(_1));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$21 ::=
+	private void
+	action113 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		Node _2 = (Node)m_value[m_nTop-0];
+		((IfNode) ((MyParser) parser).Top()).setThen(_2);
+		((MyParser) parser).Phase(1);
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// IfStmt ::= T_IF Expr NT$20 CodeBlock NT$21 OptElse
+	private void
+	action114 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$20
+		if ( m_value[m_nTop-3] != null )
+			RESULT = (Node) m_value[m_nTop-3];
+		// propagate RESULT from NT$21
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _1left = m_left[m_nTop-4];
+		int _1right = m_right[m_nTop-4];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-4];
+		int _2left = m_left[m_nTop-2];
+		int _2right = m_right[m_nTop-2];
+		Node _2 = (Node)m_value[m_nTop-2];
+		int _3left = m_left[m_nTop-0];
+		int _3right = m_right[m_nTop-0];
+		Node _3 = (Node)m_value[m_nTop-0];
+		((IfNode) ((MyParser) parser).Top()).setElse(_3);
+		RESULT = ((MyParser) parser).Close(2);
+		m_nResultLeft = m_left[m_nTop-5];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$22 ::=
+	private void
+	action115 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		//((MyParser) parser).DoBlockOpen();
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptElse ::= T_ELSE NT$22 CodeBlock
+	private void
+	action116 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$22
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Node _1 = (Node)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptElse ::=
+	private void
+	action117 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$23 ::=
+	private void
+	action118 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		RESULT = ((MyParser) parser).Open(new WhileNode());
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$24 ::=
+	private void
+	action119 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		((WhileNode) ((MyParser) parser).Top()).setCond(_1);
+		((MyParser) parser).Phase(1);
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// WhileStmt ::= T_WHILE NT$23 Expr NT$24 CodeBlock
+	private void
+	action120 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$23
+		if ( m_value[m_nTop-3] != null )
+			RESULT = (Node) m_value[m_nTop-3];
+		// propagate RESULT from NT$24
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		Node _2 = (Node)m_value[m_nTop-0];
+		((WhileNode) ((MyParser) parser).Top()).setBody(_2);
+		RESULT = ((MyParser) parser).Close(2);
+		m_nResultLeft = m_left[m_nTop-4];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$25 ::=
+	private void
+	action121 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-5];
+		int _1right = m_right[m_nTop-5];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-5];
+		int _2left = m_left[m_nTop-4];
+		int _2right = m_right[m_nTop-4];
+		String _2 = (String)m_value[m_nTop-4];
+		int _3left = m_left[m_nTop-3];
+		int _3right = m_right[m_nTop-3];
+		String _3 = (String)m_value[m_nTop-3];
+		int _4left = m_left[m_nTop-1];
+		int _4right = m_right[m_nTop-1];
+		ExprNode _4 = (ExprNode)m_value[m_nTop-1];
+		RESULT = ((MyParser) parser).Open(new ForeachNode(_1, _2, _3, _4));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ForeachStmt ::= T_FOREACH T_LPAREN Type OptRef T_ID T_COLON Expr T_RPAREN NT$25 CodeBlock
+	private void
+	action122 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		// propagate RESULT from NT$25
+		if ( m_value[m_nTop-1] != null )
+			RESULT = (Node) m_value[m_nTop-1];
+		int _1left = m_left[m_nTop-7];
+		int _1right = m_right[m_nTop-7];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-7];
+		int _2left = m_left[m_nTop-6];
+		int _2right = m_right[m_nTop-6];
+		String _2 = (String)m_value[m_nTop-6];
+		int _3left = m_left[m_nTop-5];
+		int _3right = m_right[m_nTop-5];
+		String _3 = (String)m_value[m_nTop-5];
+		int _4left = m_left[m_nTop-3];
+		int _4right = m_right[m_nTop-3];
+		ExprNode _4 = (ExprNode)m_value[m_nTop-3];
+		int _5left = m_left[m_nTop-0];
+		int _5right = m_right[m_nTop-0];
+		Node _5 = (Node)m_value[m_nTop-0];
+		((ForeachNode) ((MyParser) parser).Top()).setBody(_5);
+		RESULT = ((MyParser) parser).Close(1);
+		m_nResultLeft = m_left[m_nTop-9];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// BreakStmt ::= T_BREAK T_SEMI
+	private void
+	action123 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		RESULT = ((MyParser) parser).Reduce(new JumpNode(JumpNode.BREAK));
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ContinueStmt ::= T_CONTINUE T_SEMI
+	private void
+	action124 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		RESULT = ((MyParser) parser).Reduce(new JumpNode(JumpNode.CONTINUE));
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ExitStmt ::= T_EXIT T_LPAREN Expr T_RPAREN T_SEMI
+	private void
+	action125 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		RESULT = ((MyParser) parser).Reduce(new ExitNode(_1));
+		m_nResultLeft = m_left[m_nTop-4];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ReturnStmt ::= T_RETURN T_SEMI
+	private void
+	action126 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		RESULT = ((MyParser) parser).Reduce(new ReturnNode(null));
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ReturnStmt ::= T_RETURN Expr T_SEMI
+	private void
+	action127 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		Object _1 = (Object)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-1];
+		int _2right = m_right[m_nTop-1];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-1];
+		RESULT = ((MyParser) parser).Reduce(new ReturnNode(_2));
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ReadStmt ::= T_CIN T_ISTREAM Designator T_SEMI
+	private void
+	action128 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-1];
+		RESULT = ((MyParser) parser).Reduce(new ReadNode(_1));
+		m_nResultLeft = m_left[m_nTop-3];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// WriteStmt ::= T_COUT T_OSTREAM WritePairList T_SEMI
+	private void
+	action129 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		Vector _1 = (Vector)m_value[m_nTop-1];
+		RESULT = new WriteNode(_1);
+		m_nResultLeft = m_left[m_nTop-3];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// WritePairList ::= WritePair
+	private void
+	action130 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = new Vector();
+		RESULT.addElement(((MyParser) parser).Reduce(new PrintNode(_1)));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// WritePairList ::= WritePairList T_OSTREAM WritePair
+	private void
+	action131 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		Vector _1 = (Vector)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		RESULT.addElement(((MyParser) parser).Reduce(new PrintNode(_2)));
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// WritePair ::= Expr
+	private void
+	action132 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// WritePair ::= T_ENDL
+	private void
+	action133 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		RESULT = ((MyParser) parser).Reduce(new LiteralNode(LiteralNode.ENDL));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ConstExpr ::= Expr
+	private void
+	action134 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptExprList ::= ExprList
+	private void
+	action135 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		Vector _1 = (Vector)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// OptExprList ::=
+	private void
+	action136 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		RESULT = new Vector();
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ExprList ::= Expr
+	private void
+	action137 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = new Vector();
+		RESULT.addElement(_1);
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// ExprList ::= ExprList T_COMMA Expr
+	private void
+	action138 ()
+	throws Exception
+	{
+		Vector RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		Vector _1 = (Vector)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		RESULT.addElement(_2);
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr ::= Designator T_ASSIGN Expr
+	private void
+	action139 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new AssignNode(_1, _2));
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr ::= Expr0
+	private void
+	action140 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$26 ::=
+	private void
+	action141 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Open(new BinaryNode(_1, OperatorTable.OR));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr0 ::= Expr0 NT$26 T_OR Expr1
+	private void
+	action142 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		// propagate RESULT from NT$26
+		if ( m_value[m_nTop-2] != null )
+			RESULT = (ExprNode) m_value[m_nTop-2];
+		int _1left = m_left[m_nTop-3];
+		int _1right = m_right[m_nTop-3];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-3];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-0];
+		((BinaryNode) ((MyParser) parser).Top()).setRhs(_2);
+		RESULT = (ExprNode) ((MyParser) parser).Close(1);
+		m_nResultLeft = m_left[m_nTop-3];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr0 ::= Expr1
+	private void
+	action143 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NT$27 ::=
+	private void
+	action144 ()
+	throws Exception
+	{
+		Object RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Open(new BinaryNode(_1, OperatorTable.AND));
+		m_nResultLeft = m_right[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr1 ::= Expr1 NT$27 T_AND Expr2
+	private void
+	action145 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		// propagate RESULT from NT$27
+		if ( m_value[m_nTop-2] != null )
+			RESULT = (ExprNode) m_value[m_nTop-2];
+		int _1left = m_left[m_nTop-3];
+		int _1right = m_right[m_nTop-3];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-3];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-0];
+		((BinaryNode) ((MyParser) parser).Top()).setRhs(_2);
+		RESULT = (ExprNode) ((MyParser) parser).Close(1);
+		m_nResultLeft = m_left[m_nTop-3];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr1 ::= Expr2
+	private void
+	action146 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr2 ::= Expr2 T_BAR Expr3
+	private void
+	action147 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.BAR, _2));
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr2 ::= Expr3
+	private void
+	action148 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr3 ::= Expr3 T_CARET Expr4
+	private void
+	action149 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.CARET, _2));
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr3 ::= Expr4
+	private void
+	action150 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr4 ::= Expr4 T_AMPERSAND Expr5
+	private void
+	action151 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.AMPERSAND, _2));
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr4 ::= Expr5
+	private void
+	action152 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr5 ::= Expr5 Equality Expr6
+	private void
+	action153 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-1];
+		int _2right = m_right[m_nTop-1];
+		String _2 = (String)m_value[m_nTop-1];
+		int _3left = m_left[m_nTop-0];
+		int _3right = m_right[m_nTop-0];
+		ExprNode _3 = (ExprNode)m_value[m_nTop-0];
+		if(_2.equals("==")) {
+		    RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.EQU, _3));
+		}
+		else if(_2.equals("!=")) {
+		    RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.NEQ, _3));
+		}
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr5 ::= Expr6
+	private void
+	action154 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr6 ::= Expr6 Relation Expr7
+	private void
+	action155 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-1];
+		int _2right = m_right[m_nTop-1];
+		String _2 = (String)m_value[m_nTop-1];
+		int _3left = m_left[m_nTop-0];
+		int _3right = m_right[m_nTop-0];
+		ExprNode _3 = (ExprNode)m_value[m_nTop-0];
+		if(_2.equals("<")) {
+		    RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.LT, _3));
+		}
+		else if(_2.equals("<=")) {
+		    RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.LTE, _3));
+		}
+		else if(_2.equals(">")) {
+		    RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.GT, _3));
+		}
+		if(_2.equals(">=")) {
+		    RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.GTE, _3));
+		}
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr6 ::= Expr7
+	private void
+	action156 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr7 ::= Expr7 AddOp Expr8
+	private void
+	action157 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-1];
+		int _2right = m_right[m_nTop-1];
+		String _2 = (String)m_value[m_nTop-1];
+		int _3left = m_left[m_nTop-0];
+		int _3right = m_right[m_nTop-0];
+		ExprNode _3 = (ExprNode)m_value[m_nTop-0];
+		if(_2.equals("+")) {
+		    RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.PLUS, _3));
+		}
+		else {
+		    RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.MINUS, _3));
+		}
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr7 ::= Expr8
+	private void
+	action158 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr8 ::= Expr8 MulOp Designator
+	private void
+	action159 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-1];
+		int _2right = m_right[m_nTop-1];
+		String _2 = (String)m_value[m_nTop-1];
+		int _3left = m_left[m_nTop-0];
+		int _3right = m_right[m_nTop-0];
+		ExprNode _3 = (ExprNode)m_value[m_nTop-0];
+		if(_2.equals("*")){
+		    RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.STAR, _3));
+		}
+		else if(_2.equals("/")){
+		    RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.SLASH, _3));
+		}
+		else{
+		    RESULT = ((MyParser) parser).Reduce(new BinaryNode(_1, OperatorTable.MOD, _3));
+		}
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Expr8 ::= Designator
+	private void
+	action160 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Equality ::= T_EQU
+	private void
+	action161 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "==";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Equality ::= T_NEQ
+	private void
+	action162 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "!=";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Relation ::= T_LT
+	private void
+	action163 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "<";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Relation ::= T_GT
+	private void
+	action164 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = ">";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Relation ::= T_LTE
+	private void
+	action165 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "<=";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Relation ::= T_GTE
+	private void
+	action166 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = ">=";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// AddOp ::= T_PLUS
+	private void
+	action167 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "+";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// AddOp ::= T_MINUS
+	private void
+	action168 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "-";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// MulOp ::= T_STAR
+	private void
+	action169 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "*";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// MulOp ::= T_SLASH
+	private void
+	action170 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "/";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// MulOp ::= T_MOD
+	private void
+	action171 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "%";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// IncDecOp ::= T_PLUSPLUS
+	private void
+	action172 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "++";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// IncDecOp ::= T_MINUSMINUS
+	private void
+	action173 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "--";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator ::= T_STAR Designator
+	private void
+	action174 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new DerefNode(_1));
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator ::= T_AMPERSAND Designator
+	private void
+	action175 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new AddressOfNode(_1));
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator ::= UnarySign Designator
+	private void
+	action176 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		String _1 = (String)m_value[m_nTop-1];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new UnaryNode(_1, _2));
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator ::= T_NOT Designator
+	private void
+	action177 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new UnaryNode("!", _1));
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator ::= T_SIZEOF T_LPAREN Designator T_RPAREN
+	private void
+	action178 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _2left = m_left[m_nTop-1];
+		int _2right = m_right[m_nTop-1];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-1];
+		RESULT = ((MyParser) parser).Reduce(new SizeofNode(_2));
+		m_nResultLeft = m_left[m_nTop-3];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator ::= T_SIZEOF T_LPAREN Type OptArrayList T_RPAREN
+	private void
+	action179 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _2left = m_left[m_nTop-2];
+		int _2right = m_right[m_nTop-2];
+		TypeNode _2 = (TypeNode)m_value[m_nTop-2];
+		int _3left = m_left[m_nTop-1];
+		int _3right = m_right[m_nTop-1];
+		Vector _3 = (Vector)m_value[m_nTop-1];
+		RESULT = ((MyParser) parser).Reduce(new SizeofNode(_2, _3));
+		m_nResultLeft = m_left[m_nTop-4];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator ::= T_LPAREN DecoratedType T_RPAREN Designator
+	private void
+	action180 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		TypeNode _1 = (TypeNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new CastNode(_1, _2));
+		m_nResultLeft = m_left[m_nTop-3];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator ::= IncDecOp Designator
+	private void
+	action181 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		String _1 = (String)m_value[m_nTop-1];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new IncDecNode(_1, _2, true));
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator ::= Designator2
+	private void
+	action182 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator2 ::= Designator2 T_DOT T_ID
+	private void
+	action183 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		int _3left = m_left[m_nTop-0];
+		int _3right = m_right[m_nTop-0];
+		String _3 = (String)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new FieldNode(_1, _3));
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator2 ::= Designator2 T_LBRACKET Expr T_RBRACKET
+	private void
+	action184 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-3];
+		int _1right = m_right[m_nTop-3];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-3];
+		int _2left = m_left[m_nTop-1];
+		int _2right = m_right[m_nTop-1];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-1];
+		RESULT = ((MyParser) parser).Reduce(new IndexNode(_1, _2));
+		m_nResultLeft = m_left[m_nTop-3];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator2 ::= Designator2 T_ARROW T_ID
+	private void
+	action185 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		String _2 = (String)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new ArrowNode(_1, _2));
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator2 ::= Designator2 IncDecOp
+	private void
+	action186 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-1];
+		int _2left = m_left[m_nTop-0];
+		int _2right = m_right[m_nTop-0];
+		String _2 = (String)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new IncDecNode(_2, _1, false));
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator2 ::= Designator2 T_LPAREN OptExprList T_RPAREN
+	private void
+	action187 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-3];
+		int _1right = m_right[m_nTop-3];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-3];
+		int _2left = m_left[m_nTop-1];
+		int _2right = m_right[m_nTop-1];
+		Vector _2 = (Vector)m_value[m_nTop-1];
+		RESULT = ((MyParser) parser).Reduce(new CallNode(_1, _2));
+		m_nResultLeft = m_left[m_nTop-3];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator2 ::= Designator3
+	private void
+	action188 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-0];
+		RESULT = _1;
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator3 ::= T_LPAREN Expr T_RPAREN
+	private void
+	action189 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _2left = m_left[m_nTop-1];
+		int _2right = m_right[m_nTop-1];
+		ExprNode _2 = (ExprNode)m_value[m_nTop-1];
+		RESULT = _2;
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator3 ::= T_INT_LITERAL
+	private void
+	action190 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		String _1 = (String)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new LiteralNode(LiteralNode.INT, _1left, _1));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator3 ::= T_FLOAT_LITERAL
+	private void
+	action191 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		String _1 = (String)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new LiteralNode(LiteralNode.FLOAT, _1left, _1));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator3 ::= T_STR_LITERAL
+	private void
+	action192 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		String _1 = (String)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new LiteralNode(LiteralNode.STR, -1, _1));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator3 ::= T_TRUE
+	private void
+	action193 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		RESULT = ((MyParser) parser).Reduce(new LiteralNode(LiteralNode.TRUE));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator3 ::= T_FALSE
+	private void
+	action194 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		RESULT = ((MyParser) parser).Reduce(new LiteralNode(LiteralNode.FALSE));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator3 ::= T_NULLPTR
+	private void
+	action195 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		RESULT = ((MyParser) parser).Reduce(new LiteralNode(LiteralNode.NULLPTR));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator3 ::= T_THIS
+	private void
+	action196 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		RESULT = ((MyParser) parser).Reduce(new ThisNode());
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator3 ::= T_COLONCOLON T_ID
+	private void
+	action197 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		String _1 = (String)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new NameNode(_1, true));
+		m_nResultLeft = m_left[m_nTop-1];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// Designator3 ::= T_ID
+	private void
+	action198 ()
+	throws Exception
+	{
+		ExprNode RESULT = null;
+		int _1left = m_left[m_nTop-0];
+		int _1right = m_right[m_nTop-0];
+		String _1 = (String)m_value[m_nTop-0];
+		RESULT = ((MyParser) parser).Reduce(new NameNode(_1, false));
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// NewStmt ::= T_NEW Designator OptCtorCall T_SEMI
+	private void
+	action199 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-2];
+		int _1right = m_right[m_nTop-2];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-2];
+		int _2left = m_left[m_nTop-1];
+		int _2right = m_right[m_nTop-1];
+		Vector _2 = (Vector)m_value[m_nTop-1];
+		RESULT = ((MyParser) parser).Reduce(new NewNode(_1, _2));
+		m_nResultLeft = m_left[m_nTop-3];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// DeleteStmt ::= T_DELETE Designator T_SEMI
+	private void
+	action200 ()
+	throws Exception
+	{
+		Node RESULT = null;
+		int _1left = m_left[m_nTop-1];
+		int _1right = m_right[m_nTop-1];
+		ExprNode _1 = (ExprNode)m_value[m_nTop-1];
+		RESULT = ((MyParser) parser).Reduce(new DeleteNode(_1));
+		m_nResultLeft = m_left[m_nTop-2];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// UnarySign ::= T_MINUS
+	private void
+	action201 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "-";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+	// UnarySign ::= T_PLUS
+	private void
+	action202 ()
+	throws Exception
+	{
+		String RESULT = null;
+		RESULT = "+";
+		m_nResultLeft = m_left[m_nTop-0];
+		m_nResultRight = m_right[m_nTop-0];
+		m_result = RESULT;
+	}
+
+
+//----------------------------------------------------------------
+//	Tables
+//----------------------------------------------------------------
+	private static final int[]	PROD_LHS = unpack (new String[] {
+		"\121\001\000\002\002\003\003\004\004\004\004\004" +
+		"\004\122\007\123\010\124\010\125\010\126\011\127" +
+		"\011\012\012\130\131\132\013\113\113\017\020\020" +
+		"\021\021\022\022\133\134\014\135\015\023\023\024" +
+		"\024\025\136\137\140\005\141\142\006\102\102\103" +
+		"\103\100\077\077\077\101\104\104\114\114\115\115" +
+		"\051\112\112\111\111\052\143\144\027\116\116\117" +
+		"\117\026\026\026\026\026\026\026\026\026\026\026" +
+		"\026\026\026\026\105\105\106\106\060\016\016\046" +
+		"\046\047\047\050\145\146\030\147\031\031\150\151" +
+		"\033\152\032\034\035\036\037\037\040\041\120\120" +
+		"\076\076\042\107\107\110\110\061\061\153\062\062" +
+		"\154\063\063\064\064\065\065\066\066\067\067\070" +
+		"\070\071\071\072\072\044\044\045\045\045\045\055" +
+		"\055\056\056\056\057\057\073\073\073\073\073\073" +
+		"\073\073\073\074\074\074\074\074\074\075\075\075" +
+		"\075\075\075\075\075\075\075\053\054\043\043" });
+	private static final int[]	PROD_RHS = unpack (new String[] {
+		"\000\002\002\001\000\001\002\001\001\001\001\001" +
+		"\001\000\006\000\007\000\007\000\007\000\010\000" +
+		"\010\001\000\000\000\000\013\001\002\004\001\000" +
+		"\001\002\001\001\000\000\011\000\010\001\000\001" +
+		"\002\001\000\000\000\016\000\000\013\001\001\001" +
+		"\002\002\001\001\001\001\001\001\001\000\001\002" +
+		"\001\001\000\001\002\003\000\000\005\001\000\001" +
+		"\002\001\001\001\002\001\001\001\001\001\001\001" +
+		"\001\001\001\001\001\000\001\003\004\001\000\002" +
+		"\000\001\000\004\000\000\006\000\003\000\000\000" +
+		"\005\000\012\002\002\005\002\003\004\004\001\003" +
+		"\001\001\001\001\000\001\003\003\001\000\004\001" +
+		"\000\004\001\003\001\003\001\003\001\003\001\003" +
+		"\001\003\001\003\001\001\001\001\001\001\001\001" +
+		"\001\001\001\001\001\001\002\002\002\002\004\005" +
+		"\004\002\001\003\004\003\002\004\001\003\001\001" +
+		"\001\001\001\001\001\002\001\004\003\001\001" });
+	private static final int[]	ACTION_BASE = unpack (new String[] {
+		"\u1b1a\001\u1b2d\u1b37\u0197\u1b4a\007\040\055\u1b65\163\u1b78" +
+		"\u1b82\u1b95\u1bb0\003\u1bc3\u1bcd\047\217\060\101\325\u02ef" +
+		"\020\166\u0333\u0377\134\135\005\u1419\u11e8\u11b0\u130f\u0c38" +
+		"\u1ac8\u1002\u0c70\u0ca8\u0c4a\u0cba\u0ce0\063\u0d2a\u0d9a\u0e0a\u0d18" +
+		"\u143a\u0d50\u015c\u0d88\u1467\061\012\u0dc0\u1488\u14b5\u1212\u019f" +
+		"\u14d6\u1503\u0df8\145\u0e30\u1524\u0ff0\u0e68\u1028\161\172\206" +
+		"\u0ea0\u1551\u1060\u03bb\u03ff\u0443\u0487\u1098\u10d0\u123f\215\u04cb" +
+		"\067\263\u1572\226\u0142\u0c0b\u0fde\u1108\262\u1086\u1140\u1178" +
+		"\270\u159f\u1267\u0dd2\004\u15c0\u0d62\u15ed\u0cf2\u160e\u0c82\u163b" +
+		"\u103a\u165c\u1689\u16aa\u1aee\u16d7\u16f8\u1725\u1746\u1773\u1339\u1794" +
+		"\u17c1\u17e2\u129f\u180f\u1830\u185d\u187e\u12d7\271\000\u18ab\u134c" +
+		"\u0ed8\254\275\u0f10\u0f48\307\313\300\u0f80\u18cc\320\336" +
+		"\u0fb8\u18f9\u0e42\017\u191a\u0100\u0121\106\002\032\013\u012e" +
+		"\u0135\u0136\214\u1379\323\u013a\021\u1947\u013e\u0140\322\034" +
+		"\045\u0146\u1968\u015a\u016f\u0118\371\u050f\u0179\u0279\u02bd\u018e" +
+		"\u0170\u021c\154\u0180\u0260\u014b\u0176\u02a4\022\u01d3\u01d8\u0217" +
+		"\075\353\u0103\u010f\u0110\u0189\u018c\u019d\u1be0\u0122\u019b\u025b" +
+		"\u01b5\u11f9\230\u0116\u012d\u01a6\u01bb\u01c4\u02a8\u02ec\u0330\u1995" +
+		"\u01b9\u19b6\u01b4\u0374\u139a\u03b8\u03fc\u0440\u19e3\u0484\u04c8\u050c" +
+		"\u01d0\u0550\u01bc\u01c6\u01d5\u0594\u05d8\u061c\u01c7\u0660\u01d6\u06a4" +
+		"\u1a04\u06e8\u072c\u01dd\u01df\u01dc\u0220\u0770\u01e0\u01e4\u07b4\u02e8" +
+		"\257\u01cd\u01ce\011\u1a31\u01e3\u01e9\u0201\u07f8\u083c\u1a52\u01f0" +
+		"\u01f1\u0880\u029f\u08c4\u1a7f\u01f4\u0908\u094c\151\u01f6\u0990\u09d4" +
+		"\u01fc\u0203\u0264\u0207\u0a18\u0a5c\u0aa0\u0208\u0ae4\u13cb\213\261" +
+		"\354\367\u13ec\u0b28\u0117\u1aa0\u021f\u0221\u0b6c\u0301\u0163\u0202" +
+		"\212\u0165\u0226\u022b\u0210\u0233\u0bb0\u0224\u02e3\u10a9\u0137\u016b" +
+		"\u016c\u0218\u0243\u0245\u121b\u0236\u024c\u024e\u0bf4\u0240\u0247\u1aff" +
+		"\027\u023e\u0184\u024f\u0251\u1bfb\u10e1\u0246\u0265\u026a\u136a\u026b" +
+		"\u0275\u0277\u1c0e\014" });
+	private static final int[]	ACTION_DEFAULT = unpack (new String[] {
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000" });
+	private static final int[]	ACTION_CHECK = unpack (new String[] {
+		"\201\001\201\017\uffff\uffff\201\144\201\201\036\201" +
+		"\u0153\201\230\201\201\201\201\006\223\377\242\201" +
+		"\201\201\201\201\201\uffff\uffff\201\201\247\201\u0144" +
+		"\201\230\231\201\201\022\250\201\201\201\066\232" +
+		"\201\201\201\010\201\010\274\201\230\201\201\201" +
+		"\010\201\201\247\201\201\201\201\201\201\227\010" +
+		"\227\030\022\274\227\010\227\227\231\227\247\227" +
+		"\030\227\227\227\227\300\124\250\022\227\227\227" +
+		"\227\227\227\007\065\227\227\065\227\053\227\022" +
+		"\124\227\227\300\010\227\227\227\024\u0110\227\227" +
+		"\227\012\227\012\031\227\031\227\227\227\012\227" +
+		"\227\025\227\227\227\227\227\227\236\012\236\266" +
+		"\031\023\236\012\236\236\031\236\u012c\236\316\236" +
+		"\236\236\236\u0110\034\035\266\236\236\236\236\236" +
+		"\236\077\105\236\236\u012c\236\106\236\374\023\236" +
+		"\236\125\012\236\236\236\u011e\107\236\236\236\u012c" +
+		"\236\u011e\122\236\023\236\236\236\023\236\236\127" +
+		"\236\236\236\236\236\236\246\023\246\211\125\026" +
+		"\246\212\246\246\316\246\216\246\u011f\246\246\246" +
+		"\246\134\140\u011f\125\246\246\246\246\246\246\200" +
+		"\205\246\246\374\246\213\246\125\026\246\246\256" +
+		"\211\246\246\246\212\206\246\246\246\216\246\301" +
+		"\240\246\026\246\246\246\026\246\246\217\246\246" +
+		"\246\246\246\246\255\026\255\u0120\256\301\255\302" +
+		"\255\255\u0120\255\317\255\u0121\255\255\255\255\303" +
+		"\304\u0121\256\255\255\255\255\255\255\302\225\255" +
+		"\255\u0136\255\320\255\256\311\255\255\303\304\255" +
+		"\255\255\u0124\130\255\255\255\317\255\u0124\130\255" +
+		"\130\255\255\255\311\255\255\226\255\255\255\255" +
+		"\255\255\062\062\062\062\320\062\233\130\062\271" +
+		"\062\062\062\234\235\u0137\u0138\062\241\u012a\062\u012d" +
+		"\244\062\245\130\130\062\062\u0136\251\271\062\062" +
+		"\062\062\062\062\062\062\062\271\062\062\062\062" +
+		"\062\062\271\062\253\062\062\062\062\062\263\062" +
+		"\u012a\062\u012d\260\062\062\062\004\062\073\073\073" +
+		"\073\254\073\u0146\263\073\263\073\073\073\263\u0137" +
+		"\u0138\004\073\004\264\073\267\004\073\272\u0146\305" +
+		"\073\073\306\312\263\073\073\073\073\073\073\073" +
+		"\073\073\263\073\073\073\073\073\073\263\073\307" +
+		"\073\073\073\073\073\314\073\321\073\322\365\073" +
+		"\073\073\365\073\365\365\323\365\330\365\332\365" +
+		"\365\365\365\275\365\344\346\365\276\365\365\365" +
+		"\347\350\356\365\365\354\365\363\365\364\370\365" +
+		"\365\275\371\365\365\365\276\u0102\365\365\365\275" +
+		"\365\375\376\365\276\365\275\365\u0101\365\365\276" +
+		"\365\365\365\365\365\365\366\u0103\265\u0107\366\u0108" +
+		"\366\366\u010d\366\u0111\366\u0114\366\366\366\366\277" +
+		"\366\u0115\265\366\265\366\366\366\265\u0117\u011b\366" +
+		"\366\u0126\366\u0127\366\u0130\u012b\366\366\277\u012e\366" +
+		"\366\366\265\u012f\366\366\366\277\366\u0131\u0133\366" +
+		"\265\366\277\366\u0139\366\366\265\366\366\366\366" +
+		"\366\366\u0116\u013a\270\u013b\u0116\u013d\u0116\u0116\u013e\u0116" +
+		"\u013f\u0116\u0141\u0116\u0116\u0116\u0116\313\u0116\u0142\270\u0116" +
+		"\270\u0116\u0116\u0116\270\261\u0145\u0116\u0116\u0147\u0116\u0148" +
+		"\u0116\u014c\u014b\u0116\u0116\313\u014d\u0116\u0116\u0116\270\261" +
+		"\u0116\u0116\u0116\313\u0116\261\uffff\u0116\270\u0116\313\u0116" +
+		"\u014f\u0116\u0116\270\u0116\u0116\u0116\u0116\u0116\u0116\324\u0150" +
+		"\273\u0151\324\uffff\324\324\uffff\324\uffff\324\uffff\324" +
+		"\324\324\324\u010a\261\uffff\273\324\273\324\324\324" +
+		"\273\262\uffff\324\324\uffff\324\uffff\324\uffff\uffff\324" +
+		"\324\u010a\uffff\324\324\324\273\262\324\324\324\u010a" +
+		"\324\262\uffff\324\273\324\u010a\324\uffff\324\324\273" +
+		"\324\324\324\324\324\324\325\uffff\373\027\325\uffff" +
+		"\325\325\uffff\325\uffff\325\uffff\325\325\325\325\u0134" +
+		"\262\uffff\373\325\uffff\325\325\325\373\u0129\uffff\325" +
+		"\325\uffff\325\uffff\325\uffff\027\325\325\u0134\uffff\325" +
+		"\325\325\uffff\u0129\325\325\325\u0134\325\u0129\uffff\325" +
+		"\027\325\u0134\325\027\325\325\373\325\325\325\325" +
+		"\325\325\326\027\uffff\032\326\uffff\326\326\uffff\326" +
+		"\uffff\326\uffff\326\326\326\326\uffff\u0129\uffff\uffff\326" +
+		"\uffff\326\326\326\uffff\uffff\uffff\326\326\uffff\326\uffff" +
+		"\326\uffff\032\326\326\uffff\uffff\326\326\326\uffff\uffff" +
+		"\326\326\326\uffff\326\uffff\uffff\326\032\326\uffff\326" +
+		"\032\326\326\uffff\326\326\326\326\326\326\333\032" +
+		"\uffff\033\333\uffff\333\333\uffff\333\uffff\333\uffff\333" +
+		"\333\333\333\uffff\uffff\uffff\uffff\333\uffff\333\333\333" +
+		"\uffff\uffff\uffff\333\333\uffff\333\uffff\333\uffff\033\333" +
+		"\333\uffff\uffff\333\333\333\uffff\uffff\333\333\333\uffff" +
+		"\333\uffff\uffff\333\033\333\uffff\333\033\333\333\uffff" +
+		"\333\333\333\333\333\333\335\033\uffff\113\335\uffff" +
+		"\335\335\uffff\335\uffff\335\uffff\335\335\335\335\uffff" +
+		"\uffff\uffff\uffff\335\uffff\335\335\335\uffff\uffff\uffff\335" +
+		"\335\uffff\335\uffff\335\uffff\113\335\335\uffff\uffff\335" +
+		"\335\335\uffff\uffff\335\335\335\uffff\335\uffff\uffff\335" +
+		"\113\335\uffff\335\113\335\335\uffff\335\335\335\335" +
+		"\335\335\336\113\uffff\114\336\uffff\336\336\uffff\336" +
+		"\uffff\336\uffff\336\336\336\336\uffff\uffff\uffff\uffff\336" +
+		"\uffff\336\336\336\uffff\uffff\uffff\336\336\uffff\336\uffff" +
+		"\336\uffff\114\336\336\uffff\uffff\336\336\336\uffff\uffff" +
+		"\336\336\336\uffff\336\uffff\uffff\336\114\336\uffff\336" +
+		"\114\336\336\uffff\336\336\336\336\336\336\337\114" +
+		"\uffff\115\337\uffff\337\337\uffff\337\uffff\337\uffff\337" +
+		"\337\337\337\uffff\uffff\uffff\uffff\337\uffff\337\337\337" +
+		"\uffff\uffff\uffff\337\337\uffff\337\uffff\337\uffff\115\337" +
+		"\337\uffff\uffff\337\337\337\uffff\uffff\337\337\337\uffff" +
+		"\337\uffff\uffff\337\115\337\uffff\337\115\337\337\uffff" +
+		"\337\337\337\337\337\337\341\115\uffff\116\341\uffff" +
+		"\341\341\uffff\341\uffff\341\uffff\341\341\341\341\uffff" +
+		"\uffff\uffff\uffff\341\uffff\341\341\341\uffff\uffff\uffff\341" +
+		"\341\uffff\341\uffff\341\uffff\116\341\341\uffff\uffff\341",
+		"\341\341\uffff\uffff\341\341\341\uffff\341\uffff\uffff\341" +
+		"\116\341\uffff\341\116\341\341\uffff\341\341\341\341" +
+		"\341\341\342\116\uffff\123\342\uffff\342\342\uffff\342" +
+		"\uffff\342\uffff\342\342\342\342\uffff\uffff\uffff\uffff\342" +
+		"\uffff\342\342\342\uffff\uffff\uffff\342\342\uffff\342\uffff" +
+		"\342\uffff\123\342\342\uffff\uffff\342\342\342\uffff\uffff" +
+		"\342\342\342\uffff\342\uffff\uffff\342\123\342\uffff\342" +
+		"\123\342\342\uffff\342\342\342\342\342\342\343\123" +
+		"\uffff\257\343\uffff\343\343\uffff\343\uffff\343\uffff\343" +
+		"\343\343\343\uffff\uffff\uffff\uffff\343\uffff\343\343\343" +
+		"\uffff\uffff\uffff\343\343\uffff\343\uffff\343\uffff\257\343" +
+		"\343\uffff\uffff\343\343\343\uffff\uffff\343\343\343\uffff" +
+		"\343\uffff\uffff\343\257\343\uffff\343\257\343\343\uffff" +
+		"\343\343\343\343\343\343\345\257\uffff\uffff\345\uffff" +
+		"\345\345\uffff\345\uffff\345\uffff\345\345\345\345\uffff" +
+		"\uffff\uffff\uffff\345\uffff\345\345\345\uffff\uffff\uffff\345" +
+		"\345\uffff\345\uffff\345\uffff\uffff\345\345\uffff\uffff\345" +
+		"\345\345\uffff\uffff\345\345\345\uffff\345\uffff\uffff\345" +
+		"\uffff\345\uffff\345\uffff\345\345\uffff\345\345\345\345" +
+		"\345\345\351\uffff\uffff\uffff\351\uffff\351\351\uffff\351" +
+		"\uffff\351\uffff\351\351\351\351\uffff\uffff\uffff\uffff\351" +
+		"\uffff\351\351\351\uffff\uffff\uffff\351\351\uffff\351\uffff" +
+		"\351\uffff\uffff\351\351\uffff\uffff\351\351\351\uffff\uffff" +
+		"\351\351\351\uffff\351\uffff\uffff\351\uffff\351\uffff\351" +
+		"\uffff\351\351\uffff\351\351\351\351\351\351\352\uffff" +
+		"\uffff\uffff\352\uffff\352\352\uffff\352\uffff\352\uffff\352" +
+		"\352\352\352\uffff\uffff\uffff\uffff\352\uffff\352\352\352" +
+		"\uffff\uffff\uffff\352\352\uffff\352\uffff\352\uffff\uffff\352" +
+		"\352\uffff\uffff\352\352\352\uffff\uffff\352\352\352\uffff" +
+		"\352\uffff\uffff\352\uffff\352\uffff\352\uffff\352\352\uffff" +
+		"\352\352\352\352\352\352\353\uffff\uffff\uffff\353\uffff" +
+		"\353\353\uffff\353\uffff\353\uffff\353\353\353\353\uffff" +
+		"\uffff\uffff\uffff\353\uffff\353\353\353\uffff\uffff\uffff\353" +
+		"\353\uffff\353\uffff\353\uffff\uffff\353\353\uffff\uffff\353" +
+		"\353\353\uffff\uffff\353\353\353\uffff\353\uffff\uffff\353" +
+		"\uffff\353\uffff\353\uffff\353\353\uffff\353\353\353\353" +
+		"\353\353\355\uffff\uffff\uffff\355\uffff\355\355\uffff\355" +
+		"\uffff\355\uffff\355\355\355\355\uffff\uffff\uffff\uffff\355" +
+		"\uffff\355\355\355\uffff\uffff\uffff\355\355\uffff\355\uffff" +
+		"\355\uffff\uffff\355\355\uffff\uffff\355\355\355\uffff\uffff" +
+		"\355\355\355\uffff\355\uffff\uffff\355\uffff\355\uffff\355" +
+		"\uffff\355\355\uffff\355\355\355\355\355\355\357\uffff" +
+		"\uffff\uffff\357\uffff\357\357\uffff\357\uffff\357\uffff\357" +
+		"\357\357\357\uffff\uffff\uffff\uffff\357\uffff\357\357\357" +
+		"\uffff\uffff\uffff\357\357\uffff\357\uffff\357\uffff\uffff\357" +
+		"\357\uffff\uffff\357\357\357\uffff\uffff\357\357\357\uffff" +
+		"\357\uffff\uffff\357\uffff\357\uffff\357\uffff\357\357\uffff" +
+		"\357\357\357\357\357\357\361\uffff\uffff\uffff\361\uffff" +
+		"\361\361\uffff\361\uffff\361\uffff\361\361\361\361\uffff" +
+		"\uffff\uffff\uffff\361\uffff\361\361\361\uffff\uffff\uffff\361" +
+		"\361\uffff\361\uffff\361\uffff\uffff\361\361\uffff\uffff\361" +
+		"\361\361\uffff\uffff\361\361\361\uffff\361\uffff\uffff\361" +
+		"\uffff\361\uffff\361\uffff\361\361\uffff\361\361\361\361" +
+		"\361\361\362\uffff\uffff\uffff\362\uffff\362\362\uffff\362" +
+		"\uffff\362\uffff\362\362\362\362\uffff\uffff\uffff\uffff\362" +
+		"\uffff\362\362\362\uffff\uffff\uffff\362\362\uffff\362\uffff" +
+		"\362\uffff\uffff\362\362\uffff\uffff\362\362\362\uffff\uffff" +
+		"\362\362\362\uffff\362\uffff\uffff\362\uffff\362\uffff\362" +
+		"\uffff\362\362\uffff\362\362\362\362\362\362\367\uffff" +
+		"\uffff\uffff\367\uffff\367\367\uffff\367\uffff\367\uffff\367" +
+		"\367\367\367\uffff\uffff\uffff\uffff\367\uffff\367\367\367" +
+		"\uffff\uffff\uffff\367\367\uffff\367\uffff\367\uffff\uffff\367" +
+		"\367\uffff\uffff\367\367\367\uffff\uffff\367\367\367\uffff" +
+		"\367\uffff\uffff\367\uffff\367\uffff\367\uffff\367\367\uffff" +
+		"\367\367\367\367\367\367\372\uffff\uffff\uffff\372\uffff" +
+		"\372\372\uffff\372\uffff\372\uffff\372\372\372\372\uffff" +
+		"\uffff\uffff\uffff\372\uffff\372\372\372\uffff\uffff\uffff\372" +
+		"\372\uffff\372\uffff\372\uffff\uffff\372\372\uffff\uffff\372" +
+		"\372\372\uffff\uffff\372\372\372\uffff\372\uffff\uffff\372" +
+		"\uffff\372\uffff\372\uffff\372\372\uffff\372\372\372\372" +
+		"\372\372\u0104\uffff\uffff\uffff\u0104\uffff\u0104\u0104\uffff\u0104" +
+		"\uffff\u0104\uffff\u0104\u0104\u0104\u0104\uffff\uffff\uffff\uffff\u0104" +
+		"\uffff\u0104\u0104\u0104\uffff\uffff\uffff\u0104\u0104\uffff\u0104\uffff" +
+		"\u0104\uffff\uffff\u0104\u0104\uffff\uffff\u0104\u0104\u0104\uffff\uffff" +
+		"\u0104\u0104\u0104\uffff\u0104\uffff\uffff\u0104\uffff\u0104\uffff\u0104" +
+		"\uffff\u0104\u0104\uffff\u0104\u0104\u0104\u0104\u0104\u0104\u0105\uffff" +
+		"\uffff\uffff\u0105\uffff\u0105\u0105\uffff\u0105\uffff\u0105\uffff\u0105" +
+		"\u0105\u0105\u0105\uffff\uffff\uffff\uffff\u0105\uffff\u0105\u0105\u0105" +
+		"\uffff\uffff\uffff\u0105\u0105\uffff\u0105\uffff\u0105\uffff\uffff\u0105" +
+		"\u0105\uffff\uffff\u0105\u0105\u0105\uffff\uffff\u0105\u0105\u0105\uffff" +
+		"\u0105\uffff\uffff\u0105\uffff\u0105\uffff\u0105\uffff\u0105\u0105\uffff" +
+		"\u0105\u0105\u0105\u0105\u0105\u0105\u0109\uffff\uffff\uffff\u0109\uffff" +
+		"\u0109\u0109\uffff\u0109\uffff\u0109\uffff\u0109\u0109\u0109\u0109\uffff" +
+		"\uffff\uffff\uffff\u0109\uffff\u0109\u0109\u0109\uffff\uffff\uffff\u0109" +
+		"\u0109\uffff\u0109\uffff\u0109\uffff\uffff\u0109\u0109\uffff\uffff\u0109" +
+		"\u0109\u0109\uffff\uffff\u0109\u0109\u0109\uffff\u0109\uffff\uffff\u0109" +
+		"\uffff\u0109\uffff\u0109\uffff\u0109\u0109\uffff\u0109\u0109\u0109\u0109" +
+		"\u0109\u0109\u010b\uffff\uffff\uffff\u010b\uffff\u010b\u010b\uffff\u010b" +
+		"\uffff\u010b\uffff\u010b\u010b\u010b\u010b\uffff\uffff\uffff\uffff\u010b" +
+		"\uffff\u010b\u010b\u010b\uffff\uffff\uffff\u010b\u010b\uffff\u010b\uffff" +
+		"\u010b\uffff\uffff\u010b\u010b\uffff\uffff\u010b\u010b\u010b\uffff\uffff" +
+		"\u010b\u010b\u010b\uffff\u010b\uffff\uffff\u010b\uffff\u010b\uffff\u010b" +
+		"\uffff\u010b\u010b\uffff\u010b\u010b\u010b\u010b\u010b\u010b\u010e\uffff" +
+		"\uffff\uffff\u010e\uffff\u010e\u010e\uffff\u010e\uffff\u010e\uffff\u010e" +
+		"\u010e\u010e\u010e\uffff\uffff\uffff\uffff\u010e\uffff\u010e\u010e\u010e" +
+		"\uffff\uffff\uffff\u010e\u010e\uffff\u010e\uffff\u010e\uffff\uffff\u010e" +
+		"\u010e\uffff\uffff\u010e\u010e\u010e\uffff\uffff\u010e\u010e\u010e\uffff" +
+		"\u010e\uffff\uffff\u010e\uffff\u010e\uffff\u010e\uffff\u010e\u010e\uffff" +
+		"\u010e\u010e\u010e\u010e\u010e\u010e\u010f\uffff\uffff\uffff\u010f\uffff" +
+		"\u010f\u010f\uffff\u010f\uffff\u010f\uffff\u010f\u010f\u010f\u010f\uffff",
+		"\uffff\uffff\uffff\u010f\uffff\u010f\u010f\u010f\uffff\uffff\uffff\u010f" +
+		"\u010f\uffff\u010f\uffff\u010f\uffff\uffff\u010f\u010f\uffff\uffff\u010f" +
+		"\u010f\u010f\uffff\uffff\u010f\u010f\u010f\uffff\u010f\uffff\uffff\u010f" +
+		"\uffff\u010f\uffff\u010f\uffff\u010f\u010f\uffff\u010f\u010f\u010f\u010f" +
+		"\u010f\u010f\u0112\uffff\uffff\uffff\u0112\uffff\u0112\u0112\uffff\u0112" +
+		"\uffff\u0112\uffff\u0112\u0112\u0112\u0112\uffff\uffff\uffff\uffff\u0112" +
+		"\uffff\u0112\u0112\u0112\uffff\uffff\uffff\u0112\u0112\uffff\u0112\uffff" +
+		"\u0112\uffff\uffff\u0112\u0112\uffff\uffff\u0112\u0112\u0112\uffff\uffff" +
+		"\u0112\u0112\u0112\uffff\u0112\uffff\uffff\u0112\uffff\u0112\uffff\u0112" +
+		"\uffff\u0112\u0112\uffff\u0112\u0112\u0112\u0112\u0112\u0112\u0113\uffff" +
+		"\uffff\uffff\u0113\uffff\u0113\u0113\uffff\u0113\uffff\u0113\uffff\u0113" +
+		"\u0113\u0113\u0113\uffff\uffff\uffff\uffff\u0113\uffff\u0113\u0113\u0113" +
+		"\uffff\uffff\uffff\u0113\u0113\uffff\u0113\uffff\u0113\uffff\uffff\u0113" +
+		"\u0113\uffff\uffff\u0113\u0113\u0113\uffff\uffff\u0113\u0113\u0113\uffff" +
+		"\u0113\uffff\uffff\u0113\uffff\u0113\uffff\u0113\uffff\u0113\u0113\uffff" +
+		"\u0113\u0113\u0113\u0113\u0113\u0113\u0118\uffff\uffff\uffff\u0118\uffff" +
+		"\u0118\u0118\uffff\u0118\uffff\u0118\uffff\u0118\u0118\u0118\u0118\uffff" +
+		"\uffff\uffff\uffff\u0118\uffff\u0118\u0118\u0118\uffff\uffff\uffff\u0118" +
+		"\u0118\uffff\u0118\uffff\u0118\uffff\uffff\u0118\u0118\uffff\uffff\u0118" +
+		"\u0118\u0118\uffff\uffff\u0118\u0118\u0118\uffff\u0118\uffff\uffff\u0118" +
+		"\uffff\u0118\uffff\u0118\uffff\u0118\u0118\uffff\u0118\u0118\u0118\u0118" +
+		"\u0118\u0118\u0119\uffff\uffff\uffff\u0119\uffff\u0119\u0119\uffff\u0119" +
+		"\uffff\u0119\uffff\u0119\u0119\u0119\u0119\uffff\uffff\uffff\uffff\u0119" +
+		"\uffff\u0119\u0119\u0119\uffff\uffff\uffff\u0119\u0119\uffff\u0119\uffff" +
+		"\u0119\uffff\uffff\u0119\u0119\uffff\uffff\u0119\u0119\u0119\uffff\uffff" +
+		"\u0119\u0119\u0119\uffff\u0119\uffff\uffff\u0119\uffff\u0119\uffff\u0119" +
+		"\uffff\u0119\u0119\uffff\u0119\u0119\u0119\u0119\u0119\u0119\u011a\uffff" +
+		"\uffff\uffff\u011a\uffff\u011a\u011a\uffff\u011a\uffff\u011a\uffff\u011a" +
+		"\u011a\u011a\u011a\uffff\uffff\uffff\uffff\u011a\uffff\u011a\u011a\u011a" +
+		"\uffff\uffff\uffff\u011a\u011a\uffff\u011a\uffff\u011a\uffff\uffff\u011a" +
+		"\u011a\uffff\uffff\u011a\u011a\u011a\uffff\uffff\u011a\u011a\u011a\uffff" +
+		"\u011a\uffff\uffff\u011a\uffff\u011a\uffff\u011a\uffff\u011a\u011a\uffff" +
+		"\u011a\u011a\u011a\u011a\u011a\u011a\u011c\uffff\uffff\uffff\u011c\uffff" +
+		"\u011c\u011c\uffff\u011c\uffff\u011c\uffff\u011c\u011c\u011c\u011c\uffff" +
+		"\uffff\uffff\uffff\u011c\uffff\u011c\u011c\u011c\uffff\uffff\uffff\u011c" +
+		"\u011c\uffff\u011c\uffff\u011c\uffff\uffff\u011c\u011c\uffff\uffff\u011c" +
+		"\u011c\u011c\uffff\uffff\u011c\u011c\u011c\uffff\u011c\uffff\uffff\u011c" +
+		"\uffff\u011c\uffff\u011c\uffff\u011c\u011c\uffff\u011c\u011c\u011c\u011c" +
+		"\u011c\u011c\u0123\uffff\uffff\uffff\u0123\uffff\u0123\u0123\uffff\u0123" +
+		"\uffff\u0123\uffff\u0123\u0123\u0123\u0123\uffff\uffff\uffff\uffff\u0123" +
+		"\uffff\u0123\u0123\u0123\uffff\uffff\uffff\u0123\u0123\uffff\u0123\uffff" +
+		"\u0123\uffff\uffff\u0123\u0123\uffff\uffff\u0123\u0123\u0123\uffff\uffff" +
+		"\u0123\u0123\u0123\uffff\u0123\uffff\uffff\u0123\uffff\u0123\uffff\u0123" +
+		"\uffff\u0123\u0123\uffff\u0123\u0123\u0123\u0123\u0123\u0123\u0128\uffff" +
+		"\uffff\uffff\u0128\uffff\u0128\u0128\uffff\u0128\uffff\u0128\uffff\u0128" +
+		"\u0128\u0128\u0128\uffff\uffff\uffff\uffff\u0128\uffff\u0128\u0128\u0128" +
+		"\uffff\uffff\uffff\u0128\u0128\uffff\u0128\uffff\u0128\uffff\uffff\u0128" +
+		"\u0128\uffff\uffff\u0128\u0128\u0128\uffff\uffff\u0128\u0128\u0128\uffff" +
+		"\u0128\uffff\uffff\u0128\uffff\u0128\uffff\u0128\uffff\u0128\u0128\uffff" +
+		"\u0128\u0128\u0128\u0128\u0128\u0128\u0132\uffff\uffff\uffff\u0132\uffff" +
+		"\u0132\u0132\uffff\u0132\uffff\u0132\uffff\u0132\u0132\u0132\u0132\uffff" +
+		"\uffff\uffff\uffff\u0132\uffff\u0132\u0132\u0132\uffff\uffff\uffff\u0132" +
+		"\u0132\uffff\u0132\uffff\u0132\uffff\uffff\u0132\u0132\uffff\uffff\u0132" +
+		"\u0132\u0132\uffff\uffff\u0132\u0132\u0132\uffff\u0132\uffff\uffff\u0132" +
+		"\uffff\u0132\uffff\u0132\uffff\u0132\u0132\uffff\u0132\u0132\u0132\u0132" +
+		"\u0132\u0132\u0140\uffff\uffff\uffff\u0140\uffff\u0140\u0140\uffff\u0140" +
+		"\uffff\u0140\uffff\u0140\u0140\u0140\u0140\uffff\uffff\uffff\uffff\u0140" +
+		"\uffff\u0140\u0140\u0140\131\uffff\uffff\u0140\u0140\uffff\u0140\131" +
+		"\u0140\131\uffff\u0140\u0140\uffff\uffff\u0140\u0140\u0140\uffff\uffff" +
+		"\u0140\u0140\u0140\uffff\u0140\uffff\uffff\u0140\uffff\u0140\131\u0140" +
+		"\uffff\u0140\u0140\uffff\u0140\u0140\u0140\u0140\u0140\u0140\043\043" +
+		"\043\043\uffff\043\131\131\043\uffff\043\uffff\043\uffff" +
+		"\uffff\uffff\uffff\043\050\050\043\uffff\uffff\050\uffff\uffff" +
+		"\050\043\043\uffff\050\uffff\043\043\043\043\043\043" +
+		"\043\043\043\uffff\uffff\uffff\043\043\043\043\uffff\043" +
+		"\050\043\043\uffff\043\043\046\046\046\046\uffff\046" +
+		"\050\050\046\uffff\046\050\046\050\050\uffff\uffff\046" +
+		"\152\152\046\uffff\uffff\152\uffff\uffff\152\046\046\uffff" +
+		"\152\uffff\046\046\046\046\046\046\046\046\046\uffff" +
+		"\uffff\uffff\046\046\046\046\uffff\046\152\046\046\uffff" +
+		"\046\046\047\047\047\047\uffff\047\152\152\047\uffff" +
+		"\047\152\047\152\152\uffff\uffff\047\uffff\051\047\uffff" +
+		"\uffff\051\uffff\uffff\051\047\047\uffff\051\uffff\047\047" +
+		"\047\047\047\047\047\047\047\uffff\uffff\uffff\047\047" +
+		"\047\047\uffff\047\051\047\047\uffff\047\047\052\052" +
+		"\052\052\uffff\052\051\051\052\uffff\052\051\052\051" +
+		"\051\uffff\uffff\052\uffff\150\052\uffff\uffff\150\uffff\uffff" +
+		"\150\052\052\uffff\150\uffff\052\052\052\052\052\052" +
+		"\052\052\052\uffff\uffff\uffff\052\052\052\052\uffff\052" +
+		"\150\052\052\uffff\052\052\057\057\057\057\uffff\057" +
+		"\150\150\057\uffff\057\150\057\150\150\uffff\uffff\057" +
+		"\uffff\054\057\uffff\uffff\054\uffff\uffff\uffff\057\057\uffff" +
+		"\054\uffff\057\057\057\057\057\057\057\057\057\uffff" +
+		"\uffff\uffff\057\057\057\057\uffff\057\054\057\057\uffff" +
+		"\057\057\061\061\061\061\uffff\061\054\054\061\uffff" +
+		"\061\054\061\054\054\uffff\uffff\061\uffff\146\061\uffff" +
+		"\uffff\146\uffff\uffff\uffff\061\061\uffff\146\uffff\061\061" +
+		"\061\061\061\061\061\061\061\uffff\uffff\uffff\061\061" +
+		"\061\061\uffff\061\146\061\061\uffff\061\061\063\063" +
+		"\063\063\uffff\063\146\146\063\uffff\063\146\063\146" +
+		"\146\uffff\uffff\063\uffff\055\063\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\063\063\uffff\055\uffff\063\063\063\063\063\063" +
+		"\063\063\063\uffff\uffff\uffff\063\063\063\063\uffff\063" +
+		"\055\063\063\uffff\063\063\067\067\067\067\uffff\067" +
+		"\055\055\067\uffff\067\055\067\055\055\uffff\uffff\067" +
+		"\uffff\143\067\uffff\uffff\uffff\uffff\uffff\uffff\067\067\uffff" +
+		"\143\uffff\067\067\067\067\067\067\067\067\067\uffff" +
+		"\uffff\uffff\067\067\067\067\uffff\067\143\067\067\uffff" +
+		"\067\067\076\076\076\076\uffff\076\143\143\076\uffff" +
+		"\076\143\076\143\143\uffff\uffff\076\uffff\uffff\076\uffff",
+		"\uffff\uffff\uffff\uffff\uffff\076\076\uffff\056\uffff\076\076" +
+		"\076\076\076\076\076\076\076\uffff\uffff\uffff\076\076" +
+		"\076\076\uffff\076\056\076\076\uffff\076\076\100\100" +
+		"\100\100\uffff\100\056\056\100\uffff\100\056\100\056" +
+		"\056\uffff\uffff\100\uffff\uffff\100\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\100\100\uffff\222\uffff\100\100\100\100\100\100" +
+		"\100\100\100\uffff\uffff\uffff\100\100\100\100\uffff\100" +
+		"\222\100\100\uffff\100\100\103\103\103\103\uffff\103" +
+		"\uffff\222\103\uffff\103\222\103\222\222\uffff\uffff\103" +
+		"\uffff\uffff\103\uffff\uffff\uffff\uffff\uffff\uffff\103\103\uffff" +
+		"\uffff\uffff\103\103\103\103\103\103\103\103\103\uffff" +
+		"\uffff\uffff\103\103\103\103\uffff\103\uffff\103\103\uffff" +
+		"\103\103\110\110\110\110\uffff\110\uffff\uffff\110\uffff" +
+		"\110\uffff\110\uffff\uffff\uffff\uffff\110\uffff\uffff\110\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\110\110\uffff\uffff\uffff\110\110" +
+		"\110\110\110\110\110\110\110\uffff\uffff\uffff\110\110" +
+		"\110\110\uffff\110\uffff\110\110\uffff\110\110\204\204" +
+		"\204\204\uffff\204\uffff\uffff\204\uffff\204\uffff\204\uffff" +
+		"\uffff\uffff\uffff\204\uffff\uffff\204\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\204\204\uffff\uffff\uffff\204\204\204\204\204\204" +
+		"\204\204\204\uffff\uffff\uffff\204\204\204\204\uffff\204" +
+		"\uffff\204\204\uffff\204\204\207\207\207\207\uffff\207" +
+		"\uffff\uffff\207\uffff\207\uffff\207\uffff\uffff\uffff\uffff\207" +
+		"\uffff\uffff\207\uffff\uffff\uffff\uffff\uffff\uffff\207\207\uffff" +
+		"\uffff\uffff\207\207\207\207\207\207\207\207\207\uffff" +
+		"\uffff\uffff\207\207\207\207\uffff\207\uffff\207\207\uffff" +
+		"\207\207\210\210\210\210\uffff\210\uffff\uffff\210\uffff" +
+		"\210\uffff\210\uffff\uffff\uffff\uffff\210\uffff\uffff\210\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\210\210\uffff\uffff\uffff\210\210" +
+		"\210\210\210\210\210\210\210\uffff\uffff\uffff\210\210" +
+		"\210\210\uffff\210\uffff\210\210\uffff\210\210\214\214" +
+		"\214\214\uffff\214\uffff\uffff\214\uffff\214\uffff\214\uffff" +
+		"\uffff\uffff\uffff\214\uffff\uffff\214\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\214\214\uffff\uffff\uffff\214\214\214\214\214\214" +
+		"\214\214\214\uffff\uffff\uffff\214\214\214\214\uffff\214" +
+		"\uffff\214\214\uffff\214\214\220\220\220\220\uffff\220" +
+		"\uffff\uffff\220\uffff\220\uffff\220\uffff\uffff\uffff\uffff\220" +
+		"\uffff\uffff\220\uffff\uffff\uffff\uffff\uffff\uffff\220\220\uffff" +
+		"\uffff\uffff\220\220\220\220\220\220\220\220\220\132" +
+		"\uffff\uffff\220\220\220\220\132\220\132\220\220\uffff" +
+		"\220\220\102\102\uffff\102\uffff\102\uffff\uffff\102\uffff" +
+		"\102\uffff\102\uffff\uffff\132\uffff\uffff\045\045\102\uffff" +
+		"\uffff\045\uffff\uffff\045\102\102\uffff\045\uffff\102\132" +
+		"\132\102\102\102\045\102\102\uffff\uffff\uffff\102\102" +
+		"\102\uffff\uffff\102\045\102\102\uffff\102\102\104\104" +
+		"\045\104\uffff\104\045\045\104\uffff\104\045\104\045" +
+		"\045\uffff\uffff\uffff\154\154\104\uffff\uffff\154\uffff\uffff" +
+		"\154\104\104\uffff\154\uffff\104\uffff\uffff\104\104\104" +
+		"\154\104\104\uffff\uffff\uffff\104\104\104\uffff\uffff\104" +
+		"\154\104\104\uffff\104\104\112\112\154\112\uffff\112" +
+		"\154\154\112\uffff\112\154\112\154\154\uffff\uffff\uffff" +
+		"\uffff\uffff\112\uffff\uffff\uffff\uffff\uffff\uffff\112\112\uffff" +
+		"\uffff\uffff\112\uffff\uffff\112\112\112\uffff\112\112\135" +
+		"\uffff\uffff\112\112\112\uffff\135\112\135\112\112\uffff" +
+		"\112\112\117\117\uffff\117\uffff\117\uffff\uffff\117\uffff" +
+		"\117\uffff\117\uffff\uffff\135\uffff\uffff\uffff\uffff\117\uffff" +
+		"\uffff\u0135\uffff\uffff\uffff\117\117\uffff\uffff\uffff\117\135" +
+		"\135\117\117\117\uffff\117\117\u0135\uffff\uffff\117\117" +
+		"\117\u0135\uffff\117\uffff\117\117\uffff\117\117\120\120" +
+		"\uffff\120\uffff\120\uffff\uffff\120\uffff\120\uffff\120\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\120\uffff\u0135\u014a\uffff\uffff" +
+		"\u0135\120\120\uffff\uffff\uffff\120\uffff\uffff\120\120\120" +
+		"\uffff\120\120\u014a\uffff\uffff\120\120\120\u014a\uffff\120" +
+		"\uffff\120\120\uffff\120\120\133\133\uffff\133\uffff\133" +
+		"\uffff\uffff\133\uffff\133\uffff\133\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\133\uffff\u014a\uffff\uffff\uffff\u014a\133\133\uffff" +
+		"\uffff\uffff\133\uffff\uffff\133\133\133\uffff\133\133\uffff" +
+		"\uffff\uffff\133\133\133\uffff\uffff\133\uffff\133\133\uffff" +
+		"\133\133\136\136\uffff\136\uffff\136\uffff\uffff\136\uffff" +
+		"\136\uffff\136\uffff\uffff\uffff\uffff\uffff\uffff\uffff\136\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\136\136\uffff\uffff\uffff\136\uffff" +
+		"\uffff\136\136\136\uffff\136\136\uffff\uffff\uffff\136\136" +
+		"\136\uffff\uffff\136\uffff\136\136\uffff\136\136\137\137" +
+		"\uffff\137\uffff\137\uffff\uffff\137\uffff\137\uffff\137\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\137\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\137\137\uffff\uffff\uffff\137\uffff\uffff\137\137\137" +
+		"\uffff\137\137\uffff\uffff\uffff\137\137\137\uffff\uffff\137" +
+		"\uffff\137\137\uffff\137\137\041\041\uffff\041\uffff\041" +
+		"\uffff\uffff\041\uffff\uffff\uffff\041\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\041\uffff\uffff\uffff\uffff\uffff\uffff\041\041\uffff" +
+		"\uffff\uffff\041\uffff\uffff\041\041\041\uffff\041\041\uffff" +
+		"\uffff\uffff\041\041\041\uffff\uffff\041\uffff\041\041\uffff" +
+		"\041\041\040\040\uffff\uffff\uffff\040\uffff\uffff\040\uffff" +
+		"\uffff\uffff\040\uffff\uffff\uffff\uffff\uffff\uffff\uffff\040\uffff" +
+		"\uffff\315\uffff\uffff\uffff\040\040\uffff\uffff\uffff\040\uffff" +
+		"\uffff\040\040\040\uffff\040\040\315\072\uffff\040\040" +
+		"\040\315\072\040\uffff\040\040\072\040\040\uffff\u013c" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\072\072\uffff\315\uffff" +
+		"\uffff\uffff\072\uffff\uffff\u013c\072\uffff\uffff\072\072\u013c" +
+		"\315\uffff\072\072\uffff\121\072\072\uffff\uffff\uffff\121" +
+		"\uffff\072\uffff\072\121\072\uffff\072\u013c\uffff\072\072" +
+		"\072\072\072\uffff\121\121\uffff\uffff\uffff\uffff\u013c\121" +
+		"\uffff\uffff\uffff\121\uffff\uffff\121\121\uffff\142\142\121" +
+		"\121\uffff\142\121\121\142\uffff\uffff\uffff\142\121\uffff" +
+		"\121\uffff\121\uffff\121\142\uffff\121\121\121\121\121" +
+		"\142\142\uffff\uffff\uffff\142\uffff\uffff\142\142\142\uffff" +
+		"\142\142\uffff\uffff\uffff\142\142\142\uffff\uffff\142\uffff" +
+		"\142\142\uffff\142\142\172\172\uffff\uffff\uffff\172\uffff" +
+		"\uffff\172\uffff\uffff\uffff\172\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\172\uffff\uffff\uffff\uffff\uffff\uffff\172\172\uffff\uffff",
+		"\uffff\172\uffff\uffff\172\172\172\uffff\172\172\uffff\uffff" +
+		"\uffff\172\172\172\uffff\uffff\172\uffff\172\172\uffff\172" +
+		"\172\177\177\uffff\uffff\uffff\177\uffff\uffff\177\uffff\uffff" +
+		"\uffff\177\uffff\uffff\uffff\uffff\uffff\uffff\uffff\177\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\177\177\uffff\uffff\uffff\177\uffff\uffff" +
+		"\177\177\177\uffff\177\177\uffff\uffff\uffff\177\177\177" +
+		"\uffff\uffff\177\uffff\177\177\uffff\177\177\042\042\uffff" +
+		"\uffff\uffff\042\uffff\uffff\042\uffff\uffff\uffff\042\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\042\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\042\042\uffff\uffff\uffff\042\uffff\uffff\042\042\042\uffff" +
+		"\uffff\042\uffff\166\166\042\042\042\166\uffff\042\166" +
+		"\042\042\uffff\166\uffff\uffff\uffff\uffff\uffff\uffff\203\166" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\166\166\uffff\203\uffff\166" +
+		"\uffff\uffff\166\166\166\uffff\uffff\166\uffff\203\uffff\166" +
+		"\166\166\uffff\uffff\166\uffff\166\166\203\uffff\u014e\203" +
+		"\203\uffff\uffff\uffff\203\203\uffff\237\203\203\uffff\uffff" +
+		"\uffff\203\uffff\203\u014e\203\237\203\uffff\203\u014e\uffff" +
+		"\203\203\203\uffff\203\uffff\237\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\334\237\uffff\u014e\237\237\uffff\uffff" +
+		"\uffff\237\237\334\uffff\237\237\uffff\uffff\u014e\237\uffff" +
+		"\237\uffff\237\334\237\uffff\237\uffff\uffff\237\237\237" +
+		"\uffff\237\334\uffff\uffff\334\334\uffff\uffff\uffff\334\334" +
+		"\uffff\uffff\334\334\uffff\u011d\uffff\uffff\334\334\uffff\334" +
+		"\uffff\334\uffff\334\u011d\uffff\334\334\334\uffff\334\uffff" +
+		"\u011d\uffff\uffff\uffff\u011d\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\u0122\u011d\uffff\uffff\u011d\u011d\uffff\uffff\uffff\u011d" +
+		"\u011d\u0122\uffff\u011d\u011d\uffff\uffff\uffff\uffff\u0122\u011d\uffff" +
+		"\u011d\u0122\u011d\uffff\u011d\uffff\uffff\u011d\u011d\u011d\uffff\u011d" +
+		"\u0122\uffff\uffff\u0122\u0122\uffff\uffff\uffff\u0122\u0122\uffff\037" +
+		"\u0122\u0122\uffff\uffff\uffff\uffff\uffff\u0122\uffff\u0122\037\u0122" +
+		"\uffff\u0122\uffff\uffff\u0122\u0122\u0122\uffff\u0122\uffff\037\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\060\037\uffff\uffff" +
+		"\037\037\uffff\uffff\uffff\037\037\060\uffff\037\037\uffff" +
+		"\uffff\uffff\uffff\uffff\037\uffff\037\060\037\uffff\037\uffff" +
+		"\uffff\037\037\037\uffff\037\060\uffff\uffff\060\060\uffff" +
+		"\uffff\uffff\060\060\uffff\064\060\060\uffff\uffff\uffff\uffff" +
+		"\uffff\060\uffff\060\064\060\uffff\060\uffff\uffff\060\060" +
+		"\060\uffff\060\uffff\064\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\070\064\uffff\uffff\064\064\uffff\uffff\uffff\064" +
+		"\064\070\uffff\064\064\uffff\uffff\uffff\uffff\uffff\064\uffff" +
+		"\064\070\064\uffff\064\uffff\uffff\064\064\064\uffff\064" +
+		"\070\uffff\uffff\070\070\uffff\uffff\uffff\070\070\uffff\071" +
+		"\070\070\uffff\uffff\uffff\uffff\uffff\070\uffff\070\071\070" +
+		"\uffff\070\uffff\uffff\070\070\070\uffff\070\uffff\071\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\074\071\uffff\uffff" +
+		"\071\071\uffff\uffff\uffff\071\071\074\uffff\071\071\uffff" +
+		"\uffff\uffff\uffff\uffff\071\uffff\071\074\071\uffff\071\uffff" +
+		"\uffff\071\071\071\uffff\071\074\uffff\uffff\074\074\uffff" +
+		"\uffff\uffff\074\074\uffff\075\074\074\uffff\uffff\uffff\uffff" +
+		"\uffff\074\uffff\074\075\074\uffff\074\uffff\uffff\074\074" +
+		"\074\uffff\074\uffff\075\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\101\075\uffff\uffff\075\075\uffff\uffff\uffff\075" +
+		"\075\101\uffff\075\075\uffff\uffff\uffff\uffff\uffff\075\uffff" +
+		"\075\101\075\uffff\075\uffff\uffff\075\075\075\uffff\075" +
+		"\101\uffff\uffff\101\101\uffff\uffff\uffff\101\101\uffff\111" +
+		"\101\101\uffff\uffff\uffff\uffff\uffff\101\uffff\101\111\101" +
+		"\uffff\101\uffff\uffff\101\101\101\uffff\101\uffff\111\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\126\111\uffff\uffff" +
+		"\111\111\uffff\uffff\uffff\111\111\126\uffff\111\111\uffff" +
+		"\uffff\uffff\uffff\uffff\111\uffff\111\126\111\uffff\111\uffff" +
+		"\uffff\111\111\111\uffff\111\126\uffff\uffff\126\126\uffff" +
+		"\uffff\uffff\126\126\uffff\141\126\126\uffff\uffff\uffff\uffff" +
+		"\uffff\126\uffff\126\141\126\uffff\126\uffff\uffff\126\126" +
+		"\126\uffff\126\uffff\141\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\145\141\uffff\uffff\141\141\uffff\uffff\uffff\141" +
+		"\141\145\uffff\141\141\uffff\uffff\uffff\uffff\uffff\141\uffff" +
+		"\141\145\141\uffff\141\uffff\uffff\141\141\141\uffff\141" +
+		"\145\uffff\uffff\145\145\uffff\uffff\uffff\145\145\uffff\147" +
+		"\145\145\uffff\uffff\uffff\uffff\uffff\145\uffff\145\147\145" +
+		"\uffff\145\uffff\uffff\145\145\145\uffff\145\uffff\147\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\151\147\uffff\uffff" +
+		"\147\147\uffff\uffff\uffff\147\147\151\uffff\147\147\uffff" +
+		"\uffff\uffff\uffff\uffff\147\uffff\147\151\147\uffff\147\uffff" +
+		"\uffff\147\147\147\uffff\147\151\uffff\uffff\151\151\uffff" +
+		"\uffff\uffff\151\151\uffff\153\151\151\uffff\uffff\uffff\uffff" +
+		"\uffff\151\uffff\151\153\151\uffff\151\uffff\uffff\151\151" +
+		"\151\uffff\151\uffff\153\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\155\153\uffff\uffff\153\153\uffff\uffff\uffff\153" +
+		"\153\155\uffff\153\153\uffff\uffff\uffff\uffff\uffff\153\uffff" +
+		"\153\155\153\uffff\153\uffff\uffff\153\153\153\uffff\153" +
+		"\155\uffff\uffff\155\155\uffff\uffff\uffff\155\155\uffff\156" +
+		"\155\155\uffff\uffff\uffff\uffff\uffff\155\uffff\155\156\155" +
+		"\uffff\155\uffff\uffff\155\155\155\uffff\155\uffff\156\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\157\156\uffff\uffff" +
+		"\156\156\uffff\uffff\uffff\156\156\157\uffff\156\156\uffff" +
+		"\uffff\uffff\uffff\uffff\156\uffff\156\157\156\uffff\156\uffff" +
+		"\uffff\156\156\156\uffff\156\157\uffff\uffff\157\157\uffff" +
+		"\uffff\uffff\157\157\uffff\161\157\157\uffff\uffff\uffff\uffff" +
+		"\uffff\157\uffff\157\161\157\uffff\157\uffff\uffff\157\157" +
+		"\157\uffff\157\uffff\161\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\162\161\uffff\uffff\161\161\uffff\uffff\uffff\161" +
+		"\161\162\uffff\161\161\uffff\uffff\uffff\uffff\uffff\161\uffff" +
+		"\161\162\161\uffff\161\uffff\uffff\161\161\161\uffff\161" +
+		"\162\uffff\uffff\162\162\uffff\uffff\uffff\162\162\uffff\163" +
+		"\162\162\uffff\uffff\uffff\uffff\uffff\162\uffff\162\163\162" +
+		"\uffff\162\uffff\uffff\162\162\162\uffff\162\uffff\163\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\164\163\uffff\uffff" +
+		"\163\163\uffff\uffff\uffff\163\163\164\uffff\163\163\uffff" +
+		"\uffff\uffff\uffff\uffff\163\uffff\163\164\163\uffff\163\uffff" +
+		"\uffff\163\163\163\uffff\163\164\uffff\uffff\164\164\uffff",
+		"\uffff\uffff\164\164\uffff\165\164\164\uffff\uffff\uffff\uffff" +
+		"\uffff\164\uffff\164\165\164\uffff\164\uffff\uffff\164\164" +
+		"\164\uffff\164\uffff\165\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\167\165\uffff\uffff\165\165\uffff\uffff\uffff\165" +
+		"\165\167\uffff\165\165\uffff\uffff\uffff\uffff\uffff\165\uffff" +
+		"\165\167\165\uffff\165\uffff\uffff\165\165\165\uffff\165" +
+		"\167\uffff\uffff\167\167\uffff\uffff\uffff\167\167\uffff\170" +
+		"\167\167\uffff\uffff\uffff\uffff\uffff\167\uffff\167\170\167" +
+		"\uffff\167\uffff\uffff\167\167\167\uffff\167\uffff\170\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\171\170\uffff\uffff" +
+		"\170\170\uffff\uffff\uffff\170\170\171\uffff\170\170\uffff" +
+		"\uffff\uffff\uffff\uffff\170\uffff\170\171\170\uffff\170\uffff" +
+		"\uffff\170\170\170\uffff\170\171\uffff\uffff\171\171\uffff" +
+		"\uffff\uffff\171\171\uffff\173\171\171\uffff\uffff\uffff\uffff" +
+		"\uffff\171\uffff\171\173\171\uffff\171\uffff\uffff\171\171" +
+		"\171\uffff\171\uffff\173\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\174\173\uffff\uffff\173\173\uffff\uffff\uffff\173" +
+		"\173\174\uffff\173\173\uffff\uffff\uffff\uffff\uffff\173\uffff" +
+		"\173\174\173\uffff\173\uffff\uffff\173\173\173\uffff\173" +
+		"\174\uffff\uffff\174\174\uffff\uffff\uffff\174\174\uffff\175" +
+		"\174\174\uffff\uffff\uffff\uffff\uffff\174\uffff\174\175\174" +
+		"\uffff\174\uffff\uffff\174\174\174\uffff\174\uffff\175\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\176\175\uffff\uffff" +
+		"\175\175\uffff\uffff\uffff\175\175\176\uffff\175\175\uffff" +
+		"\uffff\uffff\uffff\uffff\175\uffff\175\176\175\uffff\175\uffff" +
+		"\uffff\175\175\175\uffff\175\176\uffff\uffff\176\176\uffff" +
+		"\uffff\uffff\176\176\uffff\202\176\176\uffff\uffff\uffff\uffff" +
+		"\uffff\176\uffff\176\202\176\uffff\176\uffff\uffff\176\176" +
+		"\176\uffff\176\uffff\202\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\215\202\uffff\uffff\202\202\uffff\uffff\uffff\202" +
+		"\202\215\uffff\202\202\uffff\uffff\uffff\uffff\uffff\202\uffff" +
+		"\202\215\202\uffff\202\uffff\uffff\202\202\202\uffff\202" +
+		"\215\uffff\uffff\215\215\uffff\uffff\uffff\215\215\uffff\221" +
+		"\215\215\uffff\uffff\uffff\uffff\uffff\215\uffff\215\221\215" +
+		"\uffff\215\uffff\uffff\215\215\215\uffff\215\uffff\221\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\224\221\uffff\uffff" +
+		"\221\221\uffff\uffff\uffff\221\221\224\uffff\221\221\uffff" +
+		"\uffff\uffff\uffff\uffff\221\uffff\221\224\221\uffff\221\uffff" +
+		"\uffff\221\221\221\uffff\221\224\uffff\uffff\224\224\uffff" +
+		"\uffff\uffff\224\224\uffff\243\224\224\uffff\uffff\uffff\uffff" +
+		"\uffff\224\uffff\224\243\224\uffff\224\uffff\uffff\224\224" +
+		"\224\uffff\224\uffff\243\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\252\243\uffff\uffff\243\243\uffff\uffff\uffff\243" +
+		"\243\252\uffff\243\243\uffff\uffff\uffff\uffff\uffff\243\uffff" +
+		"\243\252\243\uffff\243\uffff\uffff\243\243\243\uffff\243" +
+		"\252\uffff\uffff\252\252\uffff\uffff\uffff\252\252\uffff\327" +
+		"\252\252\uffff\uffff\uffff\uffff\uffff\252\uffff\252\327\252" +
+		"\uffff\252\uffff\uffff\252\252\252\uffff\252\uffff\327\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\331\327\uffff\uffff" +
+		"\327\327\uffff\uffff\uffff\327\327\331\uffff\327\327\uffff" +
+		"\uffff\uffff\uffff\uffff\327\uffff\327\331\327\uffff\327\uffff" +
+		"\uffff\327\327\327\uffff\327\331\uffff\uffff\331\331\uffff" +
+		"\uffff\uffff\331\331\uffff\340\331\331\uffff\uffff\uffff\uffff" +
+		"\uffff\331\uffff\331\340\331\uffff\331\uffff\uffff\331\331" +
+		"\331\uffff\331\uffff\340\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\360\340\uffff\uffff\340\340\uffff\uffff\uffff\340" +
+		"\340\360\uffff\340\340\uffff\uffff\uffff\uffff\uffff\340\uffff" +
+		"\340\360\340\uffff\340\uffff\uffff\340\340\340\uffff\340" +
+		"\360\uffff\uffff\360\360\uffff\uffff\uffff\360\360\uffff\u0100" +
+		"\360\360\uffff\uffff\uffff\uffff\uffff\360\uffff\360\u0100\360" +
+		"\uffff\360\uffff\uffff\360\360\360\uffff\360\uffff\u0100\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\u0106\u0100\uffff\uffff" +
+		"\u0100\u0100\uffff\uffff\uffff\u0100\u0100\u0106\uffff\u0100\u0100\uffff" +
+		"\uffff\uffff\uffff\uffff\u0100\uffff\u0100\u0106\u0100\uffff\u0100\uffff" +
+		"\uffff\u0100\u0100\u0100\uffff\u0100\u0106\uffff\uffff\u0106\u0106\uffff" +
+		"\uffff\uffff\u0106\u0106\uffff\u010c\u0106\u0106\uffff\uffff\uffff\uffff" +
+		"\uffff\u0106\uffff\u0106\u010c\u0106\uffff\u0106\uffff\uffff\u0106\u0106" +
+		"\u0106\uffff\u0106\uffff\u010c\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\u0125\u010c\uffff\uffff\u010c\u010c\uffff\uffff\uffff\u010c" +
+		"\u010c\u0125\uffff\u010c\u010c\uffff\uffff\uffff\uffff\uffff\u010c\uffff" +
+		"\u010c\u0125\u010c\uffff\u010c\uffff\uffff\u010c\u010c\u010c\uffff\u010c" +
+		"\u0125\uffff\uffff\u0125\u0125\uffff\044\044\u0125\u0125\uffff\044" +
+		"\u0125\u0125\044\uffff\uffff\uffff\044\u0125\uffff\u0125\uffff\u0125" +
+		"\uffff\u0125\044\uffff\u0125\u0125\u0125\uffff\u0125\044\044\uffff" +
+		"\uffff\uffff\044\uffff\uffff\044\044\uffff\160\160\044\uffff" +
+		"\uffff\160\044\044\160\uffff\uffff\044\160\044\044\u0143" +
+		"\uffff\uffff\uffff\uffff\160\u0143\uffff\u0143\uffff\uffff\uffff\160" +
+		"\160\uffff\u0143\uffff\160\uffff\uffff\160\160\uffff\uffff\u0143" +
+		"\160\u0143\000\u0143\160\160\uffff\u0143\000\160\000\160" +
+		"\160\uffff\uffff\uffff\uffff\000\uffff\uffff\uffff\002\uffff\uffff" +
+		"\uffff\u0143\000\002\000\002\000\003\uffff\u0143\000\uffff" +
+		"\002\003\uffff\003\uffff\uffff\u0143\uffff\u0143\002\003\002" +
+		"\uffff\002\005\uffff\uffff\002\uffff\003\005\003\005\003" +
+		"\000\uffff\uffff\003\uffff\005\uffff\uffff\uffff\000\uffff\000" +
+		"\uffff\uffff\005\uffff\005\011\005\002\uffff\uffff\005\011" +
+		"\uffff\011\uffff\uffff\002\003\002\uffff\011\uffff\uffff\uffff" +
+		"\013\uffff\003\uffff\003\011\013\011\013\011\014\uffff" +
+		"\005\011\uffff\013\014\uffff\014\uffff\uffff\005\uffff\005" +
+		"\013\014\013\uffff\013\015\uffff\uffff\013\uffff\014\015" +
+		"\014\015\014\011\uffff\uffff\014\uffff\015\uffff\uffff\uffff" +
+		"\011\uffff\011\uffff\uffff\015\uffff\015\016\015\013\uffff" +
+		"\uffff\015\016\uffff\016\uffff\uffff\013\014\013\uffff\016" +
+		"\uffff\uffff\uffff\020\uffff\014\uffff\014\016\020\016\020" +
+		"\016\021\uffff\015\016\uffff\020\021\uffff\021\uffff\uffff" +
+		"\015\uffff\015\020\021\020\uffff\020\310\uffff\uffff\020" +
+		"\uffff\021\310\021\310\021\016\uffff\uffff\021\uffff\310" +
+		"\uffff\uffff\uffff\016\uffff\016\uffff\uffff\310\uffff\310\u0149" +
+		"\310\020\uffff\uffff\310\u0149\uffff\u0149\uffff\uffff\020\021" +
+		"\020\uffff\u0149\uffff\uffff\uffff\u0152\uffff\021\uffff\021\u0149" +
+		"\u0152\u0149\u0152\u0149\uffff\uffff\310\u0149\uffff\u0152\uffff\uffff",
+		"\uffff\uffff\uffff\310\uffff\310\u0152\uffff\u0152\uffff\u0152\uffff" +
+		"\uffff\uffff\u0152\uffff\uffff\uffff\uffff\uffff\uffff\u0149\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\u0149\uffff\u0149\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\u0152\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\u0152\uffff\u0152" });
+	private static final int[]	ACTION_NEXT = unpack (new String[] {
+		"\uffe7\u0154\uffe7\ufffe\000\000\uffe7\146\uffe7\uffe7\040\uffe7" +
+		"\ufffd\uffe7\uffb5\uffe7\uffe7\uffe7\uffe7\u0136\225\u0101\244\uffe7" +
+		"\uffe7\uffe7\uffe7\uffe7\uffe7\000\000\uffe7\uffe7\uffb5\uffe7\u014b" +
+		"\uffe7\127\233\uffe7\uffe7\uffc4\253\uffe7\uffe7\uffe7\122\240" +
+		"\uffe7\uffe7\uffe7\026\uffe7\030\uffd7\uffe7\uffb5\uffe7\uffe7\uffe7" +
+		"\032\uffe7\uffe7\127\uffe7\uffe7\uffe7\uffe7\uffe7\uffe7\uffe9\033" +
+		"\uffe9\114\uffc4\uffbe\uffe9\034\uffe9\uffe9\uff91\uffe9\uffb5\uffe9" +
+		"\231\uffe9\uffe9\uffe9\uffe9\uffe3\127\uff93\uffc4\uffe9\uffe9\uffe9" +
+		"\uffe9\uffe9\uffe9\261\uff79\uffe9\uffe9\uff79\uffe9\uffe8\uffe9\uffc4" +
+		"\uffb5\uffe9\uffe9\uffe3\027\uffe9\uffe9\uffe9\250\233\uffe9\uffe9" +
+		"\uffe9\uffe6\uffe9\uffe6\036\uffe9\030\uffe9\uffe9\uffe9\uffe6\uffe9" +
+		"\uffe9\243\uffe9\uffe9\uffe9\uffe9\uffe9\uffe9\uffeb\uffe6\uffeb\127" +
+		"\033\uffba\uffeb\uffe6\uffeb\uffeb\034\uffeb\uffb5\uffeb\376\uffeb" +
+		"\uffeb\uffeb\uffeb\uff91\224\037\uffb5\uffeb\uffeb\uffeb\uffeb\uffeb" +
+		"\uffeb\104\114\uffeb\uffeb\127\uffeb\112\uffeb\376\uffba\uffeb" +
+		"\uffeb\uffc6\uffe6\uffeb\uffeb\uffeb\u0123\111\uffeb\uffeb\uffeb\uffb5" +
+		"\uffeb\u0124\137\uffeb\uffba\uffeb\uffeb\uffeb\114\uffeb\uffeb\134" +
+		"\uffeb\uffeb\uffeb\uffeb\uffeb\uffeb\uffed\uffba\uffed\216\uffc6\uffbe" +
+		"\uffed\uff76\uffed\uffed\uff95\uffed\uff75\uffed\uff7d\uffed\uffed\uffed" +
+		"\uffed\136\142\uff7d\uffc6\uffed\uffed\uffed\uffed\uffed\uffed\202" +
+		"\211\uffed\uffed\uff95\uffed\215\uffed\uffc6\uffbe\uffed\uffed\uffc2" +
+		"\uff78\uffed\uffed\uffed\uff76\210\uffed\uffed\uffed\uff75\uffed\007" +
+		"\242\uffed\uffbe\uffed\uffed\uffed\uffbe\uffed\uffed\221\uffed\uffed" +
+		"\uffed\uffed\uffed\uffed\uffef\uffbe\uffef\uff7a\uffc2\uffd1\uffef\uffd0" +
+		"\uffef\uffef\uff7a\uffef\u012a\uffef\uff7b\uffef\uffef\uffef\uffef\007" +
+		"\uffce\uff7b\uffc2\uffef\uffef\uffef\uffef\uffef\uffef\uffd0\uffea\uffef" +
+		"\uffef\uffbd\uffef\uff99\uffef\uffc2\uffcf\uffef\uffef\uffd2\uffce\uffef" +
+		"\uffef\uffef\uff7c\uffb6\uffef\uffef\uffef\uff9b\uffef\uff7c\uffb6\uffef" +
+		"\uffb6\uffef\uffef\uffef\uffcf\uffef\uffef\230\uffef\uffef\uffef\uffef" +
+		"\uffef\uffef\uff53\uff53\uff53\uff53\uff99\uff53\uffec\127\uff53\uffd8" +
+		"\uff53\uff53\uff53\uff92\237\376\uffbc\uff53\uff90\uff98\uff53\uff97" +
+		"\uffee\uff53\247\uffb6\uffb6\uff53\uff53\uffbd\ufff0\uffd8\uff53\uff53" +
+		"\uff53\uff53\uff53\uff53\uff53\uff53\uff53\uffd8\uff53\uff53\uff53\uff53" +
+		"\uff53\uff53\uffd8\uff53\uff94\uff53\uff53\uff53\uff53\uff53\030\uff53" +
+		"\uff98\uff53\uff97\262\uff53\uff53\uff53\030\uff53\uff52\uff52\uff52" +
+		"\uff52\256\uff52\127\033\uff52\uffdc\uff52\uff52\uff52\034\uff95" +
+		"\uffbc\033\uff52\u0145\267\uff52\271\034\uff52\u012f\uffb5\uffe2" +
+		"\uff52\uff52\310\uffd7\uffdc\uff52\uff52\uff52\uff52\uff52\uff52\uff52" +
+		"\uff52\uff52\273\uff52\uff52\uff52\uff52\uff52\uff52\275\uff52\311" +
+		"\uff52\uff52\uff52\uff52\uff52\316\uff52\323\uff52\uffd6\uff8e\uff52" +
+		"\uff52\uff52\uff8e\uff52\uff8e\uff8e\325\uff8e\u011e\uff8e\u011b\uff8e" +
+		"\uff8e\uff8e\uff8e\uffdd\uff8e\u010d\u010c\uff8e\uffdb\uff8e\uff8e\uff8e" +
+		"\u010b\u0107\374\uff8e\uff8e\u0106\uff8e\uff8f\uff8e\340\uff8c\uff8e" +
+		"\uff8e\uffdd\340\uff8e\uff8e\uff8e\uffdb\uff86\uff8e\uff8e\uff8e\273" +
+		"\uff8e\uff96\u0100\uff8e\uffdb\uff8e\313\uff8e\u0103\uff8e\uff8e\uffdb" +
+		"\uff8e\uff8e\uff8e\uff8e\uff8e\uff8e\uff8a\340\uffe0\u0109\uff8a\u010a" +
+		"\uff8a\uff8a\u010f\uff8a\u0113\uff8a\uffb0\uff8a\uff8a\uff8a\uff8a\uffd9" +
+		"\371\u0117\uffe0\uff8a\uffe0\uff8a\uff8a\uff8a\uffe0\u011a\u011d\uff8a" +
+		"\uff8a\uff88\uff8a\340\uff8a\u0132\u012d\uff8a\uff8a\uffd9\uffd4\uff8a" +
+		"\uff8a\uff8a\uffe0\u0131\uff8a\uff8a\uff8a\uffd9\uff8a\u0133\u0135\uff8a" +
+		"\uffe0\uff8a\uffd9\uff8a\u013b\uff8a\uff8a\uffe0\uff8a\uff8a\uff8a\uff8a" +
+		"\uff8a\uff8a\uffaf\uffcd\uffde\u013d\uffaf\u013f\uffaf\uffaf\uffcc\uffaf" +
+		"\u0141\uffaf\uffcb\uffaf\uffaf\uffaf\uffaf\uffda\uffaf\u0144\uffde\uffaf" +
+		"\uffde\uffaf\uffaf\uffaf\uffde\uffe4\u0147\uffaf\uffaf\ufff2\uffaf\u014a" +
+		"\uffaf\uffc9\u014d\uffaf\uffaf\uffda\u014f\uffaf\uffaf\uffaf\uffde\uffe4" +
+		"\uffaf\uffaf\uffaf\uffda\uffaf\uffe4\000\uffaf\uffde\uffaf\uffda\uffaf" +
+		"\u0151\uffaf\uffaf\uffde\uffaf\uffaf\uffaf\uffaf\uffaf\uffaf\071\uffc8" +
+		"\uffdf\u0153\uffe5\000\uffe5\355\000\345\000\100\000\uffe5" +
+		"\333\331\332\uffd5\uffe4\000\uffdf\351\uffdf\064\uffe5\357" +
+		"\uffdf\030\000\361\uffe5\000\340\000\073\000\000\065" +
+		"\074\uffd5\000\341\061\101\uffdf\033\076\063\uffad\uffd5" +
+		"\335\034\000\067\uffdf\102\uffd5\060\000\053\330\uffdf" +
+		"\077\062\044\uffe5\070\013\uffa0\000\030\uffbf\uffa0\000" +
+		"\uffa0\uffa0\000\uffa0\000\uffa0\000\uffa0\uffa0\uffa0\uffa0\uffd3" +
+		"\027\000\033\uffa0\000\uffa0\uffa0\uffa0\034\030\000\uffa0" +
+		"\uffa0\000\uffa0\000\uffa0\000\uffbf\uffa0\uffa0\uffd3\000\uffa0" +
+		"\uffa0\uffa0\000\033\uffa0\uffa0\uffa0\uffd3\uffa0\034\000\uffa0" +
+		"\uffbf\uffa0\uffd3\uffa0\uffbf\uffa0\uffa0\027\uffa0\uffa0\uffa0\uffa0" +
+		"\uffa0\uffa0\uffa1\uffbf\000\uffc0\uffa1\000\uffa1\uffa1\000\uffa1" +
+		"\000\uffa1\000\uffa1\uffa1\uffa1\uffa1\000\027\000\000\uffa1" +
+		"\000\uffa1\uffa1\uffa1\000\000\000\uffa1\uffa1\000\uffa1\000" +
+		"\uffa1\000\uffc0\uffa1\uffa1\000\000\uffa1\uffa1\uffa1\000\000" +
+		"\uffa1\uffa1\uffa1\000\uffa1\000\000\uffa1\uffc0\uffa1\000\uffa1" +
+		"\uffc0\uffa1\uffa1\000\uffa1\uffa1\uffa1\uffa1\uffa1\uffa1\uff9f\uffc0" +
+		"\000\uffc1\uff9f\000\uff9f\uff9f\000\uff9f\000\uff9f\000\uff9f" +
+		"\uff9f\uff9f\uff9f\000\000\000\000\uff9f\000\uff9f\uff9f\uff9f" +
+		"\000\000\000\uff9f\uff9f\000\uff9f\000\uff9f\000\uffc1\uff9f" +
+		"\uff9f\000\000\uff9f\uff9f\uff9f\000\000\uff9f\uff9f\uff9f\000" +
+		"\uff9f\000\000\uff9f\uffc1\uff9f\000\uff9f\uffc1\uff9f\uff9f\000" +
+		"\uff9f\uff9f\uff9f\uff9f\uff9f\uff9f\uff9e\uffc1\000\uffb7\uff9e\000" +
+		"\uff9e\uff9e\000\uff9e\000\uff9e\000\uff9e\uff9e\uff9e\uff9e\000" +
+		"\000\000\000\uff9e\000\uff9e\uff9e\uff9e\000\000\000\uff9e" +
+		"\uff9e\000\uff9e\000\uff9e\000\uffb7\uff9e\uff9e\000\000\uff9e" +
+		"\uff9e\uff9e\000\000\uff9e\uff9e\uff9e\000\uff9e\000\000\uff9e" +
+		"\uffb7\uff9e\000\uff9e\uffb7\uff9e\uff9e\000\uff9e\uff9e\uff9e\uff9e" +
+		"\uff9e\uff9e\uffa5\uffb7\000\uffc3\uffa5\000\uffa5\uffa5\000\uffa5" +
+		"\000\uffa5\000\uffa5\uffa5\uffa5\uffa5\000\000\000\000\uffa5" +
+		"\000\uffa5\uffa5\uffa5\000\000\000\uffa5\uffa5\000\uffa5\000" +
+		"\uffa5\000\uffc3\uffa5\uffa5\000\000\uffa5\uffa5\uffa5\000\000" +
+		"\uffa5\uffa5\uffa5\000\uffa5\000\000\uffa5\uffc3\uffa5\000\uffa5" +
+		"\114\uffa5\uffa5\000\uffa5\uffa5\uffa5\uffa5\uffa5\uffa5\uffb1\uffc3" +
+		"\000\uffb9\uffb1\000\uffb1\uffb1\000\uffb1\000\uffb1\000\uffb1" +
+		"\uffb1\uffb1\uffb1\000\000\000\000\uffb1\000\uffb1\uffb1\uffb1" +
+		"\000\000\000\uffb1\uffb1\000\uffb1\000\uffb1\000\uffb9\uffb1" +
+		"\uffb1\000\000\uffb1\uffb1\uffb1\000\000\uffb1\uffb1\uffb1\000" +
+		"\uffb1\000\000\uffb1\uffb9\uffb1\000\uffb1\uffb9\uffb1\uffb1\000" +
+		"\uffb1\uffb1\uffb1\uffb1\uffb1\uffb1\071\uffb9\000\uffb8\uffe5\000" +
+		"\uffe5\355\000\345\000\100\000\uffe5\333\331\332\000" +
+		"\000\000\000\351\000\064\uffe5\357\000\000\000\361" +
+		"\uffe5\000\340\000\073\000\uffb8\065\074\000\000\341",
+		"\061\101\000\000\076\063\uffae\000\335\000\000\067" +
+		"\uffb8\102\000\060\uffb8\053\330\000\077\062\044\uffe5" +
+		"\070\013\uff9d\uffb8\000\uffc5\uff9d\000\uff9d\uff9d\000\uff9d" +
+		"\000\uff9d\000\uff9d\uff9d\uff9d\uff9d\000\000\000\000\uff9d" +
+		"\000\uff9d\uff9d\uff9d\000\000\000\uff9d\uff9d\000\uff9d\000" +
+		"\uff9d\000\uffc5\uff9d\uff9d\000\000\uff9d\uff9d\uff9d\000\000" +
+		"\uff9d\uff9d\uff9d\000\uff9d\000\000\uff9d\uffc5\uff9d\000\uff9d" +
+		"\114\uff9d\uff9d\000\uff9d\uff9d\uff9d\uff9d\uff9d\uff9d\uffa8\uffc5" +
+		"\000\uffbb\uffa8\000\uffa8\uffa8\000\uffa8\000\uffa8\000\uffa8" +
+		"\uffa8\uffa8\uffa8\000\000\000\000\uffa8\000\uffa8\uffa8\uffa8" +
+		"\000\000\000\uffa8\uffa8\000\uffa8\000\uffa8\000\uffbb\uffa8" +
+		"\uffa8\000\000\uffa8\uffa8\uffa8\000\000\uffa8\uffa8\uffa8\000" +
+		"\uffa8\000\000\uffa8\uffbb\uffa8\000\uffa8\114\uffa8\uffa8\000" +
+		"\uffa8\uffa8\uffa8\uffa8\uffa8\uffa8\uffa6\uffbb\000\000\uffa6\000" +
+		"\uffa6\uffa6\000\uffa6\000\uffa6\000\uffa6\uffa6\uffa6\uffa6\000" +
+		"\000\000\000\uffa6\000\uffa6\uffa6\uffa6\000\000\000\uffa6" +
+		"\uffa6\000\uffa6\000\uffa6\000\000\uffa6\uffa6\000\000\uffa6" +
+		"\uffa6\uffa6\000\000\uffa6\uffa6\uffa6\000\uffa6\000\000\uffa6" +
+		"\000\uffa6\000\uffa6\000\uffa6\uffa6\000\uffa6\uffa6\uffa6\uffa6" +
+		"\uffa6\uffa6\uffa4\000\000\000\uffa4\000\uffa4\uffa4\000\uffa4" +
+		"\000\uffa4\000\uffa4\uffa4\uffa4\uffa4\000\000\000\000\uffa4" +
+		"\000\uffa4\uffa4\uffa4\000\000\000\uffa4\uffa4\000\uffa4\000" +
+		"\uffa4\000\000\uffa4\uffa4\000\000\uffa4\uffa4\uffa4\000\000" +
+		"\uffa4\uffa4\uffa4\000\uffa4\000\000\uffa4\000\uffa4\000\uffa4" +
+		"\000\uffa4\uffa4\000\uffa4\uffa4\uffa4\uffa4\uffa4\uffa4\uffaa\000" +
+		"\000\000\uffaa\000\uffaa\uffaa\000\uffaa\000\uffaa\000\uffaa" +
+		"\uffaa\uffaa\uffaa\000\000\000\000\uffaa\000\uffaa\uffaa\uffaa" +
+		"\000\000\000\uffaa\uffaa\000\uffaa\000\uffaa\000\000\uffaa" +
+		"\uffaa\000\000\uffaa\uffaa\uffaa\000\000\uffaa\uffaa\uffaa\000" +
+		"\uffaa\000\000\uffaa\000\uffaa\000\uffaa\000\uffaa\uffaa\000" +
+		"\uffaa\uffaa\uffaa\uffaa\uffaa\uffaa\uffac\000\000\000\uffac\000" +
+		"\uffac\uffac\000\uffac\000\uffac\000\uffac\uffac\uffac\uffac\000" +
+		"\000\000\000\uffac\000\uffac\uffac\uffac\000\000\000\uffac" +
+		"\uffac\000\uffac\000\uffac\000\000\uffac\uffac\000\000\uffac" +
+		"\uffac\uffac\000\000\uffac\uffac\uffac\000\uffac\000\000\uffac" +
+		"\000\uffac\000\uffac\000\uffac\uffac\000\uffac\uffac\uffac\uffac" +
+		"\uffac\uffac\uffa9\000\000\000\uffa9\000\uffa9\uffa9\000\uffa9" +
+		"\000\uffa9\000\uffa9\uffa9\uffa9\uffa9\000\000\000\000\uffa9" +
+		"\000\uffa9\uffa9\uffa9\000\000\000\uffa9\uffa9\000\uffa9\000" +
+		"\uffa9\000\000\uffa9\uffa9\000\000\uffa9\uffa9\uffa9\000\000" +
+		"\uffa9\uffa9\uffa9\000\uffa9\000\000\uffa9\000\uffa9\000\uffa9" +
+		"\000\uffa9\uffa9\000\uffa9\uffa9\uffa9\uffa9\uffa9\uffa9\uffa2\000" +
+		"\000\000\uffa2\000\uffa2\uffa2\000\uffa2\000\uffa2\000\uffa2" +
+		"\uffa2\uffa2\uffa2\000\000\000\000\uffa2\000\uffa2\uffa2\uffa2" +
+		"\000\000\000\uffa2\uffa2\000\uffa2\000\uffa2\000\000\uffa2" +
+		"\uffa2\000\000\uffa2\uffa2\uffa2\000\000\uffa2\uffa2\uffa2\000" +
+		"\uffa2\000\000\uffa2\000\uffa2\000\uffa2\000\uffa2\uffa2\000" +
+		"\uffa2\uffa2\uffa2\uffa2\uffa2\uffa2\uff9c\000\000\000\uff9c\000" +
+		"\uff9c\uff9c\000\uff9c\000\uff9c\000\uff9c\uff9c\uff9c\uff9c\000" +
+		"\000\000\000\uff9c\000\uff9c\uff9c\uff9c\000\000\000\uff9c" +
+		"\uff9c\000\uff9c\000\uff9c\000\000\uff9c\uff9c\000\000\uff9c" +
+		"\uff9c\uff9c\000\000\uff9c\uff9c\uff9c\000\uff9c\000\000\uff9c" +
+		"\000\uff9c\000\uff9c\000\uff9c\uff9c\000\uff9c\uff9c\uff9c\uff9c" +
+		"\uff9c\uff9c\uffa3\000\000\000\uffa3\000\uffa3\uffa3\000\uffa3" +
+		"\000\uffa3\000\uffa3\uffa3\uffa3\uffa3\000\000\000\000\uffa3" +
+		"\000\uffa3\uffa3\uffa3\000\000\000\uffa3\uffa3\000\uffa3\000" +
+		"\uffa3\000\000\uffa3\uffa3\000\000\uffa3\uffa3\uffa3\000\000" +
+		"\uffa3\uffa3\uffa3\000\uffa3\000\000\uffa3\000\uffa3\000\uffa3" +
+		"\000\uffa3\uffa3\000\uffa3\uffa3\uffa3\uffa3\uffa3\uffa3\uff8d\000" +
+		"\000\000\uff8d\000\uff8d\uff8d\000\uff8d\000\uff8d\000\uff8d" +
+		"\uff8d\uff8d\uff8d\000\000\000\000\uff8d\000\uff8d\uff8d\uff8d" +
+		"\000\000\000\uff8d\uff8d\000\uff8d\000\uff8d\000\000\uff8d" +
+		"\uff8d\000\000\uff8d\uff8d\uff8d\000\000\uff8d\uff8d\uff8d\000" +
+		"\uff8d\000\000\uff8d\000\uff8d\000\uff8d\000\uff8d\uff8d\000" +
+		"\uff8d\uff8d\uff8d\uff8d\uff8d\uff8d\uff8b\000\000\000\uff8b\000" +
+		"\uff8b\uff8b\000\uff8b\000\uff8b\000\uff8b\uff8b\uff8b\uff8b\000" +
+		"\000\000\000\uff8b\000\uff8b\uff8b\uff8b\000\000\000\uff8b" +
+		"\uff8b\000\uff8b\000\uff8b\000\000\uff8b\uff8b\000\000\uff8b" +
+		"\uff8b\uff8b\000\000\uff8b\uff8b\uff8b\000\uff8b\000\000\uff8b" +
+		"\000\uff8b\000\uff8b\000\uff8b\uff8b\000\uff8b\uff8b\uff8b\uff8b" +
+		"\uff8b\uff8b\uff85\000\000\000\uff85\000\uff85\uff85\000\uff85" +
+		"\000\uff85\000\uff85\uff85\uff85\uff85\000\000\000\000\uff85" +
+		"\000\uff85\uff85\uff85\000\000\000\uff85\uff85\000\uff85\000" +
+		"\uff85\000\000\uff85\uff85\000\000\uff85\uff85\uff85\000\000" +
+		"\uff85\uff85\uff85\000\uff85\000\000\uff85\000\uff85\000\uff85" +
+		"\000\uff85\uff85\000\uff85\uff85\uff85\uff85\uff85\uff85\uff84\000" +
+		"\000\000\uff84\000\uff84\uff84\000\uff84\000\uff84\000\uff84" +
+		"\uff84\uff84\uff84\000\000\000\000\uff84\000\uff84\uff84\uff84" +
+		"\000\000\000\uff84\uff84\000\uff84\000\uff84\000\000\uff84" +
+		"\uff84\000\000\uff84\uff84\uff84\000\000\uff84\uff84\uff84\000" +
+		"\uff84\000\000\uff84\000\uff84\000\uff84\000\uff84\uff84\000" +
+		"\uff84\uff84\uff84\uff84\uff84\uff84\uff82\000\000\000\uff82\000" +
+		"\uff82\uff82\000\uff82\000\uff82\000\uff82\uff82\uff82\uff82\000" +
+		"\000\000\000\uff82\000\uff82\uff82\uff82\000\000\000\uff82" +
+		"\uff82\000\uff82\000\uff82\000\000\uff82\uff82\000\000\uff82" +
+		"\uff82\uff82\000\000\uff82\uff82\uff82\000\uff82\000\000\uff82" +
+		"\000\uff82\000\uff82\000\uff82\uff82\000\uff82\uff82\uff82\uff82" +
+		"\uff82\uff82\uffa7\000\000\000\uffa7\000\uffa7\uffa7\000\uffa7" +
+		"\000\uffa7\000\uffa7\uffa7\uffa7\uffa7\000\000\000\000\uffa7" +
+		"\000\uffa7\uffa7\uffa7\000\000\000\uffa7\uffa7\000\uffa7\000" +
+		"\uffa7\000\000\uffa7\uffa7\000\000\uffa7\uffa7\uffa7\000\000" +
+		"\uffa7\uffa7\uffa7\000\uffa7\000\000\uffa7\000\uffa7\000\uffa7" +
+		"\000\uffa7\uffa7\000\uffa7\uffa7\uffa7\uffa7\uffa7\uffa7\uff7f\000" +
+		"\000\000\uff7f\000\uff7f\uff7f\000\uff7f\000\uff7f\000\uff7f" +
+		"\uff7f\uff7f\uff7f\000\000\000\000\uff7f\000\uff7f\uff7f\uff7f" +
+		"\000\000\000\uff7f\uff7f\000\uff7f\000\uff7f\000\000\uff7f" +
+		"\uff7f\000\000\uff7f\uff7f\uff7f\000\000\uff7f\uff7f\uff7f\000" +
+		"\uff7f\000\000\uff7f\000\uff7f\000\uff7f\000\uff7f\uff7f\000" +
+		"\uff7f\uff7f\uff7f\uff7f\uff7f\uff7f\uffab\000\000\000\uffab\000" +
+		"\uffab\uffab\000\uffab\000\uffab\000\uffab\uffab\uffab\uffab\000",
+		"\000\000\000\uffab\000\uffab\uffab\uffab\000\000\000\uffab" +
+		"\uffab\000\uffab\000\uffab\000\000\uffab\uffab\000\000\uffab" +
+		"\uffab\uffab\000\000\uffab\uffab\uffab\000\uffab\000\000\uffab" +
+		"\000\uffab\000\uffab\000\uffab\uffab\000\uffab\uffab\uffab\uffab" +
+		"\uffab\uffab\uff38\000\000\000\uff38\000\uff38\uff38\000\uff38" +
+		"\000\uff38\000\uff38\uff38\uff38\uff38\000\000\000\000\uff38" +
+		"\000\uff38\uff38\uff38\000\000\000\uff38\uff38\000\uff38\000" +
+		"\uff38\000\000\uff38\uff38\000\000\uff38\uff38\uff38\000\000" +
+		"\uff38\uff38\uff38\000\uff38\000\000\uff38\000\uff38\000\uff38" +
+		"\000\uff38\uff38\000\uff38\uff38\uff38\uff38\uff38\uff38\071\000" +
+		"\000\000\uffe5\000\uffe5\355\000\345\000\100\000\uffe5" +
+		"\333\331\332\000\000\000\000\351\000\064\uffe5\357" +
+		"\000\000\000\361\uffe5\000\340\000\073\000\000\065" +
+		"\074\000\000\341\061\101\000\000\076\063\uffad\000" +
+		"\335\000\000\067\000\102\000\060\000\053\330\000" +
+		"\077\062\044\uffe5\070\013\uff81\000\000\000\uff81\000" +
+		"\uff81\uff81\000\uff81\000\uff81\000\uff81\uff81\uff81\uff81\000" +
+		"\000\000\000\uff81\000\uff81\uff81\uff81\000\000\000\uff81" +
+		"\uff81\000\uff81\000\uff81\000\000\uff81\uff81\000\000\uff81" +
+		"\uff81\uff81\000\000\uff81\uff81\uff81\000\uff81\000\000\uff81" +
+		"\000\uff81\000\uff81\000\uff81\uff81\000\uff81\uff81\uff81\uff81" +
+		"\uff81\uff81\uff80\000\000\000\uff80\000\uff80\uff80\000\uff80" +
+		"\000\uff80\000\uff80\uff80\uff80\uff80\000\000\000\000\uff80" +
+		"\000\uff80\uff80\uff80\000\000\000\uff80\uff80\000\uff80\000" +
+		"\uff80\000\000\uff80\uff80\000\000\uff80\uff80\uff80\000\000" +
+		"\uff80\uff80\uff80\000\uff80\000\000\uff80\000\uff80\000\uff80" +
+		"\000\uff80\uff80\000\uff80\uff80\uff80\uff80\uff80\uff80\uff83\000" +
+		"\000\000\uff83\000\uff83\uff83\000\uff83\000\uff83\000\uff83" +
+		"\uff83\uff83\uff83\000\000\000\000\uff83\000\uff83\uff83\uff83" +
+		"\000\000\000\uff83\uff83\000\uff83\000\uff83\000\000\uff83" +
+		"\uff83\000\000\uff83\uff83\uff83\000\000\uff83\uff83\uff83\000" +
+		"\uff83\000\000\uff83\000\uff83\000\uff83\000\uff83\uff83\000" +
+		"\uff83\uff83\uff83\uff83\uff83\uff83\uff37\000\000\000\uff37\000" +
+		"\uff37\uff37\000\uff37\000\uff37\000\uff37\uff37\uff37\uff37\000" +
+		"\000\000\000\uff37\000\uff37\uff37\uff37\000\000\000\uff37" +
+		"\uff37\000\uff37\000\uff37\000\000\uff37\uff37\000\000\uff37" +
+		"\uff37\uff37\000\000\uff37\uff37\uff37\000\uff37\000\000\uff37" +
+		"\000\uff37\000\uff37\000\uff37\uff37\000\uff37\uff37\uff37\uff37" +
+		"\uff37\uff37\uff7e\000\000\000\uff7e\000\uff7e\uff7e\000\uff7e" +
+		"\000\uff7e\000\uff7e\uff7e\uff7e\uff7e\000\000\000\000\uff7e" +
+		"\000\uff7e\uff7e\uff7e\000\000\000\uff7e\uff7e\000\uff7e\000" +
+		"\uff7e\000\000\uff7e\uff7e\000\000\uff7e\uff7e\uff7e\000\000" +
+		"\uff7e\uff7e\uff7e\000\uff7e\000\000\uff7e\000\uff7e\000\uff7e" +
+		"\000\uff7e\uff7e\000\uff7e\uff7e\uff7e\uff7e\uff7e\uff7e\uff87\000" +
+		"\000\000\uff87\000\uff87\uff87\000\uff87\000\uff87\000\uff87" +
+		"\uff87\uff87\uff87\000\000\000\000\uff87\000\uff87\uff87\uff87" +
+		"\000\000\000\uff87\uff87\000\uff87\000\uff87\000\000\uff87" +
+		"\uff87\000\000\uff87\uff87\uff87\000\000\uff87\uff87\uff87\000" +
+		"\uff87\000\000\uff87\000\uff87\000\uff87\000\uff87\uff87\000" +
+		"\uff87\uff87\uff87\uff87\uff87\uff87\071\000\000\000\uffe5\000" +
+		"\uffe5\355\000\345\000\100\000\uffe5\333\331\332\000" +
+		"\000\000\000\351\000\064\uffe5\357\000\000\000\361" +
+		"\uffe5\000\340\000\073\000\000\065\074\000\000\341" +
+		"\061\101\000\000\076\063\uffad\000\335\000\000\067" +
+		"\000\102\000\060\000\053\330\000\077\062\044\uffe5" +
+		"\070\013\071\000\000\000\uffe5\000\uffe5\355\000\345" +
+		"\000\100\000\uffe5\333\331\332\000\000\000\000\351" +
+		"\000\064\uffe5\357\uffb4\000\000\361\uffe5\000\340\uffb4" +
+		"\073\uffb4\000\065\074\000\000\341\061\101\000\000" +
+		"\076\063\uffad\000\335\000\000\067\000\102\uffb4\060" +
+		"\000\053\330\000\077\062\044\uffe5\070\013\uff3f\uff3f" +
+		"\uff3f\uff3f\000\uff3f\uffb4\uffb4\uff3f\000\uff3f\000\uff3f\000" +
+		"\000\000\000\uff3f\154\uff69\uff3f\000\000\uff69\000\000" +
+		"\uff69\uff3f\uff3f\000\uff69\000\uff3f\uff3f\uff3f\uff3f\uff3f\uff3f" +
+		"\uff3f\uff3f\uff3f\000\000\000\uff3f\uff3f\uff3f\uff3f\000\uff3f" +
+		"\uff69\uff3f\uff3f\000\uff3f\uff3f\uff43\uff43\uff43\uff43\000\uff43" +
+		"\uff69\uff69\uff43\000\uff43\uff69\uff43\uff69\uff69\000\000\uff43" +
+		"\154\uff6a\uff43\000\000\uff6a\000\000\uff6a\uff43\uff43\000" +
+		"\uff6a\000\uff43\uff43\uff43\uff43\uff43\uff43\uff43\uff43\uff43\000" +
+		"\000\000\uff43\uff43\uff43\uff43\000\uff43\uff6a\uff43\uff43\000" +
+		"\uff43\uff43\uff49\uff49\206\uff49\000\uff49\uff6a\uff6a\uff49\000" +
+		"\uff49\uff6a\uff49\uff6a\uff6a\000\000\207\000\uff6b\uff49\000" +
+		"\000\uff6b\000\000\152\uff49\uff49\000\uff6b\000\uff49\203" +
+		"\204\uff49\uff49\uff49\074\uff49\uff49\000\000\000\uff49\uff49" +
+		"\uff49\063\000\uff49\uff6b\uff49\uff49\000\uff49\uff49\uff3e\uff3e" +
+		"\uff3e\uff3e\000\uff3e\uff6b\uff6b\uff3e\000\uff3e\uff6b\uff3e\uff6b" +
+		"\uff6b\000\000\uff3e\000\uff6c\uff3e\000\000\uff6c\000\000" +
+		"\152\uff3e\uff3e\000\uff6c\000\uff3e\uff3e\uff3e\uff3e\uff3e\uff3e" +
+		"\uff3e\uff3e\uff3e\000\000\000\uff3e\uff3e\uff3e\uff3e\000\uff3e" +
+		"\uff6c\uff3e\uff3e\000\uff3e\uff3e\uff3b\uff3b\uff3b\uff3b\000\uff3b" +
+		"\uff6c\uff6c\uff3b\000\uff3b\uff6c\uff3b\uff6c\uff6c\000\000\uff3b" +
+		"\000\uff6d\uff3b\000\000\150\000\000\000\uff3b\uff3b\000" +
+		"\uff6d\000\uff3b\uff3b\uff3b\uff3b\uff3b\uff3b\uff3b\uff3b\uff3b\000" +
+		"\000\000\uff3b\uff3b\uff3b\uff3b\000\uff3b\uff6d\uff3b\uff3b\000" +
+		"\uff3b\uff3b\uff41\uff41\uff41\uff41\000\uff41\uff6d\uff6d\uff41\000" +
+		"\uff41\uff6d\uff41\uff6d\uff6d\000\000\uff41\000\uff6e\uff41\000" +
+		"\000\150\000\000\000\uff41\uff41\000\uff6e\000\uff41\uff41" +
+		"\uff41\uff41\uff41\uff41\uff41\uff41\uff41\000\000\000\uff41\uff41" +
+		"\uff41\uff41\000\uff41\uff6e\uff41\uff41\000\uff41\uff41\uff3d\uff3d" +
+		"\uff3d\uff3d\000\uff3d\uff6e\uff6e\uff3d\000\uff3d\uff6e\uff3d\uff6e" +
+		"\uff6e\000\000\uff3d\000\uff6f\uff3d\000\000\000\000\000" +
+		"\000\uff3d\uff3d\000\uff70\000\uff3d\uff3d\uff3d\uff3d\uff3d\uff3d" +
+		"\uff3d\uff3d\uff3d\000\000\000\uff3d\uff3d\uff3d\uff3d\000\uff3d" +
+		"\uff70\uff3d\uff3d\000\uff3d\uff3d\uff39\uff39\uff39\uff39\000\uff39" +
+		"\uff70\uff70\uff39\000\uff39\uff70\uff39\uff70\uff70\000\000\uff39" +
+		"\000\uff6f\uff39\000\000\000\000\000\000\uff39\uff39\000" +
+		"\uff71\000\uff39\uff39\uff39\uff39\uff39\uff39\uff39\uff39\uff39\000" +
+		"\000\000\uff39\uff39\uff39\uff39\000\uff39\uff71\uff39\uff39\000" +
+		"\uff39\uff39\uff40\uff40\uff40\uff40\000\uff40\uff71\uff71\uff40\000" +
+		"\uff40\uff71\uff40\uff71\uff71\000\000\uff40\000\000\uff40\000",
+		"\000\000\000\000\000\uff40\uff40\000\uff73\000\uff40\uff40" +
+		"\uff40\uff40\uff40\uff40\uff40\uff40\uff40\000\000\000\uff40\uff40" +
+		"\uff40\uff40\000\uff40\uff73\uff40\uff40\000\uff40\uff40\uff3c\uff3c" +
+		"\uff3c\uff3c\000\uff3c\uff72\uff73\uff3c\000\uff3c\uff73\uff3c\uff73" +
+		"\uff73\000\000\uff3c\000\000\uff3c\000\000\000\000\000" +
+		"\000\uff3c\uff3c\000\uff74\000\uff3c\uff3c\uff3c\uff3c\uff3c\uff3c" +
+		"\uff3c\uff3c\uff3c\000\000\000\uff3c\uff3c\uff3c\uff3c\000\uff3c" +
+		"\uff74\uff3c\uff3c\000\uff3c\uff3c\uff3a\uff3a\uff3a\uff3a\000\uff3a" +
+		"\000\uff74\uff3a\000\uff3a\uff74\uff3a\uff74\uff74\000\000\uff3a" +
+		"\000\000\uff3a\000\000\000\000\000\000\uff3a\uff3a\000" +
+		"\000\000\uff3a\uff3a\uff3a\uff3a\uff3a\uff3a\uff3a\uff3a\uff3a\000" +
+		"\000\000\uff3a\uff3a\uff3a\uff3a\000\uff3a\000\uff3a\uff3a\000" +
+		"\uff3a\uff3a\uff42\uff42\uff42\uff42\000\uff42\000\000\uff42\000" +
+		"\uff42\000\uff42\000\000\000\000\uff42\000\000\uff42\000" +
+		"\000\000\000\000\000\uff42\uff42\000\000\000\uff42\uff42" +
+		"\uff42\uff42\uff42\uff42\uff42\uff42\uff42\000\000\000\uff42\uff42" +
+		"\uff42\uff42\000\uff42\000\uff42\uff42\000\uff42\uff42\uff45\uff45" +
+		"\uff45\uff45\000\uff45\000\000\uff45\000\uff45\000\uff45\000" +
+		"\000\000\000\uff45\000\000\uff45\000\000\000\000\000" +
+		"\000\uff45\uff45\000\000\000\uff45\uff45\uff45\uff45\uff45\uff45" +
+		"\uff45\uff45\uff45\000\000\000\uff45\uff45\uff45\uff45\000\uff45" +
+		"\000\uff45\uff45\000\uff45\uff45\uff48\uff48\uff48\uff48\000\uff48" +
+		"\000\000\uff48\000\uff48\000\uff48\000\000\000\000\uff48" +
+		"\000\000\uff48\000\000\000\000\000\000\uff48\uff48\000" +
+		"\000\000\uff48\uff48\uff48\uff48\uff48\uff48\uff48\uff48\uff48\000" +
+		"\000\000\uff48\uff48\uff48\uff48\000\uff48\000\uff48\uff48\000" +
+		"\uff48\uff48\uff46\uff46\uff46\uff46\000\uff46\000\000\uff46\000" +
+		"\uff46\000\uff46\000\000\000\000\uff46\000\000\uff46\000" +
+		"\000\000\000\000\000\uff46\uff46\000\000\000\uff46\uff46" +
+		"\uff46\uff46\uff46\uff46\uff46\uff46\uff46\000\000\000\uff46\uff46" +
+		"\uff46\uff46\000\uff46\000\uff46\uff46\000\uff46\uff46\uff44\uff44" +
+		"\uff44\uff44\000\uff44\000\000\uff44\000\uff44\000\uff44\000" +
+		"\000\000\000\uff44\000\000\uff44\000\000\000\000\000" +
+		"\000\uff44\uff44\000\000\000\uff44\uff44\uff44\uff44\uff44\uff44" +
+		"\uff44\uff44\uff44\000\000\000\uff44\uff44\uff44\uff44\000\uff44" +
+		"\000\uff44\uff44\000\uff44\uff44\uff47\uff47\uff47\uff47\000\uff47" +
+		"\000\000\uff47\000\uff47\000\uff47\000\000\000\000\uff47" +
+		"\000\000\uff47\000\000\000\000\000\000\uff47\uff47\000" +
+		"\000\000\uff47\uff47\uff47\uff47\uff47\uff47\uff47\uff47\uff47\uffb3" +
+		"\000\000\uff47\uff47\uff47\uff47\uffb3\uff47\uffb3\uff47\uff47\000" +
+		"\uff47\uff47\uff51\uff51\000\uff51\000\uff51\000\000\uff51\000" +
+		"\uff51\000\uff51\000\000\uffb3\000\000\uff67\uff67\uff51\000" +
+		"\000\uff67\000\000\uff67\uff51\uff51\000\uff67\000\uff51\uffb3" +
+		"\uffb3\uff51\uff51\uff51\160\uff51\uff51\000\000\000\uff51\uff51" +
+		"\uff51\000\000\uff51\uff67\uff51\uff51\000\uff51\uff51\uff4f\uff4f" +
+		"\157\uff4f\000\uff4f\uff67\uff67\uff4f\000\uff4f\uff67\uff4f\uff67" +
+		"\uff67\000\000\000\uff68\uff68\uff4f\000\000\uff68\000\000" +
+		"\uff68\uff4f\uff4f\000\uff68\000\uff4f\000\000\uff4f\uff4f\uff4f" +
+		"\160\uff4f\uff4f\000\000\000\uff4f\uff4f\uff4f\000\000\uff4f" +
+		"\uff68\uff4f\uff4f\000\uff4f\uff4f\uff4b\uff4b\157\uff4b\000\uff4b" +
+		"\uff68\uff68\uff4b\000\uff4b\uff68\uff4b\uff68\uff68\000\000\000" +
+		"\000\000\uff4b\000\000\000\000\000\000\uff4b\uff4b\000" +
+		"\000\000\uff4b\000\000\uff4b\uff4b\uff4b\000\uff4b\uff4b\uffb2" +
+		"\000\000\uff4b\uff4b\uff4b\000\uffb2\uff4b\uffb2\uff4b\uff4b\000" +
+		"\uff4b\uff4b\uff4a\uff4a\000\uff4a\000\uff4a\000\000\uff4a\000" +
+		"\uff4a\000\uff4a\000\000\uffb2\000\000\000\000\uff4a\000" +
+		"\000\030\000\000\000\uff4a\uff4a\000\000\000\uff4a\uffb2" +
+		"\uffb2\uff4a\uff4a\uff4a\000\uff4a\uff4a\033\000\000\uff4a\uff4a" +
+		"\uff4a\034\000\uff4a\000\uff4a\uff4a\000\uff4a\uff4a\uff50\uff50" +
+		"\000\uff50\000\uff50\000\000\uff50\000\uff50\000\uff50\000" +
+		"\000\000\000\000\000\000\uff50\000\u0139\030\000\000" +
+		"\027\uff50\uff50\000\000\000\uff50\000\000\uff50\uff50\uff50" +
+		"\000\uff50\uff50\033\000\000\uff50\uff50\uff50\034\000\uff50" +
+		"\000\uff50\uff50\000\uff50\uff50\uff4c\uff4c\000\uff4c\000\uff4c" +
+		"\000\000\uff4c\000\uff4c\000\uff4c\000\000\000\000\000" +
+		"\000\000\uff4c\000\u0139\000\000\000\027\uff4c\uff4c\000" +
+		"\000\000\uff4c\000\000\uff4c\uff4c\uff4c\000\uff4c\uff4c\000" +
+		"\000\000\uff4c\uff4c\uff4c\000\000\uff4c\000\uff4c\uff4c\000" +
+		"\uff4c\uff4c\uff4d\uff4d\000\uff4d\000\uff4d\000\000\uff4d\000" +
+		"\uff4d\000\uff4d\000\000\000\000\000\000\000\uff4d\000" +
+		"\000\000\000\000\000\uff4d\uff4d\000\000\000\uff4d\000" +
+		"\000\uff4d\uff4d\uff4d\000\uff4d\uff4d\000\000\000\uff4d\uff4d" +
+		"\uff4d\000\000\uff4d\000\uff4d\uff4d\000\uff4d\uff4d\uff4e\uff4e" +
+		"\000\uff4e\000\uff4e\000\000\uff4e\000\uff4e\000\uff4e\000" +
+		"\000\000\000\000\000\000\uff4e\000\000\000\000\000" +
+		"\000\uff4e\uff4e\000\000\000\uff4e\000\000\uff4e\uff4e\uff4e" +
+		"\000\uff4e\uff4e\000\000\000\uff4e\uff4e\uff4e\000\000\uff4e" +
+		"\000\uff4e\uff4e\000\uff4e\uff4e\uff5f\uff5f\000\222\000\uff5f" +
+		"\000\000\uff5f\000\000\000\uff5f\000\000\000\000\000" +
+		"\000\000\uff5f\000\000\000\000\000\000\uff5f\uff5f\000" +
+		"\000\000\uff5f\000\000\uff5f\uff5f\uff5f\000\uff5f\uff5f\000" +
+		"\000\000\uff5f\uff5f\uff5f\000\000\uff5f\000\uff5f\uff5f\000" +
+		"\uff5f\uff5f\uff61\uff61\000\000\000\uff61\000\000\uff61\000" +
+		"\000\000\uff61\000\000\000\000\000\000\000\uff61\000" +
+		"\000\030\000\000\000\uff61\uff61\000\000\000\uff61\000" +
+		"\000\uff61\uff61\uff61\000\174\uff61\033\071\000\uff61\uff61" +
+		"\uff61\034\030\uff61\000\uff61\uff61\100\176\175\000\030" +
+		"\000\000\000\000\000\000\000\064\033\000\uff9a\000" +
+		"\000\000\034\000\000\033\073\000\000\065\074\034" +
+		"\027\000\061\101\000\071\076\063\000\000\000\030" +
+		"\000\067\000\102\100\060\000\053\uff9a\000\077\062" +
+		"\044\027\070\000\064\033\000\000\000\000\027\034" +
+		"\000\000\000\073\000\000\065\074\000\uff5f\uff5f\061" +
+		"\101\000\uff5f\076\063\uff5f\000\000\000\uff5f\067\000" +
+		"\102\000\060\000\053\uff5f\000\077\062\044\027\070" +
+		"\uff5f\uff5f\000\000\000\uff5f\000\000\uff5f\uff5f\uff5f\000" +
+		"\uff5f\uff5f\000\000\000\uff5f\uff5f\uff5f\000\000\uff5f\000" +
+		"\uff5f\uff5f\000\uff5f\uff5f\uff62\uff62\000\000\000\uff62\000" +
+		"\000\uff62\000\000\000\uff62\000\000\000\000\000\000" +
+		"\000\uff62\000\000\000\000\000\000\uff62\uff62\000\000",
+		"\000\uff62\000\000\uff62\uff62\uff62\000\174\uff62\000\000" +
+		"\000\uff62\uff62\uff62\000\000\uff62\000\uff62\uff62\000\176" +
+		"\175\uff60\uff60\000\000\000\uff60\000\000\uff60\000\000" +
+		"\000\uff60\000\000\000\000\000\000\000\uff60\000\000" +
+		"\000\000\000\000\uff60\uff60\000\000\000\uff60\000\000" +
+		"\uff60\uff60\uff60\000\uff60\uff60\000\000\000\uff60\uff60\uff60" +
+		"\000\000\uff60\000\uff60\uff60\000\uff60\uff60\uff63\uff63\000" +
+		"\000\000\uff63\000\000\uff63\000\000\000\uff63\000\000" +
+		"\000\000\000\000\000\uff63\000\000\000\000\000\000" +
+		"\uff63\uff63\000\000\000\uff63\000\000\uff63\uff63\170\000" +
+		"\000\uff63\000\uff64\uff64\uff63\uff63\171\uff64\000\uff63\uff64" +
+		"\uff63\uff63\000\uff64\000\000\000\000\000\000\071\uff64" +
+		"\000\000\000\000\000\000\uff64\uff64\000\100\000\uff64" +
+		"\000\000\uff64\uff64\170\000\000\uff64\000\064\000\uff64" +
+		"\uff64\171\000\000\uff64\000\uff64\uff64\073\000\030\065" +
+		"\074\000\000\000\061\101\000\071\076\063\000\000" +
+		"\000\uff77\000\067\033\102\100\060\000\053\034\000" +
+		"\077\062\044\000\070\000\064\000\000\000\000\000" +
+		"\000\000\000\000\071\073\000\uff9a\065\074\000\000" +
+		"\000\061\101\100\000\076\063\000\000\027\uff77\000" +
+		"\067\000\102\064\060\000\053\000\000\077\062\044" +
+		"\000\070\073\000\000\065\074\000\000\000\061\101" +
+		"\000\000\076\063\000\071\000\000\u0119\067\000\102" +
+		"\000\060\000\053\100\000\077\062\044\000\070\000" +
+		"\u0121\000\000\000\064\000\000\000\000\000\000\000" +
+		"\000\000\071\073\000\000\065\074\000\000\000\061" +
+		"\101\100\000\076\063\000\000\000\000\u0121\067\000" +
+		"\102\064\060\000\053\000\000\077\062\044\000\070" +
+		"\073\000\000\065\074\000\000\000\061\101\000\071" +
+		"\076\063\000\000\000\000\000\067\000\102\100\060" +
+		"\000\053\000\000\077\062\044\000\070\000\064\000" +
+		"\000\000\000\000\000\000\000\000\071\073\000\000" +
+		"\065\074\000\000\000\061\101\100\000\076\063\000" +
+		"\000\000\000\000\067\000\102\064\060\000\053\000" +
+		"\000\077\062\044\000\070\073\000\000\065\074\000" +
+		"\000\000\061\101\000\uff36\076\063\000\000\000\000" +
+		"\000\067\000\102\uff36\060\000\053\000\000\077\062" +
+		"\044\000\070\000\uff36\000\000\000\000\000\000\000" +
+		"\000\000\071\uff36\000\000\uff36\uff36\000\000\000\uff36" +
+		"\uff36\100\000\uff36\uff36\000\000\000\000\000\uff36\000" +
+		"\uff36\064\uff36\000\uff36\000\000\uff36\uff36\uff36\000\uff36" +
+		"\073\000\000\065\074\000\000\000\061\101\000\071" +
+		"\076\063\000\000\000\000\000\067\000\102\100\060" +
+		"\000\053\000\000\077\062\044\000\070\000\064\000" +
+		"\000\000\000\000\000\000\000\000\071\073\000\000" +
+		"\065\074\000\000\000\061\101\100\000\076\063\000" +
+		"\000\000\000\000\067\000\102\064\060\000\053\000" +
+		"\000\077\062\044\000\070\073\000\000\065\074\000" +
+		"\000\000\061\101\000\uff35\076\063\000\000\000\000" +
+		"\000\067\000\102\uff35\060\000\053\000\000\077\062" +
+		"\044\000\070\000\uff35\000\000\000\000\000\000\000" +
+		"\000\000\071\uff35\000\000\uff35\uff35\000\000\000\uff35" +
+		"\uff35\100\000\uff35\uff35\000\000\000\000\000\uff35\000" +
+		"\uff35\064\uff35\000\uff35\000\000\uff35\uff35\uff35\000\uff35" +
+		"\073\000\000\065\074\000\000\000\061\101\000\071" +
+		"\076\063\000\000\000\000\000\067\000\102\100\060" +
+		"\000\053\000\000\077\062\044\000\070\000\064\000" +
+		"\000\000\000\000\000\000\000\000\071\073\000\000" +
+		"\065\074\000\000\000\061\101\100\000\076\063\000" +
+		"\000\000\000\000\067\000\102\064\060\000\053\000" +
+		"\000\077\062\044\000\070\073\000\000\065\074\000" +
+		"\000\000\061\101\000\071\076\063\000\000\000\000" +
+		"\000\067\000\102\100\060\000\053\000\000\077\062" +
+		"\044\000\070\000\064\000\000\000\000\000\000\000" +
+		"\000\000\071\073\000\000\065\074\000\000\000\061" +
+		"\101\100\000\076\063\000\000\000\000\000\067\000" +
+		"\102\064\060\000\053\000\000\077\062\044\000\070" +
+		"\073\000\000\065\074\000\000\000\061\101\000\071" +
+		"\076\063\000\000\000\000\000\067\000\102\100\060" +
+		"\000\053\000\000\077\062\044\000\070\000\064\000" +
+		"\000\000\000\000\000\000\000\000\071\073\000\000" +
+		"\065\074\000\000\000\061\101\100\000\076\063\000" +
+		"\000\000\000\000\067\000\102\064\060\000\053\000" +
+		"\000\077\062\044\000\070\073\000\000\065\074\000" +
+		"\000\000\061\101\000\071\076\063\000\000\000\000" +
+		"\000\067\000\102\100\060\000\053\000\000\077\062" +
+		"\044\000\070\000\064\000\000\000\000\000\000\000" +
+		"\000\000\071\073\000\000\065\074\000\000\000\061" +
+		"\101\100\000\076\063\000\000\000\000\000\067\000" +
+		"\102\064\060\000\053\000\000\077\062\044\000\070" +
+		"\073\000\000\065\074\000\000\000\061\101\000\uff5d" +
+		"\076\063\000\000\000\000\000\067\000\102\uff5d\060" +
+		"\000\053\000\000\077\062\044\000\070\000\uff5d\000" +
+		"\000\000\000\000\000\000\000\000\uff5e\uff5d\000\000" +
+		"\uff5d\uff5d\000\000\000\uff5d\uff5d\uff5e\000\uff5d\uff5d\000" +
+		"\000\000\000\000\uff5d\000\uff5d\uff5e\uff5d\000\uff5d\000" +
+		"\000\uff5d\uff5d\uff5d\000\uff5d\uff5e\000\000\uff5e\uff5e\000" +
+		"\000\000\uff5e\uff5e\000\uff59\uff5e\uff5e\000\000\000\000" +
+		"\000\uff5e\000\uff5e\uff59\uff5e\000\uff5e\000\000\uff5e\uff5e" +
+		"\uff5e\000\uff5e\000\uff59\000\000\000\000\000\000\000" +
+		"\000\000\uff5a\uff59\000\000\uff59\uff59\000\000\000\uff59" +
+		"\uff59\uff5a\000\uff59\uff59\000\000\000\000\000\uff59\000" +
+		"\uff59\uff5a\uff59\000\uff59\000\000\uff59\uff59\uff59\000\uff59" +
+		"\uff5a\000\000\uff5a\uff5a\000\000\000\uff5a\uff5a\000\uff5c" +
+		"\uff5a\uff5a\000\000\000\000\000\uff5a\000\uff5a\uff5c\uff5a" +
+		"\000\uff5a\000\000\uff5a\uff5a\uff5a\000\uff5a\000\uff5c\000" +
+		"\000\000\000\000\000\000\000\000\071\uff5c\000\000" +
+		"\uff5c\uff5c\000\000\000\uff5c\uff5c\100\000\uff5c\uff5c\000" +
+		"\000\000\000\000\uff5c\000\uff5c\064\uff5c\000\uff5c\000" +
+		"\000\uff5c\uff5c\uff5c\000\uff5c\073\000\000\065\074\000",
+		"\000\000\061\101\000\uff5b\076\063\000\000\000\000" +
+		"\000\067\000\102\uff5b\060\000\053\000\000\077\062" +
+		"\044\000\070\000\uff5b\000\000\000\000\000\000\000" +
+		"\000\000\uff57\uff5b\000\000\uff5b\uff5b\000\000\000\uff5b" +
+		"\uff5b\uff57\000\uff5b\uff5b\000\000\000\000\000\uff5b\000" +
+		"\uff5b\uff57\uff5b\000\uff5b\000\000\uff5b\uff5b\uff5b\000\uff5b" +
+		"\uff57\000\000\uff57\uff57\000\000\000\uff57\uff57\000\uff58" +
+		"\uff57\uff57\000\000\000\000\000\uff57\000\uff57\uff58\uff57" +
+		"\000\uff57\000\000\uff57\uff57\uff57\000\uff57\000\uff58\000" +
+		"\000\000\000\000\000\000\000\000\071\uff58\000\000" +
+		"\uff58\uff58\000\000\000\uff58\uff58\100\000\uff58\uff58\000" +
+		"\000\000\000\000\uff58\000\uff58\064\uff58\000\uff58\000" +
+		"\000\uff58\uff58\uff58\000\uff58\073\000\000\065\074\000" +
+		"\000\000\061\101\000\uff54\076\063\000\000\000\000" +
+		"\000\067\000\102\uff54\060\000\053\000\000\077\062" +
+		"\044\000\070\000\uff54\000\000\000\000\000\000\000" +
+		"\000\000\uff56\uff54\000\000\uff54\uff54\000\000\000\uff54" +
+		"\uff54\uff56\000\uff54\uff54\000\000\000\000\000\uff54\000" +
+		"\uff54\uff56\uff54\000\uff54\000\000\uff54\uff54\uff54\000\uff54" +
+		"\uff56\000\000\uff56\uff56\000\000\000\uff56\uff56\000\uff55" +
+		"\uff56\uff56\000\000\000\000\000\uff56\000\uff56\uff55\uff56" +
+		"\000\uff56\000\000\uff56\uff56\uff56\000\uff56\000\uff55\000" +
+		"\000\000\000\000\000\000\000\000\071\uff55\000\000" +
+		"\uff55\uff55\000\000\000\uff55\uff55\100\000\uff55\uff55\000" +
+		"\000\000\000\000\uff55\000\uff55\064\uff55\000\uff55\000" +
+		"\000\uff55\uff55\uff55\000\uff55\073\000\000\065\074\000" +
+		"\000\000\061\101\000\071\076\063\000\000\000\000" +
+		"\000\067\000\102\100\060\000\053\000\000\077\062" +
+		"\044\000\070\000\064\000\000\000\000\000\000\000" +
+		"\000\000\071\073\000\000\065\074\000\000\000\061" +
+		"\101\100\000\076\063\000\000\000\000\000\067\000" +
+		"\102\064\060\000\053\000\000\077\062\044\000\070" +
+		"\073\000\000\065\074\000\000\000\061\101\000\071" +
+		"\076\063\000\000\000\000\000\067\000\102\100\060" +
+		"\000\053\000\000\077\062\044\000\070\000\064\000" +
+		"\000\000\000\000\000\000\000\000\071\073\000\000" +
+		"\065\074\000\000\000\061\101\100\000\076\063\000" +
+		"\000\000\000\000\067\000\102\064\060\000\053\000" +
+		"\000\077\062\044\000\070\073\000\000\065\074\000" +
+		"\000\000\061\101\000\071\076\063\000\000\000\000" +
+		"\000\067\000\102\100\060\000\053\000\000\077\062" +
+		"\044\000\070\000\064\000\000\000\000\000\000\000" +
+		"\000\000\071\073\000\000\065\074\000\000\000\061" +
+		"\101\100\000\076\063\000\000\000\000\000\067\000" +
+		"\102\064\060\000\053\000\000\077\062\044\000\070" +
+		"\073\000\000\065\074\000\000\000\061\101\000\uff89" +
+		"\076\063\000\000\000\000\000\067\000\102\uff89\060" +
+		"\000\053\000\000\077\062\044\000\070\000\uff89\000" +
+		"\000\000\000\000\000\000\000\000\071\uff89\000\000" +
+		"\uff89\uff89\000\000\000\uff89\uff89\100\000\uff89\uff89\000" +
+		"\000\000\000\000\uff89\000\uff89\064\uff89\000\uff89\000" +
+		"\000\uff89\uff89\uff89\000\uff89\073\000\000\065\074\000" +
+		"\000\000\061\101\000\071\076\063\000\000\000\000" +
+		"\000\067\000\102\100\060\000\053\000\000\077\062" +
+		"\044\000\070\000\064\000\000\000\000\000\000\000" +
+		"\000\000\071\073\000\000\065\074\000\000\000\061" +
+		"\101\100\000\076\063\000\000\000\000\000\067\000" +
+		"\102\064\060\000\053\000\000\077\062\044\000\070" +
+		"\073\000\000\065\074\000\000\000\061\101\000\071" +
+		"\076\063\000\000\000\000\000\067\000\102\100\060" +
+		"\000\053\000\000\077\062\044\000\070\000\064\000" +
+		"\000\000\000\000\000\000\000\000\071\073\000\000" +
+		"\065\074\000\000\000\061\101\100\000\076\063\000" +
+		"\000\000\000\000\067\000\102\064\060\000\053\000" +
+		"\000\077\062\044\000\070\073\000\000\065\074\000" +
+		"\000\000\061\101\000\071\076\063\000\000\000\000" +
+		"\000\067\000\102\100\060\000\053\000\000\077\062" +
+		"\044\000\070\000\064\000\000\000\000\000\000\000" +
+		"\000\000\071\073\000\000\065\074\000\000\000\061" +
+		"\101\100\000\076\063\000\000\000\000\000\067\000" +
+		"\102\064\060\000\053\000\000\077\062\044\000\070" +
+		"\073\000\000\065\074\000\uff65\uff65\061\101\000\uff65" +
+		"\076\063\uff65\000\000\000\uff65\067\000\102\000\060" +
+		"\000\053\uff65\000\077\062\044\000\070\166\162\000" +
+		"\000\000\uff65\000\000\164\163\000\uff66\uff66\uff65\000" +
+		"\000\uff66\uff65\uff65\uff66\000\000\uff65\uff66\uff65\uff65\uffca" +
+		"\000\000\000\000\uff66\uffca\000\uffca\000\000\000\166" +
+		"\162\000\uffca\000\uff66\000\000\164\163\000\000\uffca" +
+		"\uff66\uffca\uffff\uffca\uff66\uff66\000\uffca\uffff\uff66\uffff\uff66" +
+		"\uff66\000\000\000\000\uffff\000\000\000\ufffb\000\000" +
+		"\000\uffca\uffff\uffe5\uffff\uffe5\uffff\ufff4\000\uffca\uffff\000" +
+		"\uffe5\ufff4\000\ufff4\000\000\uffca\000\uffca\005\ufff4\uffe5" +
+		"\000\007\ufff5\000\000\uffe5\000\ufff4\ufff5\ufff4\ufff5\ufff4" +
+		"\uffff\000\000\ufff4\000\ufff5\000\000\000\uffff\000\uffff" +
+		"\000\000\ufff5\000\ufff5\ufff7\ufff5\010\000\000\ufff5\ufff7" +
+		"\000\ufff7\000\000\uffe5\ufff4\013\000\ufff7\000\000\000" +
+		"\ufffa\000\ufff4\000\ufff4\ufff7\ufffa\ufff7\ufffa\ufff7\ufff3\000" +
+		"\ufff5\ufff7\000\ufffa\ufff3\000\ufff3\000\000\ufff5\000\ufff5" +
+		"\ufffa\ufff3\ufffa\000\ufffa\ufffc\000\000\ufffa\000\ufff3\uffe5" +
+		"\ufff3\uffe5\ufff3\ufff7\000\000\ufff3\000\uffe5\000\000\000" +
+		"\ufff7\000\ufff7\000\000\005\000\uffe5\ufff8\007\ufffa\000" +
+		"\000\uffe5\ufff8\000\ufff8\000\000\ufffa\ufff3\ufffa\000\ufff8" +
+		"\000\000\000\ufff6\000\ufff3\000\ufff3\ufff8\ufff6\ufff8\ufff6" +
+		"\ufff8\ufff9\000\010\ufff8\000\ufff6\ufff9\000\ufff9\000\000" +
+		"\uffe5\000\013\ufff6\ufff9\ufff6\000\ufff6\uffe1\000\000\ufff6" +
+		"\000\ufff9\uffe1\ufff9\uffe1\ufff9\ufff8\000\000\ufff9\000\uffe1" +
+		"\000\000\000\ufff8\000\ufff8\000\000\uffe1\000\uffe1\ufff1" +
+		"\uffe1\ufff6\000\000\uffe1\ufff1\000\ufff1\000\000\ufff6\ufff9" +
+		"\ufff6\000\ufff1\000\000\000\uffc7\000\ufff9\000\ufff9\ufff1" +
+		"\uffc7\ufff1\uffc7\ufff1\000\000\uffe1\ufff1\000\uffc7\000\000",
+		"\000\000\000\uffe1\000\uffe1\uffc7\000\uffc7\000\uffc7\000" +
+		"\000\000\uffc7\000\000\000\000\000\000\ufff1\000\000" +
+		"\000\000\000\000\000\000\ufff1\000\ufff1\000\000\000" +
+		"\000\000\000\000\uffc7\000\000\000\000\000\000\000" +
+		"\000\uffc7\000\uffc7" });
+	private static final int[]	GOTO_BASE = unpack (new String[] {
+		"\002\005\011\006\050\010\014\015\315\017\021\025" +
+		"\026\101\031\032\034\035\036\027\040\041\042\043" +
+		"\063\016\044\045\046\047\051\u0174\020\052\003\054" +
+		"\001\033\055\022\056\057\060\012\061\023\053\064" +
+		"\u037d\065\066\067\070\071\073\074\u0385\u0388\u0103\075" +
+		"\u038c\076\077\100\102\u038f\104\105\106\117\107\110" +
+		"\111\u03a3\112\113\004\114\115\116\121\u031e\122\120" +
+		"\167\124\u0190\125\213\126\127\130\131\132\133\134" +
+		"\135\u02f1\137\062\140\u0300\141\u030f\142\u032d\143\u033f" +
+		"\200\u034e\144\145\232\146\147\150\u036a\151\243\152" +
+		"\153\136\231\154\155\156\u03aa\157\160\161\u01e3\u011e" +
+		"\162\163\165\166\170\171\173\174\175\u01fe\176\177" +
+		"\202\u0219\204\205\u01ac\201\206\210\345\123\211\203" +
+		"\212\215\216\u0139\220\225\227\u0234\207\234\236\347" +
+		"\266\233\u024f\237\240\241\242\265\244\224\037\351" +
+		"\246\250\u0101\251\252\253\255\257\222\030\260\262" +
+		"\226\024\263\235\264\247\267\270\272\273\230\274" +
+		"\275\u0312\007\276\277\300\271\301\000\302\303\217" +
+		"\304\u03ad\305\306\u026a\307\310\221\u03b2\350\312\313" +
+		"\314\316\317\320\321\322\323\324\325\326\327\330" +
+		"\u0285\331\332\245\013\254\375\333\261\u0110\334\223" +
+		"\u011f\335\336\340\u02a0\341\311\u012e\342\344\u02bb\346" +
+		"\352\353\354\355\u03b5\356\360\361\214\362\363\072" +
+		"\343\364\365\366\367\370\371\372\373\u0154\374\376" +
+		"\377\u0105\u01c7\u0108\u0109\u02d6\337\u0132\u010a\u0342\u010b\u010c" +
+		"\u0133\u010d\357\u010f\u0111\u0112\164\u0113\u0114\103\u0115\u0140" +
+		"\u0116\u0117\u0100\u0118\u034f\u0119\u0102\u011a\256\u0104\u011b\u011c" +
+		"\u011d\u0120\u0135\u010e\u0121\u0122\172\u0123\u0106\u0124\u035c\u0125" +
+		"\u0107\u0126\u0127\u0128" });
+	private static final int[]	GOTO_DEFAULT = unpack (new String[] {
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff" });
+	private static final int[]	GOTO_CHECK = unpack (new String[] {
+		"\uffff\uffff\uffff\000\uffff\uffff\uffff\uffff\324\324\324\002" +
+		"\002\002\002\002\002\002\002\002\002\316\324\324" +
+		"\324\301\324\324\324\324\324\324\324\324\364\324" +
+		"\275\275\044\301\301\301\275\324\324\114\262\324" +
+		"\042\324\324\324\324\324\324\324\324\324\324\324" +
+		"\324\324\040\045\023\047\u0113\u0113\u0113\015\015\015" +
+		"\015\015\015\015\015\031\324\324\u0113\u0113\u0113\000" +
+		"\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\030\u0113\262\262" +
+		"\262\053\262\023\023\u0113\u0113\004\004\u0113\262\u0113" +
+		"\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113" +
+		"\105\123\231\231\u0132\u0132\u0132\055\030\171\u0135\u0135" +
+		"\u0135\u0135\u0135\u0135\u0113\u0113\u0132\u0132\u0132\171\u0132\u0132" +
+		"\u0132\u0132\u0132\u0132\u0132\u0132\056\u0132\171\171\171\171" +
+		"\105\123\143\u0132\u0132\124\303\u0132\154\u0132\u0132\u0132" +
+		"\u0132\u0132\u0132\u0132\u0132\u0132\u0132\u0132\u0132\u0132\303\u0110" +
+		"\u0110\130\u0140\u0140\u0140\u014a\u014a\u014a\u014a\u014a\u014a\160" +
+		"\124\124\u0132\u0132\u0140\u0140\u0140\172\u0140\u0140\u0140\u0140" +
+		"\u0140\u0140\u0140\u0140\166\u0140\373\373\373\373\373\225" +
+		"\233\u0140\u0140\244\250\u0140\257\u0140\u0140\u0140\u0140\u0140" +
+		"\u0140\u0140\u0140\u0140\u0140\u0140\u0140\u0140\261\274\251\300" +
+		"\341\341\341\312\337\263\263\327\263\263\263\263" +
+		"\u0140\u0140\341\341\341\305\341\341\341\341\341\341" +
+		"\341\341\363\341\010\010\010\230\010\247\365\341" +
+		"\341\322\366\341\370\341\341\341\341\341\341\341" +
+		"\341\341\341\341\341\341\072\371\263\263\263\266" +
+		"\263\374\230\230\247\247\072\u0102\072\072\072\072" +
+		"\072\072\072\072\072\072\072\072\072\203\072\072" +
+		"\072\u0103\072\u0114\u0126\u0127\266\266\u012e\203\u0137\203" +
+		"\203\203\203\203\203\203\203\203\203\203\203\203" +
+		"\237\u012c\u013a\u0146\u0147\u013e\uffff\uffff\u0141\203\203\u014c" +
+		"\237\u0150\237\237\237\237\237\237\237\237\237\237" +
+		"\237\237\237\u011d\uffff\uffff\uffff\uffff\u012c\u012c\u0146\u0146" +
+		"\237\237\uffff\u011d\uffff\u011d\u011d\u011d\u011d\u011d\u011d\u011d" +
+		"\u011d\u011d\u011d\u011d\u011d\u011d\u011d\uffff\uffff\uffff\037\037" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\037" +
+		"\u011d\037\037\037\037\037\037\037\037\037\037\037" +
+		"\037\037\126\126\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\126\uffff\126\126\126\126\126\126\126" +
+		"\126\126\126\126\126\126\224\224\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\224\uffff\224\224\224" +
+		"\224\224\224\224\224\224\224\224\224\224\u0122\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\u0122\uffff" +
+		"\u0122\u0122\u0122\u0122\u0122\u0122\u0122\u0122\u0122\u0122\u0122\u0122" +
+		"\u0122\u0122\202\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\202\uffff\202\202\202\202\202\202\202\202" +
+		"\202\202\202\202\202\215\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\215\uffff\215\215\215\215\215" +
+		"\215\215\215\215\215\215\215\215\221\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\221\uffff\221\221" +
+		"\221\221\221\221\221\221\221\221\221\221\221\243" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\243" +
+		"\uffff\243\243\243\243\243\243\243\243\243\243\243" +
+		"\243\243\252\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\252\uffff\252\252\252\252\252\252\252\252" +
+		"\252\252\252\252\252\334\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\334\uffff\334\334\334\334\334" +
+		"\334\334\334\334\334\334\334\334\360\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\360\uffff\360\360" +
+		"\360\360\360\360\360\360\360\360\360\360\360\u0100" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\u0100" +
+		"\uffff\u0100\u0100\u0100\u0100\u0100\u0100\u0100\u0100\u0100\u0100\u0100" +
+		"\u0100\u0100\u0106\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\u0106\uffff\u0106\u0106\u0106\u0106\u0106\u0106\u0106\u0106" +
+		"\u0106\u0106\u0106\u0106\u0106\u0125\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\u0125\uffff\u0125\u0125\u0125\u0125\u0125" +
+		"\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\141\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\141\uffff\uffff\145" +
+		"\141\141\141\141\141\141\141\141\141\141\141\145" +
+		"\uffff\uffff\147\uffff\145\145\145\145\145\145\145\145" +
+		"\145\145\147\uffff\uffff\121\315\uffff\147\147\147\147" +
+		"\147\147\147\147\147\121\uffff\uffff\151\315\315\315" +
+		"\315\315\uffff\315\315\121\121\121\151\121\121\121" +
+		"\121\121\153\151\151\151\151\151\151\151\151\uffff" +
+		"\uffff\uffff\153\uffff\uffff\155\u0129\uffff\uffff\uffff\153\153" +
+		"\153\153\153\153\153\155\uffff\u013c\uffff\u0129\u0129\u0129" +
+		"\u0129\u0129\155\155\155\155\155\155\u014e\164\u013c\u013c" +
+		"\u013c\u013c\u013c\uffff\u013c\u013c\uffff\uffff\uffff\164\uffff\u014e" +
+		"\u014e\u014e\u014e\u014e\060\u014e\u014e\164\164\164\164\164" +
+		"\070\uffff\uffff\071\060\uffff\uffff\074\uffff\uffff\101\uffff" +
+		"\070\uffff\uffff\071\060\060\060\074\uffff\uffff\101\uffff" +
+		"\070\070\070\071\071\071\111\074\074\074\101\101" +
+		"\101\176\uffff\uffff\331\uffff\111\uffff\uffff\340\uffff\uffff" +
+		"\u010c\176\uffff\uffff\331\uffff\111\111\111\340\uffff\uffff" +
+		"\u010c\176\176\176\331\331\331\uffff\uffff\340\340\340" +
+		"\u010c\u010c\u010c\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff\uffff" +
+		"\uffff\uffff" });
+	private static final int[]	GOTO_NEXT = unpack (new String[] {
+		"\000\000\000\001\000\000\000\000\352\355\010\017" +
+		"\015\013\014\003\016\011\020\010\005\u012b\353\343" +
+		"\345\304\351\336\362\357\326\325\333\335\365\074" +
+		"\277\271\164\305\303\302\313\342\361\116\265\071" +
+		"\171\346\056\055\054\051\050\045\044\042\040\041" +
+		"\047\046\176\155\115\204\352\355\010\021\014\003" +
+		"\016\011\020\010\005\034\347\341\353\343\345\002" +
+		"\351\336\362\357\326\325\333\335\115\074\023\022" +
+		"\105\200\264\256\257\342\361\023\u0145\071\263\346" +
+		"\056\055\054\051\050\045\044\042\040\041\047\046" +
+		"\115\115\233\234\352\355\010\144\114\074\023\022" +
+		"\123\u0136\125\u0137\u0114\341\353\343\345\071\351\336" +
+		"\362\357\326\325\333\335\140\074\172\142\047\046" +
+		"\114\114\144\342\361\131\304\071\155\346\056\055" +
+		"\054\051\050\045\044\042\040\041\047\046\311\u0111" +
+		"\234\132\352\355\010\023\022\123\u0136\125\u014b\164" +
+		"\130\127\u0133\341\353\343\345\176\351\336\362\357" +
+		"\326\325\333\335\171\074\023\022\123\374\125\226" +
+		"\235\342\361\245\251\071\116\346\056\055\054\051" +
+		"\050\045\044\042\040\041\047\046\262\314\254\301" +
+		"\352\355\010\314\u0113\277\271\u0125\273\300\275\276" +
+		"\u0141\341\u010f\343\345\306\351\336\362\357\326\325" +
+		"\333\335\364\074\023\022\030\131\024\131\366\342" +
+		"\361\323\367\071\371\346\056\055\054\051\050\045" +
+		"\044\042\040\041\047\046\074\372\023\022\105\131" +
+		"\264\376\130\231\130\250\071\u0103\107\056\055\054" +
+		"\051\050\045\044\042\040\041\047\046\074\023\022" +
+		"\105\u0104\106\u0115\u0127\u0128\130\267\u012f\071\u0139\212" +
+		"\056\055\054\051\050\045\044\042\040\041\047\046" +
+		"\074\131\u013b\131\u0148\u013f\000\000\u0142\213\211\u014d" +
+		"\071\u0151\212\056\055\054\051\050\045\044\042\040" +
+		"\041\047\046\074\000\000\000\000\130\u012d\130\u0147" +
+		"\240\211\000\071\000\u0121\056\055\054\051\050\045" +
+		"\044\042\040\041\047\046\u011f\000\000\000\053\074" +
+		"\000\000\000\000\000\000\000\000\000\000\000\071" +
+		"\u011e\065\056\055\054\051\050\045\044\042\040\041" +
+		"\047\046\134\074\000\000\000\000\000\000\000\000" +
+		"\000\000\000\071\000\065\056\055\054\051\050\045" +
+		"\044\042\040\041\047\046\225\074\000\000\000\000" +
+		"\000\000\000\000\000\000\000\071\000\065\056\055" +
+		"\054\051\050\045\044\042\040\041\047\046\074\000" +
+		"\000\000\000\000\000\000\000\000\000\000\071\000" +
+		"\u0121\056\055\054\051\050\045\044\042\040\041\047" +
+		"\046\u0124\074\000\000\000\000\000\000\000\000\000" +
+		"\000\000\071\000\217\056\055\054\051\050\045\044" +
+		"\042\040\041\047\046\074\000\000\000\000\000\000" +
+		"\000\000\000\000\000\071\000\216\056\055\054\051" +
+		"\050\045\044\042\040\041\047\046\074\000\000\000" +
+		"\000\000\000\000\000\000\000\000\071\000\222\056" +
+		"\055\054\051\050\045\044\042\040\041\047\046\074" +
+		"\000\000\000\000\000\000\000\000\000\000\000\071" +
+		"\000\244\056\055\054\051\050\045\044\042\040\041" +
+		"\047\046\074\000\000\000\000\000\000\000\000\000" +
+		"\000\000\071\000\253\056\055\054\051\050\045\044" +
+		"\042\040\041\047\046\074\000\000\000\000\000\000" +
+		"\000\000\000\000\000\071\000\u0117\056\055\054\051" +
+		"\050\045\044\042\040\041\047\046\074\000\000\000" +
+		"\000\000\000\000\000\000\000\000\071\000\363\056" +
+		"\055\054\051\050\045\044\042\040\041\047\046\074" +
+		"\000\000\000\000\000\000\000\000\000\000\000\071" +
+		"\000\u0101\056\055\054\051\050\045\044\042\040\041" +
+		"\047\046\074\000\000\000\000\000\000\000\000\000" +
+		"\000\000\071\000\u0107\056\055\054\051\050\045\044" +
+		"\042\040\041\047\046\074\000\000\000\000\000\000" +
+		"\000\000\000\000\000\071\000\u0126\056\055\054\051" +
+		"\050\045\044\042\040\041\047\046\074\000\000\000" +
+		"\000\000\000\000\000\000\000\000\071\000\000\074" +
+		"\143\054\051\050\045\044\042\040\142\047\046\071" +
+		"\000\000\074\000\146\051\050\045\044\042\040\142" +
+		"\047\046\071\000\000\074\320\000\150\050\045\044" +
+		"\042\040\142\047\046\071\000\000\074\023\022\123" +
+		"\316\125\000\321\317\122\047\046\071\023\022\123" +
+		"\124\125\074\152\045\044\042\040\142\047\046\000" +
+		"\000\000\071\000\000\074\u012a\000\000\000\154\044" +
+		"\042\040\142\047\046\071\000\320\000\023\022\123" +
+		"\316\125\160\042\040\142\047\046\320\074\023\022" +
+		"\123\316\125\000\u013d\317\000\000\000\071\000\023" +
+		"\022\123\316\125\074\u014f\317\166\040\142\047\046" +
+		"\074\000\000\074\071\000\000\074\000\000\074\000" +
+		"\071\000\000\071\137\047\046\071\000\000\071\000" +
+		"\120\047\046\117\047\046\074\104\047\046\102\047" +
+		"\046\074\000\000\074\000\071\000\000\074\000\000" +
+		"\074\071\000\000\071\000\112\047\046\071\000\000" +
+		"\071\177\047\046\u011b\047\046\000\000\u0110\047\046" +
+		"\u010d\047\046\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000\000\000\000\000\000\000\000\000\000\000" +
+		"\000\000" });
+}
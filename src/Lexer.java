@@ -5,6 +5,7 @@
 //---------------------------------------------------------------------
 
 import 	java.util.*;
+import	java.util.concurrent.*;
 import	java.io.*;
 
 class Lexer
@@ -15,6 +16,22 @@ class Lexer
 	public 
 	Lexer (Vector<String> filenames)	
 	{
+		this (filenames, null, System.out, new NameTable ());
+	}
+
+	//----------------------------------------------------------------
+	//	Relative filenames are opened from dir, if it isn't null,
+	//	rather than the working directory.  Files that can't be read
+	//	are reported to out.  Identifiers are interned in names.
+	//----------------------------------------------------------------
+	public
+	Lexer (Vector<String> filenames, File dir, PrintStream out, NameTable names)
+	{
+		m_dir = dir;
+		m_out = out;
+		m_names = names;
+		m_nIncludeId = names.intern ("INCLUDE");
+
 		//	We'll need to keep track of all files ever read to
 		//	make sure no file is included twice.
 		m_lstFiles = new Vector<String> ();
@@ -25,16 +42,29 @@ class Lexer
 		//	If there are no files in the stack, default to read
 		//	from standard input.
 		if (filenames.isEmpty())
-			m_stkInputs.push (new LineNumberPushbackStream ());
+			pushInput (new LineNumberPushbackStream ());
 		else
 		{
 			for (Enumeration<String> e = filenames.elements(); e.hasMoreElements(); )
 				addAFile (e.nextElement(), false);
 		}
 
-		//	Finally, load up the RC keywords to compare against
-		//	for IDs.
-		loadKeywords ();
+	}
+
+
+	//----------------------------------------------------------------
+	//	A lexer for just one of the input files, for tokenizeFiles().
+	//----------------------------------------------------------------
+	private
+	Lexer (LineNumberPushbackStream input, ErrorPrinter errors, NameTable names)
+	{
+		m_names = names;
+		m_nIncludeId = names.intern ("INCLUDE");
+		m_lstFiles = new Vector<String> ();
+		m_stkInputs = new Stack<LineNumberPushbackStream> ();
+		pushInput (input);
+		m_errors = errors;
+		m_bSubLexer = true;
 	}
 
 
@@ -46,86 +76,416 @@ class Lexer
 	public Token
 	GetToken ()
 	{
-		Token		token = null;
+		int		nKind = nextToken ();
+
+		return (new Token (nKind, m_strTokLexeme, m_nTokNameId));
+	}
+
+
+	//----------------------------------------------------------------
+	//	Scans all of the input into a TokenStream, through the EOF
+	//	token.  Errors found along the way are recorded in the stream
+	//	instead of printed, and from then on the lexer reports the
+	//	position of the last token handed out by advance() rather
+	//	than where scanning stopped.
+	//----------------------------------------------------------------
+	public TokenStream
+	tokenize ()
+	{
+		TokenStream	tokens = null;
+
+		m_strStartFile = getEPFilename ();
+		m_nStartLine = getLineNumber ();
+
+		if (m_nWorkers > 0 && m_stkInputs.size () > 1)
+			tokens = tokenizeFiles ();
+
+		if (tokens == null)
+			tokens = scanAll ();
+
+		m_tokens = tokens;
+		m_nCursor = -1;
+		m_nNextError = 0;
+		return (tokens);
+	}
+
+
+	//----------------------------------------------------------------
+	//	Lets tokenize() lex the input files nWorkers at a time.
+	//----------------------------------------------------------------
+	public void
+	setWorkers (int nWorkers)
+	{
+		m_nWorkers = nWorkers;
+	}
+
+
+	//----------------------------------------------------------------
+	//	If the lexer throws, everything scanned up to that point is
+	//	kept and the exception is saved for the parser to run into.
+	//----------------------------------------------------------------
+	private TokenStream
+	scanAll ()
+	{
+		TokenStream	tokens = new TokenStream ();
+		int		nKind;
 
-		while (token == null)
+		m_recording = tokens;
+		try
+		{
+			do
+			{
+				nKind = nextToken ();
+				tokens.add (nKind, m_strTokLexeme, m_nTokNameId,
+					m_nTokStart, getTokenLength (), m_nTokLine, m_nTokColumn,
+					m_bTokHasValue, m_nTokValue,
+					getLineNumber (), getEPFilename ());
+			}
+			while (nKind != sym.EOF);
+		}
+		catch (RuntimeException e)
 		{
-			token = getAToken ();
+			tokens.setFailure (e);
+		}
+		m_recording = null;
 
-			//	If not an ID, this can go out right away
-			if (token.GetCode () != sym.T_ID)
-				return (token);
+		return (tokens);
+	}
 
-			//	Otherwise, check for RC includes first
-			if (!token.GetLexeme ().equals ("INCLUDE"))
-				return (token);
 
-			token = getAToken ();
-			if (token.GetCode () != sym.T_STR_LITERAL)
-				m_errors.print ("illegal include directive \"" +
-						token.GetLexeme () + "\"");
-			else
-				addAFile (token.GetLexeme (), true);
+	//----------------------------------------------------------------
+	//	Lexes each input file on its own on a pool of threads and
+	//	strings the results together in reading order.
+	//
+	//	That only comes out the same as reading the files one after
+	//	the other if no token or comment runs off the end of a file
+	//	into the next, and no file INCLUDEs another (which has to be
+	//	checked against every file read before it).  If any file
+	//	breaks that rule, null is returned and the files are rewound
+	//	for scanAll().
+	//----------------------------------------------------------------
+	private TokenStream
+	tokenizeFiles ()
+	{
+		int		nFiles = m_stkInputs.size ();
+		Lexer[] 	lexers = new Lexer[nFiles];
+		Vector<Future<TokenStream>>	results = new Vector<Future<TokenStream>> ();
+		ExecutorService	pool = Executors.newFixedThreadPool (
+						Math.min (m_nWorkers, nFiles));
+		TokenStream	tokens = new TokenStream ();
+
+		try
+		{
+			//	The top of the stack is read first.
+			for (int i = 0; i < nFiles; i++)
+			{
+				final Lexer	lexer = new Lexer (
+						m_stkInputs.get (nFiles - 1 - i), m_errors, m_names);
+
+				lexers[i] = lexer;
+				results.addElement (pool.submit (() -> lexer.scanAll ()));
+			}
+
+			for (int i = 0; i < nFiles; i++)
+			{
+				TokenStream	part = results.get (i).get ();
+				boolean 	bLast = (i == nFiles - 1);
+
+				if (lexers[i].m_bSerialOnly ||
+				    (!bLast && lexers[i].m_bSpilled && part.getFailure () == null))
+				{
+					for (LineNumberPushbackStream input : m_stkInputs)
+						input.rewind ();
+					return (null);
+				}
+
+				tokens.append (part, bLast);
+				if (part.getFailure () != null)
+					break;
+			}
+		}
+		catch (InterruptedException | ExecutionException e)
+		{
+			for (LineNumberPushbackStream input : m_stkInputs)
+				input.rewind ();
+			return (null);
+		}
+		finally
+		{
+			pool.shutdownNow ();
+		}
 
-			token = null;
+		//	Everything has been read.
+		m_stkInputs.clear ();
+		m_input = null;
+		return (tokens);
+	}
+
+
+	//----------------------------------------------------------------
+	//	Moves on to the next token of the stream built by tokenize(),
+	//	printing any errors found while scanning it, and returns its
+	//	index.  Past the end, the EOF token keeps coming back, or
+	//	whatever the lexer threw where it stopped is thrown again.
+	//----------------------------------------------------------------
+	public int
+	advance ()
+	{
+		if (m_nCursor < m_tokens.size () - 1)
+			m_nCursor++;
+		else if (m_tokens.getFailure () != null)
+		{
+			m_tokens.printErrors (m_nCursor + 1, m_nNextError, m_errors);
+			throw m_tokens.getFailure ();
 		}
 
-		return (null);
+		m_nNextError = m_tokens.printErrors (m_nCursor, m_nNextError, m_errors);
+		return (m_nCursor);
+	}
+
+
+	//----------------------------------------------------------------
+	//	The index of the last token advance() returned, and a way
+	//	back to it, so that checks made after the parse report their
+	//	errors at the line the parse was on.  Seeking prints nothing:
+	//	the stream's errors came out as the parse went past them.
+	//----------------------------------------------------------------
+	public int
+	getCursor ()
+	{
+		return (m_nCursor);
+	}
+
+	public void
+	seek (int nCursor)
+	{
+		m_nCursor = nCursor;
 	}
 
 
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
-	private Token
+	private int
+	nextToken ()
+	{
+		int		nKind;
+
+		while (true)
+		{
+			nKind = getAToken ();
+
+			//	If not an ID, this can go out right away
+			if (nKind != sym.T_ID)
+				return (nKind);
+
+			//	Otherwise, check for RC includes first
+			if (m_nTokNameId != m_nIncludeId)
+				return (nKind);
+
+			if (m_bSubLexer)
+				m_bSerialOnly = true;
+
+			nKind = getAToken ();
+			if (nKind != sym.T_STR_LITERAL)
+				error ("illegal include directive \"" +
+						m_strTokLexeme + "\"");
+			else
+				addAFile (m_strTokLexeme, true);
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	Scans one token into the m_*Tok* fields and returns its kind.
+	//----------------------------------------------------------------
+	private int
 	getAToken ()
 	{
-		Token		token = null;
+		int		nKind = NO_TOKEN;
 		char		c;
 
-		while (token == null)
+		while (nKind == NO_TOKEN)
 		{
+			m_bInToken = false;
 			c = getChar ();
 
+			//	Ignore all whitespace
+			if (c == '\n' || c == '\t' || c == ' ' || c == '\r')
+				continue;
+
+			markTokenStart ();
+
 			if (c == 0)
-				token = new Token (sym.EOF, "");
+				nKind = setToken (sym.EOF, "");
 
 			else if (Character.isDigit (c))
-				token = getNumToken (c);
+				nKind = getNumToken (c);
 
 			else if (Character.isLetter (c) || c == '_')
-				token = getAlphaToken (c);
+				nKind = getAlphaToken (c);
 
 			else if (c == '"' || c == '\'')
-				token = getStrLitToken (c);	
+				nKind = getStrLitToken (c);	
 
-			else if (c == '\n' || c == '\t' || c == ' ' || c == '\r')
-			{
-				//	Ignore all whitespace
-			}
 			else 
-				token = getPunctToken (c);
+				nKind = getPunctToken (c);
+		}
+
+		return (nKind);
+	}
+
+
+	//----------------------------------------------------------------
+	//	Notes where the character just read, the first of the next
+	//	token, sits in the input.
+	//----------------------------------------------------------------
+	private void
+	markTokenStart ()
+	{
+		m_bInToken = true;
+		m_tokInput = m_input;
+		if (m_input == null)
+		{
+			m_nTokStart = 0;
+			m_nTokLine = 0;
+			m_nTokColumn = 0;
+		}
+		else
+		{
+			m_nTokStart = m_input.getOffset () - 1;
+			m_nTokLine = m_input.getLineNumber ();
+			m_nTokColumn = m_input.getColumn () - 1;
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	A token that ran up to the end of its file is measured by its
+	//	lexeme, since the file is gone by the time it's finished.
+	//----------------------------------------------------------------
+	private int
+	getTokenLength ()
+	{
+		if (m_input == null || m_input != m_tokInput)
+			return (m_strTokLexeme.length ());
+
+		return (m_input.getOffset () - m_nTokStart);
+	}
+
+
+	//----------------------------------------------------------------
+	//	Makes this the current token.  Number literals are decoded
+	//	here so the parser can use the value as is.
+	//----------------------------------------------------------------
+	private int
+	setToken (int nKind, String strLexeme)
+	{
+		return (setToken (nKind, strLexeme, NameTable.NO_ID));
+	}
+
+	private int
+	setToken (int nKind, String strLexeme, int nNameId)
+	{
+		m_strTokLexeme = strLexeme;
+		m_nTokNameId = nNameId;
+		m_bTokHasValue = false;
+
+		if (nKind == sym.T_INT_LITERAL)
+			decodeInt (strLexeme);
+		else if (nKind == sym.T_FLOAT_LITERAL)
+			decodeFloat (strLexeme);
+
+		return (nKind);
+	}
+
+
+	//----------------------------------------------------------------
+	//	The lexeme of an int literal is always decimal digits by now.
+	//	Anything that won't fit is left for the parser to complain
+	//	about.
+	//----------------------------------------------------------------
+	private void
+	decodeInt (String strLexeme)
+	{
+		long	nValue = 0;
+		int 	nLen = strLexeme.length ();
+
+		if (nLen == 0 || nLen > 10)
+			return;
+
+		for (int i = 0; i < nLen; i++)
+		{
+			char	c = strLexeme.charAt (i);
+
+			if (c < '0' || c > '9')
+				return;
+			nValue = nValue * 10 + (c - '0');
+		}
+
+		if (nValue > Integer.MAX_VALUE)
+			return;
+
+		m_nTokValue = (int) nValue;
+		m_bTokHasValue = true;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private void
+	decodeFloat (String strLexeme)
+	{
+		try
+		{
+			m_nTokValue = Float.floatToRawIntBits (Float.parseFloat (strLexeme));
+			m_bTokHasValue = true;
+		}
+		catch (NumberFormatException e)
+		{
 		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	Lexer errors go straight out, unless the whole input is being
+	//	tokenized ahead of the parser, in which case they wait in the
+	//	stream until the parser gets to the token.
+	//----------------------------------------------------------------
+	private void
+	error (String strMsg)
+	{
+		error (strMsg, 0);
+	}
 
-		return (token);
+	private void
+	error (String strMsg, int nOffset)
+	{
+		if (m_recording == null)
+			m_errors.print (strMsg, nOffset);
+		else
+			m_recording.addError (getEPFilename (),
+				getLineNumber () + nOffset, strMsg);
 	}
 
 
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
-	private Token
+	private int
 	getAlphaToken (char cFirst)
 	{
-		StringBuffer		buffer = new StringBuffer (MAXIDLEN);
 		int 			nCount = 0;
 		char			c;
 		boolean			bDone = false;
 		String			strLexeme;
 		int 			nKeyword;
+		int 			nId;
+		int 			nLen;
+		boolean			bLower = isNotCaps (cFirst);
 
-		buffer.append (cFirst);
-		nCount++;
+		m_idBuf[nCount++] = cFirst;
 		while (!bDone)
 		{
 			c = getChar ();
@@ -133,11 +493,12 @@ class Lexer
 			{
 				if (nCount < MAXIDLEN)
 				{
-					buffer.append (c);
+					m_idBuf[nCount] = c;
+					bLower |= isNotCaps (c);
 				}
 				else if (nCount == MAXIDLEN)
 				{
-					m_errors.print ("identifier too long");
+					error ("identifier too long");
 				}
 				else
 				{
@@ -151,20 +512,27 @@ class Lexer
 			}
 		}
 
-		strLexeme = new String (buffer);
-		if ((nKeyword = lookupKeyword (strLexeme)) != 0)
-			return (new Token (nKeyword, new String (buffer)));
-		else if (strLexeme.equals(strLexeme.toUpperCase()))	// all caps?
-			return (new Token (sym.T_ID_U, new String (buffer)));
+		//	Keywords are recognized straight from the buffer and
+		//	use their constant spelling as the lexeme.
+		nLen = Math.min (nCount, MAXIDLEN);
+		if ((nKeyword = lookupKeyword (m_idBuf, nLen)) >= 0)
+			return (setToken (KEYWORD_CODES[nKeyword], KEYWORDS[nKeyword]));
+
+		//	Every occurrence of a name shares one String from the
+		//	name table.
+		nId = m_names.intern (m_idBuf, 0, nLen);
+		strLexeme = m_names.getName (nId);
+		if (!bLower)	// all caps?
+			return (setToken (sym.T_ID_U, strLexeme, nId));
 		else
-			return (new Token (sym.T_ID, new String (buffer)));
+			return (setToken (sym.T_ID, strLexeme, nId));
 	}
 
 
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
-	private Token
+	private int
 	getNumToken (char cFirst)
 	{
 		int 			nState;
@@ -172,7 +540,7 @@ class Lexer
 		StringBuffer		buffer = new StringBuffer (20);
 		int 			nCount;
 		int 			nExpCount = 0;
-		Token			token = null;
+		int 			nKind = NO_TOKEN;
 		boolean			bAddChar;
 		boolean 		bError = false;
 		boolean			bExpError = false;
@@ -200,7 +568,7 @@ class Lexer
 		
 		}
 
-		while (token == null)
+		while (nKind == NO_TOKEN)
 		{
 			c = getChar ();
 			bAddChar = true;
@@ -234,7 +602,7 @@ class Lexer
         else
         {
           ungetChar (c);
-          token = new Token (sym.T_INT_LITERAL, "0");
+          nKind = setToken (sym.T_INT_LITERAL, "0");
           break;
         }
       }
@@ -256,7 +624,7 @@ class Lexer
             else
             {
               ungetChar (c);
-              token = new Token (sym.T_INT_LITERAL, 
+              nKind = setToken (sym.T_INT_LITERAL, 
                   new String (buffer));
             }
             break;
@@ -276,7 +644,7 @@ class Lexer
             else
             {
               ungetChar (c);
-              token = new Token (sym.T_FLOAT_LITERAL, 
+              nKind = setToken (sym.T_FLOAT_LITERAL, 
                   new String (buffer));
             }
             break;
@@ -295,7 +663,7 @@ class Lexer
 	      String s = buffer.toString().substring(2);
 	      int result = Integer.parseInt(s,16);  	 		
 	      String r = Integer.toString(result);
-              token = new Token (sym.T_INT_LITERAL,
+              nKind = setToken (sym.T_INT_LITERAL,
                   new String (r));
 	  	      
             }
@@ -314,7 +682,7 @@ class Lexer
 	      String s = buffer.toString();
 	      int result = Integer.parseInt(s,8);		
  	      String k = Integer.toString(result); 
-              token = new Token (sym.T_INT_LITERAL,
+              nKind = setToken (sym.T_INT_LITERAL,
                   new String (k));
             }
             break;
@@ -345,7 +713,7 @@ class Lexer
               c = buffer.charAt (buffer.length () - 1);
               ungetChar (c);
               buffer.deleteCharAt (buffer.length () - 1);
-              token = new Token (sym.T_FLOAT_LITERAL,
+              nKind = setToken (sym.T_FLOAT_LITERAL,
                   new String (buffer));		
             }
             break;
@@ -374,7 +742,7 @@ class Lexer
               c = buffer.charAt (buffer.length () - 1);
               ungetChar (c);
               buffer.deleteCharAt (buffer.length () - 1);
-              token = new Token (sym.T_FLOAT_LITERAL,
+              nKind = setToken (sym.T_FLOAT_LITERAL,
                   new String (buffer));		
             }
             break;
@@ -404,7 +772,7 @@ class Lexer
               ungetChar (c);
               if (nExpCount == 0)
                 buffer.append ('0');
-              token = new Token (sym.T_FLOAT_LITERAL,
+              nKind = setToken (sym.T_FLOAT_LITERAL,
                   new String (buffer));		
             }
          }
@@ -430,22 +798,22 @@ class Lexer
 		
 		if (bError)
 		{
-			if (token.GetCode () == sym.T_FLOAT_LITERAL)
+			if (nKind == sym.T_FLOAT_LITERAL)
 			{
-				m_errors.print ("float literal (mantissa) too long");
+				error ("float literal (mantissa) too long");
 			}
 			else
 			{
-				m_errors.print ("integer literal too long");
+				error ("integer literal too long");
 			}
 		}
 
 		if (bExpError)
 		{
-			m_errors.print ("float literal (exponent) too long");
+			error ("float literal (exponent) too long");
 		}
 		
-    return (token);
+    return (nKind);
 	}
 
 
@@ -453,10 +821,10 @@ class Lexer
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
-	private Token
+	private int
 	getPunctToken (char cFirst)
 	{
-		Token		token = null;
+		int 		nKind = NO_TOKEN;
 		char		c;
 
 		switch (cFirst)
@@ -464,12 +832,12 @@ class Lexer
 			case '&':
 				if ((c = getChar ()) == '&')
 				{
-					token = new Token (sym.T_AND, "&&");
+					nKind = setToken (sym.T_AND, "&&");
 				}
 				else
 				{
 					ungetChar (c);
-					token = new Token (sym.T_AMPERSAND, "&");
+					nKind = setToken (sym.T_AMPERSAND, "&");
 				}
 				break;
 
@@ -477,12 +845,12 @@ class Lexer
 				c = getChar();
 				if(c == ':')
 				{
-					token = new Token (sym.T_COLONCOLON, "::");
+					nKind = setToken (sym.T_COLONCOLON, "::");
 				}
 				else
 				{
 					ungetChar (c);
-					token = new Token (sym.T_COLON, ":");
+					nKind = setToken (sym.T_COLON, ":");
 				}
 				break;
 
@@ -490,78 +858,78 @@ class Lexer
 			case '=':
 				if ((c = getChar ()) == '=')
 				{
-					token = new Token (sym.T_EQU, "==");
+					nKind = setToken (sym.T_EQU, "==");
 				}
 				else
 				{
 					ungetChar (c);
-					token = new Token (sym.T_ASSIGN, "=");
+					nKind = setToken (sym.T_ASSIGN, "=");
 				}
 				break;
 
 			case '.':
-				token = new Token (sym.T_DOT, ".");
+				nKind = setToken (sym.T_DOT, ".");
 				break;
 
 			case '|':
 				if ((c = getChar ()) == '|')
 				{
-					token = new Token (sym.T_OR, "||");
+					nKind = setToken (sym.T_OR, "||");
 				}
 				else
 				{
 					ungetChar (c);
-					token = new Token (sym.T_BAR, "|");
+					nKind = setToken (sym.T_BAR, "|");
 				}
 				break;
 
 			case ',':
-				token = new Token (sym.T_COMMA, ",");
+				nKind = setToken (sym.T_COMMA, ",");
 				break;
 
 			case '>':
 				c = getChar();
 				if(c == '>')
 				{
-					token = new Token (sym.T_ISTREAM, ">>");
+					nKind = setToken (sym.T_ISTREAM, ">>");
 				}
 				else if (c == '=')
 				{
-					token = new Token (sym.T_GTE, ">=");
+					nKind = setToken (sym.T_GTE, ">=");
 				}
 				else
 				{
 					ungetChar (c);
-					token = new Token (sym.T_GT, ">");
+					nKind = setToken (sym.T_GT, ">");
 				}
 				break;
 
 			case '{':
-				token = new Token (sym.T_LBRACE, "{");
+				nKind = setToken (sym.T_LBRACE, "{");
 				break;
 
 			case '[':
-				token = new Token (sym.T_LBRACKET, "[");
+				nKind = setToken (sym.T_LBRACKET, "[");
 				break;
 
 			case '(':
-				token = new Token (sym.T_LPAREN, "(");
+				nKind = setToken (sym.T_LPAREN, "(");
 				break;
 
 			case '<':
 				c = getChar();
 				if(c == '<')
 				{
-					token = new Token (sym.T_OSTREAM, "<<");
+					nKind = setToken (sym.T_OSTREAM, "<<");
 				}
 				else if (c == '=')
 				{
-					token = new Token (sym.T_LTE, "<=");
+					nKind = setToken (sym.T_LTE, "<=");
 				}
 				else
 				{
 					ungetChar (c);
-					token = new Token (sym.T_LT, "<");
+					nKind = setToken (sym.T_LT, "<");
 				}
 				break;
 
@@ -569,16 +937,16 @@ class Lexer
 				c = getChar();
 				if(c == '>')
 				{
-					token = new Token (sym.T_ARROW, "->");
+					nKind = setToken (sym.T_ARROW, "->");
 				}
 				else if(c == '-')
 				{
-					token = new Token (sym.T_MINUSMINUS, "--");
+					nKind = setToken (sym.T_MINUSMINUS, "--");
 				}
 				else
 				{
 					ungetChar (c);
-					token = new Token (sym.T_MINUS, "-");
+					nKind = setToken (sym.T_MINUS, "-");
 				}
 				break;
 
@@ -586,12 +954,12 @@ class Lexer
 				c = getChar();
 				if(c == '=')
 				{
-					token = new Token (sym.T_NEQ, "!=");
+					nKind = setToken (sym.T_NEQ, "!=");
 				}
 				else
 				{
 					ungetChar (c);
-					token = new Token (sym.T_NOT, "!");
+					nKind = setToken (sym.T_NOT, "!");
 				}
 				break;
 
@@ -599,29 +967,29 @@ class Lexer
 				c = getChar();
 				if(c == '+')
 				{
-					token = new Token (sym.T_PLUSPLUS, "++");
+					nKind = setToken (sym.T_PLUSPLUS, "++");
 				}
 				else
 				{
 					ungetChar (c);
-					token = new Token (sym.T_PLUS, "+");
+					nKind = setToken (sym.T_PLUS, "+");
 				}
 				break;
 
 			case '}':
-				token = new Token (sym.T_RBRACE, "}");
+				nKind = setToken (sym.T_RBRACE, "}");
 				break;
 
 			case ']':
-				token = new Token (sym.T_RBRACKET, "]");
+				nKind = setToken (sym.T_RBRACKET, "]");
 				break;
 
 			case ')':
-				token = new Token (sym.T_RPAREN, ")");
+				nKind = setToken (sym.T_RPAREN, ")");
 				break;
 
 			case ';':
-				token = new Token (sym.T_SEMI, ";");
+				nKind = setToken (sym.T_SEMI, ";");
 				break;
 
 			case '/':
@@ -636,32 +1004,32 @@ class Lexer
 				else
 				{
 					ungetChar (c);
-					token = new Token (sym.T_SLASH, "/");
+					nKind = setToken (sym.T_SLASH, "/");
 				}
 				break;
 
 			case '%':
-				token = new Token (sym.T_MOD, "%");
+				nKind = setToken (sym.T_MOD, "%");
 				break;
 
 			case '*':
-				token = new Token (sym.T_STAR, "*");
+				nKind = setToken (sym.T_STAR, "*");
 				break;
 
 			case '^':
-				token = new Token (sym.T_CARET, "^");
+				nKind = setToken (sym.T_CARET, "^");
 				break;
 
 			case '~':
-				token = new Token (sym.T_TILDE, "~");
+				nKind = setToken (sym.T_TILDE, "~");
 				break;
 
 			default:
-				m_errors.print ("unknown character '" + cFirst + "'");
+				error ("unknown character '" + cFirst + "'");
 				break;
 		}
 
-		return (token);
+		return (nKind);
 	}
 
 
@@ -681,7 +1049,7 @@ class Lexer
 			switch (c)
 			{
 				case 0:
-					m_errors.print ("unterminated comment");
+					error ("unterminated comment");
 					nCount = 0;
 					ungetChar (c);
 					break;
@@ -739,7 +1107,7 @@ class Lexer
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
-	private Token
+	private int
 	getStrLitToken (char cFirst)
 	{
 		char			c;
@@ -753,12 +1121,12 @@ class Lexer
 
 			if (c == 0)
 			{
-				m_errors.print ("EOF in string literal");
+				error ("EOF in string literal");
 				bDone = true;
 			}
 			else if (c == '\n')
 			{
-				m_errors.print ("newline in string literal", -1);
+				error ("newline in string literal", -1);
 				bDone = true;
 			}
 			else if (c == cFirst)
@@ -773,7 +1141,7 @@ class Lexer
 				}
 				else if (nCount == MAXSTRLEN)
 				{
-					m_errors.print ("string literal too long");
+					error ("string literal too long");
 				}
 				else
 				{
@@ -782,7 +1150,7 @@ class Lexer
 			}
 		}
 
-		return (new Token (sym.T_STR_LITERAL, new String (buffer)));
+		return (setToken (sym.T_STR_LITERAL, new String (buffer)));
 	}
 
 
@@ -812,54 +1180,136 @@ class Lexer
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
-	private int
-	lookupKeyword (String strLexeme)
+	//	Returns the index into KEYWORDS of the keyword spelled by
+	//	buf[0..len), or -1.  Dispatching on the length and first
+	//	character leaves at most a few candidates to compare.
+	//----------------------------------------------------------------
+	static int
+	lookupKeyword (char[] buf, int len)
 	{
-		Integer		n;
+		switch (len)
+		{
+			case 2:
+				return (is (buf, len, K_IF));
 
-		if ((n = m_htKeywords.get (strLexeme)) != null)
-			return (n.intValue ());
-		else
-			return (0);
+			case 3:
+				switch (buf[0])
+				{
+					case 'c':	return (is (buf, len, K_CIN));
+					case 'i':	return (is (buf, len, K_INT));
+					case 'n':	return (is (buf, len, K_NEW));
+				}
+				break;
+
+			case 4:
+				switch (buf[0])
+				{
+					case 'a':	return (is (buf, len, K_AUTO));
+					case 'b':	return (is (buf, len, K_BOOL));
+					case 'c':	return (is (buf, len, K_COUT));
+					case 'e':
+						switch (buf[1])
+						{
+							case 'l':	return (is (buf, len, K_ELSE));
+							case 'n':	return (is (buf, len, K_ENDL));
+							case 'x':	return (is (buf, len, K_EXIT));
+						}
+						break;
+					case 't':
+						switch (buf[1])
+						{
+							case 'h':	return (is (buf, len, K_THIS));
+							case 'r':	return (is (buf, len, K_TRUE));
+						}
+						break;
+					case 'v':	return (is (buf, len, K_VOID));
+				}
+				break;
+
+			case 5:
+				switch (buf[0])
+				{
+					case 'b':	return (is (buf, len, K_BREAK));
+					case 'c':	return (is (buf, len, K_CONST));
+					case 'f':
+						switch (buf[1])
+						{
+							case 'a':	return (is (buf, len, K_FALSE));
+							case 'l':	return (is (buf, len, K_FLOAT));
+						}
+						break;
+					case 'w':	return (is (buf, len, K_WHILE));
+				}
+				break;
+
+			case 6:
+				switch (buf[0])
+				{
+					case 'd':	return (is (buf, len, K_DELETE));
+					case 'e':	return (is (buf, len, K_EXTERN));
+					case 'r':	return (is (buf, len, K_RETURN));
+					case 's':
+						switch (buf[1])
+						{
+							case 'i':	return (is (buf, len, K_SIZEOF));
+							case 't':	return (is (buf, len, K_STATIC));
+						}
+						break;
+				}
+				break;
+
+			case 7:
+				switch (buf[0])
+				{
+					case 'f':	return (is (buf, len, K_FOREACH));
+					case 'n':	return (is (buf, len, K_NULLPTR));
+				}
+				break;
+
+			case 8:
+				switch (buf[0])
+				{
+					case 'c':	return (is (buf, len, K_CONTINUE));
+					case 'f':	return (is (buf, len, K_FUNCTION));
+				}
+				break;
+
+			case 9:
+				return (is (buf, len, K_STRUCTDEF));
+		}
+
+		return (-1);
 	}
 
 
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
-	private void
-	loadKeywords ()
-	{
-		m_htKeywords = new Hashtable<String, Integer> ();
-
-		m_htKeywords.put ("auto", new Integer (sym.T_AUTO));
-		m_htKeywords.put ("bool", new Integer (sym.T_BOOL));
-		m_htKeywords.put ("break", new Integer (sym.T_BREAK));
-		m_htKeywords.put ("cin", new Integer (sym.T_CIN));
-		m_htKeywords.put ("continue", new Integer (sym.T_CONTINUE));
-		m_htKeywords.put ("cout", new Integer (sym.T_COUT));
-		m_htKeywords.put ("const", new Integer (sym.T_CONST));
-		m_htKeywords.put ("delete", new Integer (sym.T_DELETE));	//phase 0
-		m_htKeywords.put ("else", new Integer (sym.T_ELSE));
-		m_htKeywords.put ("endl", new Integer (sym.T_ENDL));
-		m_htKeywords.put ("exit", new Integer (sym.T_EXIT));
-		m_htKeywords.put ("extern", new Integer (sym.T_EXTERN));
-		m_htKeywords.put ("false", new Integer (sym.T_FALSE));
-		m_htKeywords.put ("float", new Integer (sym.T_FLOAT));
-		m_htKeywords.put ("foreach", new Integer (sym.T_FOREACH));
-		m_htKeywords.put ("function", new Integer (sym.T_FUNCTION));
-		m_htKeywords.put ("if", new Integer (sym.T_IF));
-		m_htKeywords.put ("int", new Integer (sym.T_INT));
-		m_htKeywords.put ("new", new Integer (sym.T_NEW));	//phase 0
-		m_htKeywords.put ("nullptr", new Integer (sym.T_NULLPTR));
-		m_htKeywords.put ("return", new Integer (sym.T_RETURN));
-		m_htKeywords.put ("sizeof", new Integer (sym.T_SIZEOF));
-		m_htKeywords.put ("static", new Integer (sym.T_STATIC));
-		m_htKeywords.put ("structdef", new Integer (sym.T_STRUCTDEF));
-		m_htKeywords.put ("this", new Integer (sym.T_THIS));
-		m_htKeywords.put ("true", new Integer (sym.T_TRUE));
-		m_htKeywords.put ("void", new Integer (sym.T_VOID));
-		m_htKeywords.put ("while", new Integer (sym.T_WHILE));
+	private static int
+	is (char[] buf, int len, int nKeyword)
+	{
+		String		strKeyword = KEYWORDS[nKeyword];
+
+		for (int i = 0; i < len; i++)
+			if (buf[i] != strKeyword.charAt (i))
+				return (-1);
+
+		return (nKeyword);
+	}
+
+
+	//----------------------------------------------------------------
+	//	True if upper-casing c changes it, i.e. an identifier holding
+	//	c is not all caps.  (String.toUpperCase turns the German
+	//	sharp s into "SS" even though Character.toUpperCase keeps it.)
+	//----------------------------------------------------------------
+	static boolean
+	isNotCaps (char c)
+	{
+		if (c < 0x80)
+			return (c >= 'a' && c <= 'z');
+
+		return (Character.toUpperCase (c) != c || c == '\u00df');
 	}
 
 
@@ -869,12 +1319,13 @@ class Lexer
 	public int
 	getLineNumber ()
 	{
-		if (m_stkInputs.isEmpty())
+		if (m_tokens != null)
+			return (m_nCursor < 0 ? m_nStartLine : m_tokens.getEndLine (m_nCursor));
+
+		if (m_input == null)
 			return 0;
 
-		LineNumberPushbackStream		
-			input = m_stkInputs.peek ();
-		return (input.getLineNumber());
+		return (m_input.getLineNumber());
 	}
 
 
@@ -884,12 +1335,13 @@ class Lexer
 	public String
 	getEPFilename ()
 	{
-		if (m_stkInputs.isEmpty())
+		if (m_tokens != null)
+			return (m_nCursor < 0 ? m_strStartFile : m_tokens.getEndFile (m_nCursor));
+
+		if (m_input == null)
 			return "";
-		
-		LineNumberPushbackStream		
-			input = m_stkInputs.peek ();
-		return (input.getName());
+
+		return (m_input.getName());
 	}
 
 
@@ -903,30 +1355,31 @@ class Lexer
 		LineNumberPushbackStream		stream;
                 try
                 {
-                     	stream = new LineNumberPushbackStream (strFile);
+                     	stream = new LineNumberPushbackStream (m_dir, strFile);
 
 			//	Ok, now see if it has been included already
 			if (m_lstFiles.indexOf(strFile) > 0)
 			{
+				stream.close ();
 				if (bInclude)
-					m_errors.print ("multiple included file \"" +
+					error ("multiple included file \"" +
 							strFile + "\"");
 				else
-					System.out.println ("multiple read file \"" +
+					m_out.println ("multiple read file \"" +
 							strFile + "\"");
 				return (false);
 			}
 
-			m_stkInputs.push (stream);
+			pushInput (stream);
 			m_lstFiles.addElement (strFile);
 			
                 } catch (FileNotFoundException e)
                 {
 			if (bInclude)
-				m_errors.print ("bad include file \"" +
+				error ("bad include file \"" +
 					strFile + "\"");
 			else
-				System.out.println ("Error, " + 
+				m_out.println ("Error, " + 
 					e.getMessage());
 			return	(false);
                 }
@@ -941,15 +1394,11 @@ class Lexer
 	getChar ()
 	{
 		int		c = 0;
-		LineNumberPushbackStream	
-				input;
 
-		while (!m_stkInputs.isEmpty() && c <= 0)
+		while (m_input != null && c <= 0)
 		{
-			input = m_stkInputs.peek ();
-
 			try {
-				c = input.read ();
+				c = m_input.read ();
 			} catch (java.io.IOException e) {
 				e.printStackTrace();	
 				c = 0;
@@ -957,7 +1406,7 @@ class Lexer
 			
 			//	If at end of file, you can get rid of the file
 			if (c <= 0)
-				m_stkInputs.pop();
+				popInput ();
 		}
 
 		if (c < 0)
@@ -973,20 +1422,39 @@ class Lexer
 	private void
 	ungetChar (char c)
 	{
-		if (m_stkInputs.isEmpty())
+		if (m_input == null)
 			return;
 
-		LineNumberPushbackStream 	input = 
-			m_stkInputs.peek();
-
 		try {
-			input.unread (c);
+			m_input.unread (c);
 		} catch (java.io.IOException e) {
 			e.printStackTrace();	
 		}
 	}
 
 
+	//----------------------------------------------------------------
+	//	m_input always mirrors the top of m_stkInputs so getChar
+	//	doesn't have to peek at the stack for every character.
+	//----------------------------------------------------------------
+	private void
+	pushInput (LineNumberPushbackStream input)
+	{
+		m_stkInputs.push (input);
+		m_input = input;
+	}
+
+	private void
+	popInput ()
+	{
+		if (m_bInToken)
+			m_bSpilled = true;
+
+		m_stkInputs.pop ();
+		m_input = m_stkInputs.isEmpty () ? null : m_stkInputs.peek ();
+	}
+
+
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
@@ -997,6 +1465,16 @@ class Lexer
 	}
 
 
+	//----------------------------------------------------------------
+	//	The table the tokens' name ids are from.
+	//----------------------------------------------------------------
+	public NameTable
+	getNames ()
+	{
+		return (m_names);
+	}
+
+
 //----------------------------------------------------------------
 //	Instance variables
 //----------------------------------------------------------------
@@ -1007,17 +1485,92 @@ class Lexer
 	private int 			MAXCHARLEN = 3;
 	private int 			MAXEXPLEN = 3;
 
+	//	Scratch space for the identifier being scanned.
+	private char[]			m_idBuf = new char[MAXIDLEN];
+
+	//	The token just scanned.  m_nTokValue is an int literal's
+	//	value or a float literal's bits, if m_bTokHasValue.
+	private static final int	NO_TOKEN = -1;
+	private String			m_strTokLexeme;
+	private int 			m_nTokNameId;
+	private int 			m_nTokValue;
+	private boolean			m_bTokHasValue;
+	private LineNumberPushbackStream	m_tokInput;
+	private int 			m_nTokStart;
+	private int 			m_nTokLine;
+	private int 			m_nTokColumn;
+
+	//	The compilation's names, shared with the lexers of
+	//	tokenizeFiles(), and the id of INCLUDE in it.
+	private NameTable		m_names;
+	private int 			m_nIncludeId;
+
+	//	The stream tokenize() is filling in, and once it's done, the
+	//	stream, the index of the last token advance() handed out and
+	//	the first of its errors not yet printed.  m_strStartFile and
+	//	m_nStartLine are where the lexer stood before any token.
+	private TokenStream		m_recording;
+	private int 			m_nWorkers = 0;
+	private TokenStream		m_tokens;
+	private int 			m_nCursor;
+	private int 			m_nNextError;
+	private String			m_strStartFile;
+	private int 			m_nStartLine;
+
+	//	For tokenizeFiles(): whether this lexer is lexing one file on
+	//	its own, whether a file ran out partway through a token, and
+	//	whether an INCLUDE was seen.
+	private boolean			m_bSubLexer;
+	private boolean			m_bInToken;
+	private boolean			m_bSpilled;
+	private boolean			m_bSerialOnly;
+
 	//	This error printer will format line numbers and file
 	//	names and whatever else appropriately.
 	private ErrorPrinter		m_errors;
 
-	//	This is the list of RC keywords.
-	private Hashtable<String, Integer>		m_htKeywords;
+	//	This is the list of RC keywords, indexed by the K_ constants
+	//	that lookupKeyword returns.
+	static final String[]		KEYWORDS = {
+		"auto", "bool", "break", "cin", "continue", "cout", "const",
+		"delete", "else", "endl", "exit", "extern", "false", "float",
+		"foreach", "function", "if", "int", "new", "nullptr", "return",
+		"sizeof", "static", "structdef", "this", "true", "void", "while"
+	};
+
+	static final int[]		KEYWORD_CODES = {
+		sym.T_AUTO, sym.T_BOOL, sym.T_BREAK, sym.T_CIN, sym.T_CONTINUE,
+		sym.T_COUT, sym.T_CONST, sym.T_DELETE, sym.T_ELSE, sym.T_ENDL,
+		sym.T_EXIT, sym.T_EXTERN, sym.T_FALSE, sym.T_FLOAT, sym.T_FOREACH,
+		sym.T_FUNCTION, sym.T_IF, sym.T_INT, sym.T_NEW, sym.T_NULLPTR,
+		sym.T_RETURN, sym.T_SIZEOF, sym.T_STATIC, sym.T_STRUCTDEF,
+		sym.T_THIS, sym.T_TRUE, sym.T_VOID, sym.T_WHILE
+	};
+
+	private static final int	K_AUTO = 0, K_BOOL = 1, K_BREAK = 2,
+					K_CIN = 3, K_CONTINUE = 4, K_COUT = 5,
+					K_CONST = 6, K_DELETE = 7, K_ELSE = 8,
+					K_ENDL = 9, K_EXIT = 10, K_EXTERN = 11,
+					K_FALSE = 12, K_FLOAT = 13, K_FOREACH = 14,
+					K_FUNCTION = 15, K_IF = 16, K_INT = 17,
+					K_NEW = 18, K_NULLPTR = 19, K_RETURN = 20,
+					K_SIZEOF = 21, K_STATIC = 22, K_STRUCTDEF = 23,
+					K_THIS = 24, K_TRUE = 25, K_VOID = 26,
+					K_WHILE = 27;
 
 	//	This is the list of input files to read from.
 	private Stack<LineNumberPushbackStream>			m_stkInputs;
+	//	The input currently being read (top of m_stkInputs).
+	private LineNumberPushbackStream			m_input;
 	//	This is the list of files that we've read so far.  We must
 	//	keep track of this to not read a file twice.
 	private Vector<String>			m_lstFiles;
 
+	//	Where relative filenames are opened from (null for the
+	//	working directory).
+	private File				m_dir;
+
+	//	Where files that can't be read are reported.
+	private PrintStream			m_out;
+
 }
@@ -7,37 +7,179 @@
 import java.io.*;
 
 
-class LineNumberPushbackStream extends PushbackInputStream
+//---------------------------------------------------------------------
+//	Source files are read whole into a byte buffer on the first
+//	read and then scanned by index, so the lexer never goes back to
+//	the OS for a single character.  Standard input can't be read ahead
+//	like that (it may be a terminal), so it is scanned through a
+//	large buffer that is refilled as it runs dry.
+//---------------------------------------------------------------------
+class LineNumberPushbackStream extends InputStream
 {
 	//-----------------------------------------------------------------
 	//
 	//-----------------------------------------------------------------
-	public 
+	public
 	LineNumberPushbackStream ()
 	{
 		this (System.in);
 		m_streamName = "(stdin)";
 	}
 
-	public 
+	public
 	LineNumberPushbackStream (String strFilename)
 	throws FileNotFoundException
 	{
-		this (new FileInputStream (strFilename));
+		this (null, strFilename);
+	}
+
+	//-----------------------------------------------------------------
+	//	A relative strFilename is taken from dir instead of the
+	//	working directory (unless dir is null), but the stream still
+	//	goes by strFilename, even in the message if it's missing.
+	//-----------------------------------------------------------------
+	public
+	LineNumberPushbackStream (File dir, String strFilename)
+	throws FileNotFoundException
+	{
+		this ((InputStream) null);
 		m_streamName = strFilename;
+
+		File	file = new File (strFilename);
+
+		if (dir != null && !file.isAbsolute ())
+			file = new File (dir, strFilename);
+
+		//	Opened now so a missing file is reported right away, but
+		//	read in only when it's first needed, which may be on
+		//	another thread.
+		try
+		{
+			m_file = new FileInputStream (file);
+		}
+		catch (FileNotFoundException e)
+		{
+			String	strMsg = e.getMessage ();
+
+			if (strMsg != null && strMsg.startsWith (file.getPath ()))
+				strMsg = strFilename + strMsg.substring (file.getPath ().length ());
+			throw new FileNotFoundException (strMsg);
+		}
 	}
 
-	public 
+	public
 	LineNumberPushbackStream (InputStream in)
 	{
+		m_in = in;
+		m_buf = new byte[in == null ? 0 : STDIN_BUFSIZE];
+		m_nPos = 0;
+		m_nLen = 0;
+
 		//	You should never push back more than 3 characters
 		//	(12e-X) but double up to be safe.
-		super (in, 6);
+		m_pushback = new int[6];
+		m_nPushed = 0;
 
 		m_nLine = 1;
+		m_nBase = 0;
+		m_nLineStart = 0;
+		m_nPrevLineStart = 0;
 		m_streamName = "";
 	}
 
+	//-----------------------------------------------------------------
+	//	Pulls the entire file into m_buf.
+	//-----------------------------------------------------------------
+	private void
+	loadFile ()
+	{
+		FileInputStream		in = m_file;
+
+		m_file = null;
+
+		try
+		{
+			long	size = in.getChannel ().size ();
+			int 	n;
+
+			m_buf = new byte[(int) Math.min (size, Integer.MAX_VALUE)];
+			while (m_nLen < m_buf.length &&
+			       (n = in.read (m_buf, m_nLen, m_buf.length - m_nLen)) > 0)
+				m_nLen += n;
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace ();
+		}
+		finally
+		{
+			try {
+				in.close ();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	//-----------------------------------------------------------------
+	//	A file is loaded the first time through; only standard input
+	//	ever needs refilling after that.
+	//-----------------------------------------------------------------
+	private boolean
+	fill ()
+	throws IOException
+	{
+		if (m_file != null)
+		{
+			loadFile ();
+			return m_nLen > 0;
+		}
+
+		if (m_in == null)
+			return false;
+
+		int	n = m_in.read (m_buf, 0, m_buf.length);
+
+		if (n <= 0)
+			return false;
+
+		m_nBase += m_nLen;
+		m_nPos = 0;
+		m_nLen = n;
+		return true;
+	}
+
+	//-----------------------------------------------------------------
+	//	Only a file that was never read is still open.
+	//-----------------------------------------------------------------
+	public void
+	close ()
+	{
+		if (m_file == null)
+			return;
+
+		try {
+			m_file.close ();
+		} catch (IOException e) {
+		}
+		m_file = null;
+	}
+
+
+	//-----------------------------------------------------------------
+	//	Goes back to the start of a file, as if it had never been
+	//	read.  (Standard input can't be rewound.)
+	//-----------------------------------------------------------------
+	public void
+	rewind ()
+	{
+		m_nPos = 0;
+		m_nPushed = 0;
+		m_nLine = 1;
+		m_nLineStart = 0;
+		m_nPrevLineStart = 0;
+	}
+
+
 	//-----------------------------------------------------------------
 	//
 	//-----------------------------------------------------------------
@@ -58,6 +200,23 @@ class LineNumberPushbackStream extends PushbackInputStream
 	}
 
 
+	//-----------------------------------------------------------------
+	//	Offset from the start of the stream, and column (from 1) in
+	//	the current line, of the next character read() returns.
+	//-----------------------------------------------------------------
+	public int
+	getOffset ()
+	{
+		return (m_nBase + m_nPos - m_nPushed);
+	}
+
+	public int
+	getColumn ()
+	{
+		return (getOffset () - m_nLineStart + 1);
+	}
+
+
 	//-----------------------------------------------------------------
 	//
 	//-----------------------------------------------------------------
@@ -82,37 +241,81 @@ class LineNumberPushbackStream extends PushbackInputStream
 	//
 	//-----------------------------------------------------------------
 	public int
-	read () 
+	read ()
 	throws IOException
 	{
-		int	nextChar = super.read();
+		int	nextChar;
+
+		if (m_nPushed > 0)
+			nextChar = m_pushback[--m_nPushed];
+		else if (m_nPos < m_nLen || fill ())
+			nextChar = m_buf[m_nPos++] & 0xff;
+		else
+			return -1;
 
 		if (nextChar == '\n')
+		{
 			incLineNumber();
+			m_nPrevLineStart = m_nLineStart;
+			m_nLineStart = getOffset ();
+		}
 
 		return	nextChar;
 	}
 
 
 	//-----------------------------------------------------------------
-	//
+	//	Pushing back the character just read only moves the index
+	//	back; anything else goes on the small pushback stack.
 	//-----------------------------------------------------------------
 	public void
-	unread (int b) 
+	unread (int b)
 	throws IOException
 	{
-		super.unread (b);
+		b &= 0xff;
+
+		if (m_nPushed == 0 && m_nPos > 0 && (m_buf[m_nPos - 1] & 0xff) == b)
+			m_nPos--;
+		else if (m_nPushed < m_pushback.length)
+			m_pushback[m_nPushed++] = b;
+		else
+			throw new IOException ("Push back buffer is full");
 
 		if (b == '\n')
+		{
 			decLineNumber();
-	}	
+			m_nLineStart = m_nPrevLineStart;
+		}
+	}
 
 
 //-----------------------------------------------------------------
 //	Instance variables.
 //-----------------------------------------------------------------
+	private static final int	STDIN_BUFSIZE = 64 * 1024;
+
 	private int	m_nLine;
 
+	//	Stream offsets of m_buf[0] and of the first character of the
+	//	current and previous lines, for getOffset/getColumn.  Only
+	//	one newline is ever pushed back at a time.
+	private int	m_nBase;
+	private int	m_nLineStart;
+	private int	m_nPrevLineStart;
+
+	//	The characters being scanned, and for standard input the
+	//	stream to refill them from (null for a whole file).
+	private byte[]	m_buf;
+	private int	m_nPos;
+	private int	m_nLen;
+	private InputStream	m_in;
+
+	//	A file opened but not yet loaded.
+	private FileInputStream	m_file;
+
+	private int[]	m_pushback;
+	private int	m_nPushed;
+
 	//	I'm saving the name directly because I cannot see
 	//	how to get the filename out of a created FileInputStream.
 	//	Either I'm stupid or I'm totally missing something.
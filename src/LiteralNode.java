@@ -0,0 +1,87 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	A literal: a number, string, true, false or nullptr, or the endl
+//	written by cout.  Literals have no code of their own; whatever
+//	uses one writes it.
+//---------------------------------------------------------------------
+class LiteralNode extends ExprNode
+{
+	public static final int		INT = 0;
+	public static final int		FLOAT = 1;
+	public static final int		STR = 2;
+	public static final int		TRUE = 3;
+	public static final int		FALSE = 4;
+	public static final int		NULLPTR = 5;
+	public static final int		ENDL = 6;
+
+	//----------------------------------------------------------------
+	//	nToken is the literal's index in the token stream (numbers
+	//	only) and strLexeme its text (numbers and strings).
+	//----------------------------------------------------------------
+	public
+	LiteralNode (int nKind, int nToken, String strLexeme)
+	{
+		m_nKind = nKind;
+		m_nToken = nToken;
+		m_strLexeme = strLexeme;
+	}
+
+	public
+	LiteralNode (int nKind)
+	{
+		this (nKind, -1, null);
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		STO	sto;
+
+		switch (m_nKind)
+		{
+			case INT:
+				sto = parser.DoIntLiteral (m_nToken, m_strLexeme);
+				break;
+			case FLOAT:
+				sto = parser.DoFloatLiteral (m_nToken, m_strLexeme);
+				break;
+			case STR:
+				sto = new ConstSTO (m_strLexeme);
+				break;
+			case TRUE:
+				sto = new ConstSTO ("true", TypeTable.BOOL, 1);
+				break;
+			case FALSE:
+				sto = new ConstSTO ("false", TypeTable.BOOL, 0);
+				break;
+			case NULLPTR:
+				sto = new ExprSTO ("nullptr", new NullPointerType ("nullptr"));
+				sto.setIsModifiable (false);
+				sto.setIsAddressable (false);
+				break;
+			default:
+				sto = new ExprSTO ("endl");
+				break;
+		}
+		setSto (sto);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+	}
+
+
+	private int		m_nKind;
+	private int		m_nToken;
+	private String		m_strLexeme;
+}
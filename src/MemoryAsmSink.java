@@ -0,0 +1,36 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	Assembly kept in memory, for running the compiler from other code
+//	and looking at what it generated.
+//---------------------------------------------------------------------
+class MemoryAsmSink implements AsmSink
+{
+	public void
+	write (String str)
+	{
+		m_text.append (str);
+	}
+
+	public void
+	close ()
+	{
+	}
+
+	//	Everything written so far.
+	public String
+	toString ()
+	{
+		return (m_text.toString ());
+	}
+
+
+//----------------------------------------------------------------
+//	Instance variables
+//----------------------------------------------------------------
+	private StringBuilder	m_text = new StringBuilder ();
+}
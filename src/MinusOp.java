@@ -5,13 +5,13 @@
 
 class MinusOp extends ArithmetricOp {
 
-    public MinusOp(STO a,STO b, String s) {
-        super(a,b,s);
+    MinusOp() {
+        super("-");
     }
 
     public STO checkOperands(STO a, STO b) {
-        typeA = a.getType();
-        typeB = b.getType();
+        Type typeA = a.getType();
+        Type typeB = b.getType();
 
         if (!(typeA instanceof NumericType)){
             return new ErrorSTO(a.getType().getName());
@@ -20,22 +20,10 @@ class MinusOp extends ArithmetricOp {
             return new ErrorSTO(b.getType().getName());
         }
         else if((typeA instanceof IntType) && (typeB instanceof IntType)){
-            if(a instanceof ConstSTO && b instanceof ConstSTO) {
-                int result = ((ConstSTO)a).getIntValue() - ((ConstSTO)b).getIntValue();
-                return new ConstSTO(Integer.toString(result), new IntType("int"),result);
-
-            }
-            
-            return new ExprSTO(a.getName()+"-"+b.getName(), new IntType("int")); 
+            return new ExprSTO(a, "-", b, TypeTable.INT); 
         }
         else {
-            if(a instanceof ConstSTO && b instanceof ConstSTO) {
-                float result = ((ConstSTO)a).getFloatValue() - ((ConstSTO)b).getFloatValue();
-                return new ConstSTO(Float.toString(result), new FloatType("float"),result);
-
-            }
-
-            return new ExprSTO(a.getName()+"-"+b.getName(), new FloatType("float"));
+            return new ExprSTO(a, "-", b, TypeTable.FLOAT);
         }
     }
  
@@ -4,20 +4,31 @@
 // University of California, San Diego
 //---------------------------------------------------------------------
 
-import java_cup.runtime.*;
+import java.io.IOException;
 import java.util.Vector;
 import java.util.List;
 import java.util.HashMap;
 import java.util.Stack;
-class MyParser extends parser
+class MyParser
 {
 	private Lexer m_lexer;
+	private TokenStream m_tokens;
 	private ErrorPrinter m_errors;
 	private boolean m_debugMode;
 	private int m_nNumErrors;
 	private String m_strLastLexeme;
+	private CompileStats m_stats;
+	private long m_nOverloadCandidates;
 	private boolean m_bSyntaxError = true;
 	private int m_nSavedLineNum;
+	// -ast builds the whole tree before checking any of it
+	private boolean m_bAst;
+	private ProgramNode m_program;
+	// the nodes whose productions are still being parsed, and the
+	// node and phase being checked
+	private Stack<Node> m_open = new Stack<Node>();
+	private Node m_node;
+	private int m_nPhase;
     private boolean paramAmp = false;
     private int isInLoop = 0;
     private boolean isInStruct = false; // if inside structdef decl
@@ -37,8 +48,6 @@ class MyParser extends parser
     private int offsetCnt = 0;
     // keep track of the offset in struct
     private int structOffset = 0;
-    // keep track of the line num
-    private int m_nSavedLineCnt;
     // for antifun - overload case, need func name and params info
     private STO someFunc;
     // for new case in doctor 
@@ -49,14 +58,25 @@ class MyParser extends parser
     private boolean isInForEach = false;
     private Stack<Boolean> ForEachStack = new Stack<Boolean>();
 	private SymbolTable m_symtab;
+	// The compilation's types
+	private TypeTable m_types = new TypeTable();
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
 	public MyParser(Lexer lexer, ErrorPrinter errors, boolean debugMode)
+		throws IOException
+	{
+		this(lexer, errors, debugMode, AssemblyCodeGenerator.openFile("rc.s"));
+	}
+
+	//----------------------------------------------------------------
+	//	The assembly goes to asm instead of rc.s.
+	//----------------------------------------------------------------
+	public MyParser(Lexer lexer, ErrorPrinter errors, boolean debugMode, AsmSink asm)
 	{
 		m_lexer = lexer;
-		m_symtab = new SymbolTable();
-        codegen = new AssemblyCodeGenerator("rc.s");
+		m_symtab = new SymbolTable(lexer.getNames());
+        codegen = new AssemblyCodeGenerator(asm);
 		m_errors = errors;
 		m_debugMode = debugMode;
 		m_nNumErrors = 0;
@@ -109,41 +129,196 @@ class MyParser extends parser
 	}
 
 	//----------------------------------------------------------------
-	//
+	//	LRParser runs the grammar and calls back here for tokens and
+	//	syntax errors.
+	//----------------------------------------------------------------
+	public Object parse() throws Exception
+	{
+		LRParser lr = new LRParser(this);
+
+		if (m_stats == null)
+			return EndParse(lr.parse());
+
+		//	With stats, the same parse is timed as it goes: the
+		//	whole input is lexed before the first token is read
+		//	anyway, and LRParser times each action, which are taken
+		//	back out of the parse.
+		m_stats.begin(CompileStats.LEX);
+		getTokenStream();
+		m_stats.end(CompileStats.LEX);
+
+		lr.setStats(m_stats);
+		m_stats.begin(CompileStats.PARSE);
+		try
+		{
+			return EndParse(lr.parse());
+		}
+		finally
+		{
+			m_stats.end(CompileStats.PARSE);
+		}
+	}
+
+	//----------------------------------------------------------------
+	//	Once the parse has built the program (result is what it
+	//	returned), runs -ast's passes over it and writes out the
+	//	assembly.  Nothing is written after a syntax error.
+	//----------------------------------------------------------------
+	private Object EndParse(Object result) throws IOException
+	{
+		if (result != m_program || m_program == null)
+			return result;
+
+		if (m_stats != null)
+			m_stats.begin(CompileStats.ACTIONS);
+		try
+		{
+			if (m_bAst)
+			{
+				m_program.checkAll(this);
+				m_program.lower(codegen);
+			}
+			codegen.dispose();
+		}
+		finally
+		{
+			if (m_stats != null)
+				m_stats.end(CompileStats.ACTIONS);
+		}
+		return result;
+	}
+
+	//----------------------------------------------------------------
+	//	Closes the assembly's sink if the compile stopped before
+	//	EndParse wrote it out.
+	//----------------------------------------------------------------
+	public void closeAsm() throws IOException
+	{
+		codegen.close();
+	}
+
+	//----------------------------------------------------------------
+	//	Times the compile's phases into stats (null for none).
 	//----------------------------------------------------------------
-	public Symbol scan()
+	public void setStats(CompileStats stats)
 	{
-		Token t = m_lexer.GetToken();
+		m_stats = stats;
+		codegen.setStats(stats);
+	}
+
+	//----------------------------------------------------------------
+	//	Hands the counters kept around the compiler to m_stats.
+	//----------------------------------------------------------------
+	public void reportCounters()
+	{
+		m_stats.setCounters(m_tokens == null ? 0 : m_tokens.size(),
+			m_symtab.getLookups(), m_symtab.getScopesWalked(),
+			m_nOverloadCandidates,
+			codegen.getInstructions(), codegen.getSlotsAllocated(),
+			codegen.getPeepholeSaved(), codegen.getDelaySlotsFilled(),
+			codegen.getBytesWritten());
+	}
+
+	//----------------------------------------------------------------
+	//	With bOptimize, the code is optimized once it's all been
+	//	generated, before it's written.
+	//----------------------------------------------------------------
+	public void setOptimize(boolean bOptimize)
+	{
+		codegen.setOptimize(bOptimize);
+	}
+
+	//----------------------------------------------------------------
+	//	Without bPeephole, optimizing leaves out the peephole pass.
+	//----------------------------------------------------------------
+	public void setPeephole(boolean bPeephole)
+	{
+		codegen.setPeephole(bPeephole);
+	}
+
+	//----------------------------------------------------------------
+	//	Without bDelaySlots, optimizing leaves the delay slots empty.
+	//----------------------------------------------------------------
+	public void setDelaySlots(boolean bDelaySlots)
+	{
+		codegen.setDelaySlots(bDelaySlots);
+	}
+
+	//----------------------------------------------------------------
+	//	With bAst, the parse only builds the tree, which is checked
+	//	and lowered once it's all there.
+	//----------------------------------------------------------------
+	public void setAst(boolean bAst)
+	{
+		m_bAst = bAst;
+	}
+
+	//----------------------------------------------------------------
+	//	The whole input is lexed up front the first time through.
+	//----------------------------------------------------------------
+	TokenStream getTokenStream()
+	{
+		if (m_tokens == null)
+			m_tokens = m_lexer.tokenize();
+		return m_tokens;
+	}
+
+	//----------------------------------------------------------------
+	//	Moves on to the next token and returns its index.
+	//----------------------------------------------------------------
+	int scanToken()
+	{
+		getTokenStream();
+
+		int i = m_lexer.advance();
 
 		//	We'll save the last token read for error messages.
 		//	Sometimes, the token is lost reading for the next
 		//	token which can be null.
-		m_strLastLexeme = t.GetLexeme();
+		m_strLastLexeme = m_tokens.getLexeme(i);
+		return i;
+	}
 
-		switch (t.GetCode())
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	int getTokenKind(int i)
+	{
+		return m_tokens.getKind(i);
+	}
+
+	//----------------------------------------------------------------
+	//	The value the grammar sees for token i: the lexeme of names
+	//	and literals, nothing for anything else.  Actions get back to
+	//	the token itself through its index, which is the left and
+	//	right position of the symbol.
+	//----------------------------------------------------------------
+	Object getTokenValue(int i)
+	{
+		switch (m_tokens.getKind(i))
 		{
 			case sym.T_ID:
 			case sym.T_ID_U:
 			case sym.T_STR_LITERAL:
 			case sym.T_FLOAT_LITERAL:
 			case sym.T_INT_LITERAL:
-				return new Symbol(t.GetCode(), t.GetLexeme());
+				return m_tokens.getLexeme(i);
 			default:
-				return new Symbol(t.GetCode());
+				return null;
 		}
 	}
 
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
-	public void syntax_error(Symbol s)
+	public void syntax_error()
 	{
 	}
 
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
-	public void report_fatal_error(Symbol s)
+	public void report_fatal_error()
 	{
 		m_nNumErrors++;
 		if (m_bSyntaxError)
@@ -151,8 +326,8 @@ class MyParser extends parser
 			m_nNumErrors++;
 
 			//	It is possible that the error was detected
-			//	at the end of a line - in which case, s will
-			//	be null.  Instead, we saved the last token
+			//	at the end of a line - in which case, there is
+			//	no token to show.  Instead, we saved the last token
 			//	read in to give a more meaningful error 
 			//	message.
 			m_errors.print(Formatter.toString(ErrorMsg.syntax_error, m_strLastLexeme));
@@ -162,9 +337,9 @@ class MyParser extends parser
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
-	public void unrecovered_syntax_error(Symbol s)
+	public void unrecovered_syntax_error()
 	{
-		report_fatal_error(s);
+		report_fatal_error();
 	}
 
 	//----------------------------------------------------------------
@@ -207,29 +382,116 @@ class MyParser extends parser
 		m_nSavedLineNum = m_lexer.getLineNumber();
 	}
 
-    //----------------------------------------------------------------
-    // This is used for hold off
-    //----------------------------------------------------------------
-    public void SaveLineCnt()
-    {
-		m_nSavedLineCnt = m_lexer.getLineNumber();
-    }
 	//----------------------------------------------------------------
-	// This is also used for hold off
+	//
 	//----------------------------------------------------------------
-	public int GetSavedLineCnt()
+	public int GetSavedLineNum()
 	{
-		return m_nSavedLineCnt;
+		return m_nSavedLineNum;
 	}
 
+	//----------------------------------------------------------------
+	//	The grammar's actions build the tree through these.  Reduce
+	//	takes a node whose production has been parsed; Open one whose
+	//	production has actions part way through, each of which is a
+	//	Phase of the node on top, until Close pops it.  Either way
+	//	the node is checked as the parse reaches it, unless -ast.
+	//----------------------------------------------------------------
+	<T extends Node> T Reduce(T node)
+	{
+		Phase(node, 0);
+		return node;
+	}
 
+	<T extends Node> T Open(T node)
+	{
+		m_open.push(node);
+		Phase(node, 0);
+		return node;
+	}
+
+	Node Top()
+	{
+		return m_open.peek();
+	}
+
+	void Phase(int nPhase)
+	{
+		Phase(m_open.peek(), nPhase);
+	}
+
+	Node Close(int nPhase)
+	{
+		Phase(nPhase);
+		return m_open.pop();
+	}
+
+	private void Phase(Node node, int nPhase)
+	{
+		node.setMark(nPhase, m_lexer.getCursor());
+		if (!m_bAst)
+			Check(node, nPhase);
+	}
 
 	//----------------------------------------------------------------
-	//
+	//	Runs the checks for phase nPhase of node, with the lexer back
+	//	where the parse was when it got there.  The code they work
+	//	out is kept in the node (see emit).
 	//----------------------------------------------------------------
-	public int GetSavedLineNum()
+	void Check(Node node, int nPhase)
 	{
-		return m_nSavedLineNum;
+		Node	saved = m_node;
+		int	nSaved = m_nPhase;
+
+		m_lexer.seek(node.getMark(nPhase));
+		m_node = node;
+		m_nPhase = nPhase;
+		node.check(this, nPhase);
+		m_node = saved;
+		m_nPhase = nSaved;
+	}
+
+	//----------------------------------------------------------------
+	//	Keeps a call into the code generator in the node being
+	//	checked, to be made when it's lowered: emitHead's go before
+	//	the code of the node's children, emit's where the phase
+	//	being checked falls among them.
+	//----------------------------------------------------------------
+	private void emit(Node.Code code)
+	{
+		m_node.record(m_nPhase, code);
+	}
+
+	private void emitHead(Node.Code code)
+	{
+		m_node.recordHead(code);
+	}
+
+	//----------------------------------------------------------------
+	//	The program's node is open for the whole parse.  Without
+	//	-ast, each declaration in it is lowered once it's been
+	//	checked, and the program's own code is written as it goes.
+	//----------------------------------------------------------------
+	void StartProgram()
+	{
+		m_program = Open(new ProgramNode());
+		if (!m_bAst)
+			m_program.write(codegen, 0);
+	}
+
+	Node EndProgram(Vector<Node> decls)
+	{
+		m_program.setDecls(decls);
+		Close(1);
+		if (!m_bAst)
+			m_program.write(codegen, 1);
+		return m_program;
+	}
+
+	void AddDecl(Node decl)
+	{
+		if (!m_bAst && decl != null)
+			decl.lower(codegen);
 	}
 
 	//----------------------------------------------------------------
@@ -239,7 +501,7 @@ class MyParser extends parser
 	{
 		// Opens the global scope.
 		m_symtab.openScope();
-        codegen.formatHeader();
+        emit(c -> c.formatHeader());
 	}
 
 	//----------------------------------------------------------------
@@ -247,13 +509,6 @@ class MyParser extends parser
 	//----------------------------------------------------------------
 	void DoProgramEnd()
     {
-        
-        // empty the buffer at the end of the file so nothing gets stucked
-        if(codegen.getholdOff()){
-            codegen.TimeToWrite();
-            codegen.setholdOff(false);
-        }
-        codegen.dispose();
 		m_symtab.closeScope();
 	}
 
@@ -294,30 +549,26 @@ class MyParser extends parser
                     i = exp.getBoolValue() ? 1 : 0;
                     String str = String.valueOf(i);
                     String name = id;
-                    codegen.DoGlobalVarInitLit(sto, str, name, optstatic);
+                    emit(c -> c.DoGlobalVarInitLit(sto, str, name, optstatic));
                 }
                 else if(t instanceof IntType){
                     i = exp.getIntValue();
                     String str = String.valueOf(i);
                     String name = id;
-                    codegen.DoGlobalVarInitLit(sto, str, name, optstatic);
+                    emit(c -> c.DoGlobalVarInitLit(sto, str, name, optstatic));
                 }
                 else if(t instanceof FloatType){
                     float f = exp.getFloatValue();
                     String str = String.valueOf(f);
                     String name = id;
-                    codegen.DoGlobalVarInitLit(sto, str, name, optstatic);
+                    emit(c -> c.DoGlobalVarInitLit(sto, str, name, optstatic));
                 }
             }
             //var init
             else{
-                codegen.setholdOff(false);
-
-                codegen.DoGlobalVarInitVar(sto, optstatic);
-
-                codegen.TimeToWrite();
+                emitHead(c -> c.DoGlobalVarInitVar(sto, optstatic));
 
-                codegen.DoVarAssign(sto, expr, null);
+                emit(c -> c.DoVarAssign(sto, expr, null));
 
                 //a sto for this init func, does nothing except holds offset and base
                 STO func = new FuncSTO("tempFunc");
@@ -326,7 +577,7 @@ class MyParser extends parser
                 func.setBase("92");
 
                 // init func ender
-                codegen.initGlobalVarEnd(sto, func);
+                emit(c -> c.initGlobalVarEnd(sto, func));
                 offsetCnt = 0;     //reset counter after each init 
 
 
@@ -368,11 +619,13 @@ class MyParser extends parser
                     //static case
                     if(optstatic != null){
                         float f = exp.getFloatValue();
-                        codegen.DoGlobalVarInitLit(sto, String.valueOf(f), sto.getOffset(), optstatic);
+                        final String num = String.valueOf(f);
+                        final String name0 = sto.getOffset();
+                        emit(c -> c.DoGlobalVarInitLit(sto, num, name0, optstatic));
                     }
                     // nonstatic case
                     else{
-                        codegen.DoFloatAssign(sto, expr, null);
+                        emit(c -> c.DoFloatAssign(sto, expr, null));
                     }
                 }
                 else if(typ instanceof IntType){
@@ -380,11 +633,13 @@ class MyParser extends parser
                     String str = String.valueOf(i);
                     // static case
                     if(optstatic != null){
-                        codegen.DoGlobalVarInitLit(sto, str, sto.getOffset(), optstatic);
+                        final String name2 = sto.getOffset();
+                        emit(c -> c.DoGlobalVarInitLit(sto, str, name2, optstatic));
                     }
                     // nonstatic case
                     else{
-                        codegen.DoConstAssign(sto, str, exp.getName());
+                        final String comment = exp.getName();
+                        emit(c -> c.DoConstAssign(sto, str, comment));
                     }
                 }
                 else if(typ instanceof BoolType){
@@ -392,11 +647,13 @@ class MyParser extends parser
                     String str = String.valueOf(i);
                     // static case
                     if(optstatic != null){
-                        codegen.DoGlobalVarInitLit(sto, str, sto.getOffset(), optstatic);
+                        final String name3 = sto.getOffset();
+                        emit(c -> c.DoGlobalVarInitLit(sto, str, name3, optstatic));
                     }
                     // nonstatic case
                     else{
-                        codegen.DoConstAssign(sto, str, exp.getName());
+                        final String comment0 = exp.getName();
+                        emit(c -> c.DoConstAssign(sto, str, comment0));
                     }
 
                 }
@@ -406,18 +663,18 @@ class MyParser extends parser
             //var init
             else{
                 if(optstatic != null){
-                    codegen.setholdOff(false);
+                    final String name4 = sto.getOffset();
+                    emitHead(c -> c.DoGlobalVarDecl(sto, name4, optstatic));
+                    final String name5 = ".$.init."+sto.getOffset();
+                    emitHead(c -> c.DoStaticGuardStart(sto, name5));
 
-                    codegen.DoGlobalVarDecl(sto, sto.getOffset() ,optstatic);
-                    codegen.DoStaticGuardStart(sto, ".$.init."+sto.getOffset());
-
-                    codegen.TimeToWrite();
                 }
 
-                codegen.DoVarAssign(sto, expr, null);
+                emit(c -> c.DoVarAssign(sto, expr, null));
 
                 if(optstatic != null){
-                    codegen.DoStaticGuardEnd(".$.init."+sto.getOffset());
+                    final String name6 = ".$.init."+sto.getOffset();
+                    emit(c -> c.DoStaticGuardEnd(name6));
                 }
                 
 
@@ -458,7 +715,7 @@ class MyParser extends parser
     public void printList(Vector<STO> l) {
        
         for(int i = 0; i < l.size(); i++) {
-           System.out.println(l.get(i).getName());
+           m_errors.getStream().println(l.get(i).getName());
         }
     }
 
@@ -469,9 +726,11 @@ class MyParser extends parser
     public Vector<STO> OverloadCheck(String funcName, Vector<STO> funcs) {
 
         Vector<STO> overload = new Vector<STO>();
+        NameTable names = m_symtab.getNames();
+        int nameId = names.intern(funcName);
         for (int i =0; i < funcs.size(); i++) {
             if(funcs.get(i) instanceof FuncSTO) {
-               if (funcName.equals(funcs.elementAt(i).getName())) {
+               if (nameId == funcs.elementAt(i).getNameId(names)) {
                 overload.add(funcs.elementAt(i));
                }         
             }
@@ -548,7 +807,7 @@ class MyParser extends parser
        }
       
     }
-    Type arr = new ArrayType("temp",0,0);
+    Type arr = m_types.bind(new ArrayType("temp",0,0));
 
 
     if(!arraylist.isEmpty()) {
@@ -610,11 +869,8 @@ class MyParser extends parser
                        if(m_symtab.getLevel() == 1){
                           result.setOffset(id);
                           result.setBase("%g0");
-                          codegen.DoGlobalVarInitVar(result, optstatic);
-                          if(codegen.getholdOff()){
-                            codegen.TimeToWrite();
-                          }
-                          codegen.setholdOff(false);    
+                          final STO result0 = result;
+                          emitHead(c -> c.DoGlobalVarInitVar(result0, optstatic));
                         }
                         else{
 
@@ -623,8 +879,10 @@ class MyParser extends parser
                               result.setOffset(m_symtab.getFunc().getName()+"."+m_symtab.getFunc().getAssemblyName()+"."+id);
                               result.setBase("%g0");
                               String name = result.getOffset();
-                              codegen.DoGlobalVarDecl(result, name, optstatic);
-                              codegen.DoStaticGuardStart(result, ".$.init."+name);
+                              final STO result0 = result;
+                              emit(c -> c.DoGlobalVarDecl(result0, name, optstatic));
+                              final String name0 = ".$.init."+name;
+                              emit(c -> c.DoStaticGuardStart(result0, name0));
                           }
                           else{
                               // regular local case
@@ -645,8 +903,10 @@ class MyParser extends parser
                           offset.setOffset(String.valueOf(++offsetCnt * -4));
                           offset.setBase("%fp");
                           offset.setArrayTag(true);
-                          codegen.DoStructArray(result,offset,i);
-                          codegen.DoCtor(offset, fun);
+                          final int i0 = i;
+                          final STO result0 = result;
+                          emit(c -> c.DoStructArray(result0,offset,i0));
+                          emit(c -> c.DoCtor(offset, fun));
                           // dto stuff
                           if(!this.getNewCall()) {
                             STO dtor = ((StructType)typ).getDtor("~"+typ.getName());
@@ -654,7 +914,8 @@ class MyParser extends parser
                             if(m_symtab.getLevel() == 1 || optstatic != null) {
                               dtor.setIsGlobal(true);
                             }
-                            codegen.DoDtorHeader(dtor,offset);
+                            final STO dtor0 = dtor;
+                            emit(c -> c.DoDtorHeader(dtor0,offset));
                           }
                           
 
@@ -667,12 +928,15 @@ class MyParser extends parser
                           func.setOffset("+"+String.valueOf(val));
                           func.setBase("92");
 
-                          codegen.initGlobalVarEnd(result, func);
+                          final STO result0 = result;
+                          emit(c -> c.initGlobalVarEnd(result0, func));
                           offsetCnt = 0;     //reset counter after each init -- 11/19 
 
                         }
                         else if(optstatic != null){
-                            codegen.DoStaticGuardEnd(".$.init."+result.getOffset());
+                            final STO result0 = result;
+                            final String name2 = ".$.init."+result0.getOffset();
+                            emit(c -> c.DoStaticGuardEnd(name2));
 
                         }
                     }
@@ -684,11 +948,8 @@ class MyParser extends parser
                       if(m_symtab.getLevel() == 1){
                           result.setOffset(id);
                           result.setBase("%g0");
-                          codegen.DoGlobalVarInitVar(result, optstatic);
-                          if(codegen.getholdOff()){
-                              codegen.TimeToWrite();
-                          }
-                          codegen.setholdOff(false);
+                          final STO result0 = result;
+                          emitHead(c -> c.DoGlobalVarInitVar(result0, optstatic));
                     
                       }
                       // new case
@@ -702,8 +963,10 @@ class MyParser extends parser
                               result.setOffset(m_symtab.getFunc().getName()+"."+m_symtab.getFunc().getAssemblyName()+"."+id);
                               result.setBase("%g0");
                               String name = result.getOffset();
-                              codegen.DoGlobalVarDecl(result, name, optstatic);
-                              codegen.DoStaticGuardStart(result, ".$.init."+name);
+                              final STO result0 = result;
+                              emit(c -> c.DoGlobalVarDecl(result0, name, optstatic));
+                              final String name3 = ".$.init."+name;
+                              emit(c -> c.DoStaticGuardStart(result0, name3));
                           }
                           // regular local case
                           else{
@@ -716,7 +979,8 @@ class MyParser extends parser
                       result.setStructName(fun.getStructName());
                       result.setAssemblyName(((FuncSTO)fun).getAssemblyName());
 
-                      codegen.DoCtor(result, fun);
+                      final STO result0 = result;
+                      emit(c -> c.DoCtor(result0, fun));
                       // dtor stuff regular for no param case
                       
                           if(!this.getNewCall()) {
@@ -725,7 +989,8 @@ class MyParser extends parser
                             if(m_symtab.getLevel() == 1 || optstatic != null) {
                               dtor.setIsGlobal(true);
                             }
-                            codegen.DoDtorHeader(dtor,result);
+                            final STO dtor0 = dtor;
+                            emit(c -> c.DoDtorHeader(dtor0,result0));
                           }
 
 
@@ -738,12 +1003,13 @@ class MyParser extends parser
                           func.setOffset("+"+String.valueOf(val));
                           func.setBase("92");
 
-                          codegen.initGlobalVarEnd(result, func);
+                          emit(c -> c.initGlobalVarEnd(result0, func));
                           offsetCnt = 0;     //reset counter after each init -- 11/19 
 
                       }
                       else if(optstatic != null){
-                          codegen.DoStaticGuardEnd(".$.init."+result.getOffset());
+                          final String name4 = ".$.init."+result0.getOffset();
+                          emit(c -> c.DoStaticGuardEnd(name4));
 
                       }
 
@@ -774,11 +1040,8 @@ class MyParser extends parser
                     if(m_symtab.getLevel() == 1){
                        result.setOffset(id);
                        result.setBase("%g0");
-                       codegen.DoGlobalVarInitVar(result, optstatic);
-                       if(codegen.getholdOff()){
-                         codegen.TimeToWrite();
-                       }
-                       codegen.setholdOff(false);    
+                       final STO result0 = result;
+                       emitHead(c -> c.DoGlobalVarInitVar(result0, optstatic));
                      }
                      else{
                        if(optstatic != null){
@@ -786,8 +1049,10 @@ class MyParser extends parser
                          result.setOffset(m_symtab.getFunc().getName()+"."+m_symtab.getFunc().getAssemblyName()+"."+id);
                          result.setBase("%g0");
                          String name = result.getOffset();
-                         codegen.DoGlobalVarDecl(result, name, optstatic);
-                         codegen.DoStaticGuardStart(result, ".$.init."+name);
+                         final STO result0 = result;
+                         emit(c -> c.DoGlobalVarDecl(result0, name, optstatic));
+                         final String name5 = ".$.init."+name;
+                         emit(c -> c.DoStaticGuardStart(result0, name5));
                        }
                        // regular local case 
                        else{
@@ -808,10 +1073,14 @@ class MyParser extends parser
                        offset.setOffset(String.valueOf(offsetCnt * -4));
                        offset.setBase("%fp");
                        offset.setArrayTag(true);
-                       codegen.DoStructArray(result,offset,i);
+                       final int i0 = i;
+                       final STO result0 = result;
+                       emit(c -> c.DoStructArray(result0,offset,i0));
                        // -- changed
-                       codegen.DoCtorThis(offset);
-                       offsetCnt = codegen.DoFuncCallParam(offset, fun, params, offsetCnt);
+                       emit(c -> c.DoCtorThis(offset));
+                       final int offset0 = offsetCnt;
+                       emit(c -> c.DoFuncCallParam(offset, fun, params, offset0));
+                       offsetCnt = AssemblyCodeGenerator.funcCallParamOffset(fun, params, offsetCnt);
                        // dtor stuff for param array case                       
                        if(!this.getNewCall()) {
                           STO dtor = ((StructType)typ).getDtor("~"+typ.getName());
@@ -819,7 +1088,8 @@ class MyParser extends parser
                           if(m_symtab.getLevel() == 1 || optstatic != null) {
                             dtor.setIsGlobal(true);
                           }
-                          codegen.DoDtorHeader(dtor,offset);
+                          final STO dtor0 = dtor;
+                          emit(c -> c.DoDtorHeader(dtor0,offset));
                        }
 
                      }
@@ -831,12 +1101,15 @@ class MyParser extends parser
                        func.setOffset("+"+String.valueOf(val));
                        func.setBase("92");
 
-                       codegen.initGlobalVarEnd(result, func);
+                       final STO result0 = result;
+                       emit(c -> c.initGlobalVarEnd(result0, func));
                        offsetCnt = 0;     //reset counter after each init -- 11/19 
 
                      }
                      else if(optstatic != null){
-                          codegen.DoStaticGuardEnd(".$.init."+result.getOffset());
+                          final STO result0 = result;
+                          final String name6 = ".$.init."+result0.getOffset();
+                          emit(c -> c.DoStaticGuardEnd(name6));
 
                      }
 
@@ -851,11 +1124,8 @@ class MyParser extends parser
                   if(m_symtab.getLevel() == 1){
                      result.setOffset(id);
                      result.setBase("%g0");
-                     codegen.DoGlobalVarInitVar(result, optstatic);
-                     if(codegen.getholdOff()){
-                         codegen.TimeToWrite();
-                     }
-                     codegen.setholdOff(false);
+                     final STO result0 = result;
+                     emitHead(c -> c.DoGlobalVarInitVar(result0, optstatic));
                   
                   }
                   // new case
@@ -869,8 +1139,10 @@ class MyParser extends parser
                          result.setOffset(m_symtab.getFunc().getName()+"."+m_symtab.getFunc().getAssemblyName()+"."+id);
                          result.setBase("%g0");
                          String name = result.getOffset();
-                         codegen.DoGlobalVarDecl(result, name, optstatic);
-                         codegen.DoStaticGuardStart(result, ".$.init."+name);
+                         final STO result0 = result;
+                         emit(c -> c.DoGlobalVarDecl(result0, name, optstatic));
+                         final String name7 = ".$.init."+name;
+                         emit(c -> c.DoStaticGuardStart(result0, name7));
                        }
                        else{
                          // regular local case
@@ -881,8 +1153,11 @@ class MyParser extends parser
                   }
                   result.setAssemblyName(((FuncSTO)fun).getAssemblyName());
                   result.setStructName(fun.getStructName());
-                  codegen.DoCtorThis(result);
-                  offsetCnt = codegen.DoFuncCallParam(result, fun, params, offsetCnt);
+                  final STO result0 = result;
+                  emit(c -> c.DoCtorThis(result0));
+                  final int offset0 = offsetCnt;
+                  emit(c -> c.DoFuncCallParam(result0, fun, params, offset0));
+                  offsetCnt = AssemblyCodeGenerator.funcCallParamOffset(fun, params, offsetCnt);
                   
                   // dtor stuff for regular param case
                  if(!this.getNewCall()) {
@@ -892,7 +1167,8 @@ class MyParser extends parser
                         dtor.setIsGlobal(true);
                     }
 
-                    codegen.DoDtorHeader(dtor,result);
+                    final STO dtor0 = dtor;
+                    emit(c -> c.DoDtorHeader(dtor0,result0));
 
                  }
                
@@ -903,12 +1179,13 @@ class MyParser extends parser
                       func.setOffset("+"+String.valueOf(val));
                       func.setBase("92");
 
-                      codegen.initGlobalVarEnd(result, func);
+                      emit(c -> c.initGlobalVarEnd(result0, func));
                       offsetCnt = 0;     //reset counter after each init -- 11/19 
 
                   }
                   else if(optstatic != null){
-                      codegen.DoStaticGuardEnd(".$.init."+result.getOffset());
+                      final String name8 = ".$.init."+result0.getOffset();
+                      emit(c -> c.DoStaticGuardEnd(name8));
 
                   }
 
@@ -940,11 +1217,8 @@ class MyParser extends parser
               if(m_symtab.getLevel() == 1){
                  result.setOffset(id);
                  result.setBase("%g0");
-                 codegen.DoGlobalVarInitVar(result, optstatic);
-                 if(codegen.getholdOff()){
-                   codegen.TimeToWrite();
-                 }
-                 codegen.setholdOff(false);    
+                 final STO result0 = result;
+                 emitHead(c -> c.DoGlobalVarInitVar(result0, optstatic));
                }
                else{
                    if(optstatic != null){
@@ -952,8 +1226,10 @@ class MyParser extends parser
                        result.setOffset(m_symtab.getFunc().getName()+"."+m_symtab.getFunc().getAssemblyName()+"."+id);
                        result.setBase("%g0");
                        String name = result.getOffset();
-                       codegen.DoGlobalVarDecl(result, name, optstatic);
-                       codegen.DoStaticGuardStart(result, ".$.init."+name);
+                       final STO result0 = result;
+                       emit(c -> c.DoGlobalVarDecl(result0, name, optstatic));
+                       final String name9 = ".$.init."+name;
+                       emit(c -> c.DoStaticGuardStart(result0, name9));
                    }
                    else{
                        // regular local case
@@ -971,10 +1247,12 @@ class MyParser extends parser
                  offset.setOffset(String.valueOf(offsetCnt * -4));
                  offset.setBase("%fp");
                  offset.setArrayTag(true);
-                 codegen.DoStructArray(result,offset,i);
+                 final int i0 = i;
+                 final STO result0 = result;
+                 emit(c -> c.DoStructArray(result0,offset,i0));
                  if(params.isEmpty()){
                      STO antifun = this.getSomeFunc();
-                     codegen.DoCtor(offset, antifun);
+                     emit(c -> c.DoCtor(offset, antifun));
                      // dtor stuff for overload, array case no param
                      if(!this.getNewCall()) {
                         STO dtor = ((StructType)typ).getDtor("~"+typ.getName());
@@ -982,15 +1260,18 @@ class MyParser extends parser
                         if(m_symtab.getLevel() == 1 || optstatic != null) {
                             dtor.setIsGlobal(true);
                         }
-                        codegen.DoDtorHeader(dtor,offset);
+                        final STO dtor0 = dtor;
+                        emit(c -> c.DoDtorHeader(dtor0,offset));
                      }
 
                  }
                  else{
                      // -- changed
-                     codegen.DoCtorThis(offset);
+                     emit(c -> c.DoCtorThis(offset));
                      STO antifun = this.getSomeFunc();
-                     offsetCnt = codegen.DoFuncCallParam(result, antifun, params, offsetCnt);
+                     final int offset0 = offsetCnt;
+                     emit(c -> c.DoFuncCallParam(result0, antifun, params, offset0));
+                     offsetCnt = AssemblyCodeGenerator.funcCallParamOffset(antifun, params, offsetCnt);
                      
                      // dtor stuff  overload case , array, params
                      
@@ -1001,7 +1282,8 @@ class MyParser extends parser
                            dtor.setIsGlobal(true);
                         }
 
-                        codegen.DoDtorHeader(dtor,result);
+                        final STO dtor0 = dtor;
+                        emit(c -> c.DoDtorHeader(dtor0,result0));
                      }
 
 
@@ -1017,12 +1299,15 @@ class MyParser extends parser
                  func.setOffset("+"+String.valueOf(val));
                  func.setBase("92");
 
-                 codegen.initGlobalVarEnd(result, func);
+                 final STO result0 = result;
+                 emit(c -> c.initGlobalVarEnd(result0, func));
                  offsetCnt = 0;     //reset counter after each init -- 11/19 
 
                }
                else if(optstatic != null){
-                 codegen.DoStaticGuardEnd(".$.init."+result.getOffset());
+                 final STO result0 = result;
+                 final String name10 = ".$.init."+result0.getOffset();
+                 emit(c -> c.DoStaticGuardEnd(name10));
 
                }
 
@@ -1041,11 +1326,8 @@ class MyParser extends parser
               if(m_symtab.getLevel() == 1){
                   result.setOffset(id);
                   result.setBase("%g0");
-                  codegen.DoGlobalVarInitVar(result, optstatic);
-                  if(codegen.getholdOff()){
-                      codegen.TimeToWrite();
-                  }
-                  codegen.setholdOff(false);
+                  final STO result0 = result;
+                  emitHead(c -> c.DoGlobalVarInitVar(result0, optstatic));
                     
               }
               // new case
@@ -1059,8 +1341,10 @@ class MyParser extends parser
                        result.setOffset(m_symtab.getFunc().getName()+"."+m_symtab.getFunc().getAssemblyName()+"."+id);
                        result.setBase("%g0");
                        String name = result.getOffset();
-                       codegen.DoGlobalVarDecl(result, name, optstatic);
-                       codegen.DoStaticGuardStart(result, ".$.init."+name);
+                       final STO result0 = result;
+                       emit(c -> c.DoGlobalVarDecl(result0, name, optstatic));
+                       final String name11 = ".$.init."+name;
+                       emit(c -> c.DoStaticGuardStart(result0, name11));
                    }
                    else{
                        // regular local case
@@ -1073,7 +1357,8 @@ class MyParser extends parser
               if(params.isEmpty()){
                   
                   result.setAssemblyName("void");
-                  codegen.DoCtor(result, result);
+                  final STO result0 = result;
+                  emit(c -> c.DoCtor(result0, result0));
 
                   // dtor stuff for reg overload no params
                   if(!this.getNewCall()) {
@@ -1083,15 +1368,19 @@ class MyParser extends parser
                         dtor.setIsGlobal(true);
                      }
 
-                     codegen.DoDtorHeader(dtor,result);
+                     final STO dtor0 = dtor;
+                     emit(c -> c.DoDtorHeader(dtor0,result0));
                   }
 
               }
               else{
 
-                  codegen.DoCtorThis(result);
+                  final STO result0 = result;
+                  emit(c -> c.DoCtorThis(result0));
                   STO antifun = this.getSomeFunc();
-                  offsetCnt = codegen.DoFuncCallParam(result, antifun, params, offsetCnt);
+                  final int offset0 = offsetCnt;
+                  emit(c -> c.DoFuncCallParam(result0, antifun, params, offset0));
+                  offsetCnt = AssemblyCodeGenerator.funcCallParamOffset(antifun, params, offsetCnt);
                   
                   // dot stuff for reg overload params
                   if(!this.getNewCall()) {
@@ -1101,7 +1390,8 @@ class MyParser extends parser
                         dtor.setIsGlobal(true);
                      }
 
-                     codegen.DoDtorHeader(dtor,result);
+                     final STO dtor0 = dtor;
+                     emit(c -> c.DoDtorHeader(dtor0,result0));
                   }
 
               }
@@ -1113,12 +1403,15 @@ class MyParser extends parser
                   func.setOffset("+"+String.valueOf(val));
                   func.setBase("92");
 
-                  codegen.initGlobalVarEnd(result, func);
+                  final STO result0 = result;
+                  emit(c -> c.initGlobalVarEnd(result0, func));
                   offsetCnt = 0;     //reset counter after each init -- 11/19 
 
               }
               else if(optstatic != null){
-                  codegen.DoStaticGuardEnd(".$.init."+result.getOffset());
+                  final STO result0 = result;
+                  final String name12 = ".$.init."+result0.getOffset();
+                  emit(c -> c.DoStaticGuardEnd(name12));
 
               }
 
@@ -1171,7 +1464,7 @@ class MyParser extends parser
                 }                        
             }
             
-		    sto = new VarSTO(id,aTopType);
+		    sto = new VarSTO(id,m_types.intern(aTopType));
             sto.setStructOffset(structOffset * 4);
             structOffset += ((ConstSTO)sizeStoTop).getIntValue();
             //sto.setArrayTag(true); 
@@ -1227,7 +1520,7 @@ class MyParser extends parser
                 }
 
  
-                if(! arrayDim.getType().isEquivalent(new IntType("int"))) {
+                if(! arrayDim.getType().isEquivalent(TypeTable.INT)) {
                     m_nNumErrors++;
 			        m_errors.print(Formatter.toString(ErrorMsg.error10i_Array, arrayDim.getType().getName()));
                     return;
@@ -1270,12 +1563,12 @@ class MyParser extends parser
  
 
             aTopType.setLength(((ConstSTO)sizeStoTop).getIntValue());
-            sto = new VarSTO(id, aTopType);
+            sto = new VarSTO(id, m_types.intern(aTopType));
 
             // Assembly Write: array decl in Global scope    
             if(m_symtab.getLevel() == 1){
                 String name = sto.getName();
-                codegen.DoGlobalVarDecl(sto, name, optstatic);
+                emit(c -> c.DoGlobalVarDecl(sto, name, optstatic));
                 sto.setBase("%g0");
                 sto.setOffset(id);
 
@@ -1298,7 +1591,8 @@ class MyParser extends parser
                         sto.setOffset(name);
                     }
 
-                    codegen.DoGlobalVarDecl(sto, sto.getOffset(), optstatic);
+                    final String name0 = sto.getOffset();
+                    emit(c -> c.DoGlobalVarDecl(sto, name0, optstatic));
                 }
                 // non static array uninit
                 else{
@@ -1327,7 +1621,7 @@ class MyParser extends parser
                         sto.setOffset(id);
 
                         String name = sto.getName();
-                        codegen.DoGlobalVarDecl(sto, name, optstatic);
+                        emit(c -> c.DoGlobalVarDecl(sto, name, optstatic));
 
                     }
                     // local case
@@ -1349,7 +1643,8 @@ class MyParser extends parser
                                 sto.setOffset(name);
                             }
 
-                            codegen.DoGlobalVarDecl(sto, sto.getOffset(), optstatic);
+                            final String name2 = sto.getOffset();
+                            emit(c -> c.DoGlobalVarDecl(sto, name2, optstatic));
                             
                         }
                         else{
@@ -1382,13 +1677,9 @@ class MyParser extends parser
                     sto.setBase("%g0");
                     sto.setOffset(id);
                  
-                    codegen.setholdOff(false);
-                    
-                    codegen.DoGlobalVarInitVar(sto, optstatic);
-                    
-                    codegen.TimeToWrite();
+                    emitHead(c -> c.DoGlobalVarInitVar(sto, optstatic));
 
-                    codegen.DoVarAssign(sto,expr, null);
+                    emit(c -> c.DoVarAssign(sto,expr, null));
                         
                     //a sto for this init func, does nothing except holds offset and base
                     STO func = new FuncSTO("tempFunc");
@@ -1397,7 +1688,7 @@ class MyParser extends parser
                     func.setBase("92");
 
                     // init func ender
-                    codegen.initGlobalVarEnd(sto, func);
+                    emit(c -> c.initGlobalVarEnd(sto, func));
                     offsetCnt = 0;     //reset counter after each init -- 11/19 
                 }
                 // local init case
@@ -1424,16 +1715,15 @@ class MyParser extends parser
                             sto.setOffset(name);
                         }
 
-                        codegen.setholdOff(false);
+                        final String name3 = sto.getOffset();
+                        emitHead(c -> c.DoGlobalVarDecl(sto, name3, optstatic));
+                        final String name4 = ".$.init."+sto.getOffset();
+                        emitHead(c -> c.DoStaticGuardStart(sto, name4));
 
-                        codegen.DoGlobalVarDecl(sto, sto.getOffset(), optstatic);
-                        codegen.DoStaticGuardStart(sto, ".$.init."+sto.getOffset());
+                        emit(c -> c.DoVarAssign(sto, expr, null));
 
-                        codegen.TimeToWrite();
-
-                        codegen.DoVarAssign(sto, expr, null);
-
-                        codegen.DoStaticGuardEnd(".$.init."+sto.getOffset());
+                        final String name5 = ".$.init."+sto.getOffset();
+                        emit(c -> c.DoStaticGuardEnd(name5));
 
 
                     }
@@ -1443,7 +1733,7 @@ class MyParser extends parser
                         sto.setBase("%fp");
                         sto.setOffset(String.valueOf(++offsetCnt * -4));
 
-                        codegen.DoVarAssign(sto, expr, null);
+                        emit(c -> c.DoVarAssign(sto, expr, null));
                     }
                 }
 
@@ -1465,7 +1755,7 @@ class MyParser extends parser
                         sto.setBase("%g0");
                         sto.setOffset(id);
                         String name = id;
-                        codegen.DoGlobalVarDecl(sto, name, optstatic);
+                        emit(c -> c.DoGlobalVarDecl(sto, name, optstatic));
                     }
                     // assembly for uninit local var decl
                     else{
@@ -1488,7 +1778,7 @@ class MyParser extends parser
 
                         
 
-                            codegen.DoGlobalVarDecl(sto, name, optstatic);
+                            emit(c -> c.DoGlobalVarDecl(sto, name, optstatic));
                         }
                         // nonstatic case
                         else{
@@ -1529,31 +1819,26 @@ class MyParser extends parser
                             i = exp.getBoolValue() ? 1 : 0;
                             String str = String.valueOf(i);
                             String name = id;
-                            codegen.DoGlobalVarInitLit(sto, str, id, optstatic);
+                            emit(c -> c.DoGlobalVarInitLit(sto, str, id, optstatic));
                         }
                         else if(typ instanceof IntType){
                             i = exp.getIntValue();
                             String str = String.valueOf(i);
                             String name = id;
-                            codegen.DoGlobalVarInitLit(sto, str, id, optstatic);
+                            emit(c -> c.DoGlobalVarInitLit(sto, str, id, optstatic));
                         }
                         else if(typ instanceof FloatType){
 
                             float f = exp.getFloatValue();
                             String str = String.valueOf(f);
                             String name = id;
-                            codegen.DoGlobalVarInitLit(sto, str, id, optstatic);
+                            emit(c -> c.DoGlobalVarInitLit(sto, str, id, optstatic));
                         }
                     } 
                     // var init
                     else{
-                        codegen.setholdOff(false);
-
                         // init func header
-                        codegen.DoGlobalVarInitVar(sto, optstatic);
-
-                        // write when the hold off is off
-                        codegen.TimeToWrite();
+                        emitHead(c -> c.DoGlobalVarInitVar(sto, optstatic));
 
                         // Type promotion
                         if(sto.getType() instanceof FloatType && expr.getType() instanceof IntType){
@@ -1564,11 +1849,11 @@ class MyParser extends parser
                             promote.setOffset(String.valueOf(value));
                             promote.setBase("%fp");
 
-                            codegen.DoVarAssign(sto, expr, promote);
+                            emit(c -> c.DoVarAssign(sto, expr, promote));
                   
                         }
                         else{
-                            codegen.DoVarAssign(sto,expr, null);
+                            emit(c -> c.DoVarAssign(sto,expr, null));
                         }
 
 
@@ -1581,7 +1866,7 @@ class MyParser extends parser
 
 
                         // init func ender
-                        codegen.initGlobalVarEnd(sto, func);
+                        emit(c -> c.initGlobalVarEnd(sto, func));
                         offsetCnt = 0;     //reset counter after each init -- 11/19 
 
 
@@ -1622,7 +1907,9 @@ class MyParser extends parser
                             if(optstatic != null){
                                 float f = exp.getFloatValue();
                             
-                                codegen.DoGlobalVarInitLit(sto, String.valueOf(f), sto.getOffset(), optstatic);
+                                final String num = String.valueOf(f);
+                                final String name6 = sto.getOffset();
+                                emit(c -> c.DoGlobalVarInitLit(sto, num, name6, optstatic));
 
                             }
                             else{
@@ -1634,12 +1921,12 @@ class MyParser extends parser
                                     promote.setBase("%fp");
                                     promote.setOffset(String.valueOf(exo));
 
-                                    codegen.DoFloatAssign(sto, expr, promote);
+                                    emit(c -> c.DoFloatAssign(sto, expr, promote));
                                 
                                 }
                                 else{
                                     // float to float
-                                    codegen.DoFloatAssign(sto, expr, null);
+                                    emit(c -> c.DoFloatAssign(sto, expr, null));
                                 }
                             }
                         }
@@ -1649,10 +1936,12 @@ class MyParser extends parser
                             // static case
                             if(optstatic != null){
   
-                                codegen.DoGlobalVarInitLit(sto, str, sto.getOffset(), optstatic);
+                                final String name7 = sto.getOffset();
+                                emit(c -> c.DoGlobalVarInitLit(sto, str, name7, optstatic));
                             }
                             else{
-                                codegen.DoConstAssign(sto, str, exp.getName());
+                                final String comment = exp.getName();
+                                emit(c -> c.DoConstAssign(sto, str, comment));
                             }
                         }
                         else if(typ instanceof BoolType){
@@ -1660,10 +1949,12 @@ class MyParser extends parser
                             String str = String.valueOf(i);
                             // static case
                             if(optstatic != null){
-                                 codegen.DoGlobalVarInitLit(sto, str, sto.getOffset(), optstatic); 
+                                 final String name8 = sto.getOffset();
+                                 emit(c -> c.DoGlobalVarInitLit(sto, str, name8, optstatic));
                             }
                             else{
-                                codegen.DoConstAssign(sto, str, exp.getName());
+                                final String comment0 = exp.getName();
+                                emit(c -> c.DoConstAssign(sto, str, comment0));
                             }
 
                         }
@@ -1673,14 +1964,11 @@ class MyParser extends parser
                     else{
                         // static case header
                         if(optstatic != null){
-                            codegen.setholdOff(false);
-
                             String name = ".$.init."+sto.getOffset();
 
-                            codegen.DoGlobalVarDecl(sto, sto.getOffset(), optstatic);
-                            codegen.DoStaticGuardStart(sto, name);
-
-                            codegen.TimeToWrite();
+                            final String name9 = sto.getOffset();
+                            emitHead(c -> c.DoGlobalVarDecl(sto, name9, optstatic));
+                            emitHead(c -> c.DoStaticGuardStart(sto, name));
 
                         }
                          
@@ -1692,17 +1980,18 @@ class MyParser extends parser
                             promote.setOffset(String.valueOf(pro));
                             promote.setBase("%fp");
 
-                            codegen.DoVarAssign(sto, expr, promote);
+                            emit(c -> c.DoVarAssign(sto, expr, promote));
                   
                         }
                         else{
-                            codegen.DoVarAssign(sto, expr, null);
+                            emit(c -> c.DoVarAssign(sto, expr, null));
                         }
 
                         // static case ender
                         if(optstatic != null){
 
-                            codegen.DoStaticGuardEnd(".$.init."+sto.getOffset());
+                            final String name10 = ".$.init."+sto.getOffset();
+                            emit(c -> c.DoStaticGuardEnd(name10));
                         }
                         
                     }
@@ -1783,7 +2072,7 @@ class MyParser extends parser
         ExprSTO theFuture = new ExprSTO("future");
         theFuture.setBase("%fp");
         theFuture.setOffset(String.valueOf(++offsetCnt * -4));
-        codegen.DoForEach(expr, sto, s, theFuture);
+        emit(c -> c.DoForEach(expr, sto, s, theFuture));
       
 		m_symtab.insert(sto);
 
@@ -1823,7 +2112,7 @@ class MyParser extends parser
 	}
 
     public void CallDoForEachEnd(){
-        codegen.DoWhileCloseLoop();
+        emit(c -> c.DoWhileCloseLoop());
     }
 
 
@@ -1847,7 +2136,7 @@ class MyParser extends parser
 
             STO sizeStoTop = arraylist.elementAt(0);
             String arr = this.CreateArray(arraylist);
-            ArrayType aTopType = new ArrayType(t.getName() + arr, ((ConstSTO)sizeStoTop).getIntValue(), numDim,((ConstSTO)sizeStoTop).getIntValue());
+            ArrayType aTopType = m_types.bind(new ArrayType(t.getName() + arr, ((ConstSTO)sizeStoTop).getIntValue(), numDim,((ConstSTO)sizeStoTop).getIntValue()));
 
             sto = new VarSTO(id, aTopType);
 
@@ -1980,19 +2269,19 @@ class MyParser extends parser
                     i = exp.getBoolValue() ? 1 : 0;
                     String str = String.valueOf(i);
                     String name = id;
-                    codegen.DoGlobalVarInitLit(sto, str, name, optstatic);
+                    emit(c -> c.DoGlobalVarInitLit(sto, str, name, optstatic));
                 }
                 else if(t instanceof IntType){
                     i = exp.getIntValue();
                     String str = String.valueOf(i);
                     String name = id;
-                    codegen.DoGlobalVarInitLit(sto, str, name, optstatic);
+                    emit(c -> c.DoGlobalVarInitLit(sto, str, name, optstatic));
                 }
                 else if(t instanceof FloatType){
                     float f = exp.getFloatValue();
                     String str = String.valueOf(f);
                     String name = id;
-                    codegen.DoGlobalVarInitLit(sto, str, name, optstatic);
+                    emit(c -> c.DoGlobalVarInitLit(sto, str, name, optstatic));
                 }
                     
             }
@@ -2029,7 +2318,9 @@ class MyParser extends parser
                 if(t instanceof FloatType){
                     if(optstatic != null){
                         float f = exp.getFloatValue();
-                        codegen.DoGlobalVarInitLit(sto, String.valueOf(f), sto.getOffset(), optstatic);
+                        final String num = String.valueOf(f);
+                        final String name0 = sto.getOffset();
+                        emit(c -> c.DoGlobalVarInitLit(sto, num, name0, optstatic));
                     }
                     else{
                         // Type Promotion
@@ -2042,20 +2333,20 @@ class MyParser extends parser
                      
                             if(exp.getLitTag()){
                                 //treat non-lit const like var
-                                codegen.DoVarAssign(sto, constexpr, promote);
+                                emit(c -> c.DoVarAssign(sto, constexpr, promote));
                             }
                             else{
-                                codegen.DoFloatAssign(sto,constexpr, promote);
+                                emit(c -> c.DoFloatAssign(sto,constexpr, promote));
                             }
                         }
                         else{
                             // float to float
                             if(exp.getLitTag()){
-                                codegen.DoVarAssign(sto, constexpr, null);
+                                emit(c -> c.DoVarAssign(sto, constexpr, null));
                             }
                     
                             else{
-                                codegen.DoFloatAssign(sto, constexpr, null);
+                                emit(c -> c.DoFloatAssign(sto, constexpr, null));
                             }
                         }
                     }
@@ -2064,20 +2355,24 @@ class MyParser extends parser
                     i = exp.getIntValue();
                     String str = String.valueOf(i);
                     if(optstatic != null){
-                        codegen.DoGlobalVarInitLit(sto, str, sto.getOffset(), optstatic);
+                        final String name2 = sto.getOffset();
+                        emit(c -> c.DoGlobalVarInitLit(sto, str, name2, optstatic));
                     }
                     else{
-                        codegen.DoConstAssign(sto, str, exp.getName());
+                        final String comment = exp.getName();
+                        emit(c -> c.DoConstAssign(sto, str, comment));
                     }
                 }
                 else if(t instanceof BoolType){
                     i = exp.getBoolValue() ? 1 : 0;
                     String str = String.valueOf(i);
                     if(optstatic != null){
-                        codegen.DoGlobalVarInitLit(sto, str, sto.getOffset(), optstatic);
+                        final String name3 = sto.getOffset();
+                        emit(c -> c.DoGlobalVarInitLit(sto, str, name3, optstatic));
                     }
                     else{
-                        codegen.DoConstAssign(sto, str, exp.getName());
+                        final String comment0 = exp.getName();
+                        emit(c -> c.DoConstAssign(sto, str, comment0));
                     }
 
                 }
@@ -2138,19 +2433,19 @@ class MyParser extends parser
                i = exp.getBoolValue() ? 1 : 0;
                String str = String.valueOf(i);
                String name = id;
-               codegen.DoGlobalVarInitLit(sto, str, name, optstatic);
+               emit(c -> c.DoGlobalVarInitLit(sto, str, name, optstatic));
            }
            else if(t instanceof IntType){
                i = exp.getIntValue();
                String str = String.valueOf(i);
                String name = id;
-               codegen.DoGlobalVarInitLit(sto, str, name, optstatic);
+               emit(c -> c.DoGlobalVarInitLit(sto, str, name, optstatic));
            }
            else if(t instanceof FloatType){
                float f = exp.getFloatValue();
                String str = String.valueOf(f);
                String name = id;
-               codegen.DoGlobalVarInitLit(sto, str, name, optstatic);
+               emit(c -> c.DoGlobalVarInitLit(sto, str, name, optstatic));
            }
                     
        }
@@ -2186,15 +2481,17 @@ class MyParser extends parser
                // static case
                if(optstatic != null){
                    float f = exp.getFloatValue();
-                   codegen.DoGlobalVarInitLit(sto, String.valueOf(f), sto.getOffset(), optstatic);
+                   final String num = String.valueOf(f);
+                   final String name0 = sto.getOffset();
+                   emit(c -> c.DoGlobalVarInitLit(sto, num, name0, optstatic));
                }
                // nonstatic case
                else{
                    if(exp.getLitTag()){
-                       codegen.DoVarAssign(sto, expr, null);
+                       emit(c -> c.DoVarAssign(sto, expr, null));
                    }
                    else{
-                       codegen.DoFloatAssign(sto, expr, null);
+                       emit(c -> c.DoFloatAssign(sto, expr, null));
                    }
                }
            }
@@ -2203,11 +2500,13 @@ class MyParser extends parser
                String str = String.valueOf(i);
                // static case
                if(optstatic != null){
-                   codegen.DoGlobalVarInitLit(sto, str, sto.getOffset(), optstatic);
+                   final String name2 = sto.getOffset();
+                   emit(c -> c.DoGlobalVarInitLit(sto, str, name2, optstatic));
                }
                // nonstatic case
                else{
-                   codegen.DoConstAssign(sto, str, exp.getName());
+                   final String comment = exp.getName();
+                   emit(c -> c.DoConstAssign(sto, str, comment));
                }
            }
            else if(t instanceof BoolType){
@@ -2215,11 +2514,13 @@ class MyParser extends parser
                String str = String.valueOf(i);
                // static case
                if(optstatic != null){
-                   codegen.DoGlobalVarInitLit(sto, str, sto.getOffset(), optstatic);
+                   final String name3 = sto.getOffset();
+                   emit(c -> c.DoGlobalVarInitLit(sto, str, name3, optstatic));
                }
                // nonstatic case
                else{
-                   codegen.DoConstAssign(sto, str, exp.getName());
+                   final String comment0 = exp.getName();
+                   emit(c -> c.DoConstAssign(sto, str, comment0));
                }
            }
            // to be implement array, struct etc  
@@ -2234,7 +2535,7 @@ class MyParser extends parser
     //
     //------------------------
     void SelfStruct(String id){
-        StructdefSTO sto = new StructdefSTO(id, new StructType(id));
+        StructdefSTO sto = new StructdefSTO(id, m_types.bind(new StructType(id)));
         m_symtab.setStruct(sto);
     }
 	//----------------------------------------------------------------
@@ -2248,7 +2549,7 @@ class MyParser extends parser
 			m_errors.print(Formatter.toString(ErrorMsg.redeclared_id, id));
 		}
          
-        StructType scopeStruct = new StructType(id);
+        StructType scopeStruct = m_types.bind(new StructType(id));
         scopeStruct.setScope(scope);
        	StructdefSTO sto = new StructdefSTO(id, scopeStruct);
         Vector<STO> locals = scope.getLocals();
@@ -2287,6 +2588,7 @@ class MyParser extends parser
 
         }
         sto.getType().setSize(size);
+        scope.setMembers(new StructMembers(locals, m_symtab.getNames()));
 
 
         //reset offset in struct counter
@@ -2312,7 +2614,7 @@ class MyParser extends parser
     void DoDefaultConstructor(){
         if (m_symtab.accessLocal(StructName) == null)
         {
-            FuncSTO sto = new FuncSTO(StructName, new StructType(StructName));
+            FuncSTO sto = new FuncSTO(StructName, m_types.bind(new StructType(StructName)));
             //tag it
             sto.setOTag(true);
             
@@ -2329,7 +2631,7 @@ class MyParser extends parser
 
         if (m_symtab.accessLocal("~"+StructName) == null)
         {
-            FuncSTO sto = new FuncSTO("~"+StructName, new StructType(StructName));
+            FuncSTO sto = new FuncSTO("~"+StructName, m_types.bind(new StructType(StructName)));
             //tag it
             sto.setOTag(true);
             
@@ -2380,8 +2682,8 @@ class MyParser extends parser
         if(id.contains("~")) {
             typeid = id.substring(1);
         }
-		FuncSTO sto = new FuncSTO(id,new StructType(typeid));
-        sto.setReturnType(new VoidType("void",0));
+		FuncSTO sto = new FuncSTO(id,m_types.bind(new StructType(typeid)));
+        sto.setReturnType(TypeTable.VOID);
         sto.setOTag(true);
 		   m_symtab.insert(sto);
         Scope ctor = m_symtab.getCurrScope();
@@ -2391,8 +2693,9 @@ class MyParser extends parser
 		m_symtab.setFunc(sto);
 
         if(id.contains("~")) {
-           codegen.DoFuncStart(sto,"%g1",typeid);
-           codegen.DoDtorParam();
+           final String typeid0 = typeid;
+           emit(c -> c.DoFuncStart(sto,"%g1",typeid0));
+           emit(c -> c.DoDtorParam());
         }
     
 	}
@@ -2482,7 +2785,7 @@ class MyParser extends parser
         
         // assembly for function group 
         if(m_symtab.OverloadCheck(id).size() == 1) {
-           codegen.FuncGroup(sto);
+           emit(c -> c.FuncGroup(sto));
         }
 
 
@@ -2537,20 +2840,21 @@ class MyParser extends parser
         fun.setBase("92");
 
         if(isInStruct){
-            codegen.DoFuncEnd(fun, StructName);
-            codegen.RetRestoreStruct();
+            final String optstructname = StructName;
+            emit(c -> c.DoFuncEnd(fun, optstructname));
+            emit(c -> c.RetRestoreStruct());
             offsetCnt = 0;     //reset counter after each init -- 11/19 
 
         }
         else{
-            codegen.DoFuncEnd(fun, null);
-            codegen.DoDtorLocalCall();
+            emit(c -> c.DoFuncEnd(fun, null));
+            emit(c -> c.DoDtorLocalCall());
 
             if(m_symtab.getFunc().getName().equals("main")) {
-                codegen.DoDtorCallGlobal();
+                emit(c -> c.DoDtorCallGlobal());
             }
             else{
-                codegen.RetRestore();
+                emit(c -> c.RetRestore());
             }
             offsetCnt = 0;     //reset counter after each init -- 11/19 
 
@@ -2632,21 +2936,22 @@ class MyParser extends parser
         //WRITE ASSEMBLY
         //the start of the function
         if(isInStruct){
-             codegen.DoFuncStart(sto, "%g1", StructName);
+             final String optstructname = StructName;
+             emit(c -> c.DoFuncStart(sto, "%g1", optstructname));
              sto.setStructTag(true);
              sto.setStructName(StructName);
          
         }
         else{
-            codegen.DoFuncStart(sto, "%g1", null);
+            emit(c -> c.DoFuncStart(sto, "%g1", null));
         }
 
         if(isInStruct) {
-           codegen.DoThisParam();
+           emit(c -> c.DoThisParam());
 
         }
 
-        codegen.DoParams(sto);
+        emit(c -> c.DoParams(sto));
 
         //sto.setTag(true); // figure out what flag is for
 
@@ -2720,9 +3025,11 @@ class MyParser extends parser
 
     public Vector<STO> overloadFuncs(Vector<STO> functions,String funcName) {
         Vector<STO> overloaded = new Vector<STO>();
+        NameTable names = m_symtab.getNames();
+        int nameId = names.intern(funcName);
         for (int i =0; i < functions.size(); i++) {
             
-            if (funcName.equals(functions.elementAt(i).getName()) && functions.get(i) instanceof FuncSTO   ) {
+            if (nameId == functions.elementAt(i).getNameId(names) && functions.get(i) instanceof FuncSTO   ) {
                 if(((FuncSTO)functions.get(i)).isTag() == false) {
                   overloaded.add(functions.elementAt(i));
                 }
@@ -2792,20 +3099,6 @@ class MyParser extends parser
 
         // Assembly Writing: code for var assignment
         // note this only takes place in local not global scope
-        if(this.GetSavedLineCnt() == 0){
-            this.SaveLineCnt(); 
-        }
-        if(this.GetSavedLineCnt() != this.GetLineNum()){
-        
-            if(codegen.getholdOff()){
-                codegen.TimeToWrite();
-            }
-            this.SaveLineCnt();
-            codegen.setholdOff(false);
-        }
-        else{
-            codegen.setholdOff(true);
-        }
 
         // change it to lit only
         if(b instanceof ConstSTO && !((ConstSTO)b).getLitTag()){
@@ -2820,24 +3113,26 @@ class MyParser extends parser
                     promote.setOffset(String.valueOf(value));
                     promote.setBase("%fp");
                     
-                    codegen.DoFloatAssign(a, b, promote);
+                    emit(c -> c.DoFloatAssign(a, b, promote));
                         
                 }
                 else{
-                    codegen.DoFloatAssign(a, b, null);
+                    emit(c -> c.DoFloatAssign(a, b, null));
                 }
             }
             //int case
             else if(a.getType() instanceof IntType){ 
                 int val = ((ConstSTO)b).getIntValue();
                 String s = String.valueOf(val);
-                codegen.DoConstAssign(a, s, b.getName());
+                final String comment = b.getName();
+                emit(c -> c.DoConstAssign(a, s, comment));
             }
             //bool case
             else if(a.getType() instanceof BoolType){
                 int val = ((ConstSTO)b).getBoolValue() ? 1 : 0;
                 String s = String.valueOf(val);
-                codegen.DoConstAssign(a, s, b.getName());
+                final String comment0 = b.getName();
+                emit(c -> c.DoConstAssign(a, s, comment0));
             }
             // array case
             else{
@@ -2846,12 +3141,16 @@ class MyParser extends parser
                 Type baseType = t.getBaseType();
                 if(baseType instanceof IntType ){
                     int val = ((ConstSTO)b).getIntValue();
-                    codegen.DoConstAssign(a, String.valueOf(val), b.getName());
+                    final String b0 = String.valueOf(val);
+                    final String comment2 = b.getName();
+                    emit(c -> c.DoConstAssign(a, b0, comment2));
                     
                 }
                 else if(baseType instanceof BoolType){
                     int val = ((ConstSTO)b).getBoolValue() ? 1 : 0;
-                    codegen.DoConstAssign(a, String.valueOf(val), b.getName());
+                    final String b2 = String.valueOf(val);
+                    final String comment3 = b.getName();
+                    emit(c -> c.DoConstAssign(a, b2, comment3));
                 }
                 else if(baseType instanceof FloatType){
                     if(b.getType() instanceof IntType){
@@ -2861,12 +3160,12 @@ class MyParser extends parser
                         promote.setOffset(String.valueOf(value));
                         promote.setBase("%fp");
                     
-                        codegen.DoFloatAssign(a, b, promote);
+                        emit(c -> c.DoFloatAssign(a, b, promote));
                     
                     }
                     else{
                         float val = ((ConstSTO)b).getFloatValue();
-                        codegen.DoFloatAssign(a, b, null);
+                        emit(c -> c.DoFloatAssign(a, b, null));
                     }
                 }
 
@@ -2884,15 +3183,15 @@ class MyParser extends parser
                 promote.setOffset(String.valueOf(value));
                 promote.setBase("%fp");
 
-                codegen.DoVarAssign(a, b, promote);
+                emit(c -> c.DoVarAssign(a, b, promote));
                   
             }
             else if(a.getType() instanceof StructType){
-                codegen.DoStructAssign(a, b);
+                emit(c -> c.DoStructAssign(a, b));
             }
             else{
        
-                codegen.DoVarAssign(a, b, null);
+                emit(c -> c.DoVarAssign(a, b, null));
             }
 
             
@@ -2900,7 +3199,7 @@ class MyParser extends parser
         }
 
 
-        result = new ExprSTO(a.getName() + "=" + b.getName(), a.getType());
+        result = new ExprSTO(a, "=", b, a.getType());
         if(a.getBase() == "%g0"){
             result.setBase("%g0");
             result.setOffset(a.getName());
@@ -2958,6 +3257,7 @@ class MyParser extends parser
 	     }
        else {
        	   Vector<STO> overloaded;
+           OverloadSet overloads = null;
             
            if(this.getStructFunCall() == true) {
               //overloaded = ((StructType)m_symtab.getStruct().getType()).OverloadCheckStructCall(sto.getName());
@@ -2966,6 +3266,7 @@ class MyParser extends parser
            }
            else {
               overloaded = m_symtab.OverloadCheckFun(sto.getName()); //checks if func exists in table, also gets overload if any
+              overloads = m_symtab.getOverloads(sto.getName());
            } 
 
            STO fun; // var for current func
@@ -2976,7 +3277,7 @@ class MyParser extends parser
            Type funsCurType; // the type of the func param
            if(overloaded.isEmpty()) {
               // do something
-              System.out.println("In");
+              m_errors.getStream().println("In");
            }
            else if (overloaded.size() == 1) { // non overload case
               int overParSize = ((FuncSTO)overloaded.get(0)).getParams().size();
@@ -3002,7 +3303,7 @@ class MyParser extends parser
                      }
                      if(((FuncSTO)fun).getReturnType() instanceof VoidType){
 
-                         codegen.DoFuncCallNoParamVoid(fun);
+                         emit(c -> c.DoFuncCallNoParamVoid(fun));
                      }
                      else{
                          offsetCnt ++;
@@ -3011,21 +3312,8 @@ class MyParser extends parser
                          result.setOffset(offset);
                          result.setBase("%fp");
 
-                         if(this.GetSavedLineCnt() == 0){
-                             this.SaveLineCnt();
-                         }
-                         if(this.GetSavedLineCnt() != this.GetLineNum()){
-                             if(codegen.getholdOff()){
-                                 codegen.TimeToWrite();
-                             }
-                             this.SaveLineCnt();
-                             codegen.setholdOff(false);
-                         }
-                         else{
-                             codegen.setholdOff(true);
-                         }
-
-                         codegen.DoFuncCallNoParam(result, fun);
+
+                         emit(c -> c.DoFuncCallNoParam(result, fun));
 
                          
                          
@@ -3038,7 +3326,7 @@ class MyParser extends parser
               }
            }
            else { // overloadcase
-               return this.DoOverloadCall(sto,params,overloaded);
+               return this.DoOverloadCall(sto,params,overloaded,overloads);
            
            }
 
@@ -3162,19 +3450,6 @@ class MyParser extends parser
                  // Write Assembly: set offset and base
 
 
-                 if(this.GetSavedLineCnt() == 0){
-                     this.SaveLineCnt();
-                 }
-                 if(this.GetSavedLineCnt() != this.GetLineNum()){
-                     if(codegen.getholdOff()){
-                         codegen.TimeToWrite();
-                     }
-                     this.SaveLineCnt();
-                     codegen.setholdOff(false);
-                 }
-                 else{
-                     codegen.setholdOff(true);
-                 }
 
                  if(!(func.getType() instanceof StructType)) {
                      if(!(((FuncSTO)fun).getReturnType() instanceof VoidType)){
@@ -3187,7 +3462,11 @@ class MyParser extends parser
                    result.setOffset(offset);
                    result.setBase("%fp");
                
-                   offsetCnt = codegen.DoFuncCallParam(result, fun, params, offsetCnt);
+                   final int offset0 = offsetCnt;
+                   final STO fun0 = fun;
+                   final STO result0 = result.snapshot();
+                   emit(c -> c.DoFuncCallParam(result0, fun0, params, offset0));
+                   offsetCnt = AssemblyCodeGenerator.funcCallParamOffset(fun, params, offsetCnt);
 
 
                  }
@@ -3215,6 +3494,14 @@ class MyParser extends parser
     }
 
     public STO DoOverloadCall(STO func, Vector<STO> params, Vector<STO> overloaded) {
+       return this.DoOverloadCall(func, params, overloaded, null);
+    }
+
+    //-----------------------------------------------------------------------------
+    // With the overload set the candidates came from, only the functions
+    // whose parameter types match the arguments exactly need to be tried.
+    //-----------------------------------------------------------------------------
+    public STO DoOverloadCall(STO func, Vector<STO> params, Vector<STO> overloaded, OverloadSet overloads) {
        STO result = new ExprSTO("default");
        STO fun; // var for current func
        Vector<STO> funPar; // vector for current funcs params
@@ -3240,6 +3527,13 @@ class MyParser extends parser
            result =  new ErrorSTO("error");
            return result;
        }
+
+       Vector<STO> exact = (overloads == null) ? null : overloads.exactMatches(params);
+       if(exact != null) {
+           overloaded = exact;
+       }
+       m_nOverloadCandidates += overloaded.size();
+
        for(int i = 0; i < overloaded.size();i++) { // loop thru overloaded funcs
               fun = overloaded.get(i);
               funPar = fun.getParams();
@@ -3255,7 +3549,8 @@ class MyParser extends parser
               	  result =  new ExprSTO(fun.getName(),fun.getType());
                   if(((FuncSTO)fun).getReturnType() instanceof VoidType){
                       if(!(func.getType() instanceof StructType)){  
-                          codegen.DoFuncCallNoParamVoid(fun);
+                          final STO fun0 = fun;
+                          emit(c -> c.DoFuncCallNoParamVoid(fun0));
                       }
                 
                   }
@@ -3268,22 +3563,11 @@ class MyParser extends parser
                          result.setOffset(offset);
                          result.setBase("%fp");
 
-                         if(this.GetSavedLineCnt() == 0){
-                             this.SaveLineCnt();
-                         }
-                         if(this.GetSavedLineCnt() != this.GetLineNum()){
-                             if(codegen.getholdOff()){
-                                 codegen.TimeToWrite();
-                             }
-                             this.SaveLineCnt();
-                             codegen.setholdOff(false);
-                         }
-                         else{
-                             codegen.setholdOff(true);
-                         }
                           // - end
 
-                          codegen.DoFuncCallNoParam(result, fun);
+                          final STO fun0 = fun;
+                          final STO result0 = result.snapshot();
+                          emit(c -> c.DoFuncCallNoParam(result0, fun0));
                       }
                       
                   }
@@ -3363,21 +3647,12 @@ class MyParser extends parser
                          result.setOffset(offset);
                          result.setBase("%fp");
 
-                         if(this.GetSavedLineCnt() == 0){
-                             this.SaveLineCnt();
-                         }
-                         if(this.GetSavedLineCnt() != this.GetLineNum()){
-                             if(codegen.getholdOff()){
-                                 codegen.TimeToWrite();
-                             }
-                             this.SaveLineCnt();
-                             codegen.setholdOff(false);
-                         }
-                         else{
-                             codegen.setholdOff(true);
-                         }
-
-                         offsetCnt = codegen.DoFuncCallParam(result, fun, params, offsetCnt);
+
+                         final int offset0 = offsetCnt;
+                         final STO fun0 = fun;
+                         final STO result0 = result.snapshot();
+                         emit(c -> c.DoFuncCallParam(result0, fun0, params, offset0));
+                         offsetCnt = AssemblyCodeGenerator.funcCallParamOffset(fun, params, offsetCnt);
                          // - end
                        }
               		   if(fun.flag == true) { // return by ref set to Mod L
@@ -3440,30 +3715,28 @@ class MyParser extends parser
         }
 
 
-        if(inThisFlag == true){
-            Scope curr =  ((StructType)sto.getType()).getScope();
-
+        int nameId = m_symtab.getNames().intern(strID);
 
+        if(inThisFlag == true){
+            StructType curr = (StructType)sto.getType();
+            STO member = curr.getMember(nameId);
+            if(member != null){
+                toggleInThisFlag();
+                if(member instanceof FuncSTO) {
+                  this.setStructFunCall(true);
+                }
+                STO result= member;
 
-            //Scope curr = ((StructType)m_symtab.getStruct().getType()).getScope();
-            Vector<STO> locals = curr.getLocals();
-            for(int i = 0 ; i < locals.size(); i++){
-                if(locals.get(i).getName().equals(strID)){
-                    toggleInThisFlag();
-                    if(locals.get(i) instanceof FuncSTO) {
-                      this.setStructFunCall(true);
-                    }
-                    STO result= locals.get(i);
-                    
-                    result.setStructTag(locals.get(i).getStructTag());
-                    if(!(result instanceof FuncSTO)){
-                       offsetCnt++;
-                       result.setOffset(String.valueOf(offsetCnt * -4));
-                       result.setBase("%fp");
-                       codegen.DoThisCall(result);
-                    }
-                    return result;
+                result.setStructTag(member.getStructTag());
+                if(!(result instanceof FuncSTO)){
+                   offsetCnt++;
+                   result.setOffset(String.valueOf(offsetCnt * -4));
+                   result.setBase("%fp");
+                   result = result.snapshot();
+                   final STO result0 = result;
+                   emit(c -> c.DoThisCall(result0));
                 }
+                return result;
              }
              m_nNumErrors++;
              m_errors.print(Formatter.toString(ErrorMsg.error14c_StructExpThis ,strID));
@@ -3472,38 +3745,34 @@ class MyParser extends parser
  
         }
         else{
-            Scope curr = ((StructType)sto.getType()).getScope();
-            Vector<STO> locals = curr.getLocals();
-            for(int i = 0 ; i < locals.size(); i++){
-                if(locals.get(i).getName().equals(strID)){
-                    if(locals.get(i) instanceof FuncSTO) {
-                      this.setStructFunCall(true);
-                      codegen.DoCtorThis(sto);
-                      return locals.get(i);
-                    }
-                    // Assembly write: struct call
-                    STO result = new VarSTO(locals.get(i).getName(), locals.get(i).getType());
-                    if(!(locals.get(i) instanceof FuncSTO)){
-                        // pass along all the tag
-                        result.flag = locals.get(i).flag;
-                     
-                        result.setStructTag(locals.get(i).getStructTag());
-                        result.setArrayTag(locals.get(i).getArrayTag());
-                        result.setStructOffset(locals.get(i).getStructOffset());
-                        // add 11/28 sto.getIsPointer
-                        if(locals.get(i).getType() instanceof PointerType || sto.getIsPointer() ){
-                            result.setIsPointer(true);
-                        }
-                        if(sto.getArrayTag()) {
-                          result.setArrayTag(true);
-                        }
-                        offsetCnt++;
-                        result.setOffset(String.valueOf(offsetCnt * -4));
-                        result.setBase("%fp");
-                        codegen.DoStructCall(sto, result);
-                    }
-                    return result;
+            StructType curr = (StructType)sto.getType();
+            STO member = curr.getMember(nameId);
+            if(member != null){
+                if(member instanceof FuncSTO) {
+                  this.setStructFunCall(true);
+                  emit(c -> c.DoCtorThis(sto));
+                  return member;
+                }
+                // Assembly write: struct call
+                STO result = new VarSTO(member.getName(), member.getType());
+                // pass along all the tag
+                result.flag = member.flag;
+
+                result.setStructTag(member.getStructTag());
+                result.setArrayTag(member.getArrayTag());
+                result.setStructOffset(curr.getMemberOffset(member));
+                // add 11/28 sto.getIsPointer
+                if(member.getType() instanceof PointerType || sto.getIsPointer() ){
+                    result.setIsPointer(true);
                 }
+                if(sto.getArrayTag()) {
+                  result.setArrayTag(true);
+                }
+                offsetCnt++;
+                result.setOffset(String.valueOf(offsetCnt * -4));
+                result.setBase("%fp");
+                emit(c -> c.DoStructCall(sto, result));
+                return result;
              }
              m_nNumErrors++;
              m_errors.print(Formatter.toString(ErrorMsg.error14f_StructExp ,strID, sto.getType().getName()));
@@ -3599,7 +3868,7 @@ class MyParser extends parser
             return new ErrorSTO("error");
             
         }
-        else if(!(expr.getType().isEquivalent(new IntType("int")))){
+        else if(!(expr.getType().isEquivalent(TypeTable.INT))){
             m_nNumErrors++;
             m_errors.print(Formatter.toString(ErrorMsg.error11i_ArrExp, expr.getType().getName()));
             return new ErrorSTO("error");
@@ -3625,7 +3894,7 @@ class MyParser extends parser
             v.setOffset(String.valueOf(++offsetCnt * -4));
             v.setBase("%fp");
             v.setArrayTag(true);
-            codegen.DoArrayCheck(sto, expr, v);
+            emit(c -> c.DoArrayCheck(sto, expr, v));
             return v;
         }
         else if(sto.getType() instanceof PointerType) {
@@ -3638,7 +3907,7 @@ class MyParser extends parser
             v.setBase("%fp");
             v.setIsPointer(true);
 
-            codegen.DoArrayCheck(sto, expr, v);
+            emit(c -> c.DoArrayCheck(sto, expr, v));
             return v;
 
 
@@ -3649,6 +3918,33 @@ class MyParser extends parser
         
     }
 
+	//----------------------------------------------------------------
+	//	nToken is the literal's index in the token stream.  The lexer
+	//	has usually decoded it already; if not, parsing it here fails
+	//	the same way it always has.
+	//----------------------------------------------------------------
+	STO DoIntLiteral(int nToken, String strLexeme)
+	{
+		int value = m_tokens.hasValue(nToken) ? m_tokens.getIntValue(nToken)
+		                                      : Integer.parseInt(strLexeme);
+		STO sto = new ConstSTO(strLexeme, TypeTable.INT, value);
+
+		sto.setIsAddressable(false);
+		sto.setIsModifiable(false);
+		return sto;
+	}
+
+	STO DoFloatLiteral(int nToken, String strLexeme)
+	{
+		float value = m_tokens.hasValue(nToken) ? m_tokens.getFloatValue(nToken)
+		                                        : Float.parseFloat(strLexeme);
+		STO sto = new ConstSTO(strLexeme, TypeTable.FLOAT, value);
+
+		sto.setIsAddressable(false);
+		sto.setIsModifiable(false);
+		return sto;
+	}
+
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
@@ -3731,10 +4027,10 @@ class MyParser extends parser
             if(!strID.equals(StructName)){ 
 			    m_nNumErrors++; 
 		 	    m_errors.print(Formatter.toString(ErrorMsg.undeclared_id, strID));
-			    return new ErrorType();
+			    return TypeTable.ERROR;
             }
             else{
-                return new StructType(strID);
+                return m_types.bind(new StructType(strID));
             }
 		}
         else{
@@ -3744,7 +4040,7 @@ class MyParser extends parser
 		    {
 			   m_nNumErrors++;
 			   m_errors.print(Formatter.toString(ErrorMsg.not_type, sto.getName()));
-			   return new ErrorType();
+			   return TypeTable.ERROR;
 		    }
 
         }
@@ -3763,6 +4059,12 @@ class MyParser extends parser
         
 
         STO result = o.checkOperands(a, b);
+        if (!(result instanceof ErrorSTO)) {
+            STO folded = ConstFolder.fold(o.getOp(), a, b);
+            if (folded != null) {
+                result = folded;
+            }
+        }
         if ((result instanceof ErrorSTO)) {
 
             m_nNumErrors++;
@@ -3839,22 +4141,8 @@ class MyParser extends parser
         //}
 
 
-            if((!(a instanceof ConstSTO)) || (!(b instanceof ConstSTO))){
+            if(!(result instanceof ConstSTO)){
                 
-                if(this.GetSavedLineCnt() == 0){
-                    this.SaveLineCnt();
-                }
-                if(this.GetSavedLineCnt() != this.GetLineNum()){
-                    if(codegen.getholdOff()){
-                        codegen.TimeToWrite();
-                    }
-
-                    this.SaveLineCnt();
-                    codegen.setholdOff(false);
-                }
-                else{
-                    codegen.setholdOff(true);
-                }
             
                    
                 result.setBase("%fp");
@@ -3881,7 +4169,9 @@ class MyParser extends parser
                        promote.setOffset(String.valueOf(off));
                        promote.setBase("%fp");
 
-                       codegen.DoBinaryFloat(a, promote, b, null, o.getOp(), result);
+                       final STO result0 = result;
+                       final String op = o.getOp();
+                       emit(c -> c.DoBinaryFloat(a, promote, b, null, op, result0));
 
                     }
                     else if(b.getType() instanceof IntType){
@@ -3891,29 +4181,41 @@ class MyParser extends parser
                        promote.setOffset(String.valueOf(off));
                        promote.setBase("%fp"); 
 
-                       codegen.DoBinaryFloat(a, null, b, promote, o.getOp(), result);
+                       final STO result0 = result;
+                       final String op0 = o.getOp();
+                       emit(c -> c.DoBinaryFloat(a, null, b, promote, op0, result0));
 
                     }
                     //float to float
                     else{
-                        codegen.DoBinaryFloat(a, null, b, null, o.getOp(), result);
+                        final STO result0 = result;
+                        final String op2 = o.getOp();
+                        emit(c -> c.DoBinaryFloat(a, null, b, null, op2, result0));
                     }
                 }
                 // int to int
                 else if (a.getType() instanceof IntType){
-                    codegen.DoBinaryInt(a, b, o.getOp(), result);
+                    final STO result0 = result;
+                    final String op3 = o.getOp();
+                    emit(c -> c.DoBinaryInt(a, b, op3, result0));
                 }
                 // bool to bool
                 else if(a.getType() instanceof BoolType && o.getOp().equals("==")){
   
-                    codegen.DoBinaryInt(a, b, o.getOp(), result);
+                    final STO result0 = result;
+                    final String op4 = o.getOp();
+                    emit(c -> c.DoBinaryInt(a, b, op4, result0));
                 }
                 else if(a.getType() instanceof BoolType && o.getOp().equals("!=")){
  
-                    codegen.DoBinaryInt(a, b, o.getOp(), result);
+                    final STO result0 = result;
+                    final String op5 = o.getOp();
+                    emit(c -> c.DoBinaryInt(a, b, op5, result0));
                 }
                 else if(a.getType() instanceof PointerType){
-                    codegen.DoBinaryInt(a, b, o.getOp(), result);
+                    final STO result0 = result;
+                    final String op6 = o.getOp();
+                    emit(c -> c.DoBinaryInt(a, b, op6, result0));
                 }
 
             }
@@ -3926,25 +4228,36 @@ class MyParser extends parser
     // This handles the LHS of short circuit for bool op
     void DoLHS(STO sto, String op){
 
-        codegen.TimeToWrite();
-        codegen.DoBinaryBoolLHS(sto, op);
+        // a constant LHS needs no test; if it settles the op, the RHS
+        // never runs and isn't written at all
+        if(ConstFolder.isConst(sto)){
+            if(ConstFolder.shortCircuits(op, sto)){
+                emit(c -> c.beginDeadCode());
+            }
+            return;
+        }
+        emit(c -> c.DoBinaryBoolLHS(sto, op));
         
 
     }
     // This handles the RHS of short circuit for bool op
     void DoRHS(STO a, STO b, String op, STO result){
 
-       codegen.TimeToWrite();
-       codegen.DoBinaryBoolRHS(a, b, op, result);
-
-
-    }
-
-    // This empty the buffer after finishing all binary/uniary ops
-    void DoBoolWrite(){
+       if(ConstFolder.isConst(a)){
+           if(ConstFolder.shortCircuits(op, a)){
+               emit(c -> c.endDeadCode());
+           }
+           else if(!(result instanceof ConstSTO) && !(result instanceof ErrorSTO)){
+               emit(c -> c.DoBinaryBoolCopy(b, result));
+           }
+       }
+       else if(result instanceof ConstSTO){
+           emit(c -> c.DoBinaryBoolRHSConst(result));
+       }
+       else{
+           emit(c -> c.DoBinaryBoolRHS(a, b, op, result));
+       }
 
-        codegen.TimeToWrite();
-        codegen.setholdOff(false);
 
     }
 
@@ -3965,6 +4278,12 @@ class MyParser extends parser
             result = new ErrorSTO("Error");
             
         }
+        else {
+            STO folded = ConstFolder.fold(o.getOp(), a);
+            if (folded != null) {
+                return folded;
+            }
+        }
 
         // Assembly Writing: This handles all unary ops writing to assembly
 
@@ -3974,22 +4293,9 @@ class MyParser extends parser
         result.setBase("%fp");
    
         if(!(a instanceof ConstSTO)){
-            if(this.GetSavedLineCnt() == 0){
-                this.SaveLineCnt(); 
-            }
-            if(this.GetSavedLineCnt() != this.GetLineNum()){
-        
-                if(codegen.getholdOff()){
-                    codegen.TimeToWrite();
-                }
-                this.SaveLineCnt();
-                codegen.setholdOff(false);
-            }
-            else{
-                codegen.setholdOff(true);
-
-            }
-            codegen.DoUnary(a, result, "%o0", o.getOp());
+            final STO result0 = result;
+            final String s = o.getOp();
+            emit(c -> c.DoUnary(a, result0, "%o0", s));
         }
         return result;
     
@@ -4016,10 +4322,10 @@ class MyParser extends parser
         }
          
         if(s1.equals("++")){
-            result = new ExprSTO("++" +a.getName(), a.getType());
+            result = new ExprSTO(null, "++", a, a.getType());
         }
         else{
-            result = new ExprSTO("--" +a.getName(), a.getType());
+            result = new ExprSTO(null, "--", a, a.getType());
         }
         // Write Assembly: covers pre ++/-- only
         // set offset and base
@@ -4031,16 +4337,16 @@ class MyParser extends parser
         result.setOffset(String.valueOf(val));
 
         if(result.getType() instanceof IntType){
-            STO b = new ConstSTO("1", new IntType("int"), 1);
-            codegen.DoPrePostInt(a, b, s1, result, "%o2");
+            STO b = new ConstSTO("1", TypeTable.INT, 1);
+            emit(c -> c.DoPrePostInt(a, b, s1, result, "%o2"));
         }
         else if(result.getType() instanceof FloatType){
-            STO b = new ConstSTO("1", new IntType("int"), 1);
-            codegen.DoPrePostFloat(a, b, s1, result, "%f2");
+            STO b = new ConstSTO("1", TypeTable.INT, 1);
+            emit(c -> c.DoPrePostFloat(a, b, s1, result, "%f2"));
         }
         else{
-            STO b = new ConstSTO("4", new IntType("int"), 4);
-            codegen.DoPrePostInt(a, b, s1, result, "%o2");
+            STO b = new ConstSTO("4", TypeTable.INT, 4);
+            emit(c -> c.DoPrePostInt(a, b, s1, result, "%o2"));
 
         }
 
@@ -4073,10 +4379,10 @@ class MyParser extends parser
         }
          
         if(s1.equals("++")){
-            result = new ExprSTO(a.getName()+"++", a.getType());
+            result = new ExprSTO(a, "++", null, a.getType());
         }
         else{
-            result = new ExprSTO(a.getName()+"--", a.getType());
+            result = new ExprSTO(a, "--", null, a.getType());
         }       
 
         // Write Assembly: covers post ++/-- only
@@ -4089,17 +4395,17 @@ class MyParser extends parser
         result.setOffset(String.valueOf(val));
 
         if(result.getType() instanceof IntType){
-            STO b = new ConstSTO("1", new IntType("int"), 1);
-            codegen.DoPrePostInt(a, b, s1, result, "%o0");
+            STO b = new ConstSTO("1", TypeTable.INT, 1);
+            emit(c -> c.DoPrePostInt(a, b, s1, result, "%o0"));
         }
         else if(result.getType() instanceof FloatType){
 
-            STO b = new ConstSTO("1", new IntType("int"), 1);
-            codegen.DoPrePostFloat(a, b, s1, result, "%f0");
+            STO b = new ConstSTO("1", TypeTable.INT, 1);
+            emit(c -> c.DoPrePostFloat(a, b, s1, result, "%f0"));
         }
         else{
-            STO b = new ConstSTO("4", new IntType("int"), 4);
-            codegen.DoPrePostInt(a, b, s1, result, "%o0");
+            STO b = new ConstSTO("4", TypeTable.INT, 4);
+            emit(c -> c.DoPrePostInt(a, b, s1, result, "%o0"));
 
         }
 
@@ -4120,7 +4426,7 @@ class MyParser extends parser
         }
 
 
-        if(!(a.getType().isEquivalent(new BoolType("Bool")))){
+        if(!(a.getType().isEquivalent(TypeTable.BOOL))){
             m_nNumErrors++;
             m_errors.print(Formatter.toString(ErrorMsg.error4_Test, a.getType().getName()));
             return new ErrorSTO("Error");
@@ -4129,10 +4435,10 @@ class MyParser extends parser
 
         //Write Assembly: cover if statement 
         if(a instanceof ConstSTO && !((ConstSTO)a).getLitTag()){
-            codegen.DoIfLitCond(a);
+            emit(c -> c.DoIfLitCond(a));
         }
         else{
-            codegen.DoIfExprCond(a);
+            emit(c -> c.DoIfExprCond(a));
         }
         return result;
     }
@@ -4145,7 +4451,7 @@ class MyParser extends parser
         }
 
 
-        if(!(a.getType().isEquivalent(new BoolType("Bool")))){
+        if(!(a.getType().isEquivalent(TypeTable.BOOL))){
             m_nNumErrors++;
             m_errors.print(Formatter.toString(ErrorMsg.error4_Test, a.getType().getName()));
             return new ErrorSTO("Error");
@@ -4153,37 +4459,34 @@ class MyParser extends parser
         result = a;
 
         //Write Assembly: cover while statement 
-        //codegen.setholdOff(false);
         //codegen.DoWhileOpenLoop();
-        //codegen.setholdOff(true);
 
-        //codegen.TimeToWrite();
         
         if(a instanceof ConstSTO && !((ConstSTO)a).getLitTag()){
-            codegen.DoWhileLitCond(a);
+            emit(c -> c.DoWhileLitCond(a));
         }
         else{
-            codegen.DoWhileExprCond(a);
+            emit(c -> c.DoWhileExprCond(a));
         }
         return result;
     }
     // Write Assembly: call DoWhileOpenLoop in ACG
     void CallDoWhileOpenLoop(){
-        codegen.DoWhileOpenLoop();
+        emit(c -> c.DoWhileOpenLoop());
     }
 
     // Write Assembly: call DoWhileCloseLoop in ACG
     void CallDoWhileCloseLoop(){
-        codegen.DoWhileCloseLoop();
+        emit(c -> c.DoWhileCloseLoop());
     }
 
     // Write Assembly: call DoElse in ACG
     void CallDoElse(){
-        codegen.DoElse();
+        emit(c -> c.DoElse());
     }
     // Write Assembly: call DoEndIf in ACG
     void CallDoIfEnd(){
-        codegen.DoEndIf();
+        emit(c -> c.DoEndIf());
     }
 
     STO ProcessParams(String s) {
@@ -4263,13 +4566,13 @@ class MyParser extends parser
           Type ptrType;
           switch (ptrStr) 
             {
-               case "int" :  ptrType = new IntType("int");
+               case "int" :  ptrType = TypeTable.INT;
                              break;
-               case "float": ptrType = new FloatType("float");
+               case "float": ptrType = TypeTable.FLOAT;
                              break;
-               case "bool":  ptrType = new BoolType("bool");
+               case "bool":  ptrType = TypeTable.BOOL;
                              break;
-               default:      ptrType = new StructType(ptrStr);
+               default:      ptrType = m_types.bind(new StructType(ptrStr));
             }
             if(ptrType instanceof StructType) { // add to fix Arrow check
             	STO struct;
@@ -4287,13 +4590,13 @@ class MyParser extends parser
         else { // non pointers
            switch (type) 
             {
-               case "int" :  t = new IntType("int");
+               case "int" :  t = TypeTable.INT;
                              break;
-               case "float": t = new FloatType("float");
+               case "float": t = TypeTable.FLOAT;
                              break;
-               case "bool":  t = new BoolType("bool");
+               case "bool":  t = TypeTable.BOOL;
                              break;
-               default:      t = new StructType(type);
+               default:      t = m_types.bind(new StructType(type));
         
             }
             if(t instanceof StructType) { // added to fix arrow check
@@ -4334,7 +4637,7 @@ class MyParser extends parser
                 
                 
             }
-            result = new VarSTO(id,aTopType);
+            result = new VarSTO(id,m_types.intern(aTopType));
         }
 
         if (result.getName().contains("&")) {
@@ -4427,7 +4730,10 @@ class MyParser extends parser
             }
 
             
-            codegen.DoReturnLit(m_symtab.getFunc(), exp, expr, promote);
+            final String exp0 = exp;
+            final STO promote0 = promote;
+            final STO sto = m_symtab.getFunc();
+            emit(c -> c.DoReturnLit(sto, exp0, expr, promote0));
             
             
         }
@@ -4442,7 +4748,9 @@ class MyParser extends parser
                 promote.setBase("%fp");
             }
           
-            codegen.DoReturnNonVoid(m_symtab.getFunc(), expr, promote);
+            final STO promote0 = promote;
+            final STO sto0 = m_symtab.getFunc();
+            emit(c -> c.DoReturnNonVoid(sto0, expr, promote0));
         }
         //STO result = new ExprSTO("return", m_symtab.getFunc().getReturnType() );
         return expr;
@@ -4458,25 +4766,31 @@ class MyParser extends parser
         
         
         //Write Assembly: for void return stmt
-        codegen.DoReturnVoid(m_symtab.getFunc());
+        final STO sto = m_symtab.getFunc();
+        emit(c -> c.DoReturnVoid(sto));
 
         return new ExprSTO("return", m_symtab.getFunc().getReturnType() );
     
     }
 
-    STO MissingReturnStmt(Type typ, Vector<STO> stmtlist){
+    STO MissingReturnStmt(Type typ, Vector<Node> stmtlist){
         int returncnt = 0;
 
 
 
         for(int i = 0; i < stmtlist.size(); i++){
+            STO result = null;
+
+            if(stmtlist.get(i) instanceof ReturnNode) {
+                result = ((ReturnNode)stmtlist.get(i)).getResult();
+            }
            
-            if(stmtlist.get(i) == null) {
+            if(result == null) {
                 returncnt++;
                 continue;
             }
-            else if(stmtlist.get(i).getName().equals("return")){
-                return stmtlist.get(i);
+            else if(result.getName().equals("return")){
+                return result;
             }
            // else{
               //  returncnt++;
@@ -4504,7 +4818,7 @@ class MyParser extends parser
         }
 
 
-        if(!(expr.getType().isAssignable(new IntType("int") ))) {
+        if(!(expr.getType().isAssignable(TypeTable.INT ))) {
             m_nNumErrors++;
             m_errors.print(Formatter.toString(ErrorMsg.error7_Exit,expr.getType().getName()));
             return new ErrorSTO("error check 7");
@@ -4513,12 +4827,12 @@ class MyParser extends parser
 
             // Assembly writing : the lit case
             if(expr instanceof ConstSTO && !((ConstSTO)expr).getLitTag()){
-                codegen.DoExitLit(expr);
+                emit(c -> c.DoExitLit(expr));
             }
             // General case
             else{
 
-                codegen.DoExitBase(expr);
+                emit(c -> c.DoExitBase(expr));
             }
             return expr;
         }
@@ -4530,29 +4844,12 @@ class MyParser extends parser
             return des;
 
 
-        STO sto = new ExprSTO(des.getName(),des.getType());
-        if(s == "-"){
-            if( des instanceof ConstSTO){
-                if(des.getType() instanceof IntType){
-                    return new ConstSTO("-" + des.getName(), des.getType(), -1*((ConstSTO)des).getIntValue());
-                }
-                else if(des.getType() instanceof FloatType){
-                    return new ConstSTO("-" + des.getName(), des.getType(), -1.0*((ConstSTO)des).getFloatValue());
-                }
-            }
-            
-        }
-        else{
-            if( des instanceof ConstSTO){
-                if(des.getType() instanceof IntType){
-                    return new ConstSTO("+" + des.getName(), des.getType(), ((ConstSTO)des).getIntValue());
-                }
-                else if(des.getType() instanceof FloatType){
-                    return new ConstSTO("+" + des.getName(), des.getType(), ((ConstSTO)des).getFloatValue());
-                }
-            }
-            
+        STO folded = ConstFolder.fold(s, des);
+        if(folded != null){
+            return folded;
         }
+
+        STO sto = new ExprSTO(des.getName(),des.getType());
         offsetCnt ++;
         int val = -offsetCnt * 4;
         sto.setOffset(String.valueOf(val));
@@ -4566,21 +4863,7 @@ class MyParser extends parser
             reg = "%f0";
         }
    
-        if(this.GetSavedLineCnt() == 0){
-            this.SaveLineCnt(); 
-        }
-        if(this.GetSavedLineCnt() != this.GetLineNum()){
-        
-            if(codegen.getholdOff()){
-                codegen.TimeToWrite();
-            }
-            this.SaveLineCnt();
-            codegen.setholdOff(false);
-        }
-        else{
-            codegen.setholdOff(true);
-        }
-        codegen.DoUnary(des, sto, reg, s);
+        emit(c -> c.DoUnary(des, sto, reg, s));
 
         return sto;
     }
@@ -4611,7 +4894,7 @@ class MyParser extends parser
             return;
         }
         //Write Assembly: handles break statement in assembly
-        codegen.DoBreak();
+        emit(c -> c.DoBreak());
     }
 
     void DoContinue(){
@@ -4621,7 +4904,7 @@ class MyParser extends parser
             return;
         }
         //Write Assembly: handles continue statement in assembly
-        codegen.DoContinue();
+        emit(c -> c.DoContinue());
 
     }
 
@@ -4673,52 +4956,50 @@ class MyParser extends parser
         }
         else {
         
-           Scope s = ((StructType)((PointerType)sto.getType()).getBaseType()).getScope();
-           Vector<STO> locals = s.getLocals();
-           for (int i = 0;i < locals.size() ; i++) {
-           	   if(locals.get(i).getName().equals(strID)) {
+           StructType s = (StructType)((PointerType)sto.getType()).getBaseType();
+           int nameId = m_symtab.getNames().intern(strID);
+           STO member = s.getMember(nameId);
+           if (member != null) {
 
-                   STO temp;
-                   if(locals.get(i) instanceof FuncSTO) {
-                       temp = new FuncSTO(locals.get(i).getName(), locals.get(i).getType());
-                       ((FuncSTO)temp).setReturnType(locals.get(i).getType());
-                       ((FuncSTO)temp).setParams(((FuncSTO)locals.get(i)).getParams());
-                       temp.flag = locals.get(i).flag;
-                       temp.setOffset(String.valueOf(++offsetCnt * -4));
-                       temp.setBase("%fp");
-                       temp.setIsPointer(true);
+               STO temp;
+               if(member instanceof FuncSTO) {
+                   temp = new FuncSTO(member.getName(), member.getType());
+                   ((FuncSTO)temp).setReturnType(member.getType());
+                   ((FuncSTO)temp).setParams(((FuncSTO)member).getParams());
+                   temp.flag = member.flag;
+                   temp.setOffset(String.valueOf(++offsetCnt * -4));
+                   temp.setBase("%fp");
+                   temp.setIsPointer(true);
 
 
-                       codegen.DoDereference(sto, temp);
+                   emit(c -> c.DoDereference(sto, temp));
 
-                       this.setStructFunCall(true);
-                       codegen.DoCtorThis(temp);
-           	           return temp;
+                   this.setStructFunCall(true);
+                   emit(c -> c.DoCtorThis(temp));
+                   return temp;
 
-                   }
-                  
-                  temp = new VarSTO(locals.get(i).getName(), locals.get(i).getType()); 
-                  
-                  //temp.setStructTag(locals.get(i).getStructTag());
-                  temp.setStructOffset(locals.get(i).getStructOffset()); 
-                  offsetCnt++;
-                  temp.setOffset(String.valueOf(offsetCnt * -4));
-                  temp.setBase("%fp");
-                  temp.setIsPointer(true);
-                 // if(((PointerType)sto.getType()).getBaseType() instanceof StructType){
-                   //   sto.setStructTag(true);
-                 // }
-                  codegen.DoDereference(sto, temp);
-                  STO result = new VarSTO(temp.getName(), temp.getType());
-                  result.setStructOffset(temp.getStructOffset());
-                  offsetCnt++;
-                  result.setOffset(String.valueOf(offsetCnt * -4));
-                  result.setBase("%fp");
-                  result.setIsPointer(true);
-                  codegen.DoStructCall(temp, result);
-           	      return result;
-           	   }
-           	
+               }
+
+              temp = new VarSTO(member.getName(), member.getType()); 
+
+              //temp.setStructTag(member.getStructTag());
+              temp.setStructOffset(s.getMemberOffset(member)); 
+              offsetCnt++;
+              temp.setOffset(String.valueOf(offsetCnt * -4));
+              temp.setBase("%fp");
+              temp.setIsPointer(true);
+             // if(((PointerType)sto.getType()).getBaseType() instanceof StructType){
+               //   sto.setStructTag(true);
+             // }
+              emit(c -> c.DoDereference(sto, temp));
+              STO result = new VarSTO(temp.getName(), temp.getType());
+              result.setStructOffset(temp.getStructOffset());
+              offsetCnt++;
+              result.setOffset(String.valueOf(offsetCnt * -4));
+              result.setBase("%fp");
+              result.setIsPointer(true);
+              emit(c -> c.DoStructCall(temp, result));
+              return result;
            }
            m_nNumErrors++;
            m_errors.print(Formatter.toString(ErrorMsg.error14f_StructExp,strID, ((PointerType)sto.getType()).getBaseType().getName()));
@@ -4748,7 +5029,7 @@ class MyParser extends parser
             }
         }
         
-        return TopType;
+        return m_types.intern(TopType);
     }
 
 
@@ -4774,7 +5055,7 @@ class MyParser extends parser
         result.setIsPointer(true);
         result.setOffset(String.valueOf(++offsetCnt * -4));
         result.setBase("%fp");
-        codegen.DoDereference(sto, result);
+        emit(c -> c.DoDereference(sto, result));
         result.flag = sto.flag;
         result.setArrayTag(sto.getArrayTag());
         return result;
@@ -4790,7 +5071,7 @@ class MyParser extends parser
          if(!(num.getType() instanceof IntType) || !(num instanceof ConstSTO)) {
            m_nNumErrors++;
            m_errors.print(Formatter.toString(ErrorMsg.error10i_Array, num.getType().getName()));
-           return new ErrorType();
+           return TypeTable.ERROR;
          }
        }
        int len = ((ConstSTO)arraylist.get(0)).getIntValue();
@@ -4811,7 +5092,7 @@ class MyParser extends parser
           }
        }
        size = size * 4;
-       return TopArray;
+       return m_types.intern(TopArray);
    }
 
 
@@ -4838,11 +5119,11 @@ class MyParser extends parser
             if(params.size() == 0){
                 if(!(((PointerType)sto.getType()).getNext() instanceof StructType)) {
                     
-                    codegen.DoNew(sto);
+                    emit(c -> c.DoNew(sto));
                     return sto;
                 }
                 else if(((PointerType)sto.getType()).getNext() instanceof StructType){
-                   codegen.DoNew(sto);
+                   emit(c -> c.DoNew(sto));
                    STO def = this.DoDereference(sto);
                    this.setInNew(def.getIsPointer());
                     // add 11/28 "new" 
@@ -4853,7 +5134,7 @@ class MyParser extends parser
             }
             else{
                 if(((PointerType)sto.getType()).getNext() instanceof StructType){
-                   codegen.DoNew(sto);
+                   emit(c -> c.DoNew(sto));
                    STO def = this.DoDereference(sto);
                    this.setInNew(def.getIsPointer());
         
@@ -4898,7 +5179,7 @@ class MyParser extends parser
             
             if(!(((PointerType)sto.getType()).getNext() instanceof StructType)) {
                     
-                codegen.DoDelete(sto);
+                emit(c -> c.DoDelete(sto));
                 return sto;
             }
             else if(((PointerType)sto.getType()).getNext() instanceof StructType){
@@ -4906,7 +5187,7 @@ class MyParser extends parser
                 this.setInNew(def.getIsPointer());
                  
                 this.DoCtorStructs("delete "+def.getName(), def.getType(), new Vector<STO>() , new Vector<STO>(), null);
-                codegen.DoDelete(sto);
+                emit(c -> c.DoDelete(sto));
                 
             }
             
@@ -4936,30 +5217,16 @@ class MyParser extends parser
 
         }
         ptr.addNext(sto.getType());
+        ptr = (PointerType)m_types.intern(ptr);
 
 
-        ExprSTO expr = new ExprSTO("&"+sto.getName(),ptr);
+        ExprSTO expr = new ExprSTO(null, "&", sto, ptr);
         expr.setIsAddressable(false);
         expr.setIsAddressable(false);
 
-       // if(this.GetSavedLineCnt() == 0){
-       //     this.SaveLineCnt();
-       // }
-      //  if(this.GetSavedLineCnt() != this.GetLineNum()){
-      //      if(codegen.getholdOff()){
-      //          codegen.TimeToWrite();
-      //      }
-      //      this.SaveLineCnt();
-      //      codegen.setholdOff(false);
-     //   }
-     //   else{
-            codegen.setholdOff(true);
-     //   }
-      
-
         expr.setOffset(String.valueOf(++offsetCnt * -4));
         expr.setBase("%fp");
-        codegen.DoAddress(sto, expr);
+        emit(c -> c.DoAddress(sto, expr));
         return expr;
          
     }
@@ -4983,11 +5250,11 @@ class MyParser extends parser
         ConstSTO result;
  
         if(sto.getType() instanceof ArrayType){
-          result = new ConstSTO(sto.getName(), new IntType("int"), ((ArrayType)sto.getType()).getTotalSize());
+          result = new ConstSTO(sto.getName(), TypeTable.INT, ((ArrayType)sto.getType()).getTotalSize());
 
         }
         else {
-          result = new ConstSTO(sto.getName(), new IntType("int"), sto.getType().getSize());
+          result = new ConstSTO(sto.getName(), TypeTable.INT, sto.getType().getSize());
         
         }
 
@@ -5029,10 +5296,10 @@ class MyParser extends parser
 
                 }                        
             }
-		    result = new ConstSTO(t.getName(), new IntType("int"),aTopType.getTotalSize());
+		    result = new ConstSTO(t.getName(), TypeTable.INT,aTopType.getTotalSize());
         }
         else {
-           result = new ConstSTO(t.getName(), new IntType("int"), t.getSize());
+           result = new ConstSTO(t.getName(), TypeTable.INT, t.getSize());
 
         }
       
@@ -5067,61 +5334,24 @@ class MyParser extends parser
 
         }
 
-        codegen.setholdOff(true);
-
         if(sto.getType() instanceof BasicType || sto.getType() instanceof PointerType){
 
-            STO res = new ConstSTO("temp");
-            if(sto instanceof ConstSTO){
-
-                Type typ = sto.getType();
-                // Cast float/int to Bool
-                if( typ instanceof BoolType && t instanceof NumericType){
-                    int val=0;
-                    if(((ConstSTO)sto).getBoolValue()){val = 1;}
-                    else if (!(((ConstSTO)sto).getBoolValue())) {val = 0;}
-                    res = new ConstSTO(sto.getName(), t, val);
-                    
-                }
-                // Cast Bool to Int
-               else if(typ instanceof IntType && t instanceof BoolType){
-                    
-                    res = new ConstSTO(sto.getName(), t, ((ConstSTO)sto).getIntValue());
-               }
-               // Cast Bool to float
-               else if(typ instanceof FloatType && t instanceof BoolType){
-                    if(((ConstSTO)sto).getFloatValue() == 0.0)
-                        res = new ConstSTO(sto.getName(), t, 0.0);
-                    else if(((ConstSTO)sto).getFloatValue() != 0.0)
-                        res = new ConstSTO(sto.getName(), t, 1.0);
-   
-               }
-               // Cast int to float
-               else if(typ instanceof FloatType && t instanceof IntType){
-                    float val = ((ConstSTO)sto).getFloatValue();
-                    int intVal = (int)val;
-                    res = new ConstSTO(sto.getName(), t,intVal);
-               
-               }
-               // float to int
-               else if(typ instanceof IntType && t instanceof FloatType){
-                    float val = ((ConstSTO)sto).getFloatValue();
-                    //float floatVal = (float)val;
-                    res = new ConstSTO(sto.getName(), t, val);
-               }
-               else if(t instanceof PointerType && typ instanceof BasicType){
-                    res = new ExprSTO(sto.getName(), t);
-               }
-               else {
-                  return sto;
-               }
-            
+            STO folded = ConstFolder.cast(t, sto);
+            if(folded == sto){
+                return sto;
+            }
+            else if(folded != null){
+                folded.setIsAddressable(false);
+                folded.setIsModifiable(false);
+                return folded;
             }
-            else{
-                res = new ExprSTO(sto.getName(), t);
 
-                
+            // a constant to anything but a pointer folded above
+            if(sto instanceof ConstSTO && !(t instanceof PointerType)){
+                return sto;
             }
+
+            STO res = new ExprSTO(sto.getName(), t);
             if(sto instanceof ConstSTO){
                 if(((ConstSTO)sto).getLitTag()) {
                    res.setOffset(String.valueOf(++offsetCnt  * -4));
@@ -5139,11 +5369,11 @@ class MyParser extends parser
                 STO promote = new ExprSTO("promote");
                 promote.setOffset(String.valueOf(++offsetCnt * -4));
                 promote.setBase("%fp");
-                codegen.DoTypeCast(sto,t,res,promote);
+                emit(c -> c.DoTypeCast(sto,t,res,promote));
 
             }
             else {
-                codegen.DoTypeCast(sto,t,res,null);
+                emit(c -> c.DoTypeCast(sto,t,res,null));
             }
 
 
@@ -5169,12 +5399,6 @@ class MyParser extends parser
     //cout for assembly 
     //-----------------------------------------------------------------------
     void DoPrint(STO sto){
-        // This is here because we still want everything besides funccall to print immediately
-        if(codegen.getholdOff()){
-            codegen.TimeToWrite();
-        }
-        codegen.setholdOff(false);
-        
             
         Type t = sto.getType();
 
@@ -5182,11 +5406,11 @@ class MyParser extends parser
         //check for endl
         if(sto instanceof ExprSTO){
             if(sto.getName().equals("endl")){
-                codegen.printNL("%o0");
+                emit(c -> c.printNL("%o0"));
 
             }
             else{
-                codegen.printVar(sto, "%l7");
+                emit(c -> c.printVar(sto, "%l7"));
 
             }
         }
@@ -5194,20 +5418,20 @@ class MyParser extends parser
         else if(sto instanceof ConstSTO && !((ConstSTO)sto).getLitTag()){
             // const string printing
             if(!(t instanceof BasicType)){
-                codegen.printConstStr(sto, "%o1");
+                emit(c -> c.printConstStr(sto, "%o1"));
             }
             else if(t instanceof FloatType){
-                codegen.printConstFloat(sto, "%f0");
+                emit(c -> c.printConstFloat(sto, "%f0"));
             }
             else if(t instanceof IntType){
-                codegen.printConstInt(sto, "%o1");
+                emit(c -> c.printConstInt(sto, "%o1"));
             }
             else{
-                codegen.printConstBool(sto,"%o0");
+                emit(c -> c.printConstBool(sto,"%o0"));
             }
         }
         else{
-            codegen.printVar(sto, "%l7");
+            emit(c -> c.printVar(sto, "%l7"));
         }
    
     }
@@ -5215,7 +5439,7 @@ class MyParser extends parser
     // cin for assembly
     void DoCin(STO sto){
     
-        codegen.DoCin(sto);
+        emit(c -> c.DoCin(sto));
     }
 
 
@@ -0,0 +1,45 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	A name, looked up from the current scope out, or only in the
+//	global scope when it's written ::name.  A name has no code; its
+//	STO already says where the variable is.
+//---------------------------------------------------------------------
+class NameNode extends ExprNode
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	NameNode (String strID, boolean bGlobal)
+	{
+		m_strID = strID;
+		m_bGlobal = bGlobal;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		if (m_bGlobal)
+			setSto (parser.DoDes3_GlobalID (m_strID));
+		else
+			setSto (parser.DoDesignator3_ID (m_strID));
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+	}
+
+
+	private String		m_strID;
+	private boolean		m_bGlobal;
+}
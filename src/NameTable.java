@@ -0,0 +1,168 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	A compilation's pool of identifier names.  Every distinct name is
+//	stored once and numbered densely from 0, so the lexer hands out
+//	the same String for every occurrence of a name and the symbol
+//	table can compare names by id instead of String.equals.
+//
+//	Each Compilation has its own, shared by its lexer, parser and
+//	symbol table, so compilations running at once don't wait on each
+//	other and a long-running server doesn't keep every name it has
+//	ever seen.  It's synchronized for -parallel, which lexes a
+//	compilation's files on several threads into the one table.
+//---------------------------------------------------------------------
+class NameTable
+{
+	//	Returned for names that can't be in the table (null).
+	public static final int		NO_ID = -1;
+
+	//----------------------------------------------------------------
+	//	Interns the characters buf[off..off+len) without building a
+	//	String unless the name has never been seen before.
+	//----------------------------------------------------------------
+	public synchronized int
+	intern (char[] buf, int off, int len)
+	{
+		int	nHash = 0;
+
+		for (int i = 0; i < len; i++)
+			nHash = 31 * nHash + buf[off + i];
+
+		int	nSlot = nHash & (m_slots.length - 1);
+		int	nId;
+
+		while ((nId = m_slots[nSlot] - 1) >= 0)
+		{
+			if (m_hashes[nId] == nHash && sameChars (m_names[nId], buf, off, len))
+				return nId;
+			nSlot = (nSlot + 1) & (m_slots.length - 1);
+		}
+
+		return add (new String (buf, off, len), nHash, nSlot);
+	}
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public synchronized int
+	intern (String strName)
+	{
+		if (strName == null)
+			return NO_ID;
+
+		int	nHash = strName.hashCode ();
+		int	nSlot = nHash & (m_slots.length - 1);
+		int	nId;
+
+		while ((nId = m_slots[nSlot] - 1) >= 0)
+		{
+			if (m_names[nId] == strName ||
+			    (m_hashes[nId] == nHash && m_names[nId].equals (strName)))
+				return nId;
+			nSlot = (nSlot + 1) & (m_slots.length - 1);
+		}
+
+		return add (strName, nHash, nSlot);
+	}
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public synchronized String
+	getName (int nId)
+	{
+		return m_names[nId];
+	}
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public synchronized int
+	size ()
+	{
+		return m_nCount;
+	}
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private static boolean
+	sameChars (String strName, char[] buf, int off, int len)
+	{
+		if (strName.length () != len)
+			return false;
+
+		for (int i = 0; i < len; i++)
+			if (strName.charAt (i) != buf[off + i])
+				return false;
+
+		return true;
+	}
+
+	//----------------------------------------------------------------
+	//	nSlot is the empty slot the probe for strName stopped at.
+	//----------------------------------------------------------------
+	private int
+	add (String strName, int nHash, int nSlot)
+	{
+		int	nId = m_nCount++;
+
+		if (nId == m_names.length)
+		{
+			String[]	names = new String[nId * 2];
+			int[]		hashes = new int[nId * 2];
+
+			System.arraycopy (m_names, 0, names, 0, nId);
+			System.arraycopy (m_hashes, 0, hashes, 0, nId);
+			m_names = names;
+			m_hashes = hashes;
+		}
+
+		m_names[nId] = strName;
+		m_hashes[nId] = nHash;
+		m_slots[nSlot] = nId + 1;
+
+		//	Keep the table at most half full.
+		if (m_nCount * 2 > m_slots.length)
+			rehash ();
+
+		return nId;
+	}
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private void
+	rehash ()
+	{
+		int[]	slots = new int[m_slots.length * 2];
+
+		for (int nId = 0; nId < m_nCount; nId++)
+		{
+			int	nSlot = m_hashes[nId] & (slots.length - 1);
+
+			while (slots[nSlot] != 0)
+				nSlot = (nSlot + 1) & (slots.length - 1);
+			slots[nSlot] = nId + 1;
+		}
+
+		m_slots = slots;
+	}
+
+
+//----------------------------------------------------------------
+//	Instance variables
+//----------------------------------------------------------------
+	//	Open-addressed hash of id+1 (0 marks an empty slot).
+	private int[]		m_slots = new int[1024];
+
+	//	Indexed by id.
+	private String[]	m_names = new String[512];
+	private int[]		m_hashes = new int[512];
+	private int 		m_nCount = 0;
+}
@@ -0,0 +1,54 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	new designator [: (args)].
+//---------------------------------------------------------------------
+class NewNode extends Node
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	NewNode (ExprNode expr, Vector<ExprNode> args)
+	{
+		m_expr = expr;
+		m_args = args;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		parser.DoNew (m_expr.getSto (), ExprNode.stos (m_args));
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_expr.checkAll (parser);
+		Node.checkAll (parser, m_args);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_expr.lower (codegen);
+		Node.lowerAll (codegen, m_args);
+		write (codegen, 0);
+	}
+
+
+	private ExprNode	m_expr;
+	private Vector<ExprNode>	m_args;
+}
@@ -0,0 +1,148 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	A node of the program's syntax tree, as rc.cup's actions build it.
+//
+//	Checking a node runs MyParser's checks on it: they type it, print
+//	its errors and work out its code, which they keep in the node as
+//	the AssemblyCodeGenerator calls to make (with the STOs and stack
+//	slots they settled on).  Lowering the node then makes those calls,
+//	with its children's in between, in the order the parse reached
+//	them.
+//
+//	A node whose production has actions part way through is checked
+//	in phases, one for each of those actions; other nodes only have
+//	phase 0.  Normally each phase is checked when the parse gets to
+//	it, and each top-level declaration is lowered once it's parsed.
+//	With -ast the parse only builds the tree, and the whole program
+//	is checked in one pass and then lowered in another.
+//---------------------------------------------------------------------
+abstract class Node
+{
+	//----------------------------------------------------------------
+	//	One call into the code generator.
+	//----------------------------------------------------------------
+	public interface Code
+	{
+		void write (AssemblyCodeGenerator codegen);
+	}
+
+
+	//----------------------------------------------------------------
+	//	The lexer's cursor when the parse reached phase nPhase.  The
+	//	-ast pass checks the phase from there, so that its errors are
+	//	reported where they would have been during the parse.
+	//----------------------------------------------------------------
+	public void
+	setMark (int nPhase, int nCursor)
+	{
+		if (nPhase >= m_marks.length)
+			m_marks = java.util.Arrays.copyOf (m_marks, nPhase + 1);
+		m_marks[nPhase] = nCursor;
+	}
+
+	public int
+	getMark (int nPhase)
+	{
+		return (m_marks[nPhase]);
+	}
+
+
+	//----------------------------------------------------------------
+	//	Keeps code for phase nPhase, or for the head of the node: code
+	//	that goes before its children's (a global's label, which its
+	//	initializer's code follows).
+	//----------------------------------------------------------------
+	public void
+	record (int nPhase, Code code)
+	{
+		while (m_code.size () <= nPhase)
+			m_code.addElement (new Vector<Code> ());
+		m_code.elementAt (nPhase).addElement (code);
+	}
+
+	public void
+	recordHead (Code code)
+	{
+		m_head.addElement (code);
+	}
+
+
+	//----------------------------------------------------------------
+	//	Writes the code kept for phase nPhase, or for the head.
+	//----------------------------------------------------------------
+	public void
+	write (AssemblyCodeGenerator codegen, int nPhase)
+	{
+		if (nPhase < m_code.size ())
+			for (Code code : m_code.elementAt (nPhase))
+				code.write (codegen);
+	}
+
+	public void
+	writeHead (AssemblyCodeGenerator codegen)
+	{
+		for (Code code : m_head)
+			code.write (codegen);
+	}
+
+
+	//----------------------------------------------------------------
+	//	Runs phase nPhase's checks.
+	//----------------------------------------------------------------
+	public abstract void
+	check (MyParser parser, int nPhase);
+
+
+	//----------------------------------------------------------------
+	//	Checks the node and everything under it in the order the
+	//	parse got to them: each child, then the node itself.  Nodes
+	//	with children or more than one phase interleave them the way
+	//	their production does.
+	//----------------------------------------------------------------
+	public void
+	checkAll (MyParser parser)
+	{
+		parser.Check (this, 0);
+	}
+
+
+	//----------------------------------------------------------------
+	//	Writes the node's code and its children's.
+	//----------------------------------------------------------------
+	public abstract void
+	lower (AssemblyCodeGenerator codegen);
+
+
+	//----------------------------------------------------------------
+	//	The same for a list of nodes (which may hold nulls, where the
+	//	grammar has nothing to build), in order.
+	//----------------------------------------------------------------
+	public static void
+	checkAll (MyParser parser, Vector<? extends Node> nodes)
+	{
+		for (Node n : nodes)
+			if (n != null)
+				n.checkAll (parser);
+	}
+
+	public static void
+	lowerAll (AssemblyCodeGenerator codegen, Vector<? extends Node> nodes)
+	{
+		for (Node n : nodes)
+			if (n != null)
+				n.lower (codegen);
+	}
+
+
+	private int[]		m_marks = new int[1];
+	private Vector<Vector<Code>>	m_code = new Vector<Vector<Code>> ();
+	private Vector<Code>	m_head = new Vector<Code> ();
+}
@@ -1,27 +1,16 @@
 class NotOp extends UnaryOp {
-    Type typeA;
-    public NotOp(STO a) {
-        super(a,"!");
+    NotOp() {
+        super("!");
     }
 
     public STO checkOperands(STO a) {
-        typeA = a.getType();
+        Type typeA = a.getType();
 
-        if(!(typeA.isEquivalent(new BoolType("bool")))) {
+        if(!(typeA.isEquivalent(TypeTable.BOOL))) {
             return new ErrorSTO(typeA.getName());
         }
         else {
-            if(a instanceof ConstSTO) {
-                if (!((ConstSTO)a).getBoolValue()) {
-                    return new ConstSTO("true",new BoolType("bool"), 1);
-                }
-                else {
-                    return new ConstSTO("false",new BoolType("bool"), 0);
-                }
-            }
-
-
-            return new ExprSTO("!"+ a.getName(), new BoolType("bool"));
+            return new ExprSTO(null, "!", a, TypeTable.BOOL);
         
         }
         
@@ -0,0 +1,21 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	Assembly thrown away, for timing everything but the output.
+//---------------------------------------------------------------------
+class NullAsmSink implements AsmSink
+{
+	public void
+	write (String str)
+	{
+	}
+
+	public void
+	close ()
+	{
+	}
+}
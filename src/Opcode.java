@@ -0,0 +1,159 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+
+//---------------------------------------------------------------------
+//	The SPARC instructions and assembler directives the code generator
+//	writes, each with the mnemonic it's written as.
+//
+//	The operands stay text (registers, labels and addresses are all
+//	made up as strings where they're used), so an instruction is an
+//	Opcode followed by zero to three operands; AssemblyCodeGenerator's
+//	emit lays it out.
+//---------------------------------------------------------------------
+enum Opcode
+{
+	//	Calls and register windows
+	SET ("set"),
+	SETHI ("sethi"),
+	SAVE ("save"),
+	CALL ("call"),
+	NOP ("nop"),
+	RET ("ret"),
+	RESTORE ("restore"),
+
+	//	Compares and conversions
+	CMP ("cmp"),
+	FCMPS ("fcmps"),
+	FITOS ("fitos"),
+	FSTOI ("fstoi"),
+
+	//	Arithmetic
+	ADD ("add"),
+	SUB ("sub"),
+	NEG ("neg"),
+	INC ("inc"),
+	DEC ("dec"),
+	FADDS ("fadds"),
+	FSUBS ("fsubs"),
+	FNEGS ("fnegs"),
+	FMULS ("fmuls"),
+	FDIVS ("fdivs"),
+
+	//	Bitwise
+	AND ("and"),
+	OR ("or"),
+	XOR ("xor"),
+
+	//	Moves, loads and stores
+	MOV ("mov"),
+	FMOVS ("fmovs"),
+	LD ("ld"),
+	ST ("st"),
+
+	//	Branches
+	BA ("ba"),
+	BE ("be"),
+	BNE ("bne"),
+	BL ("bl"),
+	BLE ("ble"),
+	BG ("bg"),
+	BGE ("bge"),
+	FBE ("fbe"),
+	FBNE ("fbne"),
+	FBL ("fbl"),
+	FBLE ("fble"),
+	FBG ("fbg"),
+	FBGE ("fbge"),
+
+	//	Directives
+	SECTION (".section"),
+	ALIGN (".align"),
+	GLOBAL (".global"),
+	SKIP (".skip"),
+	WORD (".word"),
+	SINGLE (".single"),
+	ASCIZ (".asciz");
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	Opcode (String strMnemonic)
+	{
+		m_strMnemonic = strMnemonic;
+	}
+
+	//----------------------------------------------------------------
+	//	The opcode as the assembler reads it.
+	//----------------------------------------------------------------
+	public String
+	getMnemonic ()
+	{
+		return m_strMnemonic;
+	}
+
+	//----------------------------------------------------------------
+	//	Whether this branches to the label it's given.
+	//----------------------------------------------------------------
+	public boolean
+	isBranch ()
+	{
+		switch (this)
+		{
+		case BA: case BE: case BNE: case BL: case BLE: case BG: case BGE:
+		case FBE: case FBNE: case FBL: case FBLE: case FBG: case FBGE:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	//----------------------------------------------------------------
+	//	Whether the instruction after this one, its delay slot, runs
+	//	before control goes wherever this sends it.
+	//----------------------------------------------------------------
+	public boolean
+	hasDelaySlot ()
+	{
+		return (isBranch () || this == CALL || this == RET);
+	}
+
+	//----------------------------------------------------------------
+	//	Whether the last operand is only written, not read.
+	//----------------------------------------------------------------
+	public boolean
+	writesLast ()
+	{
+		switch (this)
+		{
+		case SET: case SETHI: case MOV: case LD: case ADD: case SUB: case AND: case OR:
+		case XOR: case NEG: case FMOVS: case FNEGS: case FITOS: case FSTOI:
+		case FADDS: case FSUBS: case FMULS: case FDIVS:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	//----------------------------------------------------------------
+	//	Whether the last operand is written, read first or not.
+	//----------------------------------------------------------------
+	public boolean
+	changesLast ()
+	{
+		return (writesLast () || this == INC || this == DEC);
+	}
+
+	public String
+	toString ()
+	{
+		return m_strMnemonic;
+	}
+
+
+	private final String	m_strMnemonic;
+}
@@ -1,13 +1,12 @@
 //-----------------------------------
-//
-//
+// One operator kind.  Operators keep no state of their own, so
+// there's one shared instance of each (see OperatorTable) and it's
+// handed the operands of every expression it checks.
 //-----------------------------------'
 
-import java_cup.runtime.*;
-
 class Operator {
 
-    String op;
+    private final String op;
 	public Operator(String s) {
         op = s;
 	}
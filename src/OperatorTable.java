@@ -0,0 +1,35 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	The one instance of each operator.  Operators hold nothing but
+//	their spelling, so every expression, in every compilation, can
+//	share them.
+//
+//	They live here rather than on Operator so that loading an
+//	operator class never has to load all of the others.
+//---------------------------------------------------------------------
+class OperatorTable
+{
+	public static final BinaryOp	OR = new OrOp ();
+	public static final BinaryOp	AND = new AndOp ();
+	public static final BinaryOp	BAR = new BarOp ();
+	public static final BinaryOp	CARET = new CaretOp ();
+	public static final BinaryOp	AMPERSAND = new AmpersandOp ();
+	public static final BinaryOp	EQU = new EqualOp ();
+	public static final BinaryOp	NEQ = new NotEqualOp ();
+	public static final BinaryOp	LT = new LTOp ();
+	public static final BinaryOp	LTE = new LTEOp ();
+	public static final BinaryOp	GT = new GTOp ();
+	public static final BinaryOp	GTE = new GTEOp ();
+	public static final BinaryOp	PLUS = new AddOp ();
+	public static final BinaryOp	MINUS = new MinusOp ();
+	public static final BinaryOp	STAR = new MulOp ();
+	public static final BinaryOp	SLASH = new DivOp ();
+	public static final BinaryOp	MOD = new ModOp ();
+
+	public static final UnaryOp	NOT = new NotOp ();
+}
@@ -1,33 +1,21 @@
 class OrOp extends BooleanOp {
-    public OrOp(STO a, STO b) {
-        super(a,b,"||");
+    OrOp() {
+        super("||");
     }
 
     public STO checkOperands(STO a, STO b) {
-        typeA = a.getType();
-        typeB = b.getType();
+        Type typeA = a.getType();
+        Type typeB = b.getType();
 
 
-        if(!(typeA.isEquivalent(new BoolType("bool")))) {
+        if(!(typeA.isEquivalent(TypeTable.BOOL))) {
             return new ErrorSTO(typeA.getName());
         }
-        else if (!(typeB.isEquivalent(new BoolType("bool")))) {
+        else if (!(typeB.isEquivalent(TypeTable.BOOL))) {
             return new ErrorSTO(typeB.getName());
         }
-        else if ( (typeA.isEquivalent(new BoolType("bool"))) && (typeB.isEquivalent(new BoolType("bool")))) {
-
-           if(a instanceof ConstSTO && b instanceof ConstSTO) { 
-
-                if(((ConstSTO)a).getBoolValue() || ((ConstSTO)b).getBoolValue() ) {
-                    return new ConstSTO("true", new BoolType("bool"),1);
-                }
-                else {
-                    return new ConstSTO("false", new BoolType("bool"),0);
-                }
-
-            }
- 
-            return new ExprSTO(a.getName()+"|"+b.getName(), new BoolType("bool"));
+        else if ( (typeA.isEquivalent(TypeTable.BOOL)) && (typeB.isEquivalent(TypeTable.BOOL))) {
+            return new ExprSTO(a, "|", b, TypeTable.BOOL);
         }
         return new ErrorSTO("Error");
         
@@ -0,0 +1,140 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.HashMap;
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	The functions declared under one name, in declaration order, and
+//	the same functions hashed by their parameter types' signature.
+//
+//	A signature is the parameter types' TypeTable equivalence ids, so
+//	the functions a call's arguments exactly match are found in one
+//	probe.  Types without an id (nullptr, void, errors) have no
+//	signature: functions with such a parameter are left out of the
+//	hash, and calls with such an argument have to try every function.
+//
+//	Parameters are added to a function after it's been declared, so
+//	the hash is only built when it's first needed after the set has
+//	changed.
+//---------------------------------------------------------------------
+class OverloadSet
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	OverloadSet ()
+	{
+		m_funcs = new Vector<STO> ();
+		m_bySignature = null;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	add (STO func)
+	{
+		m_funcs.addElement (func);
+		m_bySignature = null;
+	}
+
+	public void
+	remove (STO func)
+	{
+		m_funcs.removeElement (func);
+		m_bySignature = null;
+	}
+
+	//----------------------------------------------------------------
+	//	All of the functions, in declaration order.
+	//----------------------------------------------------------------
+	public Vector<STO>
+	getFuncs ()
+	{
+		return m_funcs;
+	}
+
+
+	//----------------------------------------------------------------
+	//	The functions whose parameter types args are equivalent to,
+	//	in declaration order, or null if args have no signature and
+	//	every function has to be tried.
+	//----------------------------------------------------------------
+	public Vector<STO>
+	exactMatches (Vector<STO> args)
+	{
+		String	strSig = signature (args);
+
+		if (strSig == null)
+			return null;
+
+		if (m_bySignature == null)
+			index ();
+
+		Vector<STO>	funcs = m_bySignature.get (strSig);
+
+		return (funcs == null ? NONE : funcs);
+	}
+
+
+	//----------------------------------------------------------------
+	//	A list of STOs' types' equivalence ids, or null if one has
+	//	none.
+	//----------------------------------------------------------------
+	public static String
+	signature (Vector<STO> stos)
+	{
+		StringBuilder	sig = new StringBuilder ();
+
+		for (int i = 0; i < stos.size (); i++)
+		{
+			Type	typ = stos.elementAt (i).getType ();
+			int	nId = (typ == null) ? TypeTable.NO_ID : typ.getEquivId ();
+
+			if (nId == TypeTable.NO_ID)
+				return null;
+			if (i > 0)
+				sig.append (',');
+			sig.append (nId);
+		}
+		return sig.toString ();
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private void
+	index ()
+	{
+		m_bySignature = new HashMap<String, Vector<STO>> ();
+
+		for (int i = 0; i < m_funcs.size (); i++)
+		{
+			STO	func = m_funcs.elementAt (i);
+			String	strSig = signature (((FuncSTO) func).getParams ());
+
+			if (strSig == null)
+				continue;
+
+			Vector<STO>	funcs = m_bySignature.get (strSig);
+
+			if (funcs == null)
+				m_bySignature.put (strSig, funcs = new Vector<STO> (1));
+			funcs.addElement (func);
+		}
+	}
+
+
+	private static final Vector<STO>	NONE = new Vector<STO> (0);
+
+	private Vector<STO>			m_funcs;
+	private HashMap<String, Vector<STO>>	m_bySignature;
+}
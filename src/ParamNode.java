@@ -0,0 +1,83 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	A function's parameter.  The check writes it out the way
+//	DoFormalParams takes it: "type[&] id dims".
+//---------------------------------------------------------------------
+class ParamNode extends Node
+{
+	//----------------------------------------------------------------
+	//	strRef is "&" or "".
+	//----------------------------------------------------------------
+	public
+	ParamNode (TypeNode type, String strRef, String strID, Vector<ExprNode> dims)
+	{
+		m_type = type;
+		m_strRef = strRef;
+		m_strID = strID;
+		m_dims = dims;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public String
+	getDecl ()
+	{
+		return (m_strDecl);
+	}
+
+
+	//----------------------------------------------------------------
+	//	The declarations of a list of checked parameters.
+	//----------------------------------------------------------------
+	public static Vector<String>
+	decls (Vector<ParamNode> params)
+	{
+		Vector<String>	decls = new Vector<String> ();
+
+		for (ParamNode p : params)
+			decls.addElement (p.getDecl ());
+		return (decls);
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		m_strDecl = m_type.getType ().getName () + m_strRef + " " + m_strID + " "
+			+ parser.processArray (ExprNode.stos (m_dims));
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_type.checkAll (parser);
+		Node.checkAll (parser, m_dims);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		Node.lowerAll (codegen, m_dims);
+	}
+
+
+	private TypeNode	m_type;
+	private String		m_strRef;
+	private String		m_strID;
+	private Vector<ExprNode>	m_dims;
+	private String		m_strDecl;
+}
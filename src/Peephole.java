@@ -0,0 +1,401 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+
+
+//---------------------------------------------------------------------
+//	Peephole rewrites of the finished .text (with -O, after
+//	RegisterAllocator), each within the straight-line code between
+//	labels:
+//
+//	  -	A frame address made up only to load or store through,
+//
+//			set	off, R
+//			add	%fp, R, R
+//			ld	[R], D		or	st	S, [R]
+//
+//		is folded into the access, as [%fp+off], when off fits in
+//		an instruction (simm13) and R isn't read again before it's
+//		overwritten.
+//	  -	A load from the slot just stored to becomes a move from the
+//		register stored, or goes away if that's where it loads.
+//	  -	Moves of a register to itself, and "add %g0, R, R", go.
+//	  -	So does a set of a register that already holds the value.
+//
+//	Nothing here looks past a call, branch or label, so an address
+//	that might be passed along or a value that might be changed
+//	elsewhere is left as it was.
+//---------------------------------------------------------------------
+class Peephole
+{
+	//----------------------------------------------------------------
+	//	Rewrites every unit of text, returning how many instructions
+	//	are gone.
+	//----------------------------------------------------------------
+	public static int
+	optimize (AsmSection text)
+	{
+		int	nSaved = 0;
+
+		for (ArrayList<Instruction> unit : text.getUnits ())
+			nSaved += new Peephole (unit).run ();
+		return nSaved;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private
+	Peephole (ArrayList<Instruction> unit)
+	{
+		m_unit = unit;
+		m_lines = unit.toArray (new Instruction[0]);
+	}
+
+	private int
+	run ()
+	{
+		int	nBefore = countInstructions ();
+
+		foldOffsets ();
+		forwardStores ();
+		dropMoves ();
+		dropSets ();
+
+		m_unit.clear ();
+		for (Instruction insn : m_lines)
+		{
+			if (insn != null)
+				m_unit.add (insn);
+		}
+		return nBefore - countInstructions ();
+	}
+
+	private int
+	countInstructions ()
+	{
+		int	n = 0;
+
+		for (Instruction insn : m_lines)
+		{
+			if (insn != null && insn.isInstruction ())
+				n++;
+		}
+		return n;
+	}
+
+
+	//----------------------------------------------------------------
+	//	set off, R / add %fp, R, R / ld|st through [R]  =>
+	//	ld|st through [%fp+off]
+	//----------------------------------------------------------------
+	private void
+	foldOffsets ()
+	{
+		for (int i = 0; i + 1 < m_lines.length; i++)
+		{
+			Instruction	insn = m_lines[i];
+
+			if (insn == null || insn.getOp () != Opcode.SET ||
+				!RegisterAllocator.isFrameAdd (m_lines[i + 1], insn.getOperand (1)))
+				continue;
+
+			Integer	nOffset = RegisterAllocator.parseInt (insn.getOperand (0));
+
+			if (!isSimm13 (nOffset))
+				continue;
+
+			String			strReg = insn.getOperand (1);
+			ArrayList<Integer>	uses = accessesThrough (i + 2, strReg);
+
+			if (uses == null)
+				continue;
+
+			String	strAddr = "[" + strReg + "]";
+			String	strFrame = frameAddress (nOffset);
+
+			for (int nLine : uses)
+			{
+				Instruction	use = m_lines[nLine];
+				String[]	ops = use.getOperands ().clone ();
+
+				for (int j = 0; j < ops.length; j++)
+				{
+					if (ops[j].equals (strAddr))
+						ops[j] = strFrame;
+				}
+				m_lines[nLine] = new Instruction (use.getIndent (), use.getOp (), ops);
+			}
+			m_lines[i] = null;
+			m_lines[i + 1] = null;
+			i++;
+		}
+	}
+
+	//----------------------------------------------------------------
+	//	The loads and stores through R from line i on, up to where R
+	//	is overwritten, or null if R is used any other way first or
+	//	still holds the address at a call, branch or label.
+	//----------------------------------------------------------------
+	private ArrayList<Integer>
+	accessesThrough (int i, String strReg)
+	{
+		String			strAddr = "[" + strReg + "]";
+		ArrayList<Integer>	uses = new ArrayList<Integer> ();
+
+		for (; i < m_lines.length; i++)
+		{
+			Instruction	insn = m_lines[i];
+
+			if (insn == null)
+				continue;
+			if (!insn.isInstruction ())
+			{
+				if (insn.isLabel ())
+					return null;
+				continue;
+			}
+
+			Opcode		op = insn.getOp ();
+			String[]	ops = insn.getOperands ();
+
+			if (op == Opcode.LD && ops[0].equals (strAddr))
+			{
+				uses.add (i);
+				if (ops[1].equals (strReg))
+					return uses;
+				continue;
+			}
+			if (op == Opcode.ST && ops[1].equals (strAddr) && !ops[0].equals (strReg))
+			{
+				uses.add (i);
+				continue;
+			}
+			if (endsBlock (op))
+				return null;
+
+			int	nUses = 0;
+
+			for (int j = 0; j < ops.length; j++)
+			{
+				if (mentions (ops[j], strReg))
+					nUses++;
+			}
+			if (nUses == 0)
+				continue;
+			if (nUses == 1 && op.writesLast () && ops[ops.length - 1].equals (strReg))
+				return uses;
+			return null;
+		}
+		return null;
+	}
+
+
+	//----------------------------------------------------------------
+	//	st S, [%fp+n] ... ld [%fp+n], D  =>  st S, [%fp+n] ... mov S, D
+	//----------------------------------------------------------------
+	private void
+	forwardStores ()
+	{
+		for (int i = 0; i < m_lines.length; i++)
+		{
+			Instruction	insn = m_lines[i];
+
+			if (insn == null || insn.getOp () != Opcode.ST ||
+				RegisterAllocator.frameOffset (insn.getOperand (1)) == null)
+				continue;
+
+			String	strSrc = insn.getOperand (0);
+			String	strAddr = insn.getOperand (1);
+
+			for (int j = i + 1; j < m_lines.length; j++)
+			{
+				Instruction	next = m_lines[j];
+
+				if (next == null)
+					continue;
+				if (!next.isInstruction ())
+				{
+					if (next.isLabel ())
+						break;
+					continue;
+				}
+
+				Opcode		op = next.getOp ();
+				String[]	ops = next.getOperands ();
+
+				if (op == Opcode.LD && ops[0].equals (strAddr))
+				{
+					boolean	bFloat = isFloat (ops[1]);
+
+					if (bFloat != isFloat (strSrc))
+						break;
+					m_lines[j] = new Instruction (next.getIndent (),
+						bFloat ? Opcode.FMOVS : Opcode.MOV, strSrc, ops[1]);
+					if (ops[1].equals (strSrc))
+						continue;
+				}
+
+				//	Anything else that might change the slot, or S,
+				//	ends it.
+				if (op == Opcode.ST || endsBlock (op))
+					break;
+				if (op.changesLast () && ops[ops.length - 1].equals (strSrc))
+					break;
+			}
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	mov R, R  and  add %g0, R, R  =>  nothing
+	//----------------------------------------------------------------
+	private void
+	dropMoves ()
+	{
+		for (int i = 0; i < m_lines.length; i++)
+		{
+			Instruction	insn = m_lines[i];
+
+			if (insn == null || !insn.isInstruction ())
+				continue;
+
+			Opcode		op = insn.getOp ();
+			String[]	ops = insn.getOperands ();
+
+			if ((op == Opcode.MOV || op == Opcode.FMOVS) && ops.length == 2 &&
+				ops[0].equals (ops[1]))
+				m_lines[i] = null;
+			else if (op == Opcode.ADD && ops.length == 3 && ops[0].equals (G0) &&
+				ops[1].equals (ops[2]))
+				m_lines[i] = null;
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	set V, R  =>  nothing, if R already holds V
+	//----------------------------------------------------------------
+	private void
+	dropSets ()
+	{
+		HashMap<String, String>	values = new HashMap<String, String> ();
+
+		for (int i = 0; i < m_lines.length; i++)
+		{
+			Instruction	insn = m_lines[i];
+
+			if (insn == null)
+				continue;
+			if (!insn.isInstruction ())
+			{
+				if (insn.isLabel ())
+					values.clear ();
+				continue;
+			}
+
+			Opcode		op = insn.getOp ();
+			String[]	ops = insn.getOperands ();
+
+			if (op == Opcode.SET)
+			{
+				if (ops[0].equals (values.get (ops[1])))
+					m_lines[i] = null;
+				else
+					values.put (ops[1], ops[0]);
+				continue;
+			}
+
+			//	A call keeps only the %l and %i registers; the branch
+			//	target starts over at its label.
+			if (op == Opcode.CALL)
+			{
+				Iterator<String>	regs = values.keySet ().iterator ();
+
+				while (regs.hasNext ())
+				{
+					String	strReg = regs.next ();
+
+					if (!strReg.startsWith ("%l") && !strReg.startsWith ("%i"))
+						regs.remove ();
+				}
+			}
+			else if (op == Opcode.SAVE || op == Opcode.RESTORE || op == Opcode.RET)
+				values.clear ();
+			else if (op.changesLast ())
+				values.remove (ops[ops.length - 1]);
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	Helpers
+	//----------------------------------------------------------------
+	private static boolean
+	endsBlock (Opcode op)
+	{
+		return (op == Opcode.CALL || op.isBranch () || op == Opcode.RET ||
+			op == Opcode.RESTORE || op == Opcode.SAVE);
+	}
+
+	//----------------------------------------------------------------
+	//	Whether strOperand uses register strReg (so %f1 isn't taken
+	//	for a use of %f10).
+	//----------------------------------------------------------------
+	static boolean
+	mentions (String strOperand, String strReg)
+	{
+		for (int i = strOperand.indexOf (strReg); i >= 0; i = strOperand.indexOf (strReg, i + 1))
+		{
+			int	nEnd = i + strReg.length ();
+
+			if (nEnd == strOperand.length () || !Character.isDigit (strOperand.charAt (nEnd)))
+				return true;
+		}
+		return false;
+	}
+
+	//----------------------------------------------------------------
+	//	Whether n (null for something not a number) fits in an
+	//	instruction's immediate.
+	//----------------------------------------------------------------
+	static boolean
+	isSimm13 (Integer n)
+	{
+		return (n != null && n >= MIN_SIMM13 && n <= MAX_SIMM13);
+	}
+
+	private static boolean
+	isFloat (String strReg)
+	{
+		return strReg.startsWith ("%f") && !strReg.equals (FP);
+	}
+
+	private static String
+	frameAddress (int nOffset)
+	{
+		if (nOffset == 0)
+			return "[" + FP + "]";
+		return "[" + FP + (nOffset > 0 ? "+" : "") + nOffset + "]";
+	}
+
+
+	private static final String	FP = "%fp";
+	private static final String	G0 = "%g0";
+
+	private static final int	MIN_SIMM13 = -4096;
+	private static final int	MAX_SIMM13 = 4095;
+
+	private final ArrayList<Instruction>	m_unit;
+
+	//	The unit's lines, a dropped one null until run puts the rest
+	//	back.
+	private final Instruction[]		m_lines;
+}
@@ -20,6 +20,7 @@ class PointerType extends CompositeType{
     }
 
     public void setNumPointers(int p) {
+        resetEquivId();
         numPointers = p;
     }
     
@@ -29,6 +30,9 @@ class PointerType extends CompositeType{
         if(t instanceof NullPointerType) {
            return true;
         }
+        if (hasEquivIds(t)) {
+            return this.getEquivId() == t.getEquivId();
+        }
 
         if( t instanceof PointerType ) {
             if(this.getNumPtr() == ((PointerType)t).getNumPtr()){
@@ -55,6 +59,7 @@ class PointerType extends CompositeType{
     }
 
     public void addNext(Type t) {
+        resetEquivId();
         if( next == null){
             next = t;
         }
@@ -68,6 +73,7 @@ class PointerType extends CompositeType{
     }
 
     public void setBaseType(Type t){
+       resetEquivId();
        if( numPointers == 1) {
            next = t;
        }
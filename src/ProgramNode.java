@@ -0,0 +1,56 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	The whole program: its global declarations, between phase 0
+//	(which opens the global scope) and phase 1 (which closes it).
+//---------------------------------------------------------------------
+class ProgramNode extends Node
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	setDecls (Vector<Node> decls)
+	{
+		m_decls = decls;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		if (nPhase == 0)
+			parser.DoProgramStart ();
+		else
+			parser.DoProgramEnd ();
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		parser.Check (this, 0);
+		Node.checkAll (parser, m_decls);
+		parser.Check (this, 1);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		write (codegen, 0);
+		Node.lowerAll (codegen, m_decls);
+		write (codegen, 1);
+	}
+
+
+	private Vector<Node>	m_decls;
+}
@@ -15,9 +15,44 @@ import	java.util.Vector;
 class RC
 {
 	public static void main(String[] args)
+		throws java.io.IOException
 	{
-		boolean debugMode = false;
-	    
+		//	RC -server [socket] stays up compiling one request after
+		//	another; see CompileServer.
+		for (int i = 0; i < args.length; i++)
+		{
+			if (args[i].equals("-server"))
+			{
+				String socket = (i + 1 < args.length && !args[i+1].startsWith("-"))
+					? args[i+1] : null;
+
+				new CompileServer(socket).run();
+				return;
+			}
+
+			//	RC -batch dir compiles every .rc file under dir at
+			//	once; see BatchCompiler.
+			if (args[i].equals("-batch") && i + 1 < args.length)
+			{
+				new BatchCompiler(args[i+1], args).run();
+				return;
+			}
+		}
+
+		compile(args, null, System.out, System.err);
+	}
+
+	//----------------------------------------------------------------
+	//	Compiles as the command line args say, with relative paths
+	//	taken from dir (the working directory if null) and output
+	//	to out and err.
+	//----------------------------------------------------------------
+	static boolean compile(String[] args, java.io.File dir,
+		java.io.PrintStream out, java.io.PrintStream err)
+		throws java.io.IOException
+	{
+		String asmFile = "rc.s";
+
 		//	First, read in the files given from the command line
 		//	filtering out any command line arguments.  Go backward 
 		//	on the filenames so the file listed first will be 
@@ -26,37 +61,40 @@ class RC
 
         for (int i = args.length-1; i >= 0; i--)
         {
-            if (!args[i].startsWith("-"))
+            if (i > 0 && args[i-1].equals("-o"))
+                asmFile = args[i];
+            else if (!args[i].startsWith("-"))
                 filenames.addElement(args[i]);
-            if ( args[i].equals("-debug") )
-                debugMode = true;
         }
 
-		//	Now, start up the lexer with the files found.  If there
-		//	were no files, the lexer will default to reading in from
-		//	System.in.
-		Lexer lexer = new Lexer(filenames);
+		//	If there were no files, the lexer will default to reading
+		//	in from System.in.
+		Compilation compilation = new Compilation(filenames, dir,
+			openAsm(asmFile, dir, out), out, err);
 
-		//	The error printer uses the lexer to get the name
-		//	of the current file & line number.
-		ErrorPrinter errors = new ErrorPrinter(lexer, debugMode);
+		compilation.setOptions(args);
+		return compilation.run();
+	}
 
+	//----------------------------------------------------------------
+	//	-o - writes the assembly to out (after everything else the
+	//	compile prints, since it's buffered until the end), -o
+	//	/dev/null doesn't write it at all, and -o file (or rc.s by
+	//	default) writes it to that file.
+	//----------------------------------------------------------------
+	static AsmSink openAsm(String asmFile, java.io.File dir,
+		java.io.PrintStream out)
+		throws java.io.IOException
+	{
+		if (asmFile.equals("-"))
+			return new BufferedAsmSink(out);
+		if (asmFile.equals("/dev/null"))
+			return new NullAsmSink();
 
-		//	Finally, the parser takes in everybody.
-		MyParser parser = new MyParser(lexer, errors, debugMode);
+		java.io.File file = new java.io.File(asmFile);
 
-		try
-		{
-			parser.parse();
-			if (parser.Ok())
-				System.out.println("Compile: success.");
-			else
-				System.out.println("Compile: failure.");
-		}
-		catch (Exception e)
-		{
-			e.printStackTrace();
-			System.out.println("Compile: failure.");
-		}
+		if (dir != null && !file.isAbsolute())
+			file = new java.io.File(dir, asmFile);
+		return new BufferedAsmSink(file.getPath());
 	}
 }
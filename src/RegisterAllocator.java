@@ -0,0 +1,540 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+
+
+//---------------------------------------------------------------------
+//	Linear-scan allocation of stack slots to registers, run over each
+//	function of the finished .text (with -O).
+//
+//	The generator gives every local, parameter and temporary its own
+//	word at some offset from %fp.  Every access goes through memory,
+//	either directly ([%fp+68]) or by materializing the address:
+//
+//		set	off, R
+//		add	%fp, R, R
+//		...
+//		ld	[R], D		or	st	S, [R]
+//
+//	A slot is kept in a register instead if every access to it is one
+//	of those, with R used for nothing else before it's overwritten.
+//	Slots whose address is taken or passed along (&x, arrays, structs,
+//	pointer arithmetic) fail that test and stay in memory.  So do
+//	slots accessed both as int and as float, and parameters past the
+//	sixth, which the caller stores.
+//
+//	A slot is live from its first access to its last, in the order
+//	the code is laid out, stretched over any loop (a backward branch
+//	and the code it jumps back over) it overlaps.  Slots are then
+//	allocated in order of where they start.  Ints go in %l0-%l6, which
+//	the generator never uses and which calls don't touch.  Floats go
+//	in %f8-%f31, which calls don't preserve, so a float slot live
+//	across a call stays in memory.  When the registers run out, the
+//	slot that's live the longest stays in memory.
+//
+//	A kept slot's address materializations are dropped, its loads
+//	become register moves into D and its stores moves from S.
+//---------------------------------------------------------------------
+class RegisterAllocator
+{
+	//----------------------------------------------------------------
+	//	Allocates every unit of text, returning how many slots were
+	//	put in registers.
+	//----------------------------------------------------------------
+	public static int
+	allocate (AsmSection text)
+	{
+		int	nSlots = 0;
+
+		for (ArrayList<Instruction> unit : text.getUnits ())
+			nSlots += new RegisterAllocator (unit).run ();
+		return nSlots;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private
+	RegisterAllocator (ArrayList<Instruction> unit)
+	{
+		m_unit = unit;
+		m_slots = new HashMap<Long, Slot> ();
+		m_loops = new ArrayList<int[]> ();
+	}
+
+	private int
+	run ()
+	{
+		if (!findSlots () || !findLoops ())
+			return 0;
+
+		ArrayList<Slot>	ints = new ArrayList<Slot> ();
+		ArrayList<Slot>	floats = new ArrayList<Slot> ();
+
+		for (Slot slot : m_slots.values ())
+		{
+			if (slot.m_bEscapes || slot.m_nKind == NONE)
+				continue;
+			stretch (slot);
+			if (slot.m_nKind == INT)
+				ints.add (slot);
+			else if (!callsWithin (slot.m_nStart, slot.m_nEnd))
+				floats.add (slot);
+		}
+
+		int	nKept = scan (ints, INT_REGS) + scan (floats, FLOAT_REGS);
+
+		if (nKept > 0)
+			rewrite ();
+		return nKept;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Finds every slot access, marking the slots whose accesses
+	//	aren't all plain loads and stores.  False if %fp is used some
+	//	other way, in which case nothing here can be trusted.
+	//----------------------------------------------------------------
+	private boolean
+	findSlots ()
+	{
+		int	nFrame = 0;
+
+		for (int i = 0; i < m_unit.size (); i++)
+		{
+			Instruction	insn = m_unit.get (i);
+
+			if (!insn.isInstruction ())
+				continue;
+
+			Opcode		op = insn.getOp ();
+			String[]	ops = insn.getOperands ();
+
+			//	Each save starts a new frame, whose slots are its own.
+			if (op == Opcode.SAVE)
+			{
+				nFrame++;
+				continue;
+			}
+
+			if (op == Opcode.SET && i + 1 < m_unit.size () && isFrameAdd (m_unit.get (i + 1), ops[1]))
+			{
+				Integer	nOffset = parseInt (ops[0]);
+
+				if (nOffset == null)
+					return false;
+
+				Slot	slot = slot (nFrame, nOffset);
+
+				slot.m_addrLines.add (i);
+				slot.m_addrLines.add (i + 1);
+				trace (slot, i + 2, ops[1]);
+				i++;
+				continue;
+			}
+
+			for (int j = 0; j < ops.length; j++)
+			{
+				if (!ops[j].contains (FP))
+					continue;
+
+				Integer	nOffset = frameOffset (ops[j]);
+
+				if (nOffset == null)
+					return false;
+				if (op == Opcode.LD && j == 0)
+					access (slot (nFrame, nOffset), i, true, ops[1]);
+				else if (op == Opcode.ST && j == 1)
+					access (slot (nFrame, nOffset), i, false, ops[0]);
+				else
+					return false;
+			}
+		}
+		return true;
+	}
+
+	//----------------------------------------------------------------
+	//	Follows R, holding slot's address, from line i until it's
+	//	overwritten, noting the loads and stores through it.  Anything
+	//	else done with R (or R still holding the address at a label or
+	//	branch) lets the address out.
+	//----------------------------------------------------------------
+	private void
+	trace (Slot slot, int i, String strReg)
+	{
+		String	strAddr = "[" + strReg + "]";
+
+		for (; i < m_unit.size (); i++)
+		{
+			Instruction	insn = m_unit.get (i);
+
+			if (!insn.isInstruction ())
+			{
+				if (insn.isLabel ())
+					break;
+				continue;
+			}
+
+			Opcode		op = insn.getOp ();
+			String[]	ops = insn.getOperands ();
+
+			if (op == Opcode.LD && ops[0].equals (strAddr))
+			{
+				access (slot, i, true, ops[1]);
+				if (ops[1].equals (strReg))
+					return;
+				continue;
+			}
+			if (op == Opcode.ST && ops[1].equals (strAddr) && !ops[0].equals (strReg))
+			{
+				access (slot, i, false, ops[0]);
+				continue;
+			}
+
+			//	A call with the address still in a register may have been
+			//	passed it.
+			if (op == Opcode.CALL || op.isBranch () || op == Opcode.RET ||
+				op == Opcode.RESTORE || op == Opcode.SAVE)
+				break;
+
+			int	nUses = 0;
+
+			for (int j = 0; j < ops.length; j++)
+			{
+				if (ops[j].contains (strReg))
+					nUses++;
+			}
+			if (nUses == 0)
+				continue;
+
+			//	Overwritten without being read.
+			if (nUses == 1 && op.writesLast () && ops[ops.length - 1].equals (strReg))
+				return;
+			break;
+		}
+		slot.m_bEscapes = true;
+	}
+
+	private void
+	access (Slot slot, int nLine, boolean bLoad, String strReg)
+	{
+		int	nKind = strReg.startsWith ("%f") ? FLOAT : INT;
+
+		if (slot.m_nKind != NONE && slot.m_nKind != nKind)
+			slot.m_bEscapes = true;
+		slot.m_nKind = nKind;
+		slot.m_accesses.add (new Access (nLine, bLoad, strReg));
+	}
+
+	private Slot
+	slot (int nFrame, int nOffset)
+	{
+		long	key = ((long) nFrame << 32) | (nOffset & 0xffffffffL);
+		Slot	slot = m_slots.get (key);
+
+		if (slot == null)
+		{
+			m_slots.put (key, slot = new Slot ());
+
+			//	Only locals and the six parameters the callee stores
+			//	itself; the rest of the frame isn't ours to keep.
+			if (nFrame == 0 || !(nOffset < 0 || (nOffset >= FIRST_PARAM && nOffset < LAST_PARAM)))
+				slot.m_bEscapes = true;
+		}
+		return slot;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Records every backward branch as a loop over the lines from
+	//	its target to it.  False if a branch goes somewhere outside
+	//	this unit.
+	//----------------------------------------------------------------
+	private boolean
+	findLoops ()
+	{
+		HashMap<String, Integer>	labels = new HashMap<String, Integer> ();
+
+		for (int i = 0; i < m_unit.size (); i++)
+		{
+			Instruction	insn = m_unit.get (i);
+
+			if (insn.isLabel ())
+			{
+				String	strText = insn.getText ();
+
+				labels.put (strText.substring (0, strText.length () - 1), i);
+			}
+		}
+
+		for (int i = 0; i < m_unit.size (); i++)
+		{
+			Instruction	insn = m_unit.get (i);
+
+			if (!insn.isInstruction () || !insn.getOp ().isBranch ())
+				continue;
+
+			Integer	nTarget = labels.get (insn.getOperand (0));
+
+			if (nTarget == null)
+				return false;
+			if (nTarget < i)
+				m_loops.add (new int[] { nTarget, i });
+		}
+		return true;
+	}
+
+	//----------------------------------------------------------------
+	//	Sets slot's interval, stretched until it covers every loop it
+	//	overlaps.
+	//----------------------------------------------------------------
+	private void
+	stretch (Slot slot)
+	{
+		slot.m_nStart = Integer.MAX_VALUE;
+		slot.m_nEnd = -1;
+		for (Access a : slot.m_accesses)
+			cover (slot, a.m_nLine);
+		for (int nLine : slot.m_addrLines)
+			cover (slot, nLine);
+
+		boolean	bChanged = true;
+
+		while (bChanged)
+		{
+			bChanged = false;
+			for (int[] loop : m_loops)
+			{
+				if (slot.m_nStart <= loop[1] && slot.m_nEnd >= loop[0] &&
+					(slot.m_nStart > loop[0] || slot.m_nEnd < loop[1]))
+				{
+					cover (slot, loop[0]);
+					cover (slot, loop[1]);
+					bChanged = true;
+				}
+			}
+		}
+	}
+
+	private static void
+	cover (Slot slot, int nLine)
+	{
+		slot.m_nStart = Math.min (slot.m_nStart, nLine);
+		slot.m_nEnd = Math.max (slot.m_nEnd, nLine);
+	}
+
+	private boolean
+	callsWithin (int nStart, int nEnd)
+	{
+		for (int i = nStart; i <= nEnd; i++)
+		{
+			Instruction	insn = m_unit.get (i);
+
+			if (insn.isInstruction () && insn.getOp () == Opcode.CALL)
+				return true;
+		}
+		return false;
+	}
+
+
+	//----------------------------------------------------------------
+	//	The linear scan proper: gives slots registers from regs in
+	//	order of their start, returning how many got one.
+	//----------------------------------------------------------------
+	private static int
+	scan (ArrayList<Slot> slots, String[] regs)
+	{
+		ArrayList<Slot>	active = new ArrayList<Slot> ();
+		ArrayList<String>	free = new ArrayList<String> ();
+		int		nKept = 0;
+
+		Collections.addAll (free, regs);
+		Collections.sort (slots, (a, b) -> (a.m_nStart != b.m_nStart) ?
+			Integer.compare (a.m_nStart, b.m_nStart) : Integer.compare (a.m_nEnd, b.m_nEnd));
+
+		for (Slot slot : slots)
+		{
+			//	Slots that have ended give their registers back.
+			for (int i = active.size () - 1; i >= 0; i--)
+			{
+				Slot	old = active.get (i);
+
+				if (old.m_nEnd < slot.m_nStart)
+				{
+					free.add (old.m_strReg);
+					active.remove (i);
+				}
+			}
+
+			if (!free.isEmpty ())
+			{
+				slot.m_strReg = free.remove (free.size () - 1);
+				active.add (slot);
+				nKept++;
+				continue;
+			}
+
+			//	Out of registers: whichever of these ends last stays
+			//	in memory.
+			Slot	last = slot;
+
+			for (Slot old : active)
+			{
+				if (old.m_nEnd > last.m_nEnd)
+					last = old;
+			}
+			if (last != slot)
+			{
+				slot.m_strReg = last.m_strReg;
+				last.m_strReg = null;
+				active.remove (last);
+				active.add (slot);
+			}
+		}
+		return nKept;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Replaces the kept slots' accesses with register moves.
+	//----------------------------------------------------------------
+	private void
+	rewrite ()
+	{
+		Instruction[]	lines = m_unit.toArray (new Instruction[0]);
+
+		for (Slot slot : m_slots.values ())
+		{
+			if (slot.m_strReg == null)
+				continue;
+
+			Opcode	move = (slot.m_nKind == FLOAT) ? Opcode.FMOVS : Opcode.MOV;
+
+			for (int nLine : slot.m_addrLines)
+				lines[nLine] = null;
+			for (Access a : slot.m_accesses)
+			{
+				int	nIndent = lines[a.m_nLine].getIndent ();
+
+				lines[a.m_nLine] = a.m_bLoad ?
+					new Instruction (nIndent, move, slot.m_strReg, a.m_strReg) :
+					new Instruction (nIndent, move, a.m_strReg, slot.m_strReg);
+			}
+		}
+
+		m_unit.clear ();
+		for (Instruction insn : lines)
+		{
+			if (insn != null)
+				m_unit.add (insn);
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	Helpers on instructions, which Peephole uses too.  First,
+	//	whether insn is "add %fp, R, R".
+	//----------------------------------------------------------------
+	static boolean
+	isFrameAdd (Instruction insn, String strReg)
+	{
+		return (insn.isInstruction () && insn.getOp () == Opcode.ADD &&
+			insn.getOperand (0).equals (FP) && insn.getOperand (1).equals (strReg) &&
+			insn.getOperand (2).equals (strReg));
+	}
+
+	//----------------------------------------------------------------
+	//	The offset in "[%fp]", "[%fp+n]" or "[%fp-n]", or null.
+	//----------------------------------------------------------------
+	static Integer
+	frameOffset (String strOperand)
+	{
+		if (!strOperand.startsWith ("[" + FP) || !strOperand.endsWith ("]"))
+			return null;
+
+		String	str = strOperand.substring (FP.length () + 1, strOperand.length () - 1);
+
+		if (str.isEmpty ())
+			return 0;
+		if (str.startsWith ("+"))
+			return parseInt (str.substring (1));
+		if (str.startsWith ("-"))
+		{
+			Integer	n = parseInt (str.substring (1));
+
+			return (n == null) ? null : -n;
+		}
+		return null;
+	}
+
+	static Integer
+	parseInt (String str)
+	{
+		try
+		{
+			return Integer.valueOf (str);
+		}
+		catch (NumberFormatException e)
+		{
+			return null;
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	One word of the frame, and the accesses to it.
+	//----------------------------------------------------------------
+	private static final class Slot
+	{
+		boolean			m_bEscapes = false;
+		int			m_nKind = NONE;
+		int			m_nStart;
+		int			m_nEnd;
+		String			m_strReg = null;
+		ArrayList<Access>	m_accesses = new ArrayList<Access> ();
+		ArrayList<Integer>	m_addrLines = new ArrayList<Integer> ();
+	}
+
+	private static final class Access
+	{
+		Access (int nLine, boolean bLoad, String strReg)
+		{
+			m_nLine = nLine;
+			m_bLoad = bLoad;
+			m_strReg = strReg;
+		}
+
+		final int	m_nLine;
+		final boolean	m_bLoad;
+		final String	m_strReg;
+	}
+
+
+	private static final int	NONE = 0;
+	private static final int	INT = 1;
+	private static final int	FLOAT = 2;
+
+	private static final String	FP = "%fp";
+
+	//	Where the callee stores its first six parameters.
+	private static final int	FIRST_PARAM = 68;
+	private static final int	LAST_PARAM = 92;
+
+	private static final String[]	INT_REGS = {
+		"%l6", "%l5", "%l4", "%l3", "%l2", "%l1", "%l0" };
+	private static final String[]	FLOAT_REGS = {
+		"%f31", "%f30", "%f29", "%f28", "%f27", "%f26", "%f25", "%f24",
+		"%f23", "%f22", "%f21", "%f20", "%f19", "%f18", "%f17", "%f16",
+		"%f15", "%f14", "%f13", "%f12", "%f11", "%f10", "%f9", "%f8" };
+
+	private final ArrayList<Instruction>	m_unit;
+	private final HashMap<Long, Slot>	m_slots;
+	private final ArrayList<int[]>		m_loops;
+}
@@ -0,0 +1,64 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	return [expr].  Its result is an ExprSTO named "return" (or an
+//	ErrorSTO), which tells a function's check it has a return.
+//---------------------------------------------------------------------
+class ReturnNode extends Node
+{
+	//----------------------------------------------------------------
+	//	expr is null for a plain return.
+	//----------------------------------------------------------------
+	public
+	ReturnNode (ExprNode expr)
+	{
+		m_expr = expr;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public STO
+	getResult ()
+	{
+		return (m_result);
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		if (m_expr == null)
+			m_result = parser.DoReturnStmt ();
+		else
+			m_result = parser.DoReturnStmt (m_expr.getSto ());
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		if (m_expr != null)
+			m_expr.checkAll (parser);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		if (m_expr != null)
+			m_expr.lower (codegen);
+		write (codegen, 0);
+	}
+
+
+	private ExprNode	m_expr;
+	private STO		m_result;
+}
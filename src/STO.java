@@ -6,9 +6,10 @@
 
 import java.util.Vector;
 
-abstract class STO
+abstract class STO implements Cloneable
 {
 	private String m_strName;
+	private int m_nNameId = UNINTERNED;
 	private Type m_type;
 	private boolean m_isAddressable;
 	private boolean m_isModifiable;
@@ -25,6 +26,8 @@ abstract class STO
     private String AssemblyName;
     private boolean isPointer = false;
     private boolean isGlobal = false;
+
+	private static final int UNINTERNED = -2;
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
@@ -44,6 +47,19 @@ abstract class STO
 		setIsModifiable(false);
 	}
 
+    //----------------------------------------------------------------
+    //  A copy of this STO as it is now.  Code is written after the
+    //  parser has moved on, and a struct member's STO gets a new
+    //  offset each time it's used.
+    //----------------------------------------------------------------
+    public STO snapshot(){
+        try {
+            return (STO) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
     //----------------------------------------------------------------
     //
     //----------------------------------------------------------------
@@ -82,6 +98,20 @@ abstract class STO
 	public void setName(String str)
 	{
 		m_strName = str;
+		m_nNameId = UNINTERNED;
+	}
+
+	//----------------------------------------------------------------
+	// The id of the name in names, used by the symbol table to
+	// compare names.  Only STOs that are actually looked up ever
+	// get interned, and always in their own compilation's table.
+	//----------------------------------------------------------------
+	public int getNameId(NameTable names)
+	{
+		if (m_nNameId == UNINTERNED)
+			m_nNameId = names.intern(getName());
+
+		return m_nNameId;
 	}
 
 	//----------------------------------------------------------------
@@ -6,16 +6,59 @@
 
 import java.util.Vector;
 
+//---------------------------------------------------------------------
+//	The locals are kept in declaration order and also indexed by
+//	NameTable id in an open-addressed table, so a lookup is one probe
+//	whatever the scope's size.  Where a name was declared more than
+//	once the index keeps the first declaration, as a scan would.
+//---------------------------------------------------------------------
 class Scope
 {
 	private Vector<STO> m_lstLocals;
+	private Scope m_scopeParent;
+	private NameTable m_names;
+
+	// A structdef's scope gets its member tables once it's closed.
+	private StructMembers m_members;
+
+	//	Slot i holds m_index[i]'s name id + 1, or 0 when it is empty.
+	private int[] m_ids;
+	private STO[] m_index;
+
+	private static final int INITIAL_SLOTS = 8;
 
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
-	public Scope()
+	public Scope(NameTable names)
+	{
+		this(null, names);
+	}
+
+	//----------------------------------------------------------------
+	//	parent is the enclosing scope, null for the global scope.
+	//	Names are interned in names, the compilation's table.
+	//----------------------------------------------------------------
+	public Scope(Scope parent, NameTable names)
 	{
 		m_lstLocals = new Vector<STO>();
+		m_scopeParent = parent;
+		m_names = names;
+		m_ids = new int[INITIAL_SLOTS];
+		m_index = new STO[INITIAL_SLOTS];
+	}
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public Scope getParent()
+	{
+		return m_scopeParent;
+	}
+
+	public NameTable getNames()
+	{
+		return m_names;
 	}
 
 	//----------------------------------------------------------------
@@ -26,19 +69,34 @@ class Scope
 		return accessLocal(strName);
 	}
 
+	public STO access(int nNameId)
+	{
+		return accessLocal(nNameId);
+	}
+
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
 	public STO accessLocal(String strName)
 	{
-		STO sto = null;
+		return accessLocal(m_names.intern(strName));
+	}
 
-		for (int i = 0; i < m_lstLocals.size(); i++)
-		{
-			sto = m_lstLocals.elementAt(i);
+	//----------------------------------------------------------------
+	// Names are compared by their NameTable id.
+	//----------------------------------------------------------------
+	public STO accessLocal(int nNameId)
+	{
+		if (nNameId == NameTable.NO_ID)
+			return null;
 
-			if (sto.getName().equals(strName))
-				return sto;
+		int nMask = m_ids.length - 1;
+		int nKey;
+
+		for (int nSlot = slot(nNameId, nMask); (nKey = m_ids[nSlot]) != 0; nSlot = (nSlot + 1) & nMask)
+		{
+			if (nKey == nNameId + 1)
+				return m_index[nSlot];
 		}
 
 		return null;
@@ -50,6 +108,85 @@ class Scope
 	public void InsertLocal(STO sto)
 	{
 		m_lstLocals.addElement(sto);
+		index(sto);
+	}
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private void index(STO sto)
+	{
+		int nNameId = sto.getNameId(m_names);
+
+		if (nNameId == NameTable.NO_ID)
+			return;
+
+		int nMask = m_ids.length - 1;
+		int nSlot = slot(nNameId, nMask);
+		int nKey;
+
+		while ((nKey = m_ids[nSlot]) != 0)
+		{
+			if (nKey == nNameId + 1)
+				return;
+			nSlot = (nSlot + 1) & nMask;
+		}
+
+		m_ids[nSlot] = nNameId + 1;
+		m_index[nSlot] = sto;
+
+		//	Keep the table at most half full.
+		if (m_lstLocals.size() * 2 > m_ids.length)
+			rehash();
+	}
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private void rehash()
+	{
+		int[] ids = m_ids;
+		STO[] index = m_index;
+		int nMask = ids.length * 2 - 1;
+
+		m_ids = new int[ids.length * 2];
+		m_index = new STO[ids.length * 2];
+
+		for (int i = 0; i < ids.length; i++)
+		{
+			if (ids[i] == 0)
+				continue;
+
+			int nSlot = slot(ids[i] - 1, nMask);
+
+			while (m_ids[nSlot] != 0)
+				nSlot = (nSlot + 1) & nMask;
+			m_ids[nSlot] = ids[i];
+			m_index[nSlot] = index[i];
+		}
+	}
+
+	//----------------------------------------------------------------
+	//	Name ids are dense, so they're spread before masking.
+	//----------------------------------------------------------------
+	private static int slot(int nNameId, int nMask)
+	{
+		int nHash = nNameId * 0x9E3779B9;
+
+		return (nHash ^ (nHash >>> 16)) & nMask;
+	}
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public StructMembers getMembers()
+	{
+		return m_members;
+	}
+
+	public void setMembers(StructMembers members)
+	{
+		m_members = members;
 	}
 
     //-----------------------------------------------------------------
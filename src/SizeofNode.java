@@ -0,0 +1,72 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	sizeof (designator), or sizeof (type) with array dimensions after
+//	the type.
+//---------------------------------------------------------------------
+class SizeofNode extends ExprNode
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	SizeofNode (ExprNode expr)
+	{
+		m_expr = expr;
+	}
+
+	public
+	SizeofNode (TypeNode type, Vector<ExprNode> dims)
+	{
+		m_type = type;
+		m_dims = dims;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		if (m_expr != null)
+			setSto (parser.DoSizeOf (m_expr.getSto ()));
+		else
+			setSto (parser.DoSizeOf (m_type.getType (), ExprNode.stos (m_dims)));
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		if (m_expr != null)
+			m_expr.checkAll (parser);
+		else
+		{
+			m_type.checkAll (parser);
+			Node.checkAll (parser, m_dims);
+		}
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		if (m_expr != null)
+			m_expr.lower (codegen);
+		else
+			Node.lowerAll (codegen, m_dims);
+		write (codegen, 0);
+	}
+
+
+	private ExprNode	m_expr;
+	private TypeNode	m_type;
+	private Vector<ExprNode>	m_dims;
+}
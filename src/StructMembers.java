@@ -0,0 +1,99 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.HashMap;
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	A closed structdef's members by NameTable id: the member each
+//	name finds (the first declared, as a scan of the locals finds),
+//	each field's byte offset, and each method name's overloads in
+//	declaration order.
+//
+//	It's built once, when the structdef closes, and hangs off the
+//	structdef's Scope, which every StructType of that struct shares.
+//	Until then StructType scans the scope's locals as it always has.
+//---------------------------------------------------------------------
+class StructMembers
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	StructMembers (Vector<STO> locals, NameTable names)
+	{
+		m_members = new HashMap<Integer, STO> ();
+		m_offsets = new HashMap<Integer, Integer> ();
+		m_methods = new HashMap<Integer, Vector<STO>> ();
+
+		for (int i = 0; i < locals.size (); i++)
+		{
+			STO		sto = locals.elementAt (i);
+			Integer 	nameId = sto.getNameId (names);
+
+			if (m_members.containsKey (nameId))
+			{
+				if (!(sto instanceof FuncSTO))
+					continue;
+			}
+			else
+			{
+				m_members.put (nameId, sto);
+				if (!(sto instanceof FuncSTO))
+					m_offsets.put (nameId, sto.getStructOffset ());
+			}
+
+			if (sto instanceof FuncSTO)
+			{
+				Vector<STO>	methods = m_methods.get (nameId);
+
+				if (methods == null)
+					m_methods.put (nameId, methods = new Vector<STO> (1));
+				methods.addElement (sto);
+			}
+		}
+	}
+
+
+	//----------------------------------------------------------------
+	//	The member named nNameId, or null.
+	//----------------------------------------------------------------
+	public STO
+	getMember (int nNameId)
+	{
+		return m_members.get (nNameId);
+	}
+
+	//----------------------------------------------------------------
+	//	The byte offset of the field named nNameId; only asked of a
+	//	name getMember found a field for.
+	//----------------------------------------------------------------
+	public int
+	getOffset (int nNameId)
+	{
+		return m_offsets.get (nNameId);
+	}
+
+	//----------------------------------------------------------------
+	//	The methods named nNameId, in declaration order; empty if
+	//	there are none.  Callers mustn't change it.
+	//----------------------------------------------------------------
+	public Vector<STO>
+	getMethods (int nNameId)
+	{
+		Vector<STO>	methods = m_methods.get (nNameId);
+
+		return (methods == null ? NONE : methods);
+	}
+
+
+	private static final Vector<STO>	NONE = new Vector<STO> (0);
+
+	private HashMap<Integer, STO>		m_members;
+	private HashMap<Integer, Integer>	m_offsets;
+	private HashMap<Integer, Vector<STO>>	m_methods;
+}
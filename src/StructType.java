@@ -16,6 +16,9 @@ class StructType extends CompositeType {
     public boolean isStruct(){ return true; }
     public boolean isEquivalent(Type t){
         if(t instanceof StructType){
+            if (hasEquivIds(t)) {
+                return this.getEquivId() == t.getEquivId();
+            }
             if( t.getName().equals(this.getName())){
                 return true;
             }
@@ -37,14 +40,33 @@ class StructType extends CompositeType {
        return local;
     }
 
+    //----------------------------------------------------------------
+    // The member named nameId, or null.  A field's struct offset comes
+    // from the member tables once the structdef is closed.
+    //----------------------------------------------------------------
+    public STO getMember(int nameId) {
+        if (local.getMembers() != null) {
+            return local.getMembers().getMember(nameId);
+        }
+        return local.accessLocal(nameId);
+    }
+
+    public int getMemberOffset(STO member) {
+        if (local.getMembers() != null) {
+            return local.getMembers().getOffset(member.getNameId(local.getNames()));
+        }
+        return member.getStructOffset();
+    }
+
     public Vector<STO> OverloadCheckStruct(String funcName) { // for do formal params
 
         Vector<STO> overloaded = new Vector<STO>();
+        int nameId = local.getNames().intern(funcName);
         for (int i =0; i < functions.size(); i++) {
 
             if(functions.get(i) instanceof FuncSTO){
             
-                if (funcName.equals(functions.elementAt(i).getName())) {
+                if (nameId == functions.elementAt(i).getNameId(local.getNames())) {
                     if(functions.get(i).getOTag() == false) {
                         overloaded.add(functions.elementAt(i));
                     }
@@ -57,9 +79,14 @@ class StructType extends CompositeType {
     public Vector<STO> OverloadCheckStructCall(String funcName) { // calls
 
         Vector<STO> overloaded = new Vector<STO>();
+        int nameId = local.getNames().intern(funcName);
+        if (local.getMembers() != null) {
+            overloaded.addAll(local.getMembers().getMethods(nameId));
+            return overloaded;
+        }
         for (int i =0; i < functions.size(); i++) {
             if(functions.get(i) instanceof FuncSTO){
-                if (funcName.equals(functions.elementAt(i).getName())) {
+                if (nameId == functions.elementAt(i).getNameId(local.getNames())) {
                     overloaded.add(functions.elementAt(i));
                 }
             }
@@ -69,9 +96,14 @@ class StructType extends CompositeType {
 
 
     public STO getDtor(String funcName) { 
+        int nameId = local.getNames().intern(funcName);
+        if (local.getMembers() != null) {
+            Vector<STO> dtors = local.getMembers().getMethods(nameId);
+            return dtors.isEmpty() ? new ExprSTO("fun") : dtors.get(0);
+        }
         for (int i =0; i < functions.size(); i++) {
             if(functions.get(i) instanceof FuncSTO){
-                if (funcName.equals(functions.elementAt(i).getName())) {
+                if (nameId == functions.elementAt(i).getNameId(local.getNames())) {
                     return functions.get(i);
                 }
             }
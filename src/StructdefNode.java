@@ -0,0 +1,104 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	structdef ID { fields ctors/dtors funcs };  Phase 0 opens the
+//	struct's scope, phase 1 comes after its constructors (adding the
+//	default one if there's none) and phase 2 closes it.
+//---------------------------------------------------------------------
+class StructdefNode extends Node
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	StructdefNode (String strID)
+	{
+		m_strID = strID;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	setFields (Vector<Node> fields)
+	{
+		m_fields = fields;
+	}
+
+	public void
+	setCtors (Vector<Node> ctors)
+	{
+		m_ctors = ctors;
+	}
+
+	public void
+	setFuncs (Vector<Node> funcs)
+	{
+		m_funcs = funcs;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		switch (nPhase)
+		{
+			case 0:
+				parser.DoBlockOpen ();
+				parser.IsInStruct ();
+				parser.SelfStruct (m_strID);
+				parser.getStructScope ();
+				parser.DoStructName (m_strID);
+				break;
+			case 1:
+				parser.getStructScope ();
+				parser.DoDefaultConstructor ();
+				break;
+			default:
+				parser.IsInStruct ();
+				parser.getStructScope ();
+				parser.DoBlockClose ();
+				parser.DoStructdefDecl (m_strID);
+				break;
+		}
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		parser.Check (this, 0);
+		Node.checkAll (parser, m_fields);
+		Node.checkAll (parser, m_ctors);
+		parser.Check (this, 1);
+		Node.checkAll (parser, m_funcs);
+		parser.Check (this, 2);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		write (codegen, 0);
+		Node.lowerAll (codegen, m_fields);
+		Node.lowerAll (codegen, m_ctors);
+		write (codegen, 1);
+		Node.lowerAll (codegen, m_funcs);
+		write (codegen, 2);
+	}
+
+
+	private String		m_strID;
+	private Vector<Node>	m_fields;
+	private Vector<Node>	m_ctors;
+	private Vector<Node>	m_funcs;
+}
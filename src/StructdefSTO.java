@@ -58,12 +58,13 @@ class StructdefSTO extends STO
        return ctors;
     }
 
-    public Vector<STO> OverloadCheck(String funcName) {
+    public Vector<STO> OverloadCheck(String funcName, NameTable names) {
 
         Vector<STO> overload = new Vector<STO>();
+        int nameId = names.intern(funcName);
         for (int i =0; i < funcs.size(); i++) {
             
-            if (funcName.equals(funcs.elementAt(i).getName())) {
+            if (nameId == funcs.elementAt(i).getNameId(names)) {
                 overload.add(funcs.elementAt(i));
             }
         }
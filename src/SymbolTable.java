@@ -8,20 +8,30 @@ import java.util.*;
 
 class SymbolTable
 {
-	private Stack<Scope> m_stkScopes;
+	// The innermost open scope; the rest are reached through its parents.
+	private Scope m_scopeCurr;
 	private int m_nLevel;
 	private Scope m_scopeGlobal;
+	private NameTable m_names;
 	private FuncSTO m_func = null;
     private StructdefSTO m_struct = null;
-    private Vector<STO> functions = new Vector<STO>();
+
+	// The functions by name id, and those still tagged by their declaration.
+	private HashMap<Integer, OverloadSet> m_overloads = new HashMap<Integer, OverloadSet>();
+	private Vector<STO> m_tagged = new Vector<STO>();
+
+	// For -stats: lookups by name, and the scopes they searched.
+	private long m_nLookups;
+	private long m_nScopesWalked;
     
 	//----------------------------------------------------------------
-	//
+	//	Names are interned in names, the compilation's table.
 	//----------------------------------------------------------------
-	public SymbolTable()
+	public SymbolTable(NameTable names)
 	{
+		m_names = names;
 		m_nLevel = 0;
-		m_stkScopes = new Stack<Scope>();
+		m_scopeCurr = null;
 		m_scopeGlobal = null;
     
 	}
@@ -31,8 +41,7 @@ class SymbolTable
 	//----------------------------------------------------------------
 	public void insert(STO sto)
 	{
-		Scope scope = m_stkScopes.peek();
-		scope.InsertLocal(sto);
+		m_scopeCurr.InsertLocal(sto);
         	
     }
 
@@ -43,12 +52,10 @@ class SymbolTable
     public Vector<STO> OverloadCheck(String funcName) {
 
         Vector<STO> overloaded = new Vector<STO>();
-        for (int i =0; i < functions.size(); i++) {
-            
-            if (funcName.equals(functions.elementAt(i).getName())) {
-                 if(((FuncSTO)functions.get(i)).isTag() == false) {
-                  overloaded.add(functions.elementAt(i));
-                }
+        Vector<STO> funcs = overloads(funcName);
+        for (int i =0; i < funcs.size(); i++) {
+            if(((FuncSTO)funcs.get(i)).isTag() == false) {
+                overloaded.add(funcs.elementAt(i));
             }
         }
         return overloaded;
@@ -56,38 +63,46 @@ class SymbolTable
 
     public Vector<STO> OverloadCheckFun(String funcName) { // for dofuncall
 
-        Vector<STO> overloaded = new Vector<STO>();
-        for (int i =0; i < functions.size(); i++) {
-            
-            if (funcName.equals(functions.elementAt(i).getName())) {
-                  overloaded.add(functions.elementAt(i));
-            }
-        }
-        return overloaded;
+        return new Vector<STO>(overloads(funcName));
     }
 
     public Vector<STO> OverloadCheckParam(String funcName) { // for do formal params
 
         Vector<STO> overloaded = new Vector<STO>();
-        for (int i =0; i < functions.size(); i++) {
-            
-            if (funcName.equals(functions.elementAt(i).getName())) {
-                if(functions.get(i).getOTag() == false) {
-                  overloaded.add(functions.elementAt(i));
-                }
+        Vector<STO> funcs = overloads(funcName);
+        for (int i =0; i < funcs.size(); i++) {
+            if(funcs.get(i).getOTag() == false) {
+                overloaded.add(funcs.elementAt(i));
             }
         }
         return overloaded;
     }
 
+    //----------------------------------------------------------------
+    // Only a function declaration tags a function, and it's tagged
+    // before it's added, so only those added tagged need looking at.
+    //----------------------------------------------------------------
     public void TagOff() {
-       for (int i =0; i < functions.size(); i++) {
-          if(functions.get(i).getOTag() == true) {
-             functions.get(i).setOTag(false);
-          }
-        }
+       for (int i =0; i < m_tagged.size(); i++) {
+          m_tagged.get(i).setOTag(false);
+       }
+       m_tagged.clear();
+    }
+
+    //----------------------------------------------------------------
+    // The functions named funcName, or null if there are none.
+    //----------------------------------------------------------------
+    public OverloadSet getOverloads(String funcName) {
+        return m_overloads.get(m_names.intern(funcName));
+    }
+
+    private Vector<STO> overloads(String funcName) {
+        OverloadSet set = getOverloads(funcName);
+        return set == null ? NO_FUNCS : set.getFuncs();
     }
 
+    private static final Vector<STO> NO_FUNCS = new Vector<STO>(0);
+
 
 
 	//----------------------------------------------------------------
@@ -95,6 +110,8 @@ class SymbolTable
 	//----------------------------------------------------------------
 	public STO accessGlobal(String strName)
 	{
+		m_nLookups++;
+		m_nScopesWalked++;
 		return m_scopeGlobal.access(strName);
 	}
 
@@ -104,8 +121,9 @@ class SymbolTable
 	//----------------------------------------------------------------
 	public STO accessLocal(String strName)
 	{
-		Scope scope = m_stkScopes.peek();
-		return scope.accessLocal(strName);
+		m_nLookups++;
+		m_nScopesWalked++;
+		return m_scopeCurr.accessLocal(strName);
 	}
 
 	//----------------------------------------------------------------
@@ -113,28 +131,20 @@ class SymbolTable
 	//----------------------------------------------------------------
 	public STO access(String strName)
 	{
-		Stack<STO> stk = new Stack();
-		Scope scope;
-		STO stoReturn = null;	
+		int nNameId = m_names.intern(strName);
+		STO sto;
 
-		for (Enumeration<Scope> e = m_stkScopes.elements(); e.hasMoreElements();)
+		// Innermost scope first, so the first hit is the one that
+		// shadows any others.
+		m_nLookups++;
+		for (Scope scope = m_scopeCurr; scope != null; scope = scope.getParent())
 		{
-			scope = e.nextElement();
-
-			if ((stoReturn = scope.access(strName)) != null) {
-				stk.push(stoReturn);
-            }
+			m_nScopesWalked++;
+			if ((sto = scope.access(nNameId)) != null)
+				return sto;
 		}
 
-        if(stk.isEmpty()) {
-          return null;
-        }
-        else {
-
-		  return stk.pop();
-        
-        }
-
+		return null;
 	}
 
 	//----------------------------------------------------------------
@@ -142,13 +152,13 @@ class SymbolTable
 	//----------------------------------------------------------------
 	public void openScope()
 	{
-		Scope scope = new Scope();
+		Scope scope = new Scope(m_scopeCurr, m_names);
 
 		// The first scope created will be the global scope.
 		if (m_scopeGlobal == null)
 			m_scopeGlobal = scope;
 
-		m_stkScopes.push(scope);
+		m_scopeCurr = scope;
 		m_nLevel++;
 	}
 
@@ -157,7 +167,7 @@ class SymbolTable
 	//----------------------------------------------------------------
 	public void closeScope()
 	{
-		m_stkScopes.pop();
+		m_scopeCurr = m_scopeCurr.getParent();
 		m_nLevel--;
 	}
 
@@ -166,23 +176,13 @@ class SymbolTable
     //----------------------------------------------------------------
     public Scope getCurrScope()
     {
-        return m_stkScopes.peek();
+        return m_scopeCurr;
     }
     //----------------------------------------------------------------
     // added for struct
     //----------------------------------------------------------------
     public Scope getAboveScope(){
-        //Scope tempScope = m_stkScopes.pop();
-        Vector<Scope> temp  = new Vector<Scope>();
-        for(int i = 0;i < m_stkScopes.size()-1; i++) {
-            temp.addElement(m_stkScopes.pop());
-        
-        }
-        Scope result = m_stkScopes.peek(); 
-        for(int i = temp.size()-1; i >= 0; i--) {
-            m_stkScopes.push(temp.get(i));
-        }
-        return result;
+        return m_scopeCurr.getParent();
     }
 	//----------------------------------------------------------------
 	//
@@ -192,6 +192,20 @@ class SymbolTable
 		return m_nLevel;
 	}
 
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public NameTable getNames()
+	{
+		return m_names;
+	}
+
+	//----------------------------------------------------------------
+	//	For -stats.
+	//----------------------------------------------------------------
+	public long getLookups() { return m_nLookups; }
+	public long getScopesWalked() { return m_nScopesWalked; }
+
 
 	//----------------------------------------------------------------
 	//	This is the function currently being parsed.
@@ -199,13 +213,24 @@ class SymbolTable
 
     public void addFunc(STO f) {
         if( f instanceof FuncSTO){
-            functions.add(f);
+            OverloadSet set = m_overloads.get(f.getNameId(m_names));
+            if (set == null) {
+                m_overloads.put(f.getNameId(m_names), set = new OverloadSet());
+            }
+            set.add(f);
+            if (f.getOTag()) {
+                m_tagged.add(f);
+            }
         }
     }
 
     public void removeFunc(STO f) {
        if(f instanceof FuncSTO) {
-          functions.remove(f);
+          OverloadSet set = m_overloads.get(f.getNameId(m_names));
+          if (set != null) {
+             set.remove(f);
+          }
+          m_tagged.remove(f);
        }
     }
 
@@ -0,0 +1,31 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	this, inside a struct's functions: the struct being defined.
+//---------------------------------------------------------------------
+class ThisNode extends ExprNode
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		STO	sto;
+
+		parser.toggleInThisFlag ();
+		sto = parser.getCurrentStruct ();
+		sto.setIsModifiable (false);
+		sto.setIsAddressable (false);
+		setSto (sto);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+	}
+}
@@ -14,14 +14,24 @@ public class Token
 {
     private int m_nCode;
     private String m_strLexeme;
+    private int m_nNameId;
 
     //-----------------------------------------------------------------
     //
     //-----------------------------------------------------------------
     public Token(int nCode, String strLexeme)
+    {
+        this(nCode, strLexeme, NameTable.NO_ID);
+    }
+
+    //-----------------------------------------------------------------
+    // Identifiers and keywords carry their NameTable id.
+    //-----------------------------------------------------------------
+    public Token(int nCode, String strLexeme, int nNameId)
     {
         m_nCode = nCode;
         m_strLexeme = strLexeme;
+        m_nNameId = nNameId;
     }
 
     //-----------------------------------------------------------------
@@ -40,6 +50,14 @@ public class Token
         return m_nCode;
     }
 
+    //-----------------------------------------------------------------
+    //
+    //-----------------------------------------------------------------
+    public int GetNameId()
+    {
+        return m_nNameId;
+    }
+
     //-----------------------------------------------------------------
     //
     //-----------------------------------------------------------------
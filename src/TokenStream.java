@@ -0,0 +1,347 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	A whole program's worth of tokens, kept in parallel arrays and
+//	indexed by token number instead of as one Token object apiece.
+//	Number literals are decoded once by the lexer and their value
+//	is kept here, so the parser never parses the digits again.
+//
+//	Lexer diagnostics are recorded along with the token they were
+//	found scanning, and the position the lexer was at once each
+//	token was scanned is kept, so a parser consuming the stream
+//	sees the same errors at the same file and line as one pulling
+//	tokens straight from the lexer.
+//---------------------------------------------------------------------
+class TokenStream
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	TokenStream ()
+	{
+		m_kind = new int[INITIAL_SIZE];
+		m_start = new int[INITIAL_SIZE];
+		m_length = new int[INITIAL_SIZE];
+		m_line = new int[INITIAL_SIZE];
+		m_column = new int[INITIAL_SIZE];
+		m_value = new int[INITIAL_SIZE];
+		m_flags = new byte[INITIAL_SIZE];
+		m_nameId = new int[INITIAL_SIZE];
+		m_lexeme = new String[INITIAL_SIZE];
+		m_endLine = new int[INITIAL_SIZE];
+		m_endFile = new int[INITIAL_SIZE];
+		m_nCount = 0;
+
+		m_files = new String[4];
+		m_nFiles = 0;
+
+		m_errToken = new int[4];
+		m_errFile = new int[4];
+		m_errLine = new int[4];
+		m_errMsg = new String[4];
+		m_nErrors = 0;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Appends a token and returns its index.  nEndLine/strEndFile
+	//	are where the lexer stood once the token had been scanned.
+	//----------------------------------------------------------------
+	public int
+	add (int nKind, String strLexeme, int nNameId,
+	     int nStart, int nLength, int nLine, int nColumn,
+	     boolean bHasValue, int nValue,
+	     int nEndLine, String strEndFile)
+	{
+		if (m_nCount == m_kind.length)
+			grow ();
+
+		int	i = m_nCount++;
+
+		m_kind[i] = nKind;
+		m_lexeme[i] = strLexeme;
+		m_nameId[i] = nNameId;
+		m_start[i] = nStart;
+		m_length[i] = nLength;
+		m_line[i] = nLine;
+		m_column[i] = nColumn;
+		m_value[i] = nValue;
+		m_flags[i] = bHasValue ? HAS_VALUE : 0;
+		m_endLine[i] = nEndLine;
+		m_endFile[i] = fileIndex (strEndFile);
+
+		return i;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Records a diagnostic found while scanning the next token to
+	//	be added.
+	//----------------------------------------------------------------
+	public void
+	addError (String strFile, int nLine, String strMsg)
+	{
+		if (m_nErrors == m_errMsg.length)
+		{
+			int	n = m_nErrors * 2;
+
+			m_errToken = java.util.Arrays.copyOf (m_errToken, n);
+			m_errFile = java.util.Arrays.copyOf (m_errFile, n);
+			m_errLine = java.util.Arrays.copyOf (m_errLine, n);
+			m_errMsg = java.util.Arrays.copyOf (m_errMsg, n);
+		}
+
+		m_errToken[m_nErrors] = m_nCount;
+		m_errFile[m_nErrors] = fileIndex (strFile);
+		m_errLine[m_nErrors] = nLine;
+		m_errMsg[m_nErrors] = strMsg;
+		m_nErrors++;
+	}
+
+
+	//----------------------------------------------------------------
+	//	The lexer threw e scanning the token after the last one
+	//	added.  It is thrown again when the parser gets that far.
+	//----------------------------------------------------------------
+	public void
+	setFailure (RuntimeException e)
+	{
+		m_failure = e;
+	}
+
+	public RuntimeException
+	getFailure ()
+	{
+		return m_failure;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Adds the tokens and diagnostics of other, which was lexed on
+	//	its own, as if they had been scanned here.  Unless bKeepEof,
+	//	its EOF token is left off and any diagnostics found scanning
+	//	it go with whatever token is added next.
+	//----------------------------------------------------------------
+	public void
+	append (TokenStream other, boolean bKeepEof)
+	{
+		int	nBase = m_nCount;
+		int	n = other.m_nCount;
+
+		if (!bKeepEof && n > 0 && other.m_kind[n - 1] == sym.EOF)
+			n--;
+
+		for (int i = 0; i < n; i++)
+		{
+			add (other.m_kind[i], other.m_lexeme[i], other.m_nameId[i],
+				other.m_start[i], other.m_length[i],
+				other.m_line[i], other.m_column[i],
+				other.hasValue (i), other.m_value[i],
+				other.m_endLine[i], other.getEndFile (i));
+		}
+
+		for (int e = 0; e < other.m_nErrors; e++)
+		{
+			addError (other.m_files[other.m_errFile[e]],
+				other.m_errLine[e], other.m_errMsg[e]);
+			m_errToken[m_nErrors - 1] = nBase + other.m_errToken[e];
+		}
+
+		if (other.m_failure != null)
+			m_failure = other.m_failure;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Prints, in order, the diagnostics recorded while scanning
+	//	token i.  nFrom is the first diagnostic not yet printed; the
+	//	next one not printed is returned.
+	//----------------------------------------------------------------
+	public int
+	printErrors (int i, int nFrom, ErrorPrinter errors)
+	{
+		while (nFrom < m_nErrors && m_errToken[nFrom] <= i)
+		{
+			errors.print (m_files[m_errFile[nFrom]], m_errLine[nFrom],
+					m_errMsg[nFrom]);
+			nFrom++;
+		}
+
+		return nFrom;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public int
+	size ()
+	{
+		return m_nCount;
+	}
+
+	public int
+	getKind (int i)
+	{
+		return m_kind[i];
+	}
+
+	public String
+	getLexeme (int i)
+	{
+		return m_lexeme[i];
+	}
+
+	public int
+	getNameId (int i)
+	{
+		return m_nameId[i];
+	}
+
+	//	Offset and length in the file the token started in.
+	public int
+	getStart (int i)
+	{
+		return m_start[i];
+	}
+
+	public int
+	getLength (int i)
+	{
+		return m_length[i];
+	}
+
+	//	Line and column (both from 1) of the token's first character.
+	public int
+	getLine (int i)
+	{
+		return m_line[i];
+	}
+
+	public int
+	getColumn (int i)
+	{
+		return m_column[i];
+	}
+
+	//	True if the lexer could decode the literal's value.
+	public boolean
+	hasValue (int i)
+	{
+		return (m_flags[i] & HAS_VALUE) != 0;
+	}
+
+	public int
+	getIntValue (int i)
+	{
+		return m_value[i];
+	}
+
+	public float
+	getFloatValue (int i)
+	{
+		return Float.intBitsToFloat (m_value[i]);
+	}
+
+	//	Where the lexer stood once token i had been scanned.
+	public int
+	getEndLine (int i)
+	{
+		return m_endLine[i];
+	}
+
+	public String
+	getEndFile (int i)
+	{
+		return m_files[m_endFile[i]];
+	}
+
+
+	//----------------------------------------------------------------
+	//	Almost every token is in the same file as the one before it,
+	//	so that one is checked first.
+	//----------------------------------------------------------------
+	private int
+	fileIndex (String strFile)
+	{
+		if (m_nFiles > 0 && m_files[m_nLastFile] == strFile)
+			return m_nLastFile;
+
+		for (int i = 0; i < m_nFiles; i++)
+		{
+			if (m_files[i] == strFile)
+				return (m_nLastFile = i);
+		}
+
+		if (m_nFiles == m_files.length)
+			m_files = java.util.Arrays.copyOf (m_files, m_nFiles * 2);
+
+		m_files[m_nFiles] = strFile;
+		return (m_nLastFile = m_nFiles++);
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private void
+	grow ()
+	{
+		int	n = m_kind.length * 2;
+
+		m_kind = java.util.Arrays.copyOf (m_kind, n);
+		m_start = java.util.Arrays.copyOf (m_start, n);
+		m_length = java.util.Arrays.copyOf (m_length, n);
+		m_line = java.util.Arrays.copyOf (m_line, n);
+		m_column = java.util.Arrays.copyOf (m_column, n);
+		m_value = java.util.Arrays.copyOf (m_value, n);
+		m_flags = java.util.Arrays.copyOf (m_flags, n);
+		m_nameId = java.util.Arrays.copyOf (m_nameId, n);
+		m_lexeme = java.util.Arrays.copyOf (m_lexeme, n);
+		m_endLine = java.util.Arrays.copyOf (m_endLine, n);
+		m_endFile = java.util.Arrays.copyOf (m_endFile, n);
+	}
+
+
+//----------------------------------------------------------------
+//	Instance variables
+//----------------------------------------------------------------
+	private static final int	INITIAL_SIZE = 1024;
+	private static final byte	HAS_VALUE = 1;
+
+	//	Indexed by token number.  m_value holds an int literal's
+	//	value or a float literal's bits.
+	private int[]		m_kind;
+	private int[]		m_start;
+	private int[]		m_length;
+	private int[]		m_line;
+	private int[]		m_column;
+	private int[]		m_value;
+	private byte[]		m_flags;
+	private int[]		m_nameId;
+	private String[]	m_lexeme;
+	private int[]		m_endLine;
+	private int[]		m_endFile;
+	private int		m_nCount;
+
+	//	File names, referred to by index from m_endFile/m_errFile.
+	private String[]	m_files;
+	private int		m_nFiles;
+	private int		m_nLastFile;
+
+	//	Lexer diagnostics and the token being scanned when each
+	//	was found.
+	private int[]		m_errToken;
+	private int[]		m_errFile;
+	private int[]		m_errLine;
+	private String[]	m_errMsg;
+	private int		m_nErrors;
+
+	//	What the lexer threw after the last token, if anything.
+	private RuntimeException	m_failure;
+}
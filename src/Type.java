@@ -23,6 +23,15 @@ abstract class Type
 	private int m_size;
     private boolean isPointer = false;
 
+	// Set by TypeTable on its canonical instances, which mustn't change.
+	boolean m_bCanonical = false;
+
+	// The TypeTable the type is in, if any, for its equivalence id.
+	TypeTable m_table = null;
+	private int m_nEquivId = UNKNOWN_ID;
+
+	private static final int UNKNOWN_ID = -2;
+
 	//----------------------------------------------------------------
 	//
 	//----------------------------------------------------------------
@@ -90,4 +99,31 @@ abstract class Type
 
     public boolean isAssignable(Type t) {return false;}
     public boolean isEquivalent(Type t) {return false;}
+
+	//----------------------------------------------------------------
+	//	Equal for two types exactly when they're equivalent, or
+	//	TypeTable.NO_ID for types that aren't even equivalent to
+	//	themselves; see TypeTable.  Types whose structure changes
+	//	call resetEquivId.
+	//----------------------------------------------------------------
+	public int getEquivId()
+	{
+		if (m_nEquivId == UNKNOWN_ID)
+			m_nEquivId = (m_table != null) ? m_table.equivId(this) : TypeTable.basicEquivId(this);
+		return m_nEquivId;
+	}
+
+	protected void resetEquivId()
+	{
+		m_nEquivId = UNKNOWN_ID;
+	}
+
+	//----------------------------------------------------------------
+	//	Whether this and t both have equivalence ids, so isEquivalent
+	//	can just compare them.
+	//----------------------------------------------------------------
+	protected boolean hasEquivIds(Type t)
+	{
+		return t != null && getEquivId() != TypeTable.NO_ID && t.getEquivId() != TypeTable.NO_ID;
+	}
 }
@@ -0,0 +1,86 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	A type as it's written: a basic type (or void), a struct's name,
+//	or either one with stars after it.  Checking it looks the struct
+//	up and builds the pointer types.  Types have no code.
+//---------------------------------------------------------------------
+class TypeNode extends Node
+{
+	//----------------------------------------------------------------
+	//	int, float, bool or void.
+	//----------------------------------------------------------------
+	public
+	TypeNode (Type t)
+	{
+		m_type = t;
+	}
+
+	//----------------------------------------------------------------
+	//	A struct's name.
+	//----------------------------------------------------------------
+	public
+	TypeNode (String strStruct)
+	{
+		m_strStruct = strStruct;
+	}
+
+	//----------------------------------------------------------------
+	//	base followed by the stars in pointers (which can be none).
+	//----------------------------------------------------------------
+	public
+	TypeNode (TypeNode base, Vector pointers)
+	{
+		m_base = base;
+		m_pointers = pointers;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public Type
+	getType ()
+	{
+		return (m_type);
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		if (m_strStruct != null)
+			m_type = parser.DoStructType_ID (m_strStruct);
+		else if (m_base != null)
+			m_type = parser.DoPointer (m_base.getType (), m_pointers);
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		if (m_base != null)
+			m_base.checkAll (parser);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+	}
+
+
+	private Type		m_type;
+	private String		m_strStruct;
+	private TypeNode	m_base;
+	private Vector		m_pointers;
+}
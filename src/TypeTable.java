@@ -0,0 +1,251 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.HashMap;
+
+
+//---------------------------------------------------------------------
+//	A compilation's canonical types.
+//
+//	int, float, bool, void and the error type are single instances
+//	shared by every compilation.  Arrays and pointers built over them
+//	are hash-consed by intern, so one shape of array or pointer is one
+//	instance however often it's declared.  Types that reach a struct
+//	aren't: a StructType carries its declaration's scope and size, so
+//	each one is kept apart.
+//
+//	Every type isEquivalent treats as an equivalence (everything but
+//	void, nullptr and errors, and anything built on them) also gets an
+//	equivalence id, the same for two types exactly when they're
+//	equivalent, so isEquivalent is an int comparison however deeply
+//	the types nest.  int, float and bool have the same ids everywhere;
+//	any other type gets its id from the table it was interned or bound
+//	to, as do the types it's built on.  A type in no table has none,
+//	and is compared the long way.
+//
+//	Each parser has its own table, so a compile server or batch run
+//	doesn't keep every type it has ever seen, and the tables aren't
+//	synchronized: a compilation's types are only used by its parser.
+//---------------------------------------------------------------------
+class TypeTable
+{
+	public static final IntType	INT = new IntType ("int");
+	public static final FloatType	FLOAT = new FloatType ("float");
+	public static final BoolType	BOOL = new BoolType ("bool");
+	public static final VoidType	VOID = new VoidType ("void", 0);
+	public static final ErrorType	ERROR = new ErrorType ();
+
+	//	The equivalence id of types that have none.
+	public static final int		NO_ID = -1;
+
+
+	//----------------------------------------------------------------
+	//	The canonical instance of an array or pointer that's been
+	//	fully built (addNext won't be called on it again); typ itself,
+	//	bound to this table, if it's the first of its shape or can't
+	//	be shared.
+	//----------------------------------------------------------------
+	public Type
+	intern (Type typ)
+	{
+		if (typ.m_bCanonical)
+			return typ;
+		bind (typ);
+
+		Type	next;
+
+		if (typ.getClass () == ArrayType.class)
+			next = ((ArrayType) typ).getNext ();
+		else if (typ.getClass () == PointerType.class)
+			next = ((PointerType) typ).getNext ();
+		else
+			return typ;
+
+		if (next == null || !(next = intern (next)).m_bCanonical)
+			return typ;
+
+		Shape	shape = new Shape (typ, next);
+		Type	canonical = m_shapes.get (shape);
+
+		if (canonical != null)
+			return canonical;
+
+		//	typ's next may have been an equal copy of the canonical one.
+		if (typ instanceof ArrayType)
+			((ArrayType) typ).next = next;
+		else
+			((PointerType) typ).next = next;
+		typ.m_bCanonical = true;
+		m_shapes.put (shape, typ);
+		return typ;
+	}
+
+
+	//----------------------------------------------------------------
+	//	typ, from now on in this table, for a type that's never
+	//	interned.  The shared instances and types already in a table
+	//	are left where they are.
+	//----------------------------------------------------------------
+	public <T extends Type> T
+	bind (T typ)
+	{
+		if (typ != null && typ.m_table == null && !typ.m_bCanonical)
+		{
+			typ.m_table = this;
+			typ.resetEquivId ();
+		}
+		return typ;
+	}
+
+
+	//----------------------------------------------------------------
+	//	The equivalence id of typ, which is in this table, or NO_ID.
+	//	The types it's built on are put in the table too.
+	//	Type.getEquivId caches it.
+	//----------------------------------------------------------------
+	int
+	equivId (Type typ)
+	{
+		Class<?>	c = typ.getClass ();
+		String		strSig;
+
+		if (c == StructType.class)
+			strSig = "S" + typ.getName ();
+		else if (c == ArrayType.class)
+		{
+			Type	next = bind (((ArrayType) typ).getNext ());
+			int	nNext = (next == null) ? NO_ID : next.getEquivId ();
+
+			if (nNext == NO_ID)
+				return NO_ID;
+			strSig = "[" + typ.getSize () + "]" + nNext;
+		}
+		else if (c == PointerType.class)
+		{
+			Type	next = bind (((PointerType) typ).getNext ());
+			int	nNext = (next == null) ? NO_ID : next.getEquivId ();
+
+			if (nNext == NO_ID)
+				return NO_ID;
+			strSig = "*" + ((PointerType) typ).getNumPtr () + ":" + nNext;
+		}
+		else
+			return basicEquivId (typ);
+
+		Integer	id = m_ids.get (strSig);
+
+		if (id == null)
+			m_ids.put (strSig, id = m_ids.size () + FIRST_ID);
+		return id;
+	}
+
+	//----------------------------------------------------------------
+	//	The equivalence id of a type in no table: int, float and
+	//	bool have theirs anywhere, and nothing else has one.
+	//----------------------------------------------------------------
+	static int
+	basicEquivId (Type typ)
+	{
+		Class<?>	c = typ.getClass ();
+
+		if (c == IntType.class)
+			return INT_ID;
+		if (c == FloatType.class)
+			return FLOAT_ID;
+		if (c == BoolType.class)
+			return BOOL_ID;
+		return NO_ID;
+	}
+
+
+	//----------------------------------------------------------------
+	//	ArrayType.isAssignable for two types with equivalence ids,
+	//	which is all it depends on.  null if it hasn't been asked yet.
+	//----------------------------------------------------------------
+	Boolean
+	getAssignable (int nTo, int nFrom)
+	{
+		return m_assignable.get (((long) nTo << 32) | nFrom);
+	}
+
+	void
+	putAssignable (int nTo, int nFrom, boolean bAssignable)
+	{
+		m_assignable.put (((long) nTo << 32) | nFrom, bAssignable);
+	}
+
+
+	//----------------------------------------------------------------
+	//	Everything intern compares two arrays or pointers by; next is
+	//	the canonical instance of their element or pointed-to type.
+	//----------------------------------------------------------------
+	private static final class Shape
+	{
+		Shape (Type typ, Type next)
+		{
+			m_class = typ.getClass ();
+			m_strName = typ.getName ();
+			m_nSize = typ.getSize ();
+			m_next = next;
+			if (typ instanceof ArrayType)
+			{
+				m_nA = ((ArrayType) typ).dimension;
+				m_nB = ((ArrayType) typ).getLength ();
+			}
+			else
+			{
+				m_nA = ((PointerType) typ).getNumPtr ();
+				m_nB = 0;
+			}
+		}
+
+		public boolean
+		equals (Object o)
+		{
+			if (!(o instanceof Shape))
+				return false;
+
+			Shape	s = (Shape) o;
+
+			return (m_class == s.m_class && m_next == s.m_next &&
+				m_nSize == s.m_nSize && m_nA == s.m_nA && m_nB == s.m_nB &&
+				m_strName.equals (s.m_strName));
+		}
+
+		public int
+		hashCode ()
+		{
+			return (((m_strName.hashCode () * 31 + m_nSize) * 31 + m_nA) * 31 + m_nB) * 31 +
+				System.identityHashCode (m_next);
+		}
+
+		private final Class<?>	m_class;
+		private final String	m_strName;
+		private final int	m_nSize;
+		private final int	m_nA;
+		private final int	m_nB;
+		private final Type	m_next;
+	}
+
+
+	private static final int	INT_ID = 0;
+	private static final int	FLOAT_ID = 1;
+	private static final int	BOOL_ID = 2;
+	private static final int	FIRST_ID = 3;
+
+	private HashMap<Shape, Type>	m_shapes = new HashMap<Shape, Type> ();
+	private HashMap<String, Integer>	m_ids = new HashMap<String, Integer> ();
+	private HashMap<Long, Boolean>	m_assignable = new HashMap<Long, Boolean> ();
+
+	static
+	{
+		INT.m_bCanonical = true;
+		FLOAT.m_bCanonical = true;
+		BOOL.m_bCanonical = true;
+		VOID.m_bCanonical = true;
+		ERROR.m_bCanonical = true;
+	}
+}
@@ -0,0 +1,52 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	!expr, +expr or -expr.
+//---------------------------------------------------------------------
+class UnaryNode extends ExprNode
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	UnaryNode (String strOp, ExprNode expr)
+	{
+		m_strOp = strOp;
+		m_expr = expr;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		if (m_strOp.equals ("!"))
+			setSto (parser.DoUnaryExpr (m_expr.getSto (), OperatorTable.NOT));
+		else
+			setSto (parser.DoUnarySign (m_strOp, m_expr.getSto ()));
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		m_expr.checkAll (parser);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		m_expr.lower (codegen);
+		write (codegen, 0);
+	}
+
+
+	private String		m_strOp;
+	private ExprNode	m_expr;
+}
@@ -5,11 +5,9 @@
 
 
 class UnaryOp extends Operator {
-	STO op1;	
 
-	public UnaryOp(STO a, String s){
+	public UnaryOp(String s){
 		super(s);
-        op1 = a;
 	}
 
 }	
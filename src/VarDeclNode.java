@@ -0,0 +1,128 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	A variable's declaration: a global, local or static variable (its
+//	type given, auto, or a struct built by a constructor), a const, an
+//	extern, or a struct's field.  The code that starts running a
+//	global or static's initializer (its label, or a static's guard)
+//	is the node's head, which goes before the initializer's code.
+//---------------------------------------------------------------------
+class VarDeclNode extends Node
+{
+	public static final int		VAR = 0;
+	public static final int		AUTO = 1;
+	public static final int		STRUCT = 2;
+	public static final int		CONST = 3;
+	public static final int		CONST_AUTO = 4;
+	public static final int		EXTERN = 5;
+	public static final int		FIELD = 6;
+
+	//----------------------------------------------------------------
+	//	strStatic is "static" or null, and type is null for auto.
+	//	dims are the array dimensions (which can be none) and init
+	//	the initializer (or null).
+	//----------------------------------------------------------------
+	public
+	VarDeclNode (int nForm, String strStatic, TypeNode type, String strID,
+		     Vector<ExprNode> dims, ExprNode init)
+	{
+		m_nForm = nForm;
+		m_strStatic = strStatic;
+		m_type = type;
+		m_strID = strID;
+		m_dims = dims;
+		m_init = init;
+	}
+
+	//----------------------------------------------------------------
+	//	A struct, with the args to its constructor (which can be
+	//	none).
+	//----------------------------------------------------------------
+	public
+	VarDeclNode (String strStatic, TypeNode type, String strID,
+		     Vector<ExprNode> dims, Vector<ExprNode> args)
+	{
+		this (STRUCT, strStatic, type, strID, dims, null);
+		m_args = args;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		Type	t = (m_type == null ? null : m_type.getType ());
+		STO	init = (m_init == null ? null : m_init.getSto ());
+
+		switch (m_nForm)
+		{
+			case VAR:
+				parser.DoVarDecl2 (m_strStatic, m_strID, t, ExprNode.stos (m_dims), init);
+				break;
+			case AUTO:
+				parser.DoVarDecl (m_strStatic, m_strID, init);
+				break;
+			case STRUCT:
+				parser.DoCtorStructs (m_strID, t, ExprNode.stos (m_dims),
+					ExprNode.stos (m_args), m_strStatic);
+				break;
+			case CONST:
+				parser.DoConstDecl2 (m_strStatic, m_strID, t, init);
+				break;
+			case CONST_AUTO:
+				parser.DoAutoDecl (m_strStatic, m_strID, init);
+				break;
+			case EXTERN:
+				parser.DoExternDecl (m_strID, t, ExprNode.stos (m_dims));
+				break;
+			default:
+				parser.DoStructVarDecl (t, m_strID, ExprNode.stos (m_dims));
+				break;
+		}
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		if (m_type != null)
+			m_type.checkAll (parser);
+		if (m_dims != null)
+			Node.checkAll (parser, m_dims);
+		if (m_init != null)
+			m_init.checkAll (parser);
+		if (m_args != null)
+			Node.checkAll (parser, m_args);
+		parser.Check (this, 0);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		writeHead (codegen);
+		if (m_dims != null)
+			Node.lowerAll (codegen, m_dims);
+		if (m_init != null)
+			m_init.lower (codegen);
+		if (m_args != null)
+			Node.lowerAll (codegen, m_args);
+		write (codegen, 0);
+	}
+
+
+	private int		m_nForm;
+	private String		m_strStatic;
+	private TypeNode	m_type;
+	private String		m_strID;
+	private Vector<ExprNode>	m_dims;
+	private ExprNode	m_init;
+	private Vector<ExprNode>	m_args;
+}
@@ -0,0 +1,74 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+//---------------------------------------------------------------------
+//	while expr block.  Phase 0 comes before expr (the top of the
+//	loop), phase 1 tests it and phase 2 closes the loop.
+//---------------------------------------------------------------------
+class WhileNode extends Node
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	setCond (ExprNode cond)
+	{
+		m_cond = cond;
+	}
+
+	public void
+	setBody (Node body)
+	{
+		m_body = body;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+		switch (nPhase)
+		{
+			case 0:
+				parser.CallDoWhileOpenLoop ();
+				break;
+			case 1:
+				parser.DoWhile (m_cond.getSto ());
+				parser.DoInLoop ();
+				break;
+			default:
+				parser.CallDoWhileCloseLoop ();
+				parser.DoExitLoop ();
+				break;
+		}
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		parser.Check (this, 0);
+		m_cond.checkAll (parser);
+		parser.Check (this, 1);
+		m_body.checkAll (parser);
+		parser.Check (this, 2);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		write (codegen, 0);
+		m_cond.lower (codegen);
+		write (codegen, 1);
+		m_body.lower (codegen);
+		write (codegen, 2);
+	}
+
+
+	private ExprNode	m_cond;
+	private Node		m_body;
+}
@@ -0,0 +1,48 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.util.Vector;
+
+
+//---------------------------------------------------------------------
+//	cout << expr << ...: each expr is checked as its PrintNode is
+//	parsed, which leaves nothing for the statement itself.
+//---------------------------------------------------------------------
+class WriteNode extends Node
+{
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public
+	WriteNode (Vector<PrintNode> prints)
+	{
+		m_prints = prints;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	public void
+	check (MyParser parser, int nPhase)
+	{
+	}
+
+	public void
+	checkAll (MyParser parser)
+	{
+		Node.checkAll (parser, m_prints);
+	}
+
+	public void
+	lower (AssemblyCodeGenerator codegen)
+	{
+		Node.lowerAll (codegen, m_prints);
+	}
+
+
+	private Vector<PrintNode>	m_prints;
+}
@@ -0,0 +1,720 @@
+//---------------------------------------------------------------------
+// CSE 131 Reduced-C Compiler Project
+// Copyright (C) 2008-2015 Garo Bournoutian and Rick Ord
+// University of California, San Diego
+//---------------------------------------------------------------------
+
+import java.io.*;
+import java.util.*;
+import java.util.regex.*;
+
+//---------------------------------------------------------------------
+//	Builds LRParser.java from the parser.java CUP generates for rc.cup.
+//
+//	CUP's parser decodes its tables as nested short arrays at class
+//	load time and runs them through java_cup.runtime.lr_parser, which
+//	keeps a Stack of Symbol objects.  LRParser gets the same tables
+//	row-displacement packed into flat arrays and drives them with
+//	plain int[]/Object[] stacks.  CUP's action code is copied over
+//	with its stack accesses rewritten to index those arrays, one
+//	method per production so the JIT will compile them.
+//
+//	    make src/LRParser.java
+//	    java -cp tools/bin LRGen src/parser.java src/LRParser.java
+//---------------------------------------------------------------------
+class LRGen
+{
+	public static void main (String[] args)
+	throws IOException
+	{
+		String	strIn = args.length > 0 ? args[0] : "src/parser.java";
+		String	strOut = args.length > 1 ? args[1] : "src/LRParser.java";
+		String	src = read (strIn);
+		String	syms = read (new File (new File (strIn).getParentFile (), "sym.java").getPath ());
+
+		short[][]	production = unpack (table (src, "_production_table"));
+		short[][]	action = unpack (table (src, "_action_table"));
+		short[][]	reduce = unpack (table (src, "_reduce_table"));
+
+		int 	nStartState = intMethod (src, "start_state");
+		int 	nStartProd = intMethod (src, "start_production");
+		int 	nErrorSym = intMethod (src, "error_sym");
+
+		//	Only parse errors with nowhere to recover are handled, so
+		//	a grammar using the error token needs CUP's parse loop.
+		for (short[] row : action)
+			for (int i = 0; i < row.length; i += 2)
+				if (row[i] == nErrorSym && row[i + 1] > 0)
+					throw new IllegalStateException (
+						"grammar uses the error token");
+
+		PrintWriter	out = new PrintWriter (new BufferedWriter (new FileWriter (strOut)));
+
+		emit (out, src, production, action, reduce, nStartState, nStartProd,
+			maxConstant (syms) + 1);
+		out.close ();
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private static void
+	emit (PrintWriter out, String src, short[][] production,
+	      short[][] action, short[][] reduce, int nStartState, int nStartProd,
+	      int nTerminals)
+	{
+		int 	nProds = production.length;
+		int[]	lhs = new int[nProds];
+		int[]	rhs = new int[nProds];
+		int 	nNonTerms = 0;
+
+		for (int i = 0; i < nProds; i++)
+		{
+			lhs[i] = production[i][0];
+			rhs[i] = production[i][1];
+			nNonTerms = Math.max (nNonTerms, lhs[i] + 1);
+		}
+
+		//	A state's default action is the one under symbol -1; CUP
+		//	falls back to it (or to 0, error) for any other symbol.
+		Packed	actions = pack (action, 0, nTerminals);
+		Packed	gotos = pack (reduce, -1, nNonTerms);
+
+		out.println ("//----------------------------------------------------");
+		out.println ("// The following code was generated by LRGen from parser.java.");
+		out.println ("// Do not edit; run \"make src/LRParser.java\" after changing rc.cup.");
+		out.println ("//----------------------------------------------------");
+		out.println ();
+		for (String strImport : imports (src))
+			out.println (strImport);
+		out.println ();
+		out.println ("class LRParser");
+		out.println ("{");
+		out.print (DRIVER.replace ("$START_STATE", Integer.toString (nStartState))
+				.replace ("$START_PROD", Integer.toString (nStartProd)));
+
+		out.println ("\t//----------------------------------------------------------------");
+		out.println ("\t//\tOne method per production, named by production number.");
+		out.println ("\t//----------------------------------------------------------------");
+		out.println ("\tprivate void");
+		out.println ("\tdoAction (int nProd)");
+		out.println ("\tthrows Exception");
+		out.println ("\t{");
+		out.println ("\t\tswitch (nProd)");
+		out.println ("\t\t{");
+		for (int i = 0; i < nProds; i++)
+			out.println ("\t\t\tcase " + i + ":\taction" + i + " ();\treturn;");
+		out.println ("\t\t}");
+		out.println ("\t\tthrow new Exception (\"Invalid action number found in internal parse table\");");
+		out.println ("\t}");
+		out.println ();
+
+		Map<Integer, String[]>	bodies = actions (src);
+
+		for (int i = 0; i < nProds; i++)
+		{
+			String[]	body = bodies.get (i);
+
+			if (body == null)
+				throw new IllegalStateException ("no action for production " + i);
+			out.println ("\t// " + body[0]);
+			out.println ("\tprivate void");
+			out.println ("\taction" + i + " ()");
+			out.println ("\tthrows Exception");
+			out.println ("\t{");
+			out.print (body[1]);
+			out.println ("\t}");
+			out.println ();
+		}
+
+		out.println ();
+		out.println ("//----------------------------------------------------------------");
+		out.println ("//\tTables");
+		out.println ("//----------------------------------------------------------------");
+		emitArray (out, "PROD_LHS", lhs);
+		emitArray (out, "PROD_RHS", rhs);
+		emitArray (out, "ACTION_BASE", actions.base);
+		emitArray (out, "ACTION_DEFAULT", actions.dflt);
+		emitArray (out, "ACTION_CHECK", actions.check);
+		emitArray (out, "ACTION_NEXT", actions.next);
+		emitArray (out, "GOTO_BASE", gotos.base);
+		emitArray (out, "GOTO_DEFAULT", gotos.dflt);
+		emitArray (out, "GOTO_CHECK", gotos.check);
+		emitArray (out, "GOTO_NEXT", gotos.next);
+		out.println ("}");
+	}
+
+
+	//----------------------------------------------------------------
+	//	The action code of each case of CUP$parser$do_action, keyed by
+	//	production number, as { production comment, method body }.
+	//----------------------------------------------------------------
+	private static Map<Integer, String[]>
+	actions (String src)
+	{
+		Map<Integer, String[]>	bodies = new HashMap<Integer, String[]> ();
+		int 	nFrom = src.indexOf ("switch (CUP$parser$act_num)");
+		int 	nTo = src.indexOf ("default:", nFrom);
+		Matcher	m = Pattern.compile (
+				"case (\\d+): // ([^\\n]*)\\n(.*?)return CUP\\$parser\\$result;",
+				Pattern.DOTALL).matcher (src.substring (nFrom, nTo));
+
+		while (m.find ())
+		{
+			//	Take the case's own braces off.
+			String	body = m.group (3).trim ();
+			int 	nClose = body.lastIndexOf ('}');
+
+			body = body.substring (1, nClose) + body.substring (nClose + 1);
+
+			//	CUP 0.11a writes peek() for the top of the stack and
+			//	builds the result from the symbols at either end.
+			body = body.replace ("CUP$parser$stack.peek()",
+				"CUP$parser$stack.elementAt(CUP$parser$top-0)");
+			body = body.replaceAll (
+				"CUP\\$parser\\$result = parser\\.getSymbolFactory\\(\\)\\.newSymbol\\(\"[^\"]*\",\\s*\\d+, " +
+				"\\(\\(java_cup\\.runtime\\.Symbol\\)CUP\\$parser\\$stack\\.elementAt\\(CUP\\$parser\\$top-(\\d+)\\)\\), " +
+				"\\(\\(java_cup\\.runtime\\.Symbol\\)CUP\\$parser\\$stack\\.elementAt\\(CUP\\$parser\\$top-(\\d+)\\)\\), RESULT\\);",
+				"m_nResultLeft = m_left[m_nTop-$1];\n\t\tm_nResultRight = m_right[m_nTop-$2];\n\t\tm_result = RESULT;");
+			body = body.replaceAll (
+				"\\(\\(java_cup\\.runtime\\.Symbol\\)\\s*CUP\\$parser\\$stack\\.elementAt\\(CUP\\$parser\\$top-(\\d+)\\)\\)\\.(left|right|value)",
+				"m_$2[m_nTop-$1]");
+			body = body.replaceAll (
+				"CUP\\$parser\\$result = new java_cup\\.runtime\\.Symbol\\(\\d+/\\*[^*]*\\*/, (.*?), (.*?), RESULT\\);",
+				"m_nResultLeft = $1;\n\t\tm_nResultRight = $2;\n\t\tm_result = RESULT;");
+			body = body.replace ("CUP$parser$parser.done_parsing();", "m_bDone = true;");
+			body = body.replace ("/* ACCEPT */", "// ACCEPT");
+
+			if (body.contains ("CUP$"))
+				throw new IllegalStateException ("can't translate action " +
+					m.group (1) + ":\n" + body);
+
+			bodies.put (Integer.parseInt (m.group (1)),
+				new String[] { m.group (2).trim (), reindent (body) });
+		}
+
+		return bodies;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Drops the blank lines, puts the lines CUP wrote itself at the
+	//	method's indent, and moves the user's code from rc.cup over
+	//	to the same indent keeping its own relative indentation.
+	//----------------------------------------------------------------
+	private static final Pattern	GENERATED = Pattern.compile (
+		"\\S.* RESULT = ?null;|int \\w+(left|right) = m_.*|.*= \\(.*\\) ?m_value\\[.*|" +
+		"m_nResult(Left|Right) = .*|m_result = RESULT;|m_bDone = true;|// .*|" +
+		"if \\( m_value\\[.*");
+
+	private static String
+	reindent (String body)
+	{
+		List<String>	lines = new ArrayList<String> ();
+		int 		nMin = Integer.MAX_VALUE;
+
+		for (String strLine : body.split ("\n"))
+		{
+			strLine = strLine.replaceAll ("\\s+$", "").replace ("\t", "        ");
+			if (strLine.length () == 0)
+				continue;
+			lines.add (strLine);
+			if (!GENERATED.matcher (strLine.trim ()).matches ())
+				nMin = Math.min (nMin, strLine.length () - strLine.trim ().length ());
+		}
+
+		StringBuilder	sb = new StringBuilder ();
+		boolean 	bPropagate = false;
+
+		for (String strLine : lines)
+		{
+			String	strCode = strLine.trim ();
+
+			sb.append ("\t\t");
+			if (bPropagate)
+				sb.append ('\t').append (strCode);
+			else if (GENERATED.matcher (strCode).matches ())
+				sb.append (strCode);
+			else
+				sb.append (strLine.substring (nMin));
+			sb.append ('\n');
+
+			//	The one line CUP nests, under "if (... != null)".
+			bPropagate = strCode.startsWith ("if ( m_value[");
+		}
+
+		return sb.toString ();
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private static List<String>
+	imports (String src)
+	{
+		List<String>	lst = new ArrayList<String> ();
+		Matcher 	m = Pattern.compile ("(?m)^import\\s+([\\w.*]+)\\s*;").matcher (
+					src.substring (0, src.indexOf ("class parser")));
+
+		while (m.find ())
+			if (!m.group (1).startsWith ("java_cup."))
+				lst.add ("import " + m.group (1) + ";");
+
+		return lst;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Row-displacement packing: row s's explicit entries land at
+	//	next[base[s] + sym] with check[] = s, placed first-fit with
+	//	the fullest rows first.  Entries equal to the row's default
+	//	are left out.  Any symbol below nWidth can be looked up.
+	//----------------------------------------------------------------
+	static class Packed
+	{
+		int[]	base;
+		int[]	dflt;
+		int[]	check;
+		int[]	next;
+	}
+
+	private static Packed
+	pack (short[][] rows, int nNoDefault, int nWidth)
+	{
+		int 	nRows = rows.length;
+		int 	nMaxSym = nWidth - 1;
+		int[][]	syms = new int[nRows][];
+		int[][]	vals = new int[nRows][];
+		Packed	p = new Packed ();
+
+		p.base = new int[nRows];
+		p.dflt = new int[nRows];
+
+		for (int s = 0; s < nRows; s++)
+		{
+			short[]		row = rows[s];
+			List<Integer>	ls = new ArrayList<Integer> ();
+			List<Integer>	lv = new ArrayList<Integer> ();
+
+			p.dflt[s] = nNoDefault;
+			for (int i = 0; i + 1 < row.length; i += 2)
+				if (row[i] == -1)
+					p.dflt[s] = row[i + 1];
+
+			for (int i = 0; i + 1 < row.length; i += 2)
+			{
+				if (row[i] == -1 || row[i + 1] == p.dflt[s])
+					continue;
+				ls.add ((int) row[i]);
+				lv.add ((int) row[i + 1]);
+				if (row[i] >= nWidth)
+					throw new IllegalStateException ("symbol " + row[i] + " out of range");
+			}
+
+			syms[s] = new int[ls.size ()];
+			vals[s] = new int[ls.size ()];
+			for (int i = 0; i < ls.size (); i++)
+			{
+				syms[s][i] = ls.get (i);
+				vals[s][i] = lv.get (i);
+			}
+		}
+
+		Integer[]	order = new Integer[nRows];
+		for (int s = 0; s < nRows; s++)
+			order[s] = s;
+		final int[][]	fsyms = syms;
+		Arrays.sort (order, (a, b) -> fsyms[b].length - fsyms[a].length);
+
+		int 	nSize = nRows + nMaxSym + 1;
+		int[]	check = new int[nSize * 2];
+		int[]	next = new int[nSize * 2];
+		int 	nUsed = 0;
+		BitSet	bases = new BitSet ();
+
+		Arrays.fill (check, -1);
+		for (int s : order)
+		{
+			int 	b = 0;
+
+			//	Two rows can't share a base or an empty row would
+			//	check as the other one.
+			while (bases.get (b) || !fits (check, syms[s], b))
+				b++;
+			bases.set (b);
+			p.base[s] = b;
+
+			for (int i = 0; i < syms[s].length; i++)
+			{
+				if (b + syms[s][i] >= check.length)
+				{
+					int	n = check.length * 2;
+
+					next = Arrays.copyOf (next, n);
+					check = Arrays.copyOf (check, n);
+					Arrays.fill (check, n / 2, n, -1);
+				}
+				check[b + syms[s][i]] = s;
+				next[b + syms[s][i]] = vals[s][i];
+			}
+			nUsed = Math.max (nUsed, b + nMaxSym + 1);
+		}
+
+		//	Long enough that base[s] + any symbol is in bounds.
+		p.check = Arrays.copyOf (check, nUsed);
+		p.next = Arrays.copyOf (next, nUsed);
+		return p;
+	}
+
+	private static boolean
+	fits (int[] check, int[] syms, int b)
+	{
+		for (int sym : syms)
+			if (b + sym < check.length && check[b + sym] != -1)
+				return false;
+
+		return true;
+	}
+
+
+	//----------------------------------------------------------------
+	//	Tables go out as short values in string constants, split the
+	//	way CUP splits its own to stay under the class file limit on
+	//	constant length.
+	//----------------------------------------------------------------
+	private static void
+	emitArray (PrintWriter out, String strName, int[] a)
+	{
+		out.println ("\tprivate static final int[]\t" + strName + " = unpack (new String[] {");
+		out.print ("\t\t\"");
+
+		for (int i = 0; i < a.length; i++)
+		{
+			if (a[i] < Short.MIN_VALUE || a[i] > Short.MAX_VALUE)
+				throw new IllegalStateException (strName + " value out of range");
+			int	c = a[i] & 0xffff;
+
+			//	Like CUP, octal below 256: a \\u escape of a quote
+			//	or line break would end the literal.
+			if (c < 0x100)
+				out.printf ("\\%03o", c);
+			else
+				out.printf ("\\u%04x", c);
+			if (i % 12 == 11 && i + 1 < a.length)
+				out.print (i % 1200 == 1199 ? "\",\n\t\t\"" : "\" +\n\t\t\"");
+		}
+
+		out.println ("\" });");
+	}
+
+
+	//----------------------------------------------------------------
+	//	The string constants of "strName = unpackFromStrings (...)".
+	//----------------------------------------------------------------
+	private static String
+	table (String src, String strName)
+	{
+		Matcher		decl = Pattern.compile (strName + "(\\[\\]\\[\\])?\\s*=").matcher (src);
+
+		if (!decl.find ())
+			throw new IllegalStateException ("no " + strName + " in parser.java");
+
+		int 		nFrom = src.indexOf ("new String[] {", decl.end ());
+		int 		nTo = src.indexOf ("});", nFrom);
+		Matcher		m = Pattern.compile ("\"((?:[^\"\\\\]|\\\\.)*)\"").matcher (
+					src.substring (nFrom, nTo));
+		StringBuilder	sb = new StringBuilder ();
+
+		while (m.find ())
+			sb.append (unescape (m.group (1)));
+
+		return sb.toString ();
+	}
+
+	private static String
+	unescape (String s)
+	{
+		StringBuilder	sb = new StringBuilder ();
+
+		for (int i = 0; i < s.length (); i++)
+		{
+			char	c = s.charAt (i);
+
+			if (c != '\\')
+			{
+				sb.append (c);
+				continue;
+			}
+
+			c = s.charAt (++i);
+			if (c == 'u')
+			{
+				while (s.charAt (i) == 'u')
+					i++;
+				sb.append ((char) Integer.parseInt (s.substring (i, i + 4), 16));
+				i += 3;
+			}
+			else if (c >= '0' && c <= '7')
+			{
+				int	n = 0;
+				int	nDigits = (c <= '3') ? 3 : 2;
+
+				for (int j = 0; j < nDigits && i < s.length () &&
+				     s.charAt (i) >= '0' && s.charAt (i) <= '7'; j++)
+					n = n * 8 + (s.charAt (i++) - '0');
+				i--;
+				sb.append ((char) n);
+			}
+			else
+			{
+				int	k = "btnfr\"'\\".indexOf (c);
+
+				sb.append (k < 0 ? c : "\b\t\n\f\r\"'\\".charAt (k));
+			}
+		}
+
+		return sb.toString ();
+	}
+
+
+	//----------------------------------------------------------------
+	//	Same encoding as lr_parser.unpackFromStrings.
+	//----------------------------------------------------------------
+	private static short[][]
+	unpack (String s)
+	{
+		int 		n = 0;
+		int 		nRows = (s.charAt (n) << 16) | s.charAt (n + 1);
+		short[][]	result = new short[nRows][];
+
+		n += 2;
+		for (int i = 0; i < nRows; i++)
+		{
+			int	nLen = (s.charAt (n) << 16) | s.charAt (n + 1);
+
+			n += 2;
+			result[i] = new short[nLen];
+			for (int j = 0; j < nLen; j++)
+				result[i][j] = (short) (s.charAt (n++) - 2);
+		}
+
+		return result;
+	}
+
+
+	//----------------------------------------------------------------
+	//
+	//----------------------------------------------------------------
+	private static int
+	intMethod (String src, String strName)
+	{
+		Matcher	m = Pattern.compile ("public int " + strName +
+				"\\(\\) \\{return (-?\\d+);\\}").matcher (src);
+
+		if (!m.find ())
+			throw new IllegalStateException ("no " + strName + "() in parser.java");
+		return Integer.parseInt (m.group (1));
+	}
+
+	private static int
+	maxConstant (String src)
+	{
+		Matcher	m = Pattern.compile ("static final int \\w+ = (\\d+);").matcher (src);
+		int 	nMax = -1;
+
+		while (m.find ())
+			nMax = Math.max (nMax, Integer.parseInt (m.group (1)));
+		return nMax;
+	}
+
+	private static String
+	read (String strFile)
+	throws IOException
+	{
+		Reader		in = new InputStreamReader (new FileInputStream (strFile), "UTF-8");
+		StringBuilder	sb = new StringBuilder ();
+		char[]		buf = new char[8192];
+		int 		n;
+
+		while ((n = in.read (buf)) > 0)
+			sb.append (buf, 0, n);
+		in.close ();
+
+		return sb.toString ();
+	}
+
+
+	//----------------------------------------------------------------
+	//	Everything in LRParser ahead of the action methods.
+	//----------------------------------------------------------------
+	private static final String	DRIVER =
+		"\t//----------------------------------------------------------------\n" +
+		"\t//\n" +
+		"\t//----------------------------------------------------------------\n" +
+		"\tpublic\n" +
+		"\tLRParser (MyParser parser)\n" +
+		"\t{\n" +
+		"\t\tthis.parser = parser;\n" +
+		"\t}\n" +
+		"\n" +
+		"\n" +
+		"\t//----------------------------------------------------------------\n" +
+		"\t//\tTimes each action into stats (null for none), so what parse()\n" +
+		"\t//\tspends in the actions can be told from the parse around them.\n" +
+		"\t//----------------------------------------------------------------\n" +
+		"\tpublic void\n" +
+		"\tsetStats (CompileStats stats)\n" +
+		"\t{\n" +
+		"\t\tm_stats = stats;\n" +
+		"\t}\n" +
+		"\n" +
+		"\n" +
+		"\t//----------------------------------------------------------------\n" +
+		"\t//\tThe same shift/reduce loop as lr_parser.parse, over the packed\n" +
+		"\t//\ttables.  Each stack slot is a state, a value and the token\n" +
+		"\t//\tindices at either end.  There are no error productions, so a\n" +
+		"\t//\tsyntax error always ends the parse.\n" +
+		"\t//----------------------------------------------------------------\n" +
+		"\tpublic Object\n" +
+		"\tparse ()\n" +
+		"\tthrows Exception\n" +
+		"\t{\n" +
+		"\t\tObject\t\tlhs = null;\n" +
+		"\t\tint \t\tnTok = parser.scanToken ();\n" +
+		"\t\tint \t\tnSym = parser.getTokenKind (nTok);\n" +
+		"\t\tint \t\tnAct;\n" +
+		"\n" +
+		"\t\tm_nTop = 0;\n" +
+		"\t\tm_state[0] = $START_STATE;\n" +
+		"\t\tm_left[0] = m_right[0] = -1;\n" +
+		"\t\tm_value[0] = null;\n" +
+		"\n" +
+		"\t\tfor (m_bDone = false; !m_bDone; )\n" +
+		"\t\t{\n" +
+		"\t\t\tnAct = action (m_state[m_nTop], nSym);\n" +
+		"\t\t\tif (nAct > 0)\n" +
+		"\t\t\t{\n" +
+		"\t\t\t\tpush (nAct - 1, nTok, nTok, parser.getTokenValue (nTok));\n" +
+		"\t\t\t\tnTok = parser.scanToken ();\n" +
+		"\t\t\t\tnSym = parser.getTokenKind (nTok);\n" +
+		"\t\t\t}\n" +
+		"\t\t\telse if (nAct < 0)\n" +
+		"\t\t\t{\n" +
+		"\t\t\t\tint \tnProd = -nAct - 1;\n" +
+		"\n" +
+		"\t\t\t\tif (m_stats == null)\n" +
+		"\t\t\t\t\tdoAction (nProd);\n" +
+		"\t\t\t\telse\n" +
+		"\t\t\t\t{\n" +
+		"\t\t\t\t\tm_stats.begin (CompileStats.ACTIONS);\n" +
+		"\t\t\t\t\tdoAction (nProd);\n" +
+		"\t\t\t\t\tm_stats.end (CompileStats.ACTIONS);\n" +
+		"\t\t\t\t}\n" +
+		"\t\t\t\tm_nTop -= PROD_RHS[nProd];\n" +
+		"\t\t\t\tlhs = m_result;\n" +
+		"\t\t\t\tpush (goTo (m_state[m_nTop], PROD_LHS[nProd]),\n" +
+		"\t\t\t\t\tm_nResultLeft, m_nResultRight, m_result);\n" +
+		"\t\t\t}\n" +
+		"\t\t\telse\n" +
+		"\t\t\t{\n" +
+		"\t\t\t\tparser.syntax_error ();\n" +
+		"\t\t\t\tparser.unrecovered_syntax_error ();\n" +
+		"\t\t\t\tm_bDone = true;\n" +
+		"\t\t\t}\n" +
+		"\t\t}\n" +
+		"\n" +
+		"\t\treturn (lhs);\n" +
+		"\t}\n" +
+		"\n" +
+		"\n" +
+		"\t//----------------------------------------------------------------\n" +
+		"\t//\n" +
+		"\t//----------------------------------------------------------------\n" +
+		"\tprivate void\n" +
+		"\tpush (int nState, int nLeft, int nRight, Object value)\n" +
+		"\t{\n" +
+		"\t\tif (++m_nTop == m_state.length)\n" +
+		"\t\t{\n" +
+		"\t\t\tint \tn = m_nTop * 2;\n" +
+		"\n" +
+		"\t\t\tm_state = java.util.Arrays.copyOf (m_state, n);\n" +
+		"\t\t\tm_left = java.util.Arrays.copyOf (m_left, n);\n" +
+		"\t\t\tm_right = java.util.Arrays.copyOf (m_right, n);\n" +
+		"\t\t\tm_value = java.util.Arrays.copyOf (m_value, n);\n" +
+		"\t\t}\n" +
+		"\n" +
+		"\t\tm_state[m_nTop] = nState;\n" +
+		"\t\tm_left[m_nTop] = nLeft;\n" +
+		"\t\tm_right[m_nTop] = nRight;\n" +
+		"\t\tm_value[m_nTop] = value;\n" +
+		"\t}\n" +
+		"\n" +
+		"\n" +
+		"\t//----------------------------------------------------------------\n" +
+		"\t//\tShift to state n-1 if n > 0, reduce by production -n-1 if\n" +
+		"\t//\tn < 0, syntax error if 0.\n" +
+		"\t//----------------------------------------------------------------\n" +
+		"\tprivate static int\n" +
+		"\taction (int nState, int nSym)\n" +
+		"\t{\n" +
+		"\t\tint \ti = ACTION_BASE[nState] + nSym;\n" +
+		"\n" +
+		"\t\treturn (ACTION_CHECK[i] == nState ? ACTION_NEXT[i] : ACTION_DEFAULT[nState]);\n" +
+		"\t}\n" +
+		"\n" +
+		"\tprivate static int\n" +
+		"\tgoTo (int nState, int nNonTerm)\n" +
+		"\t{\n" +
+		"\t\tint \ti = GOTO_BASE[nState] + nNonTerm;\n" +
+		"\n" +
+		"\t\treturn (GOTO_CHECK[i] == nState ? GOTO_NEXT[i] : GOTO_DEFAULT[nState]);\n" +
+		"\t}\n" +
+		"\n" +
+		"\n" +
+		"\t//----------------------------------------------------------------\n" +
+		"\t//\n" +
+		"\t//----------------------------------------------------------------\n" +
+		"\tprivate static int[]\n" +
+		"\tunpack (String[] chunks)\n" +
+		"\t{\n" +
+		"\t\tint \tn = 0;\n" +
+		"\n" +
+		"\t\tfor (String s : chunks)\n" +
+		"\t\t\tn += s.length ();\n" +
+		"\n" +
+		"\t\tint[]\ta = new int[n];\n" +
+		"\n" +
+		"\t\tn = 0;\n" +
+		"\t\tfor (String s : chunks)\n" +
+		"\t\t\tfor (int i = 0; i < s.length (); i++)\n" +
+		"\t\t\t\ta[n++] = (short) s.charAt (i);\n" +
+		"\n" +
+		"\t\treturn (a);\n" +
+		"\t}\n" +
+		"\n" +
+		"\n" +
+		"//----------------------------------------------------------------\n" +
+		"//\tInstance variables\n" +
+		"//----------------------------------------------------------------\n" +
+		"\tprivate final MyParser\t\tparser;\n" +
+		"\n" +
+		"\t//\tFor -stats, or null.\n" +
+		"\tprivate CompileStats\t\tm_stats;\n" +
+		"\n" +
+		"\t//\tThe parse stack.\n" +
+		"\tprivate int[]\t\t\tm_state = new int[256];\n" +
+		"\tprivate int[]\t\t\tm_left = new int[256];\n" +
+		"\tprivate int[]\t\t\tm_right = new int[256];\n" +
+		"\tprivate Object[]\t\tm_value = new Object[256];\n" +
+		"\tprivate int \t\t\tm_nTop;\n" +
+		"\tprivate boolean\t\t\tm_bDone;\n" +
+		"\n" +
+		"\t//\tWhat the last action reduced to.\n" +
+		"\tprivate Object\t\t\tm_result;\n" +
+		"\tprivate int \t\t\tm_nResultLeft;\n" +
+		"\tprivate int \t\t\tm_nResultRight;\n" +
+		"\n" +
+		"\n";
+}